@@ -0,0 +1,353 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.bson.BsonArray;
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonParseException;
+import org.bson.json.JsonWriterSettings;
+
+import com.mongodb.client.model.Filters;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * The data of a replica set already read by a chunked snapshot, stored in the offsets so that a restarted snapshot only
+ * reads the remaining data.
+ * <p>
+ * The documents of every collection are read in chunks, each of them being an {@link IdRange range of the document
+ * identifiers} or the whole collection. For every collection only the lower bound of its first chunk not read yet is
+ * kept, and the collections completed in the snapshot order are represented just by the last of them, so the size of
+ * the progress depends on the number of collections being read concurrently rather than on the number of collections
+ * or chunks read so far. The string representation is a JSON document like
+ * <pre>
+ * {"completed": "db.lastCollectionOfCompletedPrefix", "collections": [{"collection": "db.c", "from": {"$oid": "..."}},
+ *     {"collection": "db.d", "done": true}]}
+ * </pre>
+ */
+@ThreadSafe
+final class ChunkedSnapshotProgress {
+
+    private static final String COMPLETED = "completed";
+    private static final String COLLECTIONS = "collections";
+    private static final String COLLECTION = "collection";
+    private static final String FROM = "from";
+    private static final String DONE = "done";
+
+    private static final JsonWriterSettings JSON_SETTINGS = JsonWriterSettings.builder().outputMode(JsonMode.EXTENDED).build();
+
+    private final List<String> collections = new ArrayList<>();
+    private final Map<String, Integer> positionByCollection = new HashMap<>();
+    private final Map<String, CollectionProgress> progressByCollection = new LinkedHashMap<>();
+    private int completedCollections;
+
+    /**
+     * @param collections the captured collections of a replica set in the order in which they are snapshotted; may not be null
+     */
+    ChunkedSnapshotProgress(List<CollectionId> collections) {
+        for (CollectionId collectionId : collections) {
+            positionByCollection.put(collectionId.namespace(), this.collections.size());
+            this.collections.add(collectionId.namespace());
+        }
+    }
+
+    /**
+     * Restores the progress of a previous snapshot.
+     *
+     * @param collections the captured collections of a replica set in the order in which they are snapshotted; may not be null
+     * @param progress the string representation of the progress; may be null if there is none
+     * @return the progress; never null
+     * @throws IllegalArgumentException if the progress cannot be restored for the given collections
+     */
+    static ChunkedSnapshotProgress parse(List<CollectionId> collections, String progress) {
+        final ChunkedSnapshotProgress result = new ChunkedSnapshotProgress(collections);
+        if (progress == null || progress.isEmpty()) {
+            return result;
+        }
+        final BsonDocument document;
+        try {
+            document = BsonDocument.parse(progress);
+        }
+        catch (JsonParseException e) {
+            throw new IllegalArgumentException("Invalid snapshot progress '" + progress + "'", e);
+        }
+        if (document.containsKey(COMPLETED)) {
+            final String completed = document.getString(COMPLETED).getValue();
+            final Integer position = result.positionByCollection.get(completed);
+            if (position == null) {
+                throw new IllegalArgumentException("Collection '" + completed + "' is no longer captured");
+            }
+            result.completedCollections = position + 1;
+        }
+        for (BsonValue entry : document.getArray(COLLECTIONS, new BsonArray())) {
+            final BsonDocument collectionProgress = entry.asDocument();
+            final String collection = collectionProgress.getString(COLLECTION).getValue();
+            // collections no longer captured are ignored
+            if (result.positionByCollection.containsKey(collection)) {
+                final CollectionProgress restored = new CollectionProgress();
+                restored.done = collectionProgress.getBoolean(DONE, BsonBoolean.FALSE).getValue();
+                restored.resumeFrom = collectionProgress.get(FROM);
+                result.progressByCollection.put(collection, restored);
+            }
+        }
+        result.advanceCompletedCollections();
+        return result;
+    }
+
+    synchronized boolean isCompleted(CollectionId collectionId) {
+        final Integer position = positionByCollection.get(collectionId.namespace());
+        if (position != null && position < completedCollections) {
+            return true;
+        }
+        final CollectionProgress collectionProgress = progressByCollection.get(collectionId.namespace());
+        return collectionProgress != null && collectionProgress.done;
+    }
+
+    /**
+     * Returns the lower bound of the identifiers of the documents of a collection not read yet.
+     *
+     * @return the identifier; null if no document has been read yet
+     */
+    synchronized BsonValue resumeFrom(CollectionId collectionId) {
+        final CollectionProgress collectionProgress = progressByCollection.get(collectionId.namespace());
+        return collectionProgress != null ? collectionProgress.resumeFrom : null;
+    }
+
+    /**
+     * Records the chunks into which the remaining documents of a collection have been split.
+     *
+     * @param ranges the ranges of the chunks in ascending order, the first of them starting at {@link #resumeFrom(CollectionId)}
+     */
+    synchronized void started(CollectionId collectionId, List<IdRange> ranges) {
+        final CollectionProgress collectionProgress = progressByCollection.computeIfAbsent(collectionId.namespace(), c -> new CollectionProgress());
+        collectionProgress.ranges = ranges;
+        collectionProgress.completed = new boolean[ranges.size()];
+    }
+
+    /**
+     * Records that all the documents of a chunk of a collection have been read.
+     *
+     * @param range the position of the range of the chunk among the ranges the collection has been {@link #started split into}
+     * @return {@code true} if all the chunks of the collection have been read
+     */
+    synchronized boolean completed(CollectionId collectionId, int range) {
+        final CollectionProgress collectionProgress = progressByCollection.get(collectionId.namespace());
+        collectionProgress.completed[range] = true;
+        int firstIncomplete = 0;
+        while (firstIncomplete < collectionProgress.completed.length && collectionProgress.completed[firstIncomplete]) {
+            firstIncomplete++;
+        }
+        if (firstIncomplete == collectionProgress.completed.length) {
+            collectionProgress.done = true;
+            collectionProgress.resumeFrom = null;
+            advanceCompletedCollections();
+            return true;
+        }
+        collectionProgress.resumeFrom = collectionProgress.ranges.get(firstIncomplete).lower;
+        return false;
+    }
+
+    private void advanceCompletedCollections() {
+        while (completedCollections < collections.size()) {
+            final CollectionProgress collectionProgress = progressByCollection.get(collections.get(completedCollections));
+            if (collectionProgress == null || !collectionProgress.done) {
+                break;
+            }
+            progressByCollection.remove(collections.get(completedCollections));
+            completedCollections++;
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        final BsonDocument document = new BsonDocument();
+        if (completedCollections > 0) {
+            document.put(COMPLETED, new BsonString(collections.get(completedCollections - 1)));
+        }
+        final BsonArray entries = new BsonArray();
+        progressByCollection.forEach((collection, collectionProgress) -> {
+            if (collectionProgress.done) {
+                entries.add(new BsonDocument(COLLECTION, new BsonString(collection)).append(DONE, BsonBoolean.TRUE));
+            }
+            else if (collectionProgress.resumeFrom != null) {
+                entries.add(new BsonDocument(COLLECTION, new BsonString(collection)).append(FROM, collectionProgress.resumeFrom));
+            }
+        });
+        if (!entries.isEmpty()) {
+            document.put(COLLECTIONS, entries);
+        }
+        return document.isEmpty() ? "" : document.toJson(JSON_SETTINGS);
+    }
+
+    private static final class CollectionProgress {
+        private BsonValue resumeFrom;
+        private boolean done;
+        private List<IdRange> ranges;
+        private boolean[] completed;
+    }
+
+    /**
+     * A range of the values of the {@code _id} field of the documents of a collection.
+     * <p>
+     * The comparison operators of MongoDB only match values of the same BSON type as the operand, so a range without lower
+     * bound contains all the documents whose identifier is not greater than or equal to the upper bound, including those
+     * with an identifier of another type. This way the ranges of a collection together always contain all its documents.
+     */
+    static final class IdRange {
+
+        static final IdRange ALL = new IdRange(null, null);
+
+        private static final String ID = "_id";
+
+        private final BsonValue lower;
+        private final BsonValue upper;
+
+        /**
+         * @param lower the inclusive lower bound; null if the range contains all the identifiers not within the upper bound
+         * @param upper the exclusive upper bound; null if the range is unbounded above
+         */
+        IdRange(BsonValue lower, BsonValue upper) {
+            this.lower = lower;
+            this.upper = upper;
+        }
+
+        /**
+         * Splits the identifiers starting at the given lower bound into ranges containing about the same number of documents.
+         *
+         * @param sampledIds the identifiers of randomly sampled documents of the collection; may not be null
+         * @param rangeCount the requested number of ranges
+         * @param lower the lower bound of the first range; may be null
+         * @return the ranges in ascending order; never empty
+         */
+        static List<IdRange> split(List<BsonValue> sampledIds, int rangeCount, BsonValue lower) {
+            final BsonType type = lower != null ? comparableType(lower) : mostFrequentComparableType(sampledIds);
+            if (type == null) {
+                return Collections.singletonList(new IdRange(lower, null));
+            }
+            final List<BsonValue> sorted = sampledIds.stream()
+                    .filter(id -> comparableType(id) == type && (lower == null || compare(id, lower) > 0))
+                    .sorted(IdRange::compare)
+                    .collect(Collectors.toList());
+
+            final List<IdRange> ranges = new ArrayList<>(rangeCount);
+            BsonValue rangeLower = lower;
+            for (int i = 1; i < rangeCount && !sorted.isEmpty(); i++) {
+                final BsonValue boundary = sorted.get((int) ((long) i * sorted.size() / rangeCount));
+                if (rangeLower == null || compare(boundary, rangeLower) > 0) {
+                    ranges.add(new IdRange(rangeLower, boundary));
+                    rangeLower = boundary;
+                }
+            }
+            ranges.add(new IdRange(rangeLower, null));
+            return ranges;
+        }
+
+        /**
+         * Returns the type by which the given identifier can be ordered, all the numbers being of the {@link BsonType#INT64}
+         * type, or null if identifiers of its type are not used as range bounds.
+         */
+        private static BsonType comparableType(BsonValue id) {
+            switch (id.getBsonType()) {
+                case INT32:
+                case INT64:
+                    return BsonType.INT64;
+                case OBJECT_ID:
+                case STRING:
+                case DATE_TIME:
+                    return id.getBsonType();
+                default:
+                    return null;
+            }
+        }
+
+        private static BsonType mostFrequentComparableType(List<BsonValue> ids) {
+            final Map<BsonType, Long> counts = ids.stream()
+                    .filter(id -> comparableType(id) != null)
+                    .collect(Collectors.groupingBy(IdRange::comparableType, Collectors.counting()));
+            return counts.entrySet().stream().max(Comparator.comparing(Map.Entry::getValue)).map(Map.Entry::getKey).orElse(null);
+        }
+
+        /**
+         * Compares two identifiers of the same comparable type the way MongoDB does using the simple collation.
+         */
+        private static int compare(BsonValue id1, BsonValue id2) {
+            switch (comparableType(id1)) {
+                case INT64:
+                    return Long.compare(id1.asNumber().longValue(), id2.asNumber().longValue());
+                case OBJECT_ID:
+                    return id1.asObjectId().getValue().compareTo(id2.asObjectId().getValue());
+                case DATE_TIME:
+                    return Long.compare(id1.asDateTime().getValue(), id2.asDateTime().getValue());
+                default:
+                    final byte[] bytes1 = id1.asString().getValue().getBytes(StandardCharsets.UTF_8);
+                    final byte[] bytes2 = id2.asString().getValue().getBytes(StandardCharsets.UTF_8);
+                    for (int i = 0; i < Math.min(bytes1.length, bytes2.length); i++) {
+                        if (bytes1[i] != bytes2[i]) {
+                            return Integer.compare(bytes1[i] & 0xFF, bytes2[i] & 0xFF);
+                        }
+                    }
+                    return Integer.compare(bytes1.length, bytes2.length);
+            }
+        }
+
+        BsonValue lower() {
+            return lower;
+        }
+
+        boolean isAll() {
+            return lower == null && upper == null;
+        }
+
+        /**
+         * @return the filter matching the documents within this range; never null
+         */
+        Bson toFilter() {
+            if (lower == null) {
+                return upper == null ? new BsonDocument() : Filters.not(Filters.gte(ID, upper));
+            }
+            return upper == null ? Filters.gte(ID, lower) : Filters.and(Filters.gte(ID, lower), Filters.lt(ID, upper));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final IdRange other = (IdRange) obj;
+            return Objects.equals(lower, other.lower) && Objects.equals(upper, other.upper);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lower, upper);
+        }
+
+        @Override
+        public String toString() {
+            return "[" + (lower == null ? "" : lower.toString()) + ", " + (upper == null ? "" : upper.toString()) + ")";
+        }
+    }
+}
@@ -69,6 +69,15 @@ public static interface FieldFilter {
         * @return the new field name or {@code null} if the field should be removed
         */
         String apply(String field);
+
+        /**
+         * Determines whether this filter leaves all the documents unchanged.
+         *
+         * @return {@code true} if no fields are excluded or renamed by this filter
+         */
+        default boolean isIdentity() {
+            return false;
+        }
     }
 
     /**
@@ -263,6 +272,11 @@ public BsonDocument applyChange(BsonDocument doc) {
         }
         return new FieldFilter() {
 
+            @Override
+            public boolean isIdentity() {
+                return true;
+            }
+
             @Override
             public String apply(String field) {
                 return field;
@@ -9,6 +9,8 @@
 
 import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Decoder;
 import org.bson.codecs.Encoder;
 import org.bson.json.JsonMode;
 import org.bson.json.JsonWriterSettings;
@@ -51,10 +53,12 @@ public static interface Transformer extends Function<Document, String> {
             .build();
 
     private final Transformer transformer;
+    private final Decoder<Document> decoder;
 
     public JsonSerialization() {
         final Encoder<Document> encoder = MongoClientSettings.getDefaultCodecRegistry().get(Document.class);
         transformer = (doc) -> doc.toJson(COMPACT_JSON_SETTINGS, encoder);
+        decoder = MongoClientSettings.getDefaultCodecRegistry().get(Document.class);
     }
 
     public String getDocumentIdOplog(Document document) {
@@ -89,6 +93,20 @@ public String getDocumentValue(Document document) {
         return transformer.apply(document);
     }
 
+    /**
+     * Serializes a raw document by streaming its BSON content to the JSON writer, without decoding it into objects.
+     * The document is {@link RawDocumentCache cached} so that the transformations can avoid parsing the JSON again.
+     */
+    public String getRawDocumentValue(RawBsonDocument document) {
+        final String json = document.toJson(COMPACT_JSON_SETTINGS);
+        RawDocumentCache.put(json, document);
+        return json;
+    }
+
+    public Document toDocument(RawBsonDocument document) {
+        return document.decode(decoder);
+    }
+
     public Transformer getTransformer() {
         return transformer;
     }
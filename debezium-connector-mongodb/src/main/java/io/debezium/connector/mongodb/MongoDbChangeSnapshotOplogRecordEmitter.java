@@ -11,6 +11,7 @@
 
 import org.apache.kafka.connect.data.Struct;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 
 import io.debezium.annotation.Immutable;
 import io.debezium.data.Envelope.FieldName;
@@ -28,6 +29,7 @@
 public class MongoDbChangeSnapshotOplogRecordEmitter extends AbstractChangeRecordEmitter<MongoDbCollectionSchema> {
 
     private final Document oplogEvent;
+    private final RawBsonDocument rawDocument;
 
     /**
      * Whether this event originates from a snapshot.
@@ -50,9 +52,20 @@ public class MongoDbChangeSnapshotOplogRecordEmitter extends AbstractChangeRecor
     public MongoDbChangeSnapshotOplogRecordEmitter(Partition partition, OffsetContext offsetContext, Clock clock, Document oplogEvent, boolean isSnapshot) {
         super(partition, offsetContext, clock);
         this.oplogEvent = oplogEvent;
+        this.rawDocument = null;
         this.isSnapshot = isSnapshot;
     }
 
+    /**
+     * Creates an emitter of the read event of a snapshotted raw document.
+     */
+    public MongoDbChangeSnapshotOplogRecordEmitter(Partition partition, OffsetContext offsetContext, Clock clock, RawBsonDocument rawDocument) {
+        super(partition, offsetContext, clock);
+        this.oplogEvent = null;
+        this.rawDocument = rawDocument;
+        this.isSnapshot = true;
+    }
+
     @Override
     protected Operation getOperation() {
         if (isSnapshot || oplogEvent.getString("op") == null) {
@@ -63,10 +76,10 @@ protected Operation getOperation() {
 
     @Override
     protected void emitReadRecord(Receiver receiver, MongoDbCollectionSchema schema) throws InterruptedException {
-        final Object newKey = schema.keyFromDocument(oplogEvent);
+        final Object newKey = rawDocument != null ? schema.keyFromRawDocument(rawDocument) : schema.keyFromDocument(oplogEvent);
         assert newKey != null;
 
-        final Struct value = schema.valueFromDocumentOplog(oplogEvent, null, getOperation());
+        final Struct value = rawDocument != null ? schema.valueFromRawDocument(rawDocument) : schema.valueFromDocumentOplog(oplogEvent, null, getOperation());
         value.put(FieldName.SOURCE, getOffset().getSourceInfo());
         value.put(FieldName.OPERATION, getOperation().code());
         value.put(FieldName.TIMESTAMP, getClock().currentTimeAsInstant().toEpochMilli());
@@ -10,7 +10,6 @@
 import java.util.Map;
 
 import org.apache.kafka.connect.data.Struct;
-import org.bson.Document;
 
 import com.mongodb.client.model.changestream.ChangeStreamDocument;
 import com.mongodb.client.model.changestream.OperationType;
@@ -30,7 +29,7 @@
  */
 public class MongoDbChangeStreamChangeRecordEmitter extends AbstractChangeRecordEmitter<MongoDbCollectionSchema> {
 
-    private final ChangeStreamDocument<Document> changeStreamEvent;
+    private final ChangeStreamDocument<?> changeStreamEvent;
 
     @Immutable
     private static final Map<OperationType, Operation> OPERATION_LITERALS;
@@ -46,7 +45,7 @@ public class MongoDbChangeStreamChangeRecordEmitter extends AbstractChangeRecord
         OPERATION_LITERALS = Collections.unmodifiableMap(literals);
     }
 
-    public MongoDbChangeStreamChangeRecordEmitter(Partition partition, OffsetContext offsetContext, Clock clock, ChangeStreamDocument<Document> changeStreamEvent) {
+    public MongoDbChangeStreamChangeRecordEmitter(Partition partition, OffsetContext offsetContext, Clock clock, ChangeStreamDocument<?> changeStreamEvent) {
         super(partition, offsetContext, clock);
         this.changeStreamEvent = changeStreamEvent;
     }
@@ -14,6 +14,7 @@
 import org.apache.kafka.connect.data.Struct;
 import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 
 import com.mongodb.client.model.changestream.ChangeStreamDocument;
 import com.mongodb.client.model.changestream.TruncatedArray;
@@ -33,6 +34,8 @@
  */
 public class MongoDbCollectionSchema implements DataCollectionSchema {
 
+    private static final String ID_FIELD_NAME = "_id";
+
     private final CollectionId id;
     private final FieldFilter fieldFilter;
     private final Schema keySchema;
@@ -41,10 +44,11 @@ public class MongoDbCollectionSchema implements DataCollectionSchema {
     private final Function<Document, Object> keyGeneratorOplog;
     private final Function<BsonDocument, Object> keyGeneratorChangeStream;
     private final Function<Document, String> valueGenerator;
+    private final Function<RawBsonDocument, String> rawValueGenerator;
 
     public MongoDbCollectionSchema(CollectionId id, FieldFilter fieldFilter, Schema keySchema, Function<Document, Object> keyGenerator,
                                    Function<BsonDocument, Object> keyGeneratorChangeStream, Envelope envelopeSchema, Schema valueSchema,
-                                   Function<Document, String> valueGenerator) {
+                                   Function<Document, String> valueGenerator, Function<RawBsonDocument, String> rawValueGenerator) {
         this.id = id;
         this.fieldFilter = fieldFilter;
         this.keySchema = keySchema;
@@ -53,6 +57,7 @@ public MongoDbCollectionSchema(CollectionId id, FieldFilter fieldFilter, Schema
         this.keyGeneratorOplog = keyGenerator != null ? keyGenerator : (Document) -> null;
         this.keyGeneratorChangeStream = keyGeneratorChangeStream != null ? keyGeneratorChangeStream : (BsonDocument) -> null;
         this.valueGenerator = valueGenerator != null ? valueGenerator : (Document) -> null;
+        this.rawValueGenerator = rawValueGenerator != null ? rawValueGenerator : (RawBsonDocument) -> null;
     }
 
     @Override
@@ -82,6 +87,22 @@ public Struct keyFromDocument(BsonDocument document) {
         return document == null ? null : new Struct(keySchema).put("id", keyGeneratorChangeStream.apply(document));
     }
 
+    /**
+     * Creates the key of a complete raw document, decoding only its identifier.
+     */
+    public Struct keyFromRawDocument(RawBsonDocument document) {
+        return document == null ? null : keyFromDocument(new BsonDocument(ID_FIELD_NAME, document.get(ID_FIELD_NAME)));
+    }
+
+    /**
+     * Creates the value of a read event of a raw document.
+     */
+    public Struct valueFromRawDocument(RawBsonDocument document) {
+        Struct value = new Struct(valueSchema);
+        value.put(FieldName.AFTER, rawValueGenerator.apply(document));
+        return value;
+    }
+
     public Struct valueFromDocumentOplog(Document document, Document filter, Envelope.Operation operation) {
         Struct value = new Struct(valueSchema);
         switch (operation) {
@@ -104,17 +125,17 @@ public Struct valueFromDocumentOplog(Document document, Document filter, Envelop
         return value;
     }
 
-    public Struct valueFromDocumentChangeStream(ChangeStreamDocument<Document> document, Envelope.Operation operation) {
+    public Struct valueFromDocumentChangeStream(ChangeStreamDocument<?> document, Envelope.Operation operation) {
         Struct value = new Struct(valueSchema);
         switch (operation) {
             case CREATE:
-                final String jsonStr = valueGenerator.apply(fieldFilter.apply(document.getFullDocument()));
+                final String jsonStr = fullDocumentValue(document.getFullDocument());
                 value.put(FieldName.AFTER, jsonStr);
                 break;
             case UPDATE:
                 // Not null when full documents are enabled for updates
                 if (document.getFullDocument() != null) {
-                    final String fullDocStr = valueGenerator.apply(fieldFilter.apply(document.getFullDocument()));
+                    final String fullDocStr = fullDocumentValue(document.getFullDocument());
                     value.put(FieldName.AFTER, fullDocStr);
                 }
 
@@ -162,6 +183,17 @@ public Struct valueFromDocumentChangeStream(ChangeStreamDocument<Document> docum
         return value;
     }
 
+    /**
+     * Serializes the full document of a change stream event, which is a {@link RawBsonDocument} if the change stream
+     * has been opened for raw documents, or a {@link Document} otherwise.
+     */
+    private String fullDocumentValue(Object fullDocument) {
+        if (fullDocument instanceof RawBsonDocument) {
+            return rawValueGenerator.apply((RawBsonDocument) fullDocument);
+        }
+        return valueGenerator.apply(fieldFilter.apply((Document) fullDocument));
+    }
+
     @Override
     public int hashCode() {
         return valueSchema().hashCode();
@@ -529,6 +529,18 @@ public boolean isFullUpdate() {
                     + "'change_streams' to capture changes via MongoDB Change Streams, update events do not contain full documents; "
                     + "'change_streams_update_full' (the default) to capture changes via MongoDB Change Streams, update events contain full documents");
 
+    public static final Field CAPTURE_RAW_DOCUMENTS = Field.create("capture.raw.documents")
+            .withDisplayName("Capture raw documents")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 2))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(false)
+            .withDescription("Whether the documents read by the snapshot and by the change streams are kept as raw BSON and serialized "
+                    + "to JSON directly from it, instead of being decoded first. The raw documents are also handed over to the "
+                    + "transformations running in the same process, so that they do not need to parse the JSON again. Does not apply "
+                    + "to the 'oplog' capture mode, nor to collections with excluded or renamed fields. Defaults to false.");
+
     public static final Field CONNECT_TIMEOUT_MS = Field.create("mongodb.connect.timeout.ms")
             .withDisplayName("Connect Timeout MS")
             .withType(Type.INT)
@@ -571,6 +583,19 @@ public boolean isFullUpdate() {
                     + " the initial snapshot may be a subset of data present in the data source. The subset would be defined"
                     + " by mongodb filter query specified as value for property snapshot.collection.filter.override.<dbname>.<collectionName>");
 
+    public static final Field SNAPSHOT_CHUNK_SIZE = Field.create("snapshot.chunk.size")
+            .withDisplayName("Snapshot chunk size")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT, 8))
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDefault(1_000_000L)
+            .withValidation(Field::isNonNegativeLong)
+            .withDescription("Only applies when 'snapshot.max.threads' is greater than 1. Collections estimated to contain more documents "
+                    + "than this value are split into ranges of the document identifier of about this number of documents, which are read "
+                    + "concurrently by the snapshot threads; the ranges completed so far are recorded in the offsets so that a restarted "
+                    + "snapshot does not read them again. Defaults to 1,000,000; use 0 to never split collections.");
+
     public static final Field CURSOR_MAX_AWAIT_TIME_MS = Field.create("cursor.max.await.time.ms")
             .withDisplayName("Server's oplog streaming cursor max await time")
             .withType(Type.INT)
@@ -614,7 +639,9 @@ public boolean isFullUpdate() {
             .connector(
                     MAX_COPY_THREADS,
                     SNAPSHOT_MODE,
-                    CAPTURE_MODE)
+                    SNAPSHOT_CHUNK_SIZE,
+                    CAPTURE_MODE,
+                    CAPTURE_RAW_DOCUMENTS)
             .create();
 
     /**
@@ -631,7 +658,9 @@ public static ConfigDef configDef() {
     private final SnapshotMode snapshotMode;
     private CaptureMode captureMode;
     private final int snapshotMaxThreads;
+    private final long snapshotChunkSize;
     private final int cursorMaxAwaitTimeMs;
+    private final boolean captureRawDocuments;
 
     public MongoDbConnectorConfig(Configuration config) {
         super(config, config.getString(LOGICAL_NAME), DEFAULT_SNAPSHOT_FETCH_SIZE);
@@ -643,7 +672,9 @@ public MongoDbConnectorConfig(Configuration config) {
         this.captureMode = CaptureMode.parse(captureModeValue, MongoDbConnectorConfig.CAPTURE_MODE.defaultValueAsString());
 
         this.snapshotMaxThreads = resolveSnapshotMaxThreads(config);
+        this.snapshotChunkSize = config.getLong(SNAPSHOT_CHUNK_SIZE);
         this.cursorMaxAwaitTimeMs = config.getInteger(MongoDbConnectorConfig.CURSOR_MAX_AWAIT_TIME_MS, 0);
+        this.captureRawDocuments = config.getBoolean(CAPTURE_RAW_DOCUMENTS);
     }
 
     private static int validateHosts(Configuration config, Field field, ValidationOutput problems) {
@@ -755,6 +786,14 @@ public int getSnapshotMaxThreads() {
         return snapshotMaxThreads;
     }
 
+    public long getSnapshotChunkSize() {
+        return snapshotChunkSize;
+    }
+
+    public boolean isCaptureRawDocuments() {
+        return captureRawDocuments;
+    }
+
     @Override
     protected SourceInfoStructMaker<? extends AbstractSourceInfo> getSourceInfoStructMaker(Version version) {
         switch (version) {
@@ -13,6 +13,7 @@
 
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.Struct;
+import org.bson.BsonTimestamp;
 import org.bson.Document;
 
 import io.debezium.connector.SnapshotRecord;
@@ -55,6 +56,26 @@ void stopReplicaSetSnapshot(String replicaSetName) {
         sourceInfo.stopInitialSync(replicaSetName);
     }
 
+    /**
+     * Returns the oplog timestamp of the snapshot of the given replica set interrupted before, if it can be resumed.
+     *
+     * @param replicaSet the replica set; must not be null.
+     * @return the timestamp; null if there is no snapshot to be resumed
+     */
+    BsonTimestamp interruptedSnapshotTimestamp(ReplicaSet replicaSet) {
+        return sourceInfo.interruptedInitialSyncTimestamp(replicaSet.replicaSetName());
+    }
+
+    /**
+     * Continues the snapshot of the given replica set interrupted before from its oplog position and progress.
+     *
+     * @param replicaSet the replica set; must not be null.
+     * @param interrupted the offsets of the interrupted snapshot; must not be null.
+     */
+    void resumeReplicaSetSnapshot(ReplicaSet replicaSet, MongoDbOffsetContext interrupted) {
+        sourceInfo.resumeInitialSync(replicaSet.replicaSetName(), interrupted.sourceInfo);
+    }
+
     @Override
     public Map<String, ?> getOffset() {
         // Any common framework API that needs to call this function should be provided with a ReplicaSetOffsetContext
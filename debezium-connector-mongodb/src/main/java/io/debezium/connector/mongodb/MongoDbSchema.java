@@ -104,7 +104,10 @@ public DataCollectionSchema schemaFor(CollectionId collectionId) {
                     serialization::getDocumentIdChangeStream,
                     envelope,
                     valueSchema,
-                    serialization::getDocumentValue);
+                    serialization::getDocumentValue,
+                    // the field filter can only modify decoded documents
+                    fieldFilter.isIdentity() ? serialization::getRawDocumentValue
+                            : document -> serialization.getDocumentValue(fieldFilter.apply(serialization.toDocument(document))));
         });
     }
 
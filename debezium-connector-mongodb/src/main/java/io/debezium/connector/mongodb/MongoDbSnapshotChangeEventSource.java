@@ -6,22 +6,33 @@
 package io.debezium.connector.mongodb;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.apache.kafka.connect.errors.ConnectException;
+import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,7 +40,11 @@
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
 
+import io.debezium.connector.mongodb.ChunkedSnapshotProgress.IdRange;
 import io.debezium.connector.mongodb.ConnectionContext.MongoPrimary;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
@@ -54,6 +69,13 @@ public class MongoDbSnapshotChangeEventSource extends AbstractSnapshotChangeEven
     private static final Logger LOGGER = LoggerFactory.getLogger(MongoDbSnapshotChangeEventSource.class);
 
     private static final String AUTHORIZATION_FAILURE_MESSAGE = "Command failed with error 13";
+    private static final String ID_FIELD = "_id";
+
+    /**
+     * The number of documents sampled for every chunk, the boundaries of the chunks being chosen among their identifiers.
+     */
+    private static final int SAMPLED_DOCUMENTS_PER_CHUNK = 10;
+    private static final long MAX_CHUNKS_PER_COLLECTION = 10_000;
 
     private final MongoDbConnectorConfig connectorConfig;
     private final MongoDbTaskContext taskContext;
@@ -92,11 +114,12 @@ protected SnapshotResult<MongoDbOffsetContext> doExecute(ChangeEventSourceContex
         LOGGER.info("Snapshot step 1 - Preparing");
 
         if (previousOffset != null && previousOffset.isSnapshotRunning()) {
-            LOGGER.info("Previous snapshot was cancelled before completion; a new snapshot will be taken.");
+            LOGGER.info("Previous snapshot was cancelled before completion; a new snapshot will be taken, "
+                    + "skipping the data already read by chunked snapshots which can be resumed.");
         }
 
         LOGGER.info("Snapshot step 2 - Determining snapshot offsets");
-        determineSnapshotOffsets(mongoDbSnapshotContext, replicaSets);
+        determineSnapshotOffsets(mongoDbSnapshotContext, replicaSets, previousOffset);
 
         List<ReplicaSet> replicaSetsToSnapshot = mongoDbSnapshottingTask.getReplicaSetsToSnapshot();
 
@@ -285,8 +308,9 @@ else if (lastRecordedTs.compareTo(firstAvailableTs) < 0) {
         return performSnapshot;
     }
 
-    protected void determineSnapshotOffsets(MongoDbSnapshotContext ctx, ReplicaSets replicaSets) {
+    protected void determineSnapshotOffsets(MongoDbSnapshotContext ctx, ReplicaSets replicaSets, MongoDbOffsetContext previousOffset) {
         final Map<ReplicaSet, Document> positions = new LinkedHashMap<>();
+        final List<ReplicaSet> resumedReplicaSets = new ArrayList<>();
         replicaSets.onEachReplicaSet(replicaSet -> {
             LOGGER.info("Determine Snapshot Offset for replica-set {}", replicaSet.replicaSetName());
             MongoPrimary primaryClient = establishConnectionToPrimary(replicaSet);
@@ -296,6 +320,20 @@ protected void determineSnapshotOffsets(MongoDbSnapshotContext ctx, ReplicaSets
                         MongoCollection<Document> oplog = primary.getDatabase("local").getCollection("oplog.rs");
                         Document last = oplog.find().sort(new Document("$natural", -1)).limit(1).first(); // may be null
                         positions.put(replicaSet, last);
+
+                        // an interrupted chunked snapshot can only be resumed if the oplog still contains its position
+                        BsonTimestamp interruptedTs = previousOffset != null ? previousOffset.interruptedSnapshotTimestamp(replicaSet) : null;
+                        if (interruptedTs != null) {
+                            Document first = oplog.find().sort(new Document("$natural", 1)).limit(1).first();
+                            BsonTimestamp firstAvailableTs = SourceInfo.extractEventTimestamp(first);
+                            if (firstAvailableTs != null && firstAvailableTs.compareTo(interruptedTs) <= 0) {
+                                resumedReplicaSets.add(replicaSet);
+                            }
+                            else {
+                                LOGGER.info("The oplog no longer contains the position of the interrupted snapshot of replica set '{}', "
+                                        + "so the snapshot is started from the beginning", replicaSet.replicaSetName());
+                            }
+                        }
                     });
                 }
                 finally {
@@ -307,6 +345,10 @@ protected void determineSnapshotOffsets(MongoDbSnapshotContext ctx, ReplicaSets
 
         ctx.offset = new MongoDbOffsetContext(new SourceInfo(connectorConfig), new TransactionContext(),
                 new MongoDbIncrementalSnapshotContext<>(false), positions);
+        for (ReplicaSet replicaSet : resumedReplicaSets) {
+            LOGGER.info("Resuming the interrupted snapshot of replica set '{}' from its oplog position", replicaSet.replicaSetName());
+            ctx.offset.resumeReplicaSetSnapshot(replicaSet, previousOffset);
+        }
     }
 
     private void createDataEvents(ChangeEventSourceContext sourceContext, MongoDbSnapshotContext snapshotContext, ReplicaSet replicaSet,
@@ -342,69 +384,30 @@ private void createDataEventsForReplicaSet(ChangeEventSourceContext sourceContex
         final List<CollectionId> collections = determineDataCollectionsToBeSnapshotted(primaryClient.collections()).collect(Collectors.toList());
         snapshotProgressListener.monitoredDataCollectionsDetermined(collections);
         if (connectorConfig.getSnapshotMaxThreads() > 1) {
-            // Since multiple snapshot threads are to be used, create a thread pool and initiate the snapshot.
-            // The current thread will wait until the snapshot threads either have completed or an error occurred.
-            final int numThreads = Math.min(collections.size(), connectorConfig.getSnapshotMaxThreads());
-            final Queue<CollectionId> collectionsToCopy = new ConcurrentLinkedQueue<>(collections);
-
-            final String snapshotThreadName = "snapshot-" + (replicaSet.hasReplicaSetName() ? replicaSet.replicaSetName() : "main");
-            final ExecutorService snapshotThreads = Threads.newFixedThreadPool(MongoDbConnector.class, taskContext.serverName(),
-                    snapshotThreadName, connectorConfig.getSnapshotMaxThreads());
-            final CountDownLatch latch = new CountDownLatch(numThreads);
-            final AtomicBoolean aborted = new AtomicBoolean(false);
-            final AtomicInteger threadCounter = new AtomicInteger(0);
-
-            LOGGER.info("Preparing to use {} thread(s) to snapshot {} collection(s): {}", numThreads, collections.size(),
-                    Strings.join(", ", collections));
-
-            for (int i = 0; i < numThreads; ++i) {
-                snapshotThreads.submit(() -> {
-                    taskContext.configureLoggingContext(replicaSet.replicaSetName() + "-snapshot" + threadCounter.incrementAndGet());
-                    try {
-                        CollectionId id = null;
-                        while (!aborted.get() && (id = collectionsToCopy.poll()) != null) {
-                            if (!sourceContext.isRunning()) {
-                                throw new InterruptedException("Interrupted while snapshotting replica set " + replicaSet.replicaSetName());
-                            }
-
-                            if (collectionsToCopy.isEmpty()) {
-                                snapshotContext.lastCollection = true;
-                            }
-
-                            createDataEventsForCollection(
-                                    sourceContext,
-                                    snapshotContext,
-                                    snapshotReceiver,
-                                    replicaSet,
-                                    id,
-                                    primaryClient);
-                        }
-                    }
-                    catch (InterruptedException e) {
-                        // Do nothing so that this thread is stopped
-                        aborted.set(true);
-                    }
-                    finally {
-                        latch.countDown();
-                    }
-                });
-            }
-
-            // wait for all copy threads to finish
+            // Since multiple snapshot threads are to be used, the collections are split into chunks read concurrently by a
+            // thread pool. The current thread will wait until the snapshot threads either have completed or an error occurred.
+            ChunkedSnapshotProgress progress;
             try {
-                latch.await();
+                progress = ChunkedSnapshotProgress.parse(collections, rsOffsetContext.getSnapshotProgress());
             }
-            catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                aborted.set(true);
+            catch (IllegalArgumentException e) {
+                LOGGER.warn("The progress of the previous snapshot cannot be restored, all collections will be snapshotted again: {}",
+                        e.getMessage());
+                progress = new ChunkedSnapshotProgress(collections);
             }
+            rsOffsetContext.setSnapshotProgress(progress.toString());
 
-            snapshotThreads.shutdown();
+            final List<SnapshotChunk> chunks = splitIntoChunks(sourceContext, replicaSet, primaryClient, collections, progress);
+            LOGGER.info("Preparing to use {} thread(s) to snapshot {} collection(s) in {} chunk(s): {}",
+                    connectorConfig.getSnapshotMaxThreads(), collections.size(), chunks.size(), Strings.join(", ", collections));
+            new ChunkedCollectionsSnapshot(sourceContext, snapshotContext, snapshotReceiver, replicaSet, primaryClient, progress, chunks)
+                    .execute();
         }
         else {
             // Only 1 thread should be used for snapshotting collections.
             // In this use case since the replica-set snapshot is already in a separate thread, there is not
             // a real reason to spawn additional threads but instead just run within the current thread.
+            rsOffsetContext.setSnapshotProgress(null);
             for (Iterator<CollectionId> it = collections.iterator(); it.hasNext();) {
                 final CollectionId collectionId = it.next();
 
@@ -438,14 +441,14 @@ private void createDataEventsForCollection(ChangeEventSourceContext sourceContex
 
         primaryClient.executeBlocking("sync '" + collectionId + "'", primary -> {
             final MongoDatabase database = primary.getDatabase(collectionId.dbName());
-            final MongoCollection<Document> collection = database.getCollection(collectionId.name());
+            final MongoCollection<? extends Bson> collection = getCollection(database, collectionId);
 
             final int batchSize = taskContext.getConnectorConfig().getSnapshotFetchSize();
 
             long docs = 0;
             Bson filterQuery = Document.parse(connectorConfig.getSnapshotFilterQueryForCollection(collectionId).orElseGet(() -> "{}"));
 
-            try (MongoCursor<Document> cursor = collection.find(filterQuery).batchSize(batchSize).iterator()) {
+            try (MongoCursor<? extends Bson> cursor = collection.find(filterQuery).batchSize(batchSize).iterator()) {
                 snapshotContext.lastRecordInCollection = false;
                 if (cursor.hasNext()) {
                     while (cursor.hasNext()) {
@@ -453,7 +456,7 @@ private void createDataEventsForCollection(ChangeEventSourceContext sourceContex
                             throw new InterruptedException("Interrupted while snapshotting collection " + collectionId.name());
                         }
 
-                        Document document = cursor.next();
+                        Bson document = cursor.next();
                         docs++;
 
                         snapshotContext.lastRecordInCollection = !cursor.hasNext();
@@ -477,8 +480,54 @@ else if (snapshotContext.lastCollection) {
         });
     }
 
+    /**
+     * Splits the documents of the collections not completely read by a previous snapshot into chunks. The collections
+     * estimated to contain more documents than the configured chunk size are split into ranges of their identifiers,
+     * using the identifiers of randomly sampled documents as boundaries; any other collection is read as a whole.
+     */
+    private List<SnapshotChunk> splitIntoChunks(ChangeEventSourceContext sourceContext, ReplicaSet replicaSet, MongoPrimary primaryClient,
+                                                List<CollectionId> collections, ChunkedSnapshotProgress progress)
+            throws InterruptedException {
+        final long chunkSize = connectorConfig.getSnapshotChunkSize();
+        final List<SnapshotChunk> chunks = new ArrayList<>();
+        for (CollectionId collectionId : collections) {
+            if (!sourceContext.isRunning()) {
+                throw new InterruptedException("Interrupted while snapshotting replica set " + replicaSet.replicaSetName());
+            }
+            if (progress.isCompleted(collectionId)) {
+                LOGGER.info("\t Collection '{}' was already snapshotted before the restart, skipping collection", collectionId);
+                snapshotProgressListener.dataCollectionSnapshotCompleted(collectionId, 0);
+                continue;
+            }
+            final BsonValue resumeFrom = progress.resumeFrom(collectionId);
+            final List<IdRange> ranges = primaryClient.execute("split '" + collectionId + "'", primary -> {
+                final MongoCollection<BsonDocument> collection = primary.getDatabase(collectionId.dbName())
+                        .getCollection(collectionId.name(), BsonDocument.class);
+                final long documentCount = collection.estimatedDocumentCount();
+                if (chunkSize == 0 || documentCount <= chunkSize) {
+                    return Collections.singletonList(new IdRange(resumeFrom, null));
+                }
+                final int chunkCount = (int) Math.min((documentCount + chunkSize - 1) / chunkSize, MAX_CHUNKS_PER_COLLECTION);
+                final List<BsonValue> sampledIds = new ArrayList<>();
+                collection.aggregate(Arrays.asList(
+                        Aggregates.sample(chunkCount * SAMPLED_DOCUMENTS_PER_CHUNK),
+                        Aggregates.project(Projections.include(ID_FIELD))))
+                        .forEach(document -> sampledIds.add(document.get(ID_FIELD)));
+                return IdRange.split(sampledIds, chunkCount, resumeFrom);
+            });
+            if (ranges.size() > 1) {
+                LOGGER.info("\t Split collection '{}' into {} chunks by document identifier", collectionId, ranges.size());
+            }
+            progress.started(collectionId, ranges);
+            for (int i = 0; i < ranges.size(); i++) {
+                chunks.add(new SnapshotChunk(collectionId, i, ranges.get(i)));
+            }
+        }
+        return chunks;
+    }
+
     protected ChangeRecordEmitter getChangeRecordEmitter(SnapshotContext<MongoDbPartition, MongoDbOffsetContext> snapshotContext,
-                                                         CollectionId collectionId, Document document,
+                                                         CollectionId collectionId, Bson document,
                                                          ReplicaSet replicaSet) {
         final MongoDbOffsetContext offsetContext = snapshotContext.offset;
 
@@ -486,13 +535,236 @@ protected ChangeRecordEmitter getChangeRecordEmitter(SnapshotContext<MongoDbPart
         final ReplicaSetOffsetContext replicaSetOffsetContext = offsetContext.getReplicaSetOffsetContext(replicaSet);
         replicaSetOffsetContext.readEvent(collectionId, getClock().currentTime());
 
-        return new MongoDbChangeSnapshotOplogRecordEmitter(replicaSetPartition, replicaSetOffsetContext, getClock(), document, true);
+        if (document instanceof RawBsonDocument) {
+            return new MongoDbChangeSnapshotOplogRecordEmitter(replicaSetPartition, replicaSetOffsetContext, getClock(), (RawBsonDocument) document);
+        }
+        return new MongoDbChangeSnapshotOplogRecordEmitter(replicaSetPartition, replicaSetOffsetContext, getClock(), (Document) document, true);
+    }
+
+    /**
+     * Obtains a collection whose documents are read as {@link RawBsonDocument raw documents} if configured, or as
+     * {@link Document documents} otherwise.
+     */
+    private MongoCollection<? extends Bson> getCollection(MongoDatabase database, CollectionId collectionId) {
+        return connectorConfig.isCaptureRawDocuments() ? database.getCollection(collectionId.name(), RawBsonDocument.class)
+                : database.getCollection(collectionId.name());
     }
 
     protected Clock getClock() {
         return clock;
     }
 
+    /**
+     * A part of the documents of a collection read by a single query.
+     */
+    private static final class SnapshotChunk {
+
+        private final CollectionId collectionId;
+        private final int index;
+        private final IdRange range;
+
+        SnapshotChunk(CollectionId collectionId, int index, IdRange range) {
+            this.collectionId = collectionId;
+            this.index = index;
+            this.range = range;
+        }
+    }
+
+    /**
+     * Reads the chunks of the collections of a replica set with a pool of snapshot threads. The documents are read
+     * concurrently and handed over to the replica set snapshot thread through a bounded buffer; that thread alone
+     * dispatches the change events, as the offset is shared by all of them, and updates the progress stored in the
+     * offset whenever a chunk has been completely read. The dispatch of each document is deferred until the next one
+     * arrives, so that the last document of the snapshot can be marked as its last record.
+     */
+    private final class ChunkedCollectionsSnapshot {
+
+        private final Object readerFinished = new Object();
+
+        private final ChangeEventSourceContext sourceContext;
+        private final MongoDbSnapshotContext snapshotContext;
+        private final SnapshotReceiver snapshotReceiver;
+        private final ReplicaSet replicaSet;
+        private final MongoPrimary primaryClient;
+        private final ChunkedSnapshotProgress progress;
+        private final Queue<SnapshotChunk> chunks;
+        private final BlockingQueue<Object> readDocuments;
+        private final Map<CollectionId, Long> documentsByCollection = new HashMap<>();
+        private final Map<CollectionId, Long> exportStartByCollection = new ConcurrentHashMap<>();
+        private final AtomicBoolean aborted = new AtomicBoolean();
+
+        ChunkedCollectionsSnapshot(ChangeEventSourceContext sourceContext, MongoDbSnapshotContext snapshotContext,
+                                   SnapshotReceiver snapshotReceiver, ReplicaSet replicaSet, MongoPrimary primaryClient,
+                                   ChunkedSnapshotProgress progress, List<SnapshotChunk> chunks) {
+            this.sourceContext = sourceContext;
+            this.snapshotContext = snapshotContext;
+            this.snapshotReceiver = snapshotReceiver;
+            this.replicaSet = replicaSet;
+            this.primaryClient = primaryClient;
+            this.progress = progress;
+            this.chunks = new ConcurrentLinkedQueue<>(chunks);
+            this.readDocuments = new ArrayBlockingQueue<>(connectorConfig.getMaxBatchSize());
+        }
+
+        void execute() throws InterruptedException {
+            if (chunks.isEmpty()) {
+                // if there is nothing left to read we still need to mark the last processed event as last one
+                snapshotContext.offset.markLastSnapshotRecord();
+                return;
+            }
+            final int numThreads = Math.min(chunks.size(), connectorConfig.getSnapshotMaxThreads());
+            final String snapshotThreadName = "snapshot-" + (replicaSet.hasReplicaSetName() ? replicaSet.replicaSetName() : "main");
+            final ExecutorService snapshotThreads = Threads.newFixedThreadPool(MongoDbConnector.class, taskContext.serverName(),
+                    snapshotThreadName, numThreads);
+            final AtomicInteger threadCounter = new AtomicInteger(0);
+            final List<Future<Void>> futures = new ArrayList<>();
+            try {
+                for (int i = 0; i < numThreads; ++i) {
+                    futures.add(snapshotThreads.submit(() -> {
+                        taskContext.configureLoggingContext(replicaSet.replicaSetName() + "-snapshot" + threadCounter.incrementAndGet());
+                        readChunks();
+                        return null;
+                    }));
+                }
+                CollectionDocument pending = null;
+                int runningReaders = futures.size();
+                while (runningReaders > 0) {
+                    final Object item = readDocuments.take();
+                    if (item == readerFinished) {
+                        runningReaders--;
+                    }
+                    else if (item instanceof CollectionDocument) {
+                        if (pending != null) {
+                            dispatch(pending);
+                        }
+                        pending = (CollectionDocument) item;
+                    }
+                    else {
+                        chunkCompleted((CompletedChunk) item);
+                    }
+                }
+                for (Future<Void> future : futures) {
+                    future.get();
+                }
+                // the last document read is the last record of the snapshot; without any the last processed event is marked
+                snapshotContext.offset.markLastSnapshotRecord();
+                if (pending != null) {
+                    dispatch(pending);
+                }
+            }
+            catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof InterruptedException) {
+                    throw (InterruptedException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new ConnectException(cause);
+            }
+            finally {
+                aborted.set(true);
+                snapshotThreads.shutdownNow();
+            }
+        }
+
+        private void dispatch(CollectionDocument document) throws InterruptedException {
+            dispatcher.dispatchSnapshotEvent(document.collectionId,
+                    getChangeRecordEmitter(snapshotContext, document.collectionId, document.document, replicaSet), snapshotReceiver);
+        }
+
+        private void readChunks() throws InterruptedException {
+            try {
+                SnapshotChunk chunk;
+                while (!aborted.get() && (chunk = chunks.poll()) != null) {
+                    readChunk(chunk);
+                }
+            }
+            catch (InterruptedException | RuntimeException e) {
+                aborted.set(true);
+                throw e;
+            }
+            finally {
+                readDocuments.put(readerFinished);
+            }
+        }
+
+        private void readChunk(SnapshotChunk chunk) throws InterruptedException {
+            final CollectionId collectionId = chunk.collectionId;
+            final long exportStart = clock.currentTimeInMillis();
+            exportStartByCollection.putIfAbsent(collectionId, exportStart);
+            LOGGER.info("\t Exporting data for collection '{}' in range {}", collectionId, chunk.range);
+            snapshotProgressListener.currentChunk(collectionId + "-" + chunk.index, new Object[]{ chunk.range.lower() }, null);
+
+            final AtomicLong docs = new AtomicLong();
+            primaryClient.executeBlocking("sync '" + collectionId + "' in range " + chunk.range, primary -> {
+                final MongoCollection<? extends Bson> collection = getCollection(primary.getDatabase(collectionId.dbName()), collectionId);
+                final int batchSize = taskContext.getConnectorConfig().getSnapshotFetchSize();
+                final Bson filterQuery = Document.parse(connectorConfig.getSnapshotFilterQueryForCollection(collectionId).orElseGet(() -> "{}"));
+                final Bson chunkQuery = chunk.range.isAll() ? filterQuery : Filters.and(filterQuery, chunk.range.toFilter());
+
+                docs.set(0);
+                try (MongoCursor<? extends Bson> cursor = collection.find(chunkQuery).batchSize(batchSize).iterator()) {
+                    while (cursor.hasNext()) {
+                        if (!sourceContext.isRunning() || aborted.get()) {
+                            throw new InterruptedException("Interrupted while snapshotting collection " + collectionId.name());
+                        }
+                        docs.incrementAndGet();
+                        readDocuments.put(new CollectionDocument(collectionId, cursor.next()));
+                    }
+                }
+            });
+            readDocuments.put(new CompletedChunk(chunk, docs.get(), exportStart));
+        }
+
+        private void chunkCompleted(CompletedChunk completedChunk) {
+            final SnapshotChunk chunk = completedChunk.chunk;
+            final CollectionId collectionId = chunk.collectionId;
+            final boolean collectionCompleted = progress.completed(collectionId, chunk.index);
+            snapshotContext.offset.getReplicaSetOffsetContext(replicaSet).setSnapshotProgress(progress.toString());
+
+            final long now = clock.currentTimeInMillis();
+            final long collectionDocs = documentsByCollection.merge(collectionId, completedChunk.docs, Long::sum);
+            LOGGER.info("\t Exported {} records of collection '{}' in range {} after {}", completedChunk.docs, collectionId, chunk.range,
+                    Strings.duration(now - completedChunk.exportStart));
+            if (collectionCompleted) {
+                LOGGER.info("\t Finished snapshotting {} records for collection '{}'; total duration '{}'", collectionDocs, collectionId,
+                        Strings.duration(now - exportStartByCollection.get(collectionId)));
+                snapshotProgressListener.dataCollectionSnapshotCompleted(collectionId, collectionDocs);
+            }
+        }
+    }
+
+    /**
+     * A document read from a chunk, waiting to be dispatched.
+     */
+    private static final class CollectionDocument {
+
+        private final CollectionId collectionId;
+        private final Bson document;
+
+        CollectionDocument(CollectionId collectionId, Bson document) {
+            this.collectionId = collectionId;
+            this.document = document;
+        }
+    }
+
+    /**
+     * Marks the end of the documents of a chunk; it follows the last document of the chunk in the buffer.
+     */
+    private static final class CompletedChunk {
+
+        private final SnapshotChunk chunk;
+        private final long docs;
+        private final long exportStart;
+
+        CompletedChunk(SnapshotChunk chunk, long docs, long exportStart) {
+            this.chunk = chunk;
+            this.docs = docs;
+            this.exportStart = exportStart;
+        }
+    }
+
     /**
      * A configuration describing the task to be performed during snapshotting.
      * @see AbstractSnapshotChangeEventSource.SnapshottingTask
@@ -25,6 +25,7 @@
 import org.bson.BsonString;
 import org.bson.BsonTimestamp;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -307,8 +308,11 @@ private void readChangeStream(MongoClient primary, MongoPrimary primaryClient, R
             // It must be filtered-out
             filters = Filters.and(filters, Filters.ne("clusterTime", oplogStart));
         }
-        final ChangeStreamIterable<Document> rsChangeStream = primary.watch(
-                Arrays.asList(Aggregates.match(filters)));
+        final List<Bson> pipeline = Arrays.asList(Aggregates.match(filters));
+        // the full documents are kept as raw BSON if configured, see MongoDbCollectionSchema
+        final ChangeStreamIterable<?> rsChangeStream = connectorConfig.isCaptureRawDocuments()
+                ? primary.watch(pipeline, RawBsonDocument.class)
+                : primary.watch(pipeline);
         if (taskContext.getCaptureMode().isFullUpdate()) {
             rsChangeStream.fullDocument(FullDocument.UPDATE_LOOKUP);
         }
@@ -328,7 +332,7 @@ private void readChangeStream(MongoClient primary, MongoPrimary primaryClient, R
             rsChangeStream.maxAwaitTime(connectorConfig.getCursorMaxAwaitTime(), TimeUnit.MILLISECONDS);
         }
 
-        try (MongoCursor<ChangeStreamDocument<Document>> cursor = rsChangeStream.iterator()) {
+        try (MongoCursor<? extends ChangeStreamDocument<?>> cursor = rsChangeStream.iterator()) {
             // In Replicator, this used cursor.hasNext() but this is a blocking call and I observed that this can
             // delay the shutdown of the connector by up to 15 seconds or longer. By introducing a Metronome, we
             // can respond to the stop request much faster and without much overhead.
@@ -336,7 +340,7 @@ private void readChangeStream(MongoClient primary, MongoPrimary primaryClient, R
             while (context.isRunning()) {
                 // Use tryNext which will return null if no document is yet available from the cursor.
                 // In this situation if not document is available, we'll pause.
-                final ChangeStreamDocument<Document> event = cursor.tryNext();
+                final ChangeStreamDocument<?> event = cursor.tryNext();
                 if (event != null) {
                     LOGGER.trace("Arrived Change Stream event: {}", event);
 
@@ -251,7 +251,7 @@ public static String getOplogSessionTransactionId(Document oplogEvent) {
      * @param event the Change Stream event
      * @return the session transaction id from the event
      */
-    public static SourceInfo.SessionTransactionId getChangeStreamSessionTransactionId(ChangeStreamDocument<Document> event) {
+    public static SourceInfo.SessionTransactionId getChangeStreamSessionTransactionId(ChangeStreamDocument<?> event) {
         if (event.getLsid() == null || event.getTxnNumber() == null) {
             return null;
         }
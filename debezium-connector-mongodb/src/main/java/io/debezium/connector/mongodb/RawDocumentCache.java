@@ -0,0 +1,117 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.Decoder;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * Keeps the raw BSON documents from which the JSON strings of change events have been encoded, so that the
+ * transformations applied to the events in the same process can decode the BSON documents instead of parsing the JSON
+ * strings again. An entry is discarded as soon as its JSON string is no longer referenced, i.e. once the change event
+ * has been sent.
+ * <p>
+ * Documents are only cached by connectors capturing {@link MongoDbConnectorConfig#CAPTURE_RAW_DOCUMENTS raw documents};
+ * until the first document is cached the transformations parse the JSON strings without consulting the cache. The
+ * strings are looked up by identity, as the transformations receive the very instances created by the connector.
+ * <p>
+ * The cache is shared by all the connectors and transformations of the JVM, as the transformations only receive the
+ * records; this includes the flag enabling the lookups, which is set by the first connector caching a document. Entries
+ * whose string has been discarded are purged whenever the cache is used, and at most {@link #MAX_DOCUMENTS} documents
+ * are kept; the strings of further documents are parsed by the transformations.
+ */
+@ThreadSafe
+public final class RawDocumentCache {
+
+    /**
+     * The maximum number of documents kept, which is well above the number of change events that are usually in flight.
+     */
+    static final int MAX_DOCUMENTS = 16_384;
+
+    private static final Decoder<BsonDocument> DECODER = new BsonDocumentCodec();
+    private static final ConcurrentMap<JsonKey, RawBsonDocument> DOCUMENTS_BY_JSON = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<String> UNREFERENCED_JSON = new ReferenceQueue<>();
+
+    private static volatile boolean enabled;
+
+    private RawDocumentCache() {
+    }
+
+    static void put(String json, RawBsonDocument document) {
+        expungeUnreferenced();
+        if (DOCUMENTS_BY_JSON.size() < MAX_DOCUMENTS) {
+            DOCUMENTS_BY_JSON.put(new JsonKey(json, UNREFERENCED_JSON), document);
+        }
+        enabled = true;
+    }
+
+    /**
+     * Obtains the document represented by a JSON string of a change event.
+     *
+     * @param json the JSON string; may not be null
+     * @return the modifiable document, decoded from the raw BSON document the string was encoded from if it is known,
+     *         or parsed from the string otherwise; never null
+     */
+    public static BsonDocument parse(String json) {
+        if (!enabled) {
+            return BsonDocument.parse(json);
+        }
+        expungeUnreferenced();
+        final RawBsonDocument document = DOCUMENTS_BY_JSON.get(new JsonKey(json, null));
+        return document != null ? document.decode(DECODER) : BsonDocument.parse(json);
+    }
+
+    static int size() {
+        return DOCUMENTS_BY_JSON.size();
+    }
+
+    private static void expungeUnreferenced() {
+        Reference<? extends String> reference;
+        while ((reference = UNREFERENCED_JSON.poll()) != null) {
+            DOCUMENTS_BY_JSON.remove(reference);
+        }
+    }
+
+    /**
+     * A weakly referenced JSON string, equal to the keys referencing the same string instance.
+     */
+    private static final class JsonKey extends WeakReference<String> {
+
+        private final int hashCode;
+
+        JsonKey(String json, ReferenceQueue<String> queue) {
+            super(json, queue);
+            this.hashCode = System.identityHashCode(json);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof JsonKey)) {
+                return false;
+            }
+            final String json = get();
+            return json != null && json == ((JsonKey) obj).get();
+        }
+    }
+}
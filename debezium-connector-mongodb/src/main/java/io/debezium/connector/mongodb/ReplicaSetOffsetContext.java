@@ -113,6 +113,14 @@ public boolean hasOffset() {
         return sourceInfo.hasOffset(replicaSetName);
     }
 
+    public String getSnapshotProgress() {
+        return sourceInfo.snapshotProgress(replicaSetName);
+    }
+
+    public void setSnapshotProgress(String snapshotProgress) {
+        sourceInfo.setSnapshotProgress(replicaSetName, snapshotProgress);
+    }
+
     public void readEvent(CollectionId collectionId, Instant timestamp) {
         sourceInfo.collectionEvent(replicaSetName, collectionId);
         sourceInfo.lastOffset(replicaSetName);
@@ -122,7 +130,7 @@ public void oplogEvent(Document oplogEvent, Document masterEvent, Long txOrder)
         sourceInfo.opLogEvent(replicaSetName, oplogEvent, masterEvent, txOrder);
     }
 
-    public void changeStreamEvent(ChangeStreamDocument<Document> changeStreamEvent, OptionalLong txOrder) {
+    public void changeStreamEvent(ChangeStreamDocument<?> changeStreamEvent, OptionalLong txOrder) {
         sourceInfo.changeStreamEvent(replicaSetName, changeStreamEvent, txOrder.orElse(0));
     }
 
@@ -51,7 +51,8 @@
  * Since each event in MongoDB's oplog is identified by a {@link BSONTimestamp} that tracks the time and the order of the
  * event for that particular time (e.g., multiple events that occur at the same time will have unique orders), the offset
  * includes the BSONTimetamp representation. (The event's {@code h} field is the unique ID for the operation, so this is also
- * included in the offset.) And, if an initial sync is in progress, the offset will include the {@code initsync} field.
+ * included in the offset.) And, if an initial sync is in progress, the offset will include the {@code initsync} field,
+ * and possibly the {@code snapshot_progress} field describing the data already read by a chunked snapshot.
  * <p>
  * Here's a JSON-like representation of an example timestamp:
  *
@@ -85,6 +86,7 @@ public final class SourceInfo extends BaseSourceInfo {
     public static final String COLLECTION = "collection";
     public static final String LSID = "lsid";
     public static final String TXN_NUMBER = "txnNumber";
+    public static final String SNAPSHOT_PROGRESS = "snapshot_progress";
 
     // Change Stream fields
 
@@ -94,6 +96,8 @@ public final class SourceInfo extends BaseSourceInfo {
     private final ConcurrentMap<String, Map<String, String>> sourcePartitionsByReplicaSetName = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, Position> positionsByReplicaSetName = new ConcurrentHashMap<>();
     private final Set<String> initialSyncReplicaSets = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final ConcurrentMap<String, String> snapshotProgressByReplicaSetName = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Position> interruptedInitialSyncPositionsByReplicaSetName = new ConcurrentHashMap<>();
 
     private String replicaSetName;
 
@@ -274,10 +278,15 @@ public Position lastPosition(String replicaSetName) {
             existing = INITIAL_POSITION;
         }
         if (isInitialSyncOngoing(replicaSetName)) {
-            return addSessionTxnIdToOffset(existing, Collect.hashMapOf(TIMESTAMP, Integer.valueOf(existing.getTime()),
+            Map<String, Object> offset = Collect.hashMapOf(TIMESTAMP, Integer.valueOf(existing.getTime()),
                     ORDER, Integer.valueOf(existing.getInc()),
                     OPERATION_ID, existing.getOperationId(),
-                    INITIAL_SYNC, true));
+                    INITIAL_SYNC, true);
+            String snapshotProgress = snapshotProgressByReplicaSetName.get(replicaSetName);
+            if (snapshotProgress != null) {
+                offset.put(SNAPSHOT_PROGRESS, snapshotProgress);
+            }
+            return addSessionTxnIdToOffset(existing, offset);
         }
         Map<String, Object> offset = Collect.hashMapOf(TIMESTAMP, Integer.valueOf(existing.getTime()),
                 ORDER, Integer.valueOf(existing.getInc()),
@@ -339,7 +348,7 @@ public void opLogEvent(String replicaSetName, Document oplogEvent, Document mast
         onEvent(replicaSetName, CollectionId.parse(replicaSetName, namespace), position);
     }
 
-    public void changeStreamEvent(String replicaSetName, ChangeStreamDocument<Document> changeStreamEvent, long orderInTx) {
+    public void changeStreamEvent(String replicaSetName, ChangeStreamDocument<?> changeStreamEvent, long orderInTx) {
         Position position = INITIAL_POSITION;
         String namespace = "";
         if (changeStreamEvent != null) {
@@ -432,7 +441,14 @@ public boolean setOffsetFor(String replicaSetName, Map<String, ?> sourceOffset)
         }
         // We have previously recorded at least one offset for this database ...
         boolean initSync = booleanOffsetValue(sourceOffset, INITIAL_SYNC);
+        String snapshotProgress = stringOffsetValue(sourceOffset, SNAPSHOT_PROGRESS);
         if (initSync) {
+            // the initial sync has to be restarted, but it can continue from the recorded progress
+            if (snapshotProgress != null) {
+                interruptedInitialSyncPositionsByReplicaSetName.put(replicaSetName, new Position(intOffsetValue(sourceOffset, TIMESTAMP),
+                        intOffsetValue(sourceOffset, ORDER), longOffsetValue(sourceOffset, OPERATION_ID), 0, null, null, null));
+                snapshotProgressByReplicaSetName.put(replicaSetName, snapshotProgress);
+            }
             return false;
         }
         int time = intOffsetValue(sourceOffset, TIMESTAMP);
@@ -482,6 +498,54 @@ public void startInitialSync(String replicaSetName) {
      */
     public void stopInitialSync(String replicaSetName) {
         initialSyncReplicaSets.remove(replicaSetName);
+        snapshotProgressByReplicaSetName.remove(replicaSetName);
+    }
+
+    /**
+     * Get the MongoDB timestamp of the position of an interrupted initial sync which recorded its progress.
+     *
+     * @param replicaSetName the name of the replica set; never null
+     * @return the timestamp, or null if there is no such initial sync
+     */
+    public BsonTimestamp interruptedInitialSyncTimestamp(String replicaSetName) {
+        Position interrupted = interruptedInitialSyncPositionsByReplicaSetName.get(replicaSetName);
+        return interrupted != null ? interrupted.ts : null;
+    }
+
+    /**
+     * Continue an initial sync interrupted before, taking over its position and progress.
+     *
+     * @param replicaSetName the name of the replica set; never null
+     * @param interrupted the source info with the offset of the interrupted initial sync; never null
+     */
+    public void resumeInitialSync(String replicaSetName, SourceInfo interrupted) {
+        positionsByReplicaSetName.put(replicaSetName, interrupted.interruptedInitialSyncPositionsByReplicaSetName.get(replicaSetName));
+        snapshotProgressByReplicaSetName.put(replicaSetName, interrupted.snapshotProgressByReplicaSetName.get(replicaSetName));
+    }
+
+    /**
+     * Get the data already read by the ongoing initial sync of the given replica set.
+     *
+     * @param replicaSetName the name of the replica set; never null
+     * @return the progress, or null if there is none
+     */
+    public String snapshotProgress(String replicaSetName) {
+        return snapshotProgressByReplicaSetName.get(replicaSetName);
+    }
+
+    /**
+     * Record the data already read by the ongoing initial sync of the given replica set.
+     *
+     * @param replicaSetName the name of the replica set; never null
+     * @param snapshotProgress the progress; may be null if there is none
+     */
+    public void setSnapshotProgress(String replicaSetName, String snapshotProgress) {
+        if (snapshotProgress == null || snapshotProgress.isEmpty()) {
+            snapshotProgressByReplicaSetName.remove(replicaSetName);
+        }
+        else {
+            snapshotProgressByReplicaSetName.put(replicaSetName, snapshotProgress);
+        }
     }
 
     /**
@@ -42,6 +42,7 @@
 import io.debezium.config.EnumeratedValue;
 import io.debezium.config.Field;
 import io.debezium.connector.mongodb.MongoDbFieldName;
+import io.debezium.connector.mongodb.RawDocumentCache;
 import io.debezium.data.Envelope;
 import io.debezium.data.Envelope.FieldName;
 import io.debezium.data.Envelope.Operation;
@@ -381,7 +382,7 @@ private void addFields(List<FieldReference> additionalFields, R originalRecord,
 
     private BsonDocument getUpdateDocument(R patchRecord, BsonDocument keyDocument) {
         BsonDocument valueDocument = new BsonDocument();
-        BsonDocument document = BsonDocument.parse(patchRecord.value().toString());
+        BsonDocument document = RawDocumentCache.parse(patchRecord.value().toString());
 
         if (document.containsKey("$set")) {
             valueDocument = document.getDocument("$set");
@@ -424,7 +425,7 @@ private BsonDocument getUpdateDocument(R patchRecord, BsonDocument keyDocument)
     }
 
     private BsonDocument getInsertDocument(R record, BsonDocument key) {
-        return BsonDocument.parse(record.value().toString());
+        return RawDocumentCache.parse(record.value().toString());
     }
 
     private Headers makeHeaders(List<FieldReference> additionalHeaders, Struct originalRecordValue) {
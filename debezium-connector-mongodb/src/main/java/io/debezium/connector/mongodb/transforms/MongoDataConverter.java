@@ -109,14 +109,14 @@ public void convertFieldValue(Entry<String, BsonValue> keyvalueforStruct, Struct
                 break;
 
             case JAVASCRIPT_WITH_SCOPE:
-                Struct jsStruct = new Struct(schema.field(key).schema());
-                Struct jsScopeStruct = new Struct(
-                        schema.field(key).schema().field("scope").schema());
+                final Schema jsSchema = schema.field(key).schema();
+                Struct jsStruct = new Struct(jsSchema);
+                Struct jsScopeStruct = new Struct(jsSchema.field("scope").schema());
                 jsStruct.put("code", keyvalueforStruct.getValue().asJavaScriptWithScope().getCode());
                 BsonDocument jwsDoc = keyvalueforStruct.getValue().asJavaScriptWithScope().getScope().asDocument();
 
                 for (Entry<String, BsonValue> jwsDocKey : jwsDoc.entrySet()) {
-                    convertFieldValue(jwsDocKey, jsScopeStruct, schema.field(key).schema());
+                    convertFieldValue(jwsDocKey, jsScopeStruct, jsSchema);
                 }
 
                 jsStruct.put("scope", jsScopeStruct);
@@ -176,18 +176,17 @@ public void convertFieldValue(Entry<String, BsonValue> keyvalueforStruct, Struct
                         case ARRAY:
                             BsonType valueType = keyvalueforStruct.getValue().asArray().get(0).getBsonType();
                             List<BsonValue> arrValues = keyvalueforStruct.getValue().asArray().getValues();
-                            ArrayList<Object> list = new ArrayList<>();
-
-                            arrValues.stream().forEach(arrValue -> {
-                                final Schema valueSchema;
-                                if (Arrays.asList(BsonType.ARRAY, BsonType.DOCUMENT).contains(valueType)) {
-                                    valueSchema = schema.field(key).schema().valueSchema();
-                                }
-                                else {
-                                    valueSchema = null;
-                                }
-                                convertFieldValue(valueSchema, valueType, arrValue, list);
-                            });
+                            ArrayList<Object> list = new ArrayList<>(arrValues.size());
+
+                            // The element schema is resolved once for all elements of the array
+                            final Schema valueSchema;
+                            if (valueType == BsonType.ARRAY || valueType == BsonType.DOCUMENT) {
+                                valueSchema = schema.field(key).schema().valueSchema();
+                            }
+                            else {
+                                valueSchema = null;
+                            }
+                            arrValues.forEach(arrValue -> convertFieldValue(valueSchema, valueType, arrValue, list));
                             colValue = list;
                             break;
                         case DOCUMENT:
@@ -198,10 +197,7 @@ public void convertFieldValue(Entry<String, BsonValue> keyvalueforStruct, Struct
                             for (int i = 0; i < array.size(); i++) {
                                 convertedArray.put(arrayElementStructName(i), array.get(i));
                             }
-                            convertedArray.entrySet().forEach(x -> {
-                                final Schema elementSchema = schema.field(key).schema();
-                                convertFieldValue(x, arrayStruct, elementSchema);
-                            });
+                            convertedArray.entrySet().forEach(x -> convertFieldValue(x, arrayStruct, arraySchema));
                             colValue = arrayStruct;
                             break;
                     }
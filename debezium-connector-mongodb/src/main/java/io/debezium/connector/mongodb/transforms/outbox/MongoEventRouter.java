@@ -25,6 +25,7 @@
 
 import io.debezium.common.annotation.Incubating;
 import io.debezium.config.Configuration;
+import io.debezium.connector.mongodb.RawDocumentCache;
 import io.debezium.connector.mongodb.transforms.ExtractNewDocumentState;
 import io.debezium.connector.mongodb.transforms.MongoDataConverter;
 import io.debezium.data.Envelope;
@@ -118,7 +119,7 @@ private R expandAfterField(R originalRecord) throws IllegalStateException {
         Schema originalValueSchema = originalRecord.valueSchema();
 
         String afterSchemaName = afterRecord.valueSchema().name();
-        BsonDocument afterBsonDocument = BsonDocument.parse((String) after);
+        BsonDocument afterBsonDocument = RawDocumentCache.parse((String) after);
 
         Schema newAfterSchema = buildNewAfterSchema(afterSchemaName, afterBsonDocument);
         Struct newAfterStruct = buildNewAfterStruct(newAfterSchema, afterBsonDocument);
@@ -0,0 +1,123 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+import io.debezium.connector.mongodb.ChunkedSnapshotProgress.IdRange;
+
+public class ChunkedSnapshotProgressTest {
+
+    private static final CollectionId COLLECTION1 = new CollectionId("rs0", "db", "c1");
+    private static final CollectionId COLLECTION2 = new CollectionId("rs0", "db", "c2");
+    private static final CollectionId COLLECTION3 = new CollectionId("rs0", "db", "c3");
+    private static final List<CollectionId> COLLECTIONS = Arrays.asList(COLLECTION1, COLLECTION2, COLLECTION3);
+
+    @Test
+    public void shouldSplitSampledIdentifiersIntoRanges() {
+        final List<BsonValue> sampledIds = new ArrayList<>();
+        for (int i = 99; i >= 0; i--) {
+            sampledIds.add(i % 2 == 0 ? new BsonInt32(i) : new BsonInt64(i));
+        }
+        sampledIds.add(new BsonString("other type"));
+
+        assertThat(IdRange.split(sampledIds, 4, null)).containsExactly(
+                new IdRange(null, new BsonInt64(25)),
+                new IdRange(new BsonInt64(25), new BsonInt32(50)),
+                new IdRange(new BsonInt32(50), new BsonInt64(75)),
+                new IdRange(new BsonInt64(75), null));
+        assertThat(IdRange.split(sampledIds, 2, new BsonInt32(80))).containsExactly(
+                new IdRange(new BsonInt32(80), new BsonInt32(90)),
+                new IdRange(new BsonInt32(90), null));
+        assertThat(IdRange.split(Arrays.asList(new BsonDocument()), 4, null)).containsExactly(IdRange.ALL);
+    }
+
+    @Test
+    public void shouldNotCreateEmptyRanges() {
+        final List<BsonValue> sampledIds = Arrays.asList(new BsonString("a"), new BsonString("a"), new BsonString("a"), new BsonString("b"));
+        assertThat(IdRange.split(sampledIds, 4, null)).containsExactly(
+                new IdRange(null, new BsonString("a")),
+                new IdRange(new BsonString("a"), new BsonString("b")),
+                new IdRange(new BsonString("b"), null));
+    }
+
+    @Test
+    public void shouldCreateFilterOfRange() {
+        assertThat(IdRange.ALL.toFilter().toBsonDocument().toJson()).isEqualTo("{}");
+        assertThat(new IdRange(null, new BsonInt32(10)).toFilter().toBsonDocument().toJson())
+                .isEqualTo("{\"_id\": {\"$not\": {\"$gte\": 10}}}");
+        assertThat(new IdRange(new BsonInt32(10), new BsonInt32(20)).toFilter().toBsonDocument().toJson())
+                .isEqualTo("{\"$and\": [{\"_id\": {\"$gte\": 10}}, {\"_id\": {\"$lt\": 20}}]}");
+        assertThat(new IdRange(new BsonInt32(20), null).toFilter().toBsonDocument().toJson())
+                .isEqualTo("{\"_id\": {\"$gte\": 20}}");
+    }
+
+    @Test
+    public void shouldTrackFirstIncompleteRange() {
+        final BsonObjectId id1 = new BsonObjectId(new ObjectId("5f1e3b0c2a1d4e0001000000"));
+        final BsonObjectId id2 = new BsonObjectId(new ObjectId("5f1e3b0c2a1d4e0002000000"));
+        final ChunkedSnapshotProgress progress = new ChunkedSnapshotProgress(COLLECTIONS);
+        assertThat(progress.toString()).isEmpty();
+
+        progress.started(COLLECTION1, Arrays.asList(new IdRange(null, id1), new IdRange(id1, id2), new IdRange(id2, null)));
+        assertThat(progress.completed(COLLECTION1, 1)).isFalse();
+        assertThat(progress.toString()).isEmpty();
+
+        assertThat(progress.completed(COLLECTION1, 0)).isFalse();
+        assertThat(progress.resumeFrom(COLLECTION1)).isEqualTo(id2);
+        assertThat(progress.toString())
+                .isEqualTo("{\"collections\": [{\"collection\": \"db.c1\", \"from\": {\"$oid\": \"5f1e3b0c2a1d4e0002000000\"}}]}");
+
+        progress.started(COLLECTION3, Arrays.asList(IdRange.ALL));
+        assertThat(progress.completed(COLLECTION3, 0)).isTrue();
+        assertThat(progress.isCompleted(COLLECTION3)).isTrue();
+
+        assertThat(progress.completed(COLLECTION1, 2)).isTrue();
+        assertThat(progress.toString())
+                .isEqualTo("{\"completed\": \"db.c1\", \"collections\": [{\"collection\": \"db.c3\", \"done\": true}]}");
+    }
+
+    @Test
+    public void shouldRestoreProgress() {
+        final ChunkedSnapshotProgress progress = new ChunkedSnapshotProgress(COLLECTIONS);
+        progress.started(COLLECTION1, Arrays.asList(IdRange.ALL));
+        progress.completed(COLLECTION1, 0);
+        progress.started(COLLECTION2, Arrays.asList(new IdRange(null, new BsonString("m")), new IdRange(new BsonString("m"), null)));
+        progress.completed(COLLECTION2, 0);
+
+        final ChunkedSnapshotProgress restored = ChunkedSnapshotProgress.parse(COLLECTIONS, progress.toString());
+        assertThat(restored.toString()).isEqualTo(progress.toString());
+        assertThat(restored.isCompleted(COLLECTION1)).isTrue();
+        assertThat(restored.isCompleted(COLLECTION2)).isFalse();
+        assertThat(restored.resumeFrom(COLLECTION2)).isEqualTo(new BsonString("m"));
+        assertThat(restored.resumeFrom(COLLECTION3)).isNull();
+    }
+
+    @Test
+    public void shouldIgnoreCollectionsNoLongerCaptured() {
+        final ChunkedSnapshotProgress restored = ChunkedSnapshotProgress.parse(Arrays.asList(COLLECTION1, COLLECTION3),
+                "{\"collections\": [{\"collection\": \"db.c2\", \"from\": 10}, {\"collection\": \"db.c3\", \"from\": 5}]}");
+        assertThat(restored.toString()).isEqualTo("{\"collections\": [{\"collection\": \"db.c3\", \"from\": {\"$numberInt\": \"5\"}}]}");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectProgressOfUnknownCompletedCollection() {
+        ChunkedSnapshotProgress.parse(Arrays.asList(COLLECTION1, COLLECTION3), "{\"completed\": \"db.c2\"}");
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+public class RawDocumentCacheTest {
+
+    private final JsonSerialization serialization = new JsonSerialization();
+
+    @Test
+    public void shouldSerializeRawDocumentLikeDecodedDocument() {
+        final Document document = new Document("_id", new ObjectId("5f1e3b0c2a1d4e0001000000"))
+                .append("name", "Sally")
+                .append("count", 42L)
+                .append("price", Decimal128.parse("10.25"))
+                .append("created", new Date(1_600_000_000_000L))
+                .append("tags", Arrays.asList("a", 1, 2.5))
+                .append("address", new Document("street", "Main").append("number", 7));
+        final RawBsonDocument raw = new RawBsonDocument(document, new DocumentCodec());
+
+        assertThat(serialization.getRawDocumentValue(raw)).isEqualTo(serialization.getDocumentValue(document));
+        assertThat(serialization.getDocumentIdChangeStream(new BsonDocument("_id", raw.get("_id"))))
+                .isEqualTo(serialization.getDocumentIdOplog(document));
+    }
+
+    @Test
+    public void shouldDecodeCachedRawDocument() {
+        final RawBsonDocument raw = new RawBsonDocument(new Document("_id", 1).append("value", "x"), new DocumentCodec());
+        final String json = serialization.getRawDocumentValue(raw);
+
+        final BsonDocument parsed = RawDocumentCache.parse(json);
+        assertThat(parsed).isEqualTo(BsonDocument.parse(json));
+        assertThat(parsed instanceof RawBsonDocument).isFalse();
+
+        parsed.append("added", new BsonInt32(2));
+        assertThat(RawDocumentCache.parse(json)).isEqualTo(raw);
+    }
+
+    @Test
+    public void shouldParseEqualJsonOfOtherInstance() {
+        final RawBsonDocument raw = new RawBsonDocument(new Document("_id", 2).append("value", "y"), new DocumentCodec());
+        final String json = serialization.getRawDocumentValue(raw);
+        final String copy = new String(json);
+
+        assertThat(copy != json).isTrue();
+        assertThat(RawDocumentCache.parse(copy)).isEqualTo(raw);
+    }
+
+    @Test
+    public void shouldKeepAtMostMaxDocuments() {
+        final List<String> jsons = new ArrayList<>();
+        for (int i = 0; i < RawDocumentCache.MAX_DOCUMENTS + 10; i++) {
+            jsons.add(serialization.getRawDocumentValue(new RawBsonDocument(new Document("_id", i), new DocumentCodec())));
+        }
+
+        assertThat(RawDocumentCache.size()).isLessThanOrEqualTo(RawDocumentCache.MAX_DOCUMENTS);
+        assertThat(RawDocumentCache.parse(jsons.get(jsons.size() - 1))).isEqualTo(new BsonDocument("_id", new BsonInt32(jsons.size() - 1)));
+    }
+
+    @Test
+    public void shouldParseUnknownJson() {
+        assertThat(RawDocumentCache.parse("{\"_id\": 1}")).isEqualTo(new BsonDocument("_id", new BsonInt32(1)));
+    }
+}
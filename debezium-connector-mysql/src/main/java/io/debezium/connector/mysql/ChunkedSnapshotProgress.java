@@ -0,0 +1,266 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.relational.TableId;
+
+/**
+ * The data already read by a chunked snapshot, stored in the offsets so that a restarted snapshot only reads the
+ * remaining data.
+ * <p>
+ * The data of every table is read in chunks, each of them being a {@link KeyRange range of the primary key} or the whole
+ * table. The completed ranges of a table are merged with each other, and the tables completed in the snapshot order
+ * are represented just by the last of them, so the size of the progress depends on the number of chunks being read
+ * concurrently rather than on the number of tables or chunks read so far. The string representation is
+ * <pre>
+ * lastTableOfCompletedPrefix;table=lower:upper,lower:upper;table=...
+ * </pre>
+ * where either bound of a range may be empty, meaning the range is unbounded on that side.
+ */
+@NotThreadSafe
+final class ChunkedSnapshotProgress {
+
+    private static final String TABLE_SEPARATOR = ";";
+    private static final String RANGES_SEPARATOR = "=";
+    private static final String RANGE_SEPARATOR = ",";
+
+    private final List<String> tables = new ArrayList<>();
+    private final Map<String, Integer> positionByTable = new HashMap<>();
+    private final Map<String, List<KeyRange>> completedRangesByTable = new LinkedHashMap<>();
+    private int completedTables;
+
+    /**
+     * @param tables the captured tables in the order in which they are snapshotted; may not be null
+     */
+    ChunkedSnapshotProgress(Collection<TableId> tables) {
+        for (TableId tableId : tables) {
+            positionByTable.put(tableId.identifier(), this.tables.size());
+            this.tables.add(tableId.identifier());
+        }
+    }
+
+    /**
+     * Restores the progress of a previous snapshot.
+     *
+     * @param tables the captured tables in the order in which they are snapshotted; may not be null
+     * @param progress the string representation of the progress; may be null if there is none
+     * @return the progress; never null
+     * @throws IllegalArgumentException if the progress cannot be restored for the given tables
+     */
+    static ChunkedSnapshotProgress parse(Collection<TableId> tables, String progress) {
+        final ChunkedSnapshotProgress result = new ChunkedSnapshotProgress(tables);
+        if (progress == null || progress.isEmpty()) {
+            return result;
+        }
+        final String[] entries = progress.split(TABLE_SEPARATOR, -1);
+        if (!entries[0].isEmpty()) {
+            final Integer position = result.positionByTable.get(entries[0]);
+            if (position == null) {
+                throw new IllegalArgumentException("Table '" + entries[0] + "' is no longer captured");
+            }
+            result.completedTables = position + 1;
+        }
+        for (int i = 1; i < entries.length; i++) {
+            final int separator = entries[i].lastIndexOf(RANGES_SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid snapshot progress of table '" + entries[i] + "'");
+            }
+            final String table = entries[i].substring(0, separator);
+            // tables no longer captured are ignored
+            if (result.positionByTable.containsKey(table)) {
+                for (String range : entries[i].substring(separator + 1).split(RANGE_SEPARATOR)) {
+                    result.merge(table, KeyRange.parse(range));
+                }
+            }
+        }
+        result.advanceCompletedTables();
+        return result;
+    }
+
+    boolean isCompleted(TableId tableId) {
+        final Integer position = positionByTable.get(tableId.identifier());
+        if (position != null && position < completedTables) {
+            return true;
+        }
+        final List<KeyRange> completedRanges = completedRangesByTable.get(tableId.identifier());
+        return completedRanges != null && completedRanges.get(0).isAll();
+    }
+
+    /**
+     * Returns the parts of the given range of a table which have not been read yet.
+     *
+     * @return the ranges in ascending order; never null
+     */
+    List<KeyRange> remaining(TableId tableId, KeyRange range) {
+        if (isCompleted(tableId)) {
+            return Collections.emptyList();
+        }
+        final List<KeyRange> completedRanges = completedRangesByTable.get(tableId.identifier());
+        if (completedRanges == null) {
+            return Collections.singletonList(range);
+        }
+
+        final List<KeyRange> remaining = new ArrayList<>();
+        Long start = range.lower;
+        for (KeyRange completed : completedRanges) {
+            if (completed.upper != null && start != null && completed.upper <= start) {
+                continue;
+            }
+            if (completed.lower != null && range.upper != null && completed.lower >= range.upper) {
+                break;
+            }
+            if (completed.lower != null && (start == null || start < completed.lower)) {
+                remaining.add(new KeyRange(start, completed.lower));
+            }
+            if (completed.upper == null || (range.upper != null && completed.upper >= range.upper)) {
+                return remaining;
+            }
+            start = completed.upper;
+        }
+        remaining.add(new KeyRange(start, range.upper));
+        return remaining;
+    }
+
+    /**
+     * Records that all the rows of the given range of a table have been read.
+     */
+    void completed(TableId tableId, KeyRange range) {
+        merge(tableId.identifier(), range);
+        advanceCompletedTables();
+    }
+
+    private void merge(String table, KeyRange range) {
+        final List<KeyRange> ranges = completedRangesByTable.computeIfAbsent(table, t -> new ArrayList<>());
+        ranges.add(range);
+        ranges.sort((r1, r2) -> r1.lower == null ? (r2.lower == null ? 0 : -1) : (r2.lower == null ? 1 : Long.compare(r1.lower, r2.lower)));
+
+        final List<KeyRange> merged = new ArrayList<>(ranges.size());
+        KeyRange current = ranges.get(0);
+        for (int i = 1; i < ranges.size(); i++) {
+            final KeyRange next = ranges.get(i);
+            if (current.upper == null || next.lower == null || next.lower <= current.upper) {
+                final Long upper = current.upper == null || next.upper == null ? null : Math.max(current.upper, next.upper);
+                current = new KeyRange(current.lower, upper);
+            }
+            else {
+                merged.add(current);
+                current = next;
+            }
+        }
+        merged.add(current);
+        completedRangesByTable.put(table, merged);
+    }
+
+    private void advanceCompletedTables() {
+        while (completedTables < tables.size()) {
+            final List<KeyRange> completedRanges = completedRangesByTable.get(tables.get(completedTables));
+            if (completedRanges == null || !completedRanges.get(0).isAll()) {
+                break;
+            }
+            completedRangesByTable.remove(tables.get(completedTables));
+            completedTables++;
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        if (completedTables > 0) {
+            sb.append(tables.get(completedTables - 1));
+        }
+        completedRangesByTable.forEach((table, ranges) -> {
+            sb.append(TABLE_SEPARATOR).append(table).append(RANGES_SEPARATOR);
+            for (int i = 0; i < ranges.size(); i++) {
+                if (i > 0) {
+                    sb.append(RANGE_SEPARATOR);
+                }
+                sb.append(ranges.get(i));
+            }
+        });
+        return sb.toString();
+    }
+
+    /**
+     * A range of the values of a single-column integer primary key.
+     */
+    static final class KeyRange {
+
+        static final KeyRange ALL = new KeyRange(null, null);
+
+        private static final String BOUNDS_SEPARATOR = ":";
+
+        private final Long lower;
+        private final Long upper;
+
+        /**
+         * @param lower the inclusive lower bound; null if the range is unbounded below
+         * @param upper the exclusive upper bound; null if the range is unbounded above
+         */
+        KeyRange(Long lower, Long upper) {
+            this.lower = lower;
+            this.upper = upper;
+        }
+
+        static KeyRange parse(String range) {
+            final int separator = range.indexOf(BOUNDS_SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid key range '" + range + "'");
+            }
+            try {
+                final String lower = range.substring(0, separator);
+                final String upper = range.substring(separator + 1);
+                return new KeyRange(lower.isEmpty() ? null : Long.valueOf(lower), upper.isEmpty() ? null : Long.valueOf(upper));
+            }
+            catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid key range '" + range + "'", e);
+            }
+        }
+
+        Long lower() {
+            return lower;
+        }
+
+        Long upper() {
+            return upper;
+        }
+
+        boolean isAll() {
+            return lower == null && upper == null;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final KeyRange other = (KeyRange) obj;
+            return Objects.equals(lower, other.lower) && Objects.equals(upper, other.upper);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lower, upper);
+        }
+
+        @Override
+        public String toString() {
+            return (lower == null ? "" : lower.toString()) + BOUNDS_SEPARATOR + (upper == null ? "" : upper.toString());
+        }
+    }
+}
@@ -38,11 +38,13 @@
  *     <li>Buffer content is sent to the final handler</li>
  *     <li>Binlog position is rewound and all events between the above recorded positions are sent to the final handler</li>
  * </ul>
+ * When an {@link EventSpillFile} is provided, the events not fitting into the buffer are instead appended to the file
+ * and replayed from it after the buffer content, so the transaction is not read from the binlog again.
  *
  * @author Jiri Pechanec
  *
  */
-class EventBuffer {
+class EventBuffer implements AutoCloseable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EventBuffer.class);
 
@@ -51,6 +53,7 @@ class EventBuffer {
     private final MySqlStreamingChangeEventSource streamingChangeEventSource;
     private boolean txStarted = false;
     private final ChangeEventSourceContext changeEventSourceContext;
+    private final EventSpillFile spillFile;
 
     /**
      * Contains the position of the first event that has not fit into the buffer.
@@ -64,10 +67,20 @@ class EventBuffer {
     private BinlogPosition forwardTillPosition;
 
     public EventBuffer(int capacity, MySqlStreamingChangeEventSource streamingChangeEventSource, ChangeEventSourceContext changeEventSourceContext) {
+        this(capacity, streamingChangeEventSource, changeEventSourceContext, null);
+    }
+
+    /**
+     * @param spillFile the file receiving the events that do not fit into the buffer; if {@code null} the binlog
+     *                  is re-read from the first event that did not fit
+     */
+    public EventBuffer(int capacity, MySqlStreamingChangeEventSource streamingChangeEventSource, ChangeEventSourceContext changeEventSourceContext,
+                       EventSpillFile spillFile) {
         this.capacity = capacity;
         this.buffer = new ArrayBlockingQueue<>(capacity);
         this.streamingChangeEventSource = streamingChangeEventSource;
         this.changeEventSourceContext = changeEventSourceContext;
+        this.spillFile = spillFile;
     }
 
     /**
@@ -134,6 +147,10 @@ private boolean isReplayingEventsBeyondBufferCapacity() {
      * @param event
      */
     private void addToBuffer(Event event) {
+        if (spillFile != null) {
+            addToBufferOrSpillFile(event);
+            return;
+        }
         if (isInBufferFullMode()) {
             return;
         }
@@ -145,6 +162,22 @@ private void addToBuffer(Event event) {
         }
     }
 
+    /**
+     * Adds an event to the buffer if there is a space available, otherwise appends it to the spill file, so that
+     * the order of the events is kept.
+     */
+    private void addToBufferOrSpillFile(Event event) {
+        if (spillFile.isEmpty() && buffer.size() < capacity) {
+            buffer.add(event);
+            return;
+        }
+        if (spillFile.isEmpty()) {
+            LOGGER.info("Buffer full, spilling the rest of the transaction to disk from {}", streamingChangeEventSource.getCurrentBinlogPosition());
+            streamingChangeEventSource.getMetrics().onLargeTransaction();
+        }
+        spillFile.append(event);
+    }
+
     private void switchToBufferFullMode() {
         largeTxNotBufferedPosition = streamingChangeEventSource.getCurrentBinlogPosition();
         LOGGER.info("Buffer full, will need to re-read part of the transaction from binlog from {}", largeTxNotBufferedPosition);
@@ -200,6 +233,10 @@ private void completeTransaction(MySqlPartition partition, MySqlOffsetContext of
         for (Event e : buffer) {
             streamingChangeEventSource.handleEvent(partition, offsetContext, e);
         }
+        if (spillFile != null && !spillFile.isEmpty()) {
+            LOGGER.debug("Executing {} events spilled to disk", spillFile.size());
+            spillFile.replay(e -> streamingChangeEventSource.handleEvent(partition, offsetContext, e));
+        }
         LOGGER.debug("Executing events from binlog that have not fit into buffer");
         if (isInBufferFullMode()) {
             forwardTillPosition = streamingChangeEventSource.getCurrentBinlogPosition();
@@ -231,8 +268,18 @@ private void rollbackTransaction() {
      */
     private void clear() {
         buffer.clear();
+        if (spillFile != null) {
+            spillFile.clear();
+        }
         largeTxNotBufferedPosition = null;
         txStarted = false;
     }
 
+    @Override
+    public void close() {
+        if (spillFile != null) {
+            spillFile.close();
+        }
+    }
+
 }
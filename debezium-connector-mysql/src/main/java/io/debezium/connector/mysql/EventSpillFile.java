@@ -0,0 +1,147 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.shyiko.mysql.binlog.event.Event;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.NotThreadSafe;
+
+/**
+ * A local file holding the binlog events of a transaction that do not fit into the {@link EventBuffer}. The events are
+ * appended in the order in which they were read from the binlog and can be replayed in the same order once the
+ * transaction is committed, so the part of the transaction beyond the buffer capacity does not have to be read from the
+ * database server again.
+ * <p>
+ * The events are stored using Java serialization which all the binlog event types support; the file is created upon the
+ * first appended event and deleted when the file is cleared.
+ */
+@NotThreadSafe
+class EventSpillFile implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventSpillFile.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private Path file;
+    private ObjectOutputStream output;
+    private long size;
+
+    /**
+     * @param directory the directory in which the file is created; if {@code null} the default temporary-file
+     *                  directory is used
+     */
+    EventSpillFile(Path directory) {
+        this.directory = directory;
+    }
+
+    void append(Event event) {
+        try {
+            if (output == null) {
+                file = directory != null ? Files.createTempFile(directory, "debezium-binlog-", ".spill")
+                        : Files.createTempFile("debezium-binlog-", ".spill");
+                LOGGER.debug("Spilling binlog events to {}", file);
+                output = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE));
+            }
+            output.writeObject(event);
+            // do not keep references to the events written so far
+            output.reset();
+            size++;
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to spill binlog event to " + file, e);
+        }
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * Passes all the events appended to the file to the given consumer in the order in which they were appended.
+     */
+    void replay(Consumer<Event> consumer) {
+        if (isEmpty()) {
+            return;
+        }
+        try {
+            output.close();
+            output = null;
+            try (ObjectInputStream input = new EventInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE))) {
+                for (long i = 0; i < size; i++) {
+                    consumer.accept((Event) input.readObject());
+                }
+            }
+        }
+        catch (IOException | ClassNotFoundException e) {
+            throw new DebeziumException("Failed to replay binlog events spilled to " + file, e);
+        }
+    }
+
+    /**
+     * Discards all the events and deletes the file.
+     */
+    void clear() {
+        try {
+            if (output != null) {
+                output.close();
+                output = null;
+            }
+            if (file != null) {
+                Files.deleteIfExists(file);
+                file = null;
+            }
+        }
+        catch (IOException e) {
+            LOGGER.warn("Failed to delete binlog spill file {}", file, e);
+        }
+        size = 0;
+    }
+
+    @Override
+    public void close() {
+        clear();
+    }
+
+    /**
+     * Resolves the event classes using the class loader of the connector.
+     */
+    private static class EventInputStream extends ObjectInputStream {
+
+        EventInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, EventSpillFile.class.getClassLoader());
+            }
+            catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.debezium.annotation.NotThreadSafe;
+
+/**
+ * The set of GTIDs seen by the binlog reader, updated in place with every GTID read from the binlog.
+ * <p>
+ * The transaction numbers of every server UUID are kept as a sorted array of merged, non-adjacent {@code start-end}
+ * intervals, so adding a single GTID is a binary search that usually just extends the last interval. The string
+ * representation of every server UUID is cached and only the one of the UUID whose intervals have changed is rendered
+ * again, so the cost of the string representation of the whole set stored in the offsets does not depend on the number
+ * of intervals accumulated over the history of the server.
+ * <p>
+ * The string representation is the same as the one of {@link com.github.shyiko.mysql.binlog.GtidSet}, with the server
+ * UUIDs in the order in which they were added.
+ */
+@NotThreadSafe
+final class MutableGtidSet {
+
+    private final Map<String, UUIDSet> uuidSetsByServerId = new LinkedHashMap<>();
+    private String string;
+
+    /**
+     * @param gtids the string representation of the GTIDs; may not be null
+     */
+    MutableGtidSet(String gtids) {
+        new com.github.shyiko.mysql.binlog.GtidSet(gtids.replaceAll("\n", "").replaceAll("\r", "")).getUUIDSets().forEach(uuidSet -> {
+            final UUIDSet set = new UUIDSet(uuidSet.getUUID());
+            uuidSet.getIntervals().forEach(interval -> set.addInterval(interval.getStart(), interval.getEnd()));
+            uuidSetsByServerId.put(set.uuid, set);
+        });
+    }
+
+    /**
+     * Adds a single GTID to the set.
+     *
+     * @param gtid the GTID in the form {@code uuid:transaction}; may not be null
+     * @return {@code true} if the GTID was not yet contained in the set
+     */
+    boolean add(String gtid) {
+        final int separator = gtid.indexOf(':');
+        final String uuid = gtid.substring(0, separator);
+        final long transactionId = Long.parseLong(gtid.substring(separator + 1));
+
+        UUIDSet uuidSet = uuidSetsByServerId.get(uuid);
+        if (uuidSet == null) {
+            uuidSet = new UUIDSet(uuid);
+            uuidSetsByServerId.put(uuid, uuidSet);
+        }
+        if (!uuidSet.add(transactionId)) {
+            return false;
+        }
+        string = null;
+        return true;
+    }
+
+    boolean contains(String gtid) {
+        final int separator = gtid.indexOf(':');
+        final UUIDSet uuidSet = uuidSetsByServerId.get(gtid.substring(0, separator));
+        return uuidSet != null && uuidSet.contains(Long.parseLong(gtid.substring(separator + 1)));
+    }
+
+    @Override
+    public String toString() {
+        if (string == null) {
+            final StringBuilder sb = new StringBuilder();
+            for (UUIDSet uuidSet : uuidSetsByServerId.values()) {
+                if (sb.length() != 0) {
+                    sb.append(',');
+                }
+                sb.append(uuidSet.toString());
+            }
+            string = sb.toString();
+        }
+        return string;
+    }
+
+    /**
+     * The transaction numbers of a single server, stored as pairs of the first and the last transaction number of
+     * every interval.
+     */
+    private static final class UUIDSet {
+
+        private static final int INITIAL_CAPACITY = 4;
+
+        private final String uuid;
+        private long[] bounds = new long[INITIAL_CAPACITY * 2];
+        private int intervals;
+        private String string;
+
+        UUIDSet(String uuid) {
+            this.uuid = uuid;
+        }
+
+        private long start(int interval) {
+            return bounds[interval * 2];
+        }
+
+        private long end(int interval) {
+            return bounds[interval * 2 + 1];
+        }
+
+        /**
+         * @return the index of the last interval starting at or before the transaction, or {@code -1} if there is none
+         */
+        private int floor(long transactionId) {
+            // the transaction numbers are increasing, so check the last interval first
+            if (intervals == 0 || start(intervals - 1) <= transactionId) {
+                return intervals - 1;
+            }
+            int low = 0;
+            int high = intervals - 1;
+            while (low <= high) {
+                final int middle = (low + high) >>> 1;
+                if (start(middle) <= transactionId) {
+                    low = middle + 1;
+                }
+                else {
+                    high = middle - 1;
+                }
+            }
+            return high;
+        }
+
+        boolean contains(long transactionId) {
+            final int interval = floor(transactionId);
+            return interval >= 0 && transactionId <= end(interval);
+        }
+
+        boolean add(long transactionId) {
+            return addInterval(transactionId, transactionId);
+        }
+
+        /**
+         * Adds the interval of transactions, merging it with the overlapping or adjacent intervals.
+         *
+         * @return {@code true} if any of the transactions was not yet contained in the set
+         */
+        boolean addInterval(long start, long end) {
+            int first = floor(start);
+            if (first >= 0 && end <= end(first)) {
+                return false;
+            }
+            if (first < 0 || end(first) + 1 < start) {
+                // the new interval does not touch the preceding one
+                first++;
+            }
+            // the intervals [first, last) are merged with the new one
+            int last = first;
+            while (last < intervals && start(last) <= end + 1) {
+                last++;
+            }
+            final long mergedStart = last > first ? Math.min(start, start(first)) : start;
+            final long mergedEnd = last > first ? Math.max(end, end(last - 1)) : end;
+
+            final int removed = last - first;
+            if (removed == 0) {
+                if ((intervals + 1) * 2 > bounds.length) {
+                    bounds = Arrays.copyOf(bounds, bounds.length * 2);
+                }
+                System.arraycopy(bounds, first * 2, bounds, (first + 1) * 2, (intervals - first) * 2);
+                intervals++;
+            }
+            else if (removed > 1) {
+                System.arraycopy(bounds, last * 2, bounds, (first + 1) * 2, (intervals - last) * 2);
+                intervals -= removed - 1;
+            }
+            bounds[first * 2] = mergedStart;
+            bounds[first * 2 + 1] = mergedEnd;
+            string = null;
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            if (string == null) {
+                final StringBuilder sb = new StringBuilder(uuid.length() + intervals * 16);
+                sb.append(uuid);
+                for (int i = 0; i < intervals; i++) {
+                    sb.append(':').append(start(i)).append('-').append(end(i));
+                }
+                string = sb.toString();
+            }
+            return string;
+        }
+    }
+}
@@ -111,6 +111,8 @@ public Optional<IncrementalSnapshotChangeEventSource<? extends DataCollectionId>
                 schema,
                 clock,
                 snapshotProgressListener,
-                dataChangeEventListener));
+                dataChangeEventListener,
+                MySqlConnector.class,
+                connection::duplicate));
     }
 }
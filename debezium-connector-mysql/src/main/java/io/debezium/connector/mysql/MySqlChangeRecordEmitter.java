@@ -7,11 +7,15 @@
 
 import java.io.Serializable;
 
+import org.apache.kafka.connect.data.Struct;
+
+import io.debezium.connector.mysql.RowConverter.ConvertedRow;
 import io.debezium.data.Envelope;
 import io.debezium.data.Envelope.Operation;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.pipeline.spi.Partition;
 import io.debezium.relational.RelationalChangeRecordEmitter;
+import io.debezium.relational.TableSchema;
 import io.debezium.util.Clock;
 
 /**
@@ -25,13 +29,24 @@ public class MySqlChangeRecordEmitter extends RelationalChangeRecordEmitter {
     private final OffsetContext offset;
     private final Object[] before;
     private final Object[] after;
+    private final ConvertedRow converted;
 
     public MySqlChangeRecordEmitter(Partition partition, OffsetContext offset, Clock clock, Envelope.Operation operation, Serializable[] before, Serializable[] after) {
+        this(partition, offset, clock, operation, before, after, null);
+    }
+
+    /**
+     * @param converted the key and value structs of the row if they were already converted by the {@link RowConverter};
+     *                  may be null
+     */
+    MySqlChangeRecordEmitter(Partition partition, OffsetContext offset, Clock clock, Envelope.Operation operation, Serializable[] before,
+                             Serializable[] after, ConvertedRow converted) {
         super(partition, offset, clock);
         this.offset = offset;
         this.operation = operation;
         this.before = before;
         this.after = after;
+        this.converted = converted;
     }
 
     @Override
@@ -53,4 +68,35 @@ protected Object[] getOldColumnValues() {
     protected Object[] getNewColumnValues() {
         return after != null ? after : null;
     }
+
+    @Override
+    protected void emitCreateRecord(Receiver receiver, TableSchema tableSchema) throws InterruptedException {
+        if (converted == null || !converted.isConvertedWith(tableSchema)) {
+            super.emitCreateRecord(receiver, tableSchema);
+            return;
+        }
+        Struct envelope = tableSchema.getEnvelopeSchema().create(converted.newValue, getOffset().getSourceInfo(), getClock().currentTimeAsInstant());
+        receiver.changeRecord(getPartition(), tableSchema, Operation.CREATE, converted.newKey, envelope, getOffset(), null);
+    }
+
+    @Override
+    protected void emitUpdateRecord(Receiver receiver, TableSchema tableSchema) throws InterruptedException {
+        if (converted == null || !converted.isConvertedWith(tableSchema)) {
+            super.emitUpdateRecord(receiver, tableSchema);
+            return;
+        }
+        Struct envelope = tableSchema.getEnvelopeSchema().update(converted.oldValue, converted.newValue, getOffset().getSourceInfo(),
+                getClock().currentTimeAsInstant());
+        receiver.changeRecord(getPartition(), tableSchema, Operation.UPDATE, converted.newKey, envelope, getOffset(), null);
+    }
+
+    @Override
+    protected void emitDeleteRecord(Receiver receiver, TableSchema tableSchema) throws InterruptedException {
+        if (converted == null || !converted.isConvertedWith(tableSchema)) {
+            super.emitDeleteRecord(receiver, tableSchema);
+            return;
+        }
+        Struct envelope = tableSchema.getEnvelopeSchema().delete(converted.oldValue, getOffset().getSourceInfo(), getClock().currentTimeAsInstant());
+        receiver.changeRecord(getPartition(), tableSchema, Operation.DELETE, converted.oldKey, envelope, getOffset(), null);
+    }
 }
@@ -78,6 +78,15 @@ public MySqlConnection(MySqlConnectionConfiguration connectionConfig) {
         this(connectionConfig, new MysqlTextProtocolFieldReader(null));
     }
 
+    /**
+     * Creates a new connection with the same configuration and field reader as this one.
+     *
+     * @return the new connection, not yet connected to the database; never null
+     */
+    public MySqlConnection duplicate() {
+        return new MySqlConnection(connectionConfig, mysqlFieldReader);
+    }
+
     @Override
     public synchronized Connection connection(boolean executeOnConnect) throws SQLException {
         if (!isConnected() && connectionConfig.sslModeEnabled()) {
@@ -6,6 +6,8 @@
 package io.debezium.connector.mysql;
 
 import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Random;
 import java.util.Set;
@@ -266,6 +268,51 @@ public static SnapshotMode parse(String value, String defaultValue) {
         }
     }
 
+    /**
+     * The set of predefined modes for handling the transactions that do not fit into the binlog reader buffer.
+     */
+    public static enum BinlogBufferOverflowMode implements EnumeratedValue {
+        /**
+         * Re-read the part of the transaction that has not fit into the buffer from the binlog.
+         */
+        REWIND("rewind"),
+
+        /**
+         * Spill the part of the transaction that has not fit into the buffer to a local file and replay it from there.
+         */
+        SPILL("spill");
+
+        private final String value;
+
+        private BinlogBufferOverflowMode(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static BinlogBufferOverflowMode parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (BinlogBufferOverflowMode option : BinlogBufferOverflowMode.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return null;
+        }
+    }
+
     public static enum SnapshotNewTables implements EnumeratedValue {
         /**
          * Do not snapshot new tables
@@ -665,6 +712,18 @@ public static GtidNewChannelPosition parse(String value, String defaultValue) {
             .withDefault(false)
             .withDescription("Parallel parse event for improving binlog parse performance");
 
+    public static final Field ROW_CONVERSION_THREADS = Field.create("parallel.convert.rows.threads")
+            .withDisplayName("Row conversion threads")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.OPTIMIZE, 1))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The number of threads converting the rows of large binlog row events into change events. "
+                    + "The change events are still emitted in the order of the rows. "
+                    + "Defaults to 1, which converts the rows on the binlog reader thread.");
+
     public static final Field SSL_MODE = Field.create("database.ssl.mode")
             .withDisplayName("SSL mode")
             .withEnum(SecureConnectionMode.class, SecureConnectionMode.DISABLED)
@@ -851,6 +910,28 @@ public static GtidNewChannelPosition parse(String value, String defaultValue) {
             .withDefault(DEFAULT_BINLOG_BUFFER_SIZE)
             .withValidation(Field::isNonNegativeInteger);
 
+    public static final Field BUFFER_OVERFLOW_MODE_FOR_BINLOG_READER = Field.create("binlog.buffer.overflow.mode")
+            .withDisplayName("Binlog reader buffer overflow mode")
+            .withEnum(BinlogBufferOverflowMode.class, BinlogBufferOverflowMode.REWIND)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 4))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Only relevant if the look-ahead buffer is enabled. Specifies how the events of a transaction "
+                    + "that do not fit into the buffer are handled. "
+                    + "Options include: "
+                    + "'rewind' (the default) to re-read them from the binlog once the transaction is committed; "
+                    + "'spill' to write them to a local file and replay them from the file once the transaction is committed.");
+
+    public static final Field BUFFER_SPILL_DIRECTORY_FOR_BINLOG_READER = Field.create("binlog.buffer.spill.directory")
+            .withDisplayName("Binlog reader buffer spill directory")
+            .withType(Type.STRING)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 5))
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withDescription("Only relevant if the buffer overflow mode is 'spill'. The directory in which the events of "
+                    + "large transactions are stored until the transaction completes. "
+                    + "Defaults to the temporary directory of the JVM.");
+
     /**
      * The database history class is hidden in the {@link #configDef()} since that is designed to work with a user interface,
      * and in these situations using Kafka is the only way to go.
@@ -923,6 +1004,32 @@ public static GtidNewChannelPosition parse(String value, String defaultValue) {
                     + "point, both old and new binlog readers will be momentarily halted and new binlog reader will start that will read the binlog for all "
                     + "configured tables. The parallel binlog reader will have a configured server id of 10000 + the primary binlog reader's server id.");
 
+    public static final Field SNAPSHOT_DATA_THREADS = Field.create("snapshot.data.threads")
+            .withDisplayName("Snapshot data threads")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT, 10))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The number of connections reading the data of the captured tables during a snapshot. When greater than 1, "
+                    + "each of them reads from its own consistent snapshot transaction started while the snapshot lock is held. "
+                    + "The data is always read by a single connection when 'snapshot.locking.mode' is 'none', as the transactions "
+                    + "could then not be started at the snapshot position. Defaults to 1.");
+
+    public static final Field SNAPSHOT_CHUNK_SIZE = Field.create("snapshot.chunk.size")
+            .withDisplayName("Snapshot chunk size")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT, 9))
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDefault(1_000_000L)
+            .withValidation(Field::isNonNegativeLong)
+            .withDescription("Only applies when the data of the captured tables is read by multiple connections, see 'snapshot.data.threads'. "
+                    + "Tables with a single-column integer primary key estimated to contain more rows than this value are split "
+                    + "into primary key ranges of about this number of rows that are read concurrently; the ranges completed so far are recorded "
+                    + "in the offsets so that a restarted snapshot does not read them again. Defaults to 1,000,000; use 0 to never split tables.");
+
     public static final Field TIME_PRECISION_MODE = RelationalDatabaseConnectorConfig.TIME_PRECISION_MODE
             .withEnum(TemporalPrecisionMode.class, TemporalPrecisionMode.ADAPTIVE_TIME_MICROSECONDS)
             .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR, 26))
@@ -1015,7 +1122,8 @@ public static GtidNewChannelPosition parse(String value, String defaultValue) {
                     SNAPSHOT_OFFSET_BINLOG_FILENAME,
                     SNAPSHOT_OFFSET_BINLOG_POSITION,
                     SNAPSHOT_OFFSET_GTID_SET,
-                    PARALLEL_PARSE_EVENT)
+                    PARALLEL_PARSE_EVENT,
+                    ROW_CONVERSION_THREADS)
             .connector(
                     CONNECTION_TIMEOUT_MS,
                     KEEP_ALIVE,
@@ -1023,12 +1131,20 @@ public static GtidNewChannelPosition parse(String value, String defaultValue) {
                     SNAPSHOT_MODE,
                     SNAPSHOT_LOCKING_MODE,
                     SNAPSHOT_NEW_TABLES,
+                    SNAPSHOT_DATA_THREADS,
+                    SNAPSHOT_CHUNK_SIZE,
                     BIGINT_UNSIGNED_HANDLING_MODE,
                     TIME_PRECISION_MODE,
                     ENABLE_TIME_ADJUSTER,
                     BINARY_HANDLING_MODE,
                     ROW_COUNT_FOR_STREAMING_RESULT_SETS,
                     INCREMENTAL_SNAPSHOT_CHUNK_SIZE,
+                    INCREMENTAL_SNAPSHOT_CHUNK_SIZE_ADAPTIVE,
+                    INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MIN,
+                    INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MAX,
+                    INCREMENTAL_SNAPSHOT_CHUNK_TARGET_DURATION_MS,
+                    INCREMENTAL_SNAPSHOT_WINDOW_MAX_BYTES,
+                    INCREMENTAL_SNAPSHOT_MAX_THREADS,
                     INCREMENTAL_SNAPSHOT_ALLOW_SCHEMA_CHANGES)
             .events(
                     INCLUDE_SQL_QUERY,
@@ -1039,6 +1155,8 @@ public static GtidNewChannelPosition parse(String value, String defaultValue) {
                     GTID_SOURCE_EXCLUDES,
                     GTID_SOURCE_FILTER_DML_EVENTS,
                     BUFFER_SIZE_FOR_BINLOG_READER,
+                    BUFFER_OVERFLOW_MODE_FOR_BINLOG_READER,
+                    BUFFER_SPILL_DIRECTORY_FOR_BINLOG_READER,
                     EVENT_DESERIALIZATION_FAILURE_HANDLING_MODE,
                     INCONSISTENT_SCHEMA_HANDLING_MODE)
             .create();
@@ -1083,6 +1201,7 @@ protected boolean supportsSchemaChangesDuringIncrementalSnapshot() {
     private final Long snapshotOffsetBinlogPosition;
     private final String snapshotOffsetGtidSet;
     private final boolean parallelParseEvent;
+    private final int rowConversionThreads;
 
     public MySqlConnectorConfig(Configuration config) {
         super(
@@ -1104,6 +1223,7 @@ public MySqlConnectorConfig(Configuration config) {
         this.snapshotOffsetBinlogPosition = config.getLong(SNAPSHOT_OFFSET_BINLOG_POSITION);
         this.snapshotOffsetGtidSet = config.getString(SNAPSHOT_OFFSET_GTID_SET);
         this.parallelParseEvent = config.getBoolean(PARALLEL_PARSE_EVENT);
+        this.rowConversionThreads = config.getInteger(ROW_CONVERSION_THREADS);
 
         final String gitIdNewChannelPosition = config.getString(MySqlConnectorConfig.GTID_NEW_CHANNEL_POSITION);
         this.gitIdNewChannelPosition = GtidNewChannelPosition.parse(gitIdNewChannelPosition, MySqlConnectorConfig.GTID_NEW_CHANNEL_POSITION.defaultValueAsString());
@@ -1145,6 +1265,10 @@ public boolean getParallelParseEvent() {
         return this.parallelParseEvent;
     }
 
+    public int getRowConversionThreads() {
+        return this.rowConversionThreads;
+    }
+
     public boolean useCursorFetch() {
         return this.getSnapshotFetchSize() > 0;
     }
@@ -1330,6 +1454,19 @@ public int bufferSizeForStreamingChangeEventSource() {
         return config.getInteger(MySqlConnectorConfig.BUFFER_SIZE_FOR_BINLOG_READER);
     }
 
+    public BinlogBufferOverflowMode bufferOverflowModeForStreamingChangeEventSource() {
+        return BinlogBufferOverflowMode.parse(config.getString(MySqlConnectorConfig.BUFFER_OVERFLOW_MODE_FOR_BINLOG_READER));
+    }
+
+    /**
+     * @return the directory for the events of transactions not fitting into the binlog reader buffer, or {@code null}
+     *         for the temporary directory of the JVM
+     */
+    public Path bufferSpillDirectoryForStreamingChangeEventSource() {
+        final String directory = config.getString(MySqlConnectorConfig.BUFFER_SPILL_DIRECTORY_FOR_BINLOG_READER);
+        return directory != null ? Paths.get(directory) : null;
+    }
+
     /**
      * Get the predicate function that will return {@code true} if a GTID source is to be included, or {@code false} if
      * a GTID source is to be excluded.
@@ -1352,6 +1489,14 @@ public long rowCountForLargeTable() {
         return config.getLong(MySqlConnectorConfig.ROW_COUNT_FOR_STREAMING_RESULT_SETS);
     }
 
+    public int snapshotDataThreads() {
+        return config.getInteger(MySqlConnectorConfig.SNAPSHOT_DATA_THREADS);
+    }
+
+    public long snapshotChunkSize() {
+        return config.getLong(MySqlConnectorConfig.SNAPSHOT_CHUNK_SIZE);
+    }
+
     @Override
     protected HistoryRecordComparator getHistoryRecordComparator() {
         return new MySqlHistoryRecordComparator(gtidSourceFilter());
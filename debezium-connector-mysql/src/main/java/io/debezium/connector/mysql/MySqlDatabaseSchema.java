@@ -11,6 +11,7 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -21,6 +22,7 @@
 import io.debezium.annotation.NotThreadSafe;
 import io.debezium.connector.mysql.MySqlSystemVariables.MySqlScope;
 import io.debezium.connector.mysql.antlr.MySqlAntlrDdlParser;
+import io.debezium.connector.mysql.antlr.MySqlDdlStatementClassifier;
 import io.debezium.relational.HistorizedRelationalDatabaseSchema;
 import io.debezium.relational.RelationalTableFilters;
 import io.debezium.relational.SystemVariables;
@@ -78,7 +80,8 @@ public class MySqlDatabaseSchema extends HistorizedRelationalDatabaseSchema {
     private final DdlParser ddlParser;
     private final RelationalTableFilters filters;
     private final DdlChanges ddlChanges;
-    private final Map<Long, TableId> tableIdsByTableNumber = new ConcurrentHashMap<>();
+    private final Map<Long, TableNumberMapping> tableMappingsByTableNumber = new ConcurrentHashMap<>();
+    private long schemaVersion;
     private boolean storageInitialiationExecuted = false;
     private final MySqlConnectorConfig connectorConfig;
 
@@ -105,7 +108,8 @@ public MySqlDatabaseSchema(MySqlConnectorConfig connectorConfig, MySqlValueConve
                 false,
                 connectorConfig.isSchemaCommentsHistoryEnabled(),
                 valueConverter,
-                getTableFilter());
+                getTableFilter(),
+                new MySqlDdlStatementClassifier(getTableFilter(), storeOnlyCapturedTables()));
         this.ddlChanges = this.ddlParser.getDdlChanges();
         this.connectorConfig = connectorConfig;
         filters = connectorConfig.getTableFilters();
@@ -343,21 +347,33 @@ public boolean storeOnlyCapturedTables() {
     }
 
     /**
-     * Assign the given table number to the table with the specified {@link TableId table ID}.
+     * Assign the given table number to the table with the specified database and table name. The mapping of a table
+     * number that is already assigned to the same table is kept, so the table identifier and the filter decision are
+     * resolved only when the table number is seen for the first time or is reused for a different table.
      *
      * @param tableNumber the table number found in binlog events
-     * @param id the identifier for the corresponding table
-     * @return {@code true} if the assignment was successful, or {@code false} if the table is currently excluded in the
-     *         connector's configuration
+     * @param databaseName the name of the database of the table
+     * @param tableName the name of the table
+     * @return the mapping of the table number; never null
      */
-    public boolean assignTableNumber(long tableNumber, TableId id) {
-        final TableSchema tableSchema = schemaFor(id);
-        if (tableSchema == null) {
-            return false;
+    public TableNumberMapping assignTableNumber(long tableNumber, String databaseName, String tableName) {
+        final TableNumberMapping existing = tableMappingsByTableNumber.get(tableNumber);
+        if (existing != null && existing.isMappedTo(databaseName, tableName)) {
+            return existing;
         }
+        final TableNumberMapping mapping = new TableNumberMapping(new TableId(databaseName, null, tableName));
+        tableMappingsByTableNumber.put(tableNumber, mapping);
+        return mapping;
+    }
 
-        tableIdsByTableNumber.put(tableNumber, id);
-        return true;
+    /**
+     * Return the mapping of a MySQL-specific table number.
+     *
+     * @param tableNumber the table number found in binlog events
+     * @return the mapping or null if the table number has not been assigned
+     */
+    public TableNumberMapping getTableMapping(long tableNumber) {
+        return tableMappingsByTableNumber.get(tableNumber);
     }
 
     /**
@@ -367,7 +383,8 @@ public boolean assignTableNumber(long tableNumber, TableId id) {
      * @return the table id or null if not known
      */
     public TableId getTableId(long tableNumber) {
-        return tableIdsByTableNumber.get(tableNumber);
+        final TableNumberMapping mapping = tableMappingsByTableNumber.get(tableNumber);
+        return mapping != null && mapping.schema() != null ? mapping.tableId() : null;
     }
 
     /**
@@ -376,7 +393,84 @@ public TableId getTableId(long tableNumber) {
      */
     public void clearTableMappings() {
         LOGGER.debug("Clearing table number mappings");
-        tableIdsByTableNumber.clear();
+        tableMappingsByTableNumber.clear();
+    }
+
+    @Override
+    protected void clearSchemas() {
+        super.clearSchemas();
+        schemaVersion++;
+    }
+
+    @Override
+    protected void buildAndRegisterSchema(Table table) {
+        super.buildAndRegisterSchema(table);
+        schemaVersion++;
+    }
+
+    @Override
+    protected void removeSchema(TableId id) {
+        super.removeSchema(id);
+        schemaVersion++;
+    }
+
+    /**
+     * The table to which a table number of the binlog events is assigned, with the decision of the table filters and
+     * the schema of the table. The schema is looked up again only after a schema change.
+     */
+    public final class TableNumberMapping {
+
+        private final TableId tableId;
+        private final boolean included;
+        private TableSchema schema;
+        private long resolvedSchemaVersion = -1;
+        private boolean unknownSchemaReported;
+
+        private TableNumberMapping(TableId tableId) {
+            this.tableId = tableId;
+            this.included = getTableFilter().isIncluded(tableId);
+        }
+
+        public TableId tableId() {
+            return tableId;
+        }
+
+        /**
+         * @return {@code true} if the table is included by the table filters of the connector
+         */
+        public boolean isIncluded() {
+            return included;
+        }
+
+        /**
+         * @return the schema of the table, or null if the table is excluded or its schema is not known
+         */
+        public TableSchema schema() {
+            if (!included) {
+                return null;
+            }
+            if (resolvedSchemaVersion != schemaVersion) {
+                schema = schemaFor(tableId);
+                resolvedSchemaVersion = schemaVersion;
+            }
+            return schema;
+        }
+
+        /**
+         * @return {@code true} if the latest {@code TABLE_MAP} event of the table has been reported because the schema of
+         *         the included table was not known, so its rows events need not be reported again
+         */
+        public boolean isUnknownSchemaReported() {
+            return unknownSchemaReported;
+        }
+
+        public void setUnknownSchemaReported(boolean unknownSchemaReported) {
+            this.unknownSchemaReported = unknownSchemaReported;
+        }
+
+        private boolean isMappedTo(String databaseName, String tableName) {
+            return Objects.equals(tableId.catalog(), databaseName) && Objects.equals(tableId.table(), tableName);
+        }
     }
 
     @Override
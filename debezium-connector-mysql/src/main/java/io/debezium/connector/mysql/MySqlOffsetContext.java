@@ -25,6 +25,7 @@
 public class MySqlOffsetContext implements OffsetContext {
 
     private static final String SNAPSHOT_COMPLETED_KEY = "snapshot_completed";
+    public static final String SNAPSHOT_PROGRESS_KEY = "snapshot_progress";
     public static final String EVENTS_TO_SKIP_OFFSET_KEY = "event";
     public static final String TIMESTAMP_KEY = "ts_sec";
     public static final String GTID_SET_KEY = "gtids";
@@ -44,6 +45,7 @@ public class MySqlOffsetContext implements OffsetContext {
     private long currentEventLengthInBytes = 0;
     private boolean inTransaction = false;
     private String transactionId = null;
+    private String snapshotProgress = null;
 
     public MySqlOffsetContext(boolean snapshot, boolean snapshotCompleted, TransactionContext transactionContext,
                               IncrementalSnapshotContext<TableId> incrementalSnapshotContext, SourceInfo sourceInfo) {
@@ -73,6 +75,9 @@ public MySqlOffsetContext(MySqlConnectorConfig connectorConfig, boolean snapshot
         if (sourceInfo.isSnapshot()) {
             if (!snapshotCompleted) {
                 offset.put(SourceInfo.SNAPSHOT_KEY, true);
+                if (snapshotProgress != null) {
+                    offset.put(SNAPSHOT_PROGRESS_KEY, snapshotProgress);
+                }
             }
         }
         else {
@@ -149,6 +154,25 @@ public void preSnapshotCompletion() {
     @Override
     public void postSnapshotCompletion() {
         sourceInfo.setSnapshot(SnapshotRecord.FALSE);
+        snapshotProgress = null;
+    }
+
+    /**
+     * Get the data already read by a chunked snapshot which has not completed yet.
+     *
+     * @return the string representation of the snapshot progress; may be null
+     */
+    public String getSnapshotProgress() {
+        return snapshotProgress;
+    }
+
+    /**
+     * Record the data already read by a chunked snapshot, so that a restarted snapshot can skip it.
+     *
+     * @param snapshotProgress the string representation of the snapshot progress; may be null
+     */
+    public void setSnapshotProgress(String snapshotProgress) {
+        this.snapshotProgress = snapshotProgress;
     }
 
     private void setTransactionId() {
@@ -216,6 +240,7 @@ public MySqlOffsetContext load(Map<String, ?> offset) {
                     new SourceInfo(connectorConfig));
             offsetContext.setBinlogStartPoint(binlogFilename, binlogPosition);
             offsetContext.setCompletedGtidSet((String) offset.get(GTID_SET_KEY)); // may be null
+            offsetContext.setSnapshotProgress((String) offset.get(SNAPSHOT_PROGRESS_KEY)); // may be null
             return offsetContext;
         }
 
@@ -303,7 +328,7 @@ public void setBinlogStartPoint(String binlogFilename, long positionOfFirstEvent
     public void setCompletedGtidSet(String gtidSet) {
         if (gtidSet != null && !gtidSet.trim().isEmpty()) {
             // Remove all the newline chars that exist in the GTID set string ...
-            String trimmedGtidSet = gtidSet.replaceAll("\n", "").replaceAll("\r", "");
+            String trimmedGtidSet = removeLineBreaks(gtidSet);
             this.currentGtidSet = trimmedGtidSet;
             this.restartGtidSet = trimmedGtidSet;
         }
@@ -328,7 +353,7 @@ public void startGtid(String gtid, String gtidSet) {
         sourceInfo.startGtid(gtid);
         if (gtidSet != null && !gtidSet.trim().isEmpty()) {
             // Remove all the newline chars that exist in the GTID set string ...
-            String trimmedGtidSet = gtidSet.replaceAll("\n", "").replaceAll("\r", "");
+            String trimmedGtidSet = removeLineBreaks(gtidSet);
             // Set the GTID set that we'll use if restarting BEFORE successful completion of the events in this GTID ...
             this.restartGtidSet = this.currentGtidSet != null ? this.currentGtidSet : trimmedGtidSet;
             // Record the GTID set that includes the current transaction ...
@@ -336,6 +361,14 @@ public void startGtid(String gtid, String gtidSet) {
         }
     }
 
+    private static String removeLineBreaks(String gtidSet) {
+        // the GTID set is usually rendered by the binlog reader without any line breaks, so avoid copying it
+        if (gtidSet.indexOf('\n') < 0 && gtidSet.indexOf('\r') < 0) {
+            return gtidSet;
+        }
+        return gtidSet.replace("\n", "").replace("\r", "");
+    }
+
     public void setLastCommitted(long lastCommitted) {
         sourceInfo.setLastCommitted(lastCommitted);
     }
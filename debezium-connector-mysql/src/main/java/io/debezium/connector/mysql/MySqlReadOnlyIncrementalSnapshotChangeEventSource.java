@@ -15,7 +15,6 @@
 import io.debezium.DebeziumException;
 import io.debezium.connector.mysql.signal.ExecuteSnapshotKafkaSignal;
 import io.debezium.connector.mysql.signal.KafkaSignalThread;
-import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.snapshot.incremental.AbstractIncrementalSnapshotChangeEventSource;
 import io.debezium.pipeline.source.spi.DataChangeEventListener;
@@ -82,13 +81,14 @@
     private final KafkaSignalThread<T> kafkaSignal;
 
     public MySqlReadOnlyIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig config,
-                                                             JdbcConnection jdbcConnection,
+                                                             MySqlConnection jdbcConnection,
                                                              EventDispatcher<T> dispatcher,
                                                              DatabaseSchema<?> databaseSchema,
                                                              Clock clock,
                                                              SnapshotProgressListener progressListener,
                                                              DataChangeEventListener dataChangeEventListener) {
-        super(config, jdbcConnection, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener);
+        super(config, jdbcConnection, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, MySqlConnector.class,
+                jdbcConnection::duplicate);
         kafkaSignal = new KafkaSignalThread<>(MySqlConnector.class, config, this);
     }
 
@@ -5,13 +5,16 @@
  */
 package io.debezium.connector.mysql;
 
+import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -19,7 +22,16 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -32,10 +44,13 @@
 
 import io.debezium.DebeziumException;
 import io.debezium.connector.SnapshotRecord;
+import io.debezium.connector.mysql.ChunkedSnapshotProgress.KeyRange;
 import io.debezium.connector.mysql.legacy.MySqlJdbcContext.DatabaseLocales;
 import io.debezium.data.Envelope;
 import io.debezium.function.BlockingConsumer;
 import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.EventDispatcher.SnapshotReceiver;
+import io.debezium.relational.Column;
 import io.debezium.relational.RelationalSnapshotChangeEventSource;
 import io.debezium.relational.RelationalTableFilters;
 import io.debezium.relational.Table;
@@ -44,7 +59,9 @@
 import io.debezium.schema.SchemaChangeEvent.SchemaChangeEventType;
 import io.debezium.util.Clock;
 import io.debezium.util.Collect;
+import io.debezium.util.ColumnUtils;
 import io.debezium.util.Strings;
+import io.debezium.util.Threads;
 
 public class MySqlSnapshotChangeEventSource extends RelationalSnapshotChangeEventSource<MySqlPartition, MySqlOffsetContext> {
 
@@ -61,6 +78,7 @@ public class MySqlSnapshotChangeEventSource extends RelationalSnapshotChangeEven
     private final List<SchemaChangeEvent> schemaEvents = new ArrayList<>();
     private Set<TableId> delayedSchemaSnapshotTables = Collections.emptySet();
     private final BlockingConsumer<Function<SourceRecord, SourceRecord>> lastEventProcessor;
+    private final List<MySqlConnection> dataConnections = new ArrayList<>();
 
     public MySqlSnapshotChangeEventSource(MySqlConnectorConfig connectorConfig, MySqlConnection connection,
                                           MySqlDatabaseSchema schema, EventDispatcher<TableId> dispatcher, Clock clock,
@@ -271,6 +289,7 @@ protected void determineSnapshotOffset(RelationalSnapshotContext<MySqlPartition,
         if (previousOffset != null) {
             ctx.offset = previousOffset;
             tryStartingSnapshot(ctx);
+            openDataConnections(previousOffset);
             return;
         }
         final MySqlOffsetContext offsetContext = MySqlOffsetContext.initial(connectorConfig);
@@ -317,6 +336,48 @@ protected void determineSnapshotOffset(RelationalSnapshotContext<MySqlPartition,
             });
         }
         tryStartingSnapshot(ctx);
+        openDataConnections(previousOffset);
+    }
+
+    /**
+     * Opens the connections reading the data of the captured tables concurrently if more than one snapshot data thread
+     * is configured. Each of them starts a consistent snapshot transaction while the snapshot lock is still held, so all
+     * of them read the data as of the snapshot offset, no matter when the lock is released. Without a snapshot lock the
+     * transactions could see different data, so the data is then read by the snapshot connection alone.
+     */
+    private void openDataConnections(MySqlOffsetContext previousOffset) throws SQLException {
+        final boolean snapshotData = connectorConfig.getSnapshotMode().includeData()
+                && (previousOffset == null || previousOffset.isSnapshotRunning());
+        final int connectionCount = connectorConfig.snapshotDataThreads();
+        if (!snapshotData || connectionCount <= 1 || !dataConnections.isEmpty()) {
+            return;
+        }
+        if (!connectorConfig.getSnapshotLockingMode().usesLocking()) {
+            LOGGER.warn("The data is read by a single connection as '{}' is '{}', ignoring '{}'",
+                    MySqlConnectorConfig.SNAPSHOT_LOCKING_MODE.name(), connectorConfig.getSnapshotLockingMode().getValue(),
+                    MySqlConnectorConfig.SNAPSHOT_DATA_THREADS.name());
+            return;
+        }
+        LOGGER.info("Opening {} connections with consistent snapshot transactions for reading the data", connectionCount);
+        for (int i = 0; i < connectionCount; i++) {
+            final MySqlConnection dataConnection = connection.duplicate();
+            dataConnections.add(dataConnection);
+            dataConnection.setAutoCommit(false);
+            dataConnection.connection().setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            dataConnection.executeWithoutCommitting("START TRANSACTION WITH CONSISTENT SNAPSHOT");
+        }
+    }
+
+    private void closeDataConnections() {
+        for (MySqlConnection dataConnection : dataConnections) {
+            try {
+                dataConnection.close();
+            }
+            catch (SQLException e) {
+                LOGGER.warn("Failed to close snapshot connection", e);
+            }
+        }
+        dataConnections.clear();
     }
 
     private void addSchemaEvent(RelationalSnapshotContext<MySqlPartition, MySqlOffsetContext> snapshotContext,
@@ -419,6 +480,7 @@ protected SchemaChangeEvent getCreateTableEvent(RelationalSnapshotContext<MySqlP
 
     @Override
     protected void complete(SnapshotContext<MySqlPartition, MySqlOffsetContext> snapshotContext) {
+        closeDataConnections();
     }
 
     /**
@@ -512,7 +574,7 @@ protected Statement readTableStatement(OptionalLong rowCount) throws SQLExceptio
         if (!rowCount.isPresent() || largeTableRowCount == 0 || rowCount.getAsLong() <= largeTableRowCount) {
             return super.readTableStatement(rowCount);
         }
-        return createStatementWithLargeResultSet();
+        return createStatementWithLargeResultSet(connection);
     }
 
     /**
@@ -530,16 +592,355 @@ protected Statement readTableStatement(OptionalLong rowCount) throws SQLExceptio
      * and {@link ResultSet#CONCUR_READ_ONLY read-only concurrency} flags, and with a {@link Integer#MIN_VALUE minimum value}
      * {@link Statement#setFetchSize(int) fetch size hint}.
      *
+     * @param connection the connection the statement is created on; may not be null
      * @return the statement; never null
      * @throws SQLException if there is a problem creating the statement
      */
-    private Statement createStatementWithLargeResultSet() throws SQLException {
+    private Statement createStatementWithLargeResultSet(MySqlConnection connection) throws SQLException {
         int fetchSize = connectorConfig.getSnapshotFetchSize();
         Statement stmt = connection.connection().createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
         stmt.setFetchSize(fetchSize);
         return stmt;
     }
 
+    @Override
+    protected void createDataEvents(ChangeEventSourceContext sourceContext,
+                                    RelationalSnapshotContext<MySqlPartition, MySqlOffsetContext> snapshotContext)
+            throws Exception {
+        if (dataConnections.isEmpty()) {
+            super.createDataEvents(sourceContext, snapshotContext);
+            return;
+        }
+        final SnapshotReceiver snapshotReceiver = dispatcher.getSnapshotChangeEventReceiver();
+        tryStartingSnapshot(snapshotContext);
+
+        ChunkedSnapshotProgress progress;
+        try {
+            progress = ChunkedSnapshotProgress.parse(snapshotContext.capturedTables, snapshotContext.offset.getSnapshotProgress());
+        }
+        catch (IllegalArgumentException e) {
+            LOGGER.warn("The progress of the previous snapshot cannot be restored, all tables will be snapshotted again: {}", e.getMessage());
+            progress = new ChunkedSnapshotProgress(snapshotContext.capturedTables);
+        }
+
+        final List<SnapshotChunk> chunks = splitIntoChunks(sourceContext, snapshotContext, progress);
+        LOGGER.info("Snapshotting contents of {} tables in {} chunks using {} connections", snapshotContext.capturedTables.size(),
+                chunks.size(), dataConnections.size());
+        new ChunkedDataSnapshot(sourceContext, snapshotContext, snapshotReceiver, progress, chunks).execute();
+
+        releaseDataSnapshotLocks(snapshotContext);
+        snapshotContext.offset.preSnapshotCompletion();
+        snapshotReceiver.completeSnapshot();
+        snapshotContext.offset.postSnapshotCompletion();
+    }
+
+    /**
+     * Splits the data of the captured tables not completely read by a previous snapshot into chunks. The tables with a
+     * single-column integer primary key containing more rows than the configured chunk size are split into ranges of the
+     * key between its current minimum and maximum; any other table is read as a whole.
+     */
+    private List<SnapshotChunk> splitIntoChunks(ChangeEventSourceContext sourceContext,
+                                                RelationalSnapshotContext<MySqlPartition, MySqlOffsetContext> snapshotContext,
+                                                ChunkedSnapshotProgress progress)
+            throws Exception {
+        final List<SnapshotChunk> chunks = new ArrayList<>();
+        for (TableId tableId : snapshotContext.capturedTables) {
+            if (!sourceContext.isRunning()) {
+                throw new InterruptedException("Interrupted while splitting table " + tableId);
+            }
+            if (progress.isCompleted(tableId)) {
+                LOGGER.info("\t Table '{}' was already snapshotted before the restart, skipping table", tableId);
+                metrics.dataCollectionSnapshotCompleted(tableId, 0);
+                continue;
+            }
+            final Table table = snapshotContext.tables.forTable(tableId);
+            final Optional<String> selectStatement = determineSnapshotSelect(snapshotContext, tableId);
+            if (!selectStatement.isPresent()) {
+                LOGGER.warn("For table '{}' the select statement was not provided, skipping table", tableId);
+                progress.completed(tableId, KeyRange.ALL);
+                metrics.dataCollectionSnapshotCompleted(tableId, 0);
+                continue;
+            }
+            final Column keyColumn = chunkKeyColumn(snapshotContext, table, selectStatement.get());
+            if (keyColumn == null) {
+                chunks.add(new SnapshotChunk(table, KeyRange.ALL, selectStatement.get()));
+                continue;
+            }
+            for (KeyRange range : splitByKey(table, keyColumn)) {
+                for (KeyRange remaining : progress.remaining(tableId, range)) {
+                    chunks.add(new SnapshotChunk(table, remaining, chunkSelect(selectStatement.get(), keyColumn, remaining)));
+                }
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Returns the primary key column by which the given table can be split, or {@code null} if the table has to be read
+     * as a whole because it has no single-column primary key of a signed integer type or its snapshot select statement
+     * is overridden.
+     */
+    private Column chunkKeyColumn(RelationalSnapshotContext<MySqlPartition, MySqlOffsetContext> snapshotContext, Table table,
+                                  String selectStatement) {
+        final List<Column> keyColumns = table.primaryKeyColumns();
+        if (connectorConfig.snapshotChunkSize() == 0 || keyColumns.size() != 1) {
+            return null;
+        }
+        final Column keyColumn = keyColumns.get(0);
+        switch (keyColumn.jdbcType()) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                break;
+            case Types.BIGINT:
+                // the values of BIGINT UNSIGNED columns may exceed the range of long
+                if (keyColumn.typeName().toUpperCase().contains("UNSIGNED")) {
+                    return null;
+                }
+                break;
+            default:
+                return null;
+        }
+        final Optional<String> defaultSelect = getSnapshotSelect(snapshotContext, table.id(),
+                getPreparedColumnNames(databaseSchema.tableFor(table.id())));
+        return defaultSelect.isPresent() && defaultSelect.get().equals(selectStatement) ? keyColumn : null;
+    }
+
+    private List<KeyRange> splitByKey(Table table, Column keyColumn) throws SQLException {
+        final long chunkSize = connectorConfig.snapshotChunkSize();
+        final OptionalLong rowCount = rowCountForTable(table.id());
+        if (!rowCount.isPresent() || rowCount.getAsLong() <= chunkSize) {
+            return Collections.singletonList(KeyRange.ALL);
+        }
+        final long chunkCount = (rowCount.getAsLong() + chunkSize - 1) / chunkSize;
+
+        // the bounds are read within the snapshot transaction, so they are consistent with the data read afterwards
+        final String column = connection.quotedColumnIdString(keyColumn.name());
+        final long[] bounds = dataConnections.get(0).queryAndMap(
+                "SELECT MIN(" + column + "), MAX(" + column + ") FROM " + quote(table.id()),
+                rs -> rs.next() && rs.getObject(1) != null ? new long[]{ rs.getLong(1), rs.getLong(2) } : null);
+        if (bounds == null) {
+            return Collections.singletonList(KeyRange.ALL);
+        }
+
+        final List<KeyRange> ranges = new ArrayList<>();
+        final BigInteger min = BigInteger.valueOf(bounds[0]);
+        final BigInteger span = BigInteger.valueOf(bounds[1]).subtract(min).add(BigInteger.ONE);
+        Long lower = null;
+        for (long i = 1; i < chunkCount; i++) {
+            final long boundary = min.add(span.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(chunkCount))).longValue();
+            if (boundary > bounds[0] && (lower == null || boundary > lower)) {
+                ranges.add(new KeyRange(lower, boundary));
+                lower = boundary;
+            }
+        }
+        ranges.add(new KeyRange(lower, null));
+        LOGGER.info("\t Split table '{}' into {} chunks by column '{}'", table.id(), ranges.size(), keyColumn.name());
+        return ranges;
+    }
+
+    private String chunkSelect(String selectStatement, Column keyColumn, KeyRange range) {
+        if (range.isAll()) {
+            return selectStatement;
+        }
+        final String column = connection.quotedColumnIdString(keyColumn.name());
+        final StringBuilder sql = new StringBuilder(selectStatement).append(" WHERE ");
+        if (range.lower() != null) {
+            sql.append(column).append(" >= ").append(range.lower());
+        }
+        if (range.upper() != null) {
+            if (range.lower() != null) {
+                sql.append(" AND ");
+            }
+            sql.append(column).append(" < ").append(range.upper());
+        }
+        return sql.toString();
+    }
+
+    /**
+     * A part of the data of a table read by a single query.
+     */
+    private static final class SnapshotChunk {
+
+        private final Table table;
+        private final KeyRange range;
+        private final String selectStatement;
+
+        SnapshotChunk(Table table, KeyRange range, String selectStatement) {
+            this.table = table;
+            this.range = range;
+            this.selectStatement = selectStatement;
+        }
+    }
+
+    /**
+     * Reads the chunks of the captured tables with one thread per data connection. The rows are read and converted
+     * concurrently and handed over to the snapshotting thread through a bounded buffer; that thread alone dispatches the
+     * change events, as the offset is shared by all of them, and updates the progress stored in the offset whenever a
+     * chunk has been completely dispatched.
+     */
+    private final class ChunkedDataSnapshot {
+
+        private final Object readerFinished = new Object();
+
+        private final ChangeEventSourceContext sourceContext;
+        private final RelationalSnapshotContext<MySqlPartition, MySqlOffsetContext> snapshotContext;
+        private final SnapshotReceiver snapshotReceiver;
+        private final ChunkedSnapshotProgress progress;
+        private final Queue<SnapshotChunk> chunks;
+        private final BlockingQueue<Object> readRows;
+        private final Map<TableId, Integer> pendingChunksByTable = new HashMap<>();
+        private final Map<TableId, Long> rowsByTable = new HashMap<>();
+        private final Map<TableId, Long> exportStartByTable = new ConcurrentHashMap<>();
+        private final AtomicBoolean aborted = new AtomicBoolean();
+
+        ChunkedDataSnapshot(ChangeEventSourceContext sourceContext,
+                            RelationalSnapshotContext<MySqlPartition, MySqlOffsetContext> snapshotContext,
+                            SnapshotReceiver snapshotReceiver, ChunkedSnapshotProgress progress, List<SnapshotChunk> chunks) {
+            this.sourceContext = sourceContext;
+            this.snapshotContext = snapshotContext;
+            this.snapshotReceiver = snapshotReceiver;
+            this.progress = progress;
+            this.chunks = new ConcurrentLinkedQueue<>(chunks);
+            this.readRows = new ArrayBlockingQueue<>(connectorConfig.getMaxBatchSize());
+            chunks.forEach(chunk -> pendingChunksByTable.merge(chunk.table.id(), 1, Integer::sum));
+        }
+
+        void execute() throws InterruptedException {
+            final ExecutorService executor = Threads.newFixedThreadPool(MySqlConnector.class, connectorConfig.getLogicalName(), "snapshot",
+                    dataConnections.size());
+            final List<Future<Void>> futures = new ArrayList<>();
+            try {
+                for (MySqlConnection dataConnection : dataConnections) {
+                    futures.add(executor.submit(() -> {
+                        readChunks(dataConnection);
+                        return null;
+                    }));
+                }
+                int runningReaders = futures.size();
+                while (runningReaders > 0) {
+                    final Object item = readRows.take();
+                    if (item == readerFinished) {
+                        runningReaders--;
+                    }
+                    else if (item instanceof ChunkRow) {
+                        final ChunkRow chunkRow = (ChunkRow) item;
+                        dispatcher.dispatchSnapshotEvent(chunkRow.tableId, getChangeRecordEmitter(snapshotContext, chunkRow.tableId, chunkRow.row),
+                                snapshotReceiver);
+                    }
+                    else {
+                        chunkCompleted((CompletedChunk) item);
+                    }
+                }
+                for (Future<Void> future : futures) {
+                    future.get();
+                }
+            }
+            catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof InterruptedException) {
+                    throw (InterruptedException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new DebeziumException(cause);
+            }
+            finally {
+                aborted.set(true);
+                executor.shutdownNow();
+            }
+        }
+
+        private void readChunks(MySqlConnection dataConnection) throws InterruptedException {
+            try {
+                SnapshotChunk chunk;
+                while (!aborted.get() && (chunk = chunks.poll()) != null) {
+                    readChunk(dataConnection, chunk);
+                }
+            }
+            catch (InterruptedException | RuntimeException e) {
+                aborted.set(true);
+                throw e;
+            }
+            finally {
+                readRows.put(readerFinished);
+            }
+        }
+
+        private void readChunk(MySqlConnection dataConnection, SnapshotChunk chunk) throws InterruptedException {
+            final TableId tableId = chunk.table.id();
+            final long exportStart = clock.currentTimeInMillis();
+            exportStartByTable.putIfAbsent(tableId, exportStart);
+            LOGGER.info("\t Exporting data from table '{}' using select statement: '{}'", tableId, chunk.selectStatement);
+
+            long rows = 0;
+            try (Statement statement = createStatementWithLargeResultSet(dataConnection);
+                    ResultSet rs = statement.executeQuery(chunk.selectStatement)) {
+                final ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, chunk.table);
+                while (rs.next()) {
+                    if (!sourceContext.isRunning() || aborted.get()) {
+                        throw new InterruptedException("Interrupted while snapshotting table " + tableId);
+                    }
+                    rows++;
+                    readRows.put(new ChunkRow(tableId, dataConnection.rowToArray(chunk.table, schema(), rs, columnArray)));
+                }
+            }
+            catch (SQLException e) {
+                throw new DebeziumException("Snapshotting of table " + tableId + " failed", e);
+            }
+            readRows.put(new CompletedChunk(chunk, rows, exportStart));
+        }
+
+        private void chunkCompleted(CompletedChunk completedChunk) {
+            final SnapshotChunk chunk = completedChunk.chunk;
+            final TableId tableId = chunk.table.id();
+            progress.completed(tableId, chunk.range);
+            snapshotContext.offset.setSnapshotProgress(progress.toString());
+
+            final long now = clock.currentTimeInMillis();
+            final long tableRows = rowsByTable.merge(tableId, completedChunk.rows, Long::sum);
+            LOGGER.info("\t Exported {} records of table '{}' in range '{}' after {}", completedChunk.rows, tableId, chunk.range,
+                    Strings.duration(now - completedChunk.exportStart));
+            metrics.rowsScanned(tableId, tableRows);
+            if (pendingChunksByTable.merge(tableId, -1, Integer::sum) == 0) {
+                LOGGER.info("\t Finished exporting {} records for table '{}'; total duration '{}'", tableRows, tableId,
+                        Strings.duration(now - exportStartByTable.get(tableId)));
+                metrics.dataCollectionSnapshotCompleted(tableId, tableRows);
+            }
+        }
+    }
+
+    /**
+     * A row read from a chunk, waiting to be dispatched.
+     */
+    private static final class ChunkRow {
+
+        private final TableId tableId;
+        private final Object[] row;
+
+        ChunkRow(TableId tableId, Object[] row) {
+            this.tableId = tableId;
+            this.row = row;
+        }
+    }
+
+    /**
+     * Marks the end of the rows of a chunk; it follows the last row of the chunk in the buffer.
+     */
+    private static final class CompletedChunk {
+
+        private final SnapshotChunk chunk;
+        private final long rows;
+        private final long exportStart;
+
+        CompletedChunk(SnapshotChunk chunk, long rows, long exportStart) {
+            this.chunk = chunk;
+            this.rows = rows;
+            this.exportStart = exportStart;
+        }
+    }
+
     /**
      * Mutable context which is populated in the course of snapshotting.
      */
@@ -598,6 +999,7 @@ protected void postSnapshot() throws InterruptedException {
         // - the last table schema snaphsotted is not monitored and storing of monitored is disabled
         lastEventProcessor.accept(record -> {
             record.sourceOffset().remove(SourceInfo.SNAPSHOT_KEY);
+            record.sourceOffset().remove(MySqlOffsetContext.SNAPSHOT_PROGRESS_KEY);
             ((Struct) record.value()).getStruct(Envelope.FieldName.SOURCE).put(SourceInfo.SNAPSHOT_KEY, SnapshotRecord.LAST.toString().toLowerCase());
             return record;
         });
@@ -9,6 +9,7 @@
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.Serializable;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
@@ -28,6 +29,7 @@
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javax.net.ssl.KeyManager;
@@ -67,8 +69,12 @@
 import io.debezium.annotation.SingleThreadAccess;
 import io.debezium.config.CommonConnectorConfig.EventProcessingFailureHandlingMode;
 import io.debezium.config.Configuration;
+import io.debezium.connector.mysql.MySqlConnectorConfig.BinlogBufferOverflowMode;
 import io.debezium.connector.mysql.MySqlConnectorConfig.GtidNewChannelPosition;
 import io.debezium.connector.mysql.MySqlConnectorConfig.SecureConnectionMode;
+import io.debezium.connector.mysql.MySqlDatabaseSchema.TableNumberMapping;
+import io.debezium.connector.mysql.RowConverter.ConvertedRow;
+import io.debezium.connector.mysql.RowDeserializers.ExcludedTableRowsFilter;
 import io.debezium.connector.mysql.sink.event.MyGtidEventData;
 import io.debezium.connector.mysql.sink.event.MyGtidEventDataDeserializer;
 import io.debezium.data.Envelope.Operation;
@@ -77,6 +83,7 @@
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.spi.StreamingChangeEventSource;
 import io.debezium.relational.TableId;
+import io.debezium.relational.TableSchema;
 import io.debezium.schema.SchemaChangeEvent;
 import io.debezium.util.Clock;
 import io.debezium.util.Metronome;
@@ -107,7 +114,7 @@ public class MySqlStreamingChangeEventSource implements StreamingChangeEventSour
     private final Predicate<String> gtidDmlSourceFilter;
     private final AtomicLong totalRecordCounter = new AtomicLong();
     private volatile Map<String, ?> lastOffset = null;
-    private com.github.shyiko.mysql.binlog.GtidSet gtidSet;
+    private MutableGtidSet gtidSet;
     private final float heartbeatIntervalFactor = 0.8f;
     private final Map<String, Thread> binaryLogClientThreads = new ConcurrentHashMap<>(4);
     private final MySqlTaskContext taskContext;
@@ -115,6 +122,7 @@ public class MySqlStreamingChangeEventSource implements StreamingChangeEventSour
     private final MySqlConnection connection;
     private final EventDispatcher<TableId> eventDispatcher;
     private final ErrorHandler errorHandler;
+    private final RowConverter rowConverter;
 
     @SingleThreadAccess("binlog client thread")
     private Instant eventTimestamp;
@@ -176,7 +184,7 @@ public boolean equals(Object obj) {
 
     @FunctionalInterface
     private static interface BinlogChangeEmitter<T> {
-        void emit(TableId tableId, T data) throws InterruptedException;
+        void emit(TableId tableId, T data, ConvertedRow converted) throws InterruptedException;
     }
 
     public MySqlStreamingChangeEventSource(MySqlConnectorConfig connectorConfig, MySqlConnection connection,
@@ -190,6 +198,9 @@ public MySqlStreamingChangeEventSource(MySqlConnectorConfig connectorConfig, MyS
         this.eventDispatcher = dispatcher;
         this.errorHandler = errorHandler;
         this.metrics = metrics;
+        this.rowConverter = connectorConfig.getRowConversionThreads() > 1
+                ? new RowConverter(connectorConfig, connectorConfig.getRowConversionThreads())
+                : null;
 
         eventDeserializationFailureHandlingMode = connectorConfig.getEventProcessingFailureHandlingMode();
         inconsistentSchemaHandlingMode = connectorConfig.inconsistentSchemaFailureHandlingMode();
@@ -267,21 +278,23 @@ public Event nextEvent(ByteArrayInputStream inputStream) throws IOException {
         // Add our custom deserializers ...
         eventDeserializer.setEventDataDeserializer(EventType.STOP, new StopEventDataDeserializer());
         eventDeserializer.setEventDataDeserializer(EventType.GTID, new MyGtidEventDataDeserializer());
+        final ExcludedTableRowsFilter rowsFilter = new ExcludedTableRowsFilter(tableMapEventByTableId,
+                connectorConfig.getTableFilters().dataCollectionFilter());
         eventDeserializer.setEventDataDeserializer(EventType.WRITE_ROWS,
-                new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId));
+                new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId, rowsFilter));
         eventDeserializer.setEventDataDeserializer(EventType.UPDATE_ROWS,
-                new RowDeserializers.UpdateRowsDeserializer(tableMapEventByTableId));
+                new RowDeserializers.UpdateRowsDeserializer(tableMapEventByTableId, rowsFilter));
         eventDeserializer.setEventDataDeserializer(EventType.DELETE_ROWS,
-                new RowDeserializers.DeleteRowsDeserializer(tableMapEventByTableId));
+                new RowDeserializers.DeleteRowsDeserializer(tableMapEventByTableId, rowsFilter));
         eventDeserializer.setEventDataDeserializer(EventType.EXT_WRITE_ROWS,
                 new RowDeserializers.WriteRowsDeserializer(
-                        tableMapEventByTableId).setMayContainExtraInformation(true));
+                        tableMapEventByTableId, rowsFilter).setMayContainExtraInformation(true));
         eventDeserializer.setEventDataDeserializer(EventType.EXT_UPDATE_ROWS,
                 new RowDeserializers.UpdateRowsDeserializer(
-                        tableMapEventByTableId).setMayContainExtraInformation(true));
+                        tableMapEventByTableId, rowsFilter).setMayContainExtraInformation(true));
         eventDeserializer.setEventDataDeserializer(EventType.EXT_DELETE_ROWS,
                 new RowDeserializers.DeleteRowsDeserializer(
-                        tableMapEventByTableId).setMayContainExtraInformation(true));
+                        tableMapEventByTableId, rowsFilter).setMayContainExtraInformation(true));
         client.setEventDeserializer(eventDeserializer);
     }
 
@@ -631,12 +644,14 @@ protected void handleUpdateTableMetadata(MySqlPartition partition, MySqlOffsetCo
         long tableNumber = metadata.getTableId();
         String databaseName = metadata.getDatabase();
         String tableName = metadata.getTable();
-        TableId tableId = new TableId(databaseName, null, tableName);
-        if (taskContext.getSchema().assignTableNumber(tableNumber, tableId)) {
+        final TableNumberMapping mapping = taskContext.getSchema().assignTableNumber(tableNumber, databaseName, tableName);
+        if (mapping.schema() != null) {
+            mapping.setUnknownSchemaReported(false);
             LOGGER.debug("Received update table metadata event: {}", event);
         }
         else {
-            informAboutUnknownTableIfRequired(partition, offsetContext, event, tableId, "update table metadata");
+            mapping.setUnknownSchemaReported(mapping.isIncluded());
+            informAboutUnknownTableIfRequired(partition, offsetContext, event, mapping.tableId(), mapping.isIncluded(), "update table metadata");
         }
     }
 
@@ -645,9 +660,10 @@ protected void handleUpdateTableMetadata(MySqlPartition partition, MySqlOffsetCo
      * don't know, either ignore that event or raise a warning or error as per the
      * {@link MySqlConnectorConfig#INCONSISTENT_SCHEMA_HANDLING_MODE} configuration.
      */
-    private void informAboutUnknownTableIfRequired(MySqlPartition partition, MySqlOffsetContext offsetContext, Event event, TableId tableId, String typeToLog)
+    private void informAboutUnknownTableIfRequired(MySqlPartition partition, MySqlOffsetContext offsetContext, Event event, TableId tableId,
+                                                   boolean included, String typeToLog)
             throws InterruptedException {
-        if (tableId != null && connectorConfig.getTableFilters().dataCollectionFilter().isIncluded(tableId)) {
+        if (included) {
             metrics.onErroneousEvent("source = " + tableId + ", event " + event);
             EventHeaderV4 eventHeader = event.getHeader();
 
@@ -692,10 +708,10 @@ else if (inconsistentSchemaHandlingMode == EventProcessingFailureHandlingMode.WA
      * @throws InterruptedException if this thread is interrupted while blocking
      */
     protected void handleInsert(MySqlPartition partition, MySqlOffsetContext offsetContext, Event event) throws InterruptedException {
-        handleChange(partition, offsetContext, event, "insert", WriteRowsEventData.class, x -> taskContext.getSchema().getTableId(x.getTableId()),
-                WriteRowsEventData::getRows,
-                (tableId, row) -> eventDispatcher.dispatchDataChangeEvent(tableId,
-                        new MySqlChangeRecordEmitter(partition, offsetContext, clock, Operation.CREATE, null, row)));
+        handleChange(partition, offsetContext, event, "insert", WriteRowsEventData.class, WriteRowsEventData::getTableId,
+                WriteRowsEventData::getRows, row -> null, row -> row,
+                (tableId, row, converted) -> eventDispatcher.dispatchDataChangeEvent(tableId,
+                        new MySqlChangeRecordEmitter(partition, offsetContext, clock, Operation.CREATE, null, row, converted)));
     }
 
     /**
@@ -706,10 +722,10 @@ protected void handleInsert(MySqlPartition partition, MySqlOffsetContext offsetC
      * @throws InterruptedException if this thread is interrupted while blocking
      */
     protected void handleUpdate(MySqlPartition partition, MySqlOffsetContext offsetContext, Event event) throws InterruptedException {
-        handleChange(partition, offsetContext, event, "update", UpdateRowsEventData.class, x -> taskContext.getSchema().getTableId(x.getTableId()),
-                UpdateRowsEventData::getRows,
-                (tableId, row) -> eventDispatcher.dispatchDataChangeEvent(tableId,
-                        new MySqlChangeRecordEmitter(partition, offsetContext, clock, Operation.UPDATE, row.getKey(), row.getValue())));
+        handleChange(partition, offsetContext, event, "update", UpdateRowsEventData.class, UpdateRowsEventData::getTableId,
+                UpdateRowsEventData::getRows, Map.Entry::getKey, Map.Entry::getValue,
+                (tableId, row, converted) -> eventDispatcher.dispatchDataChangeEvent(tableId,
+                        new MySqlChangeRecordEmitter(partition, offsetContext, clock, Operation.UPDATE, row.getKey(), row.getValue(), converted)));
     }
 
     /**
@@ -720,16 +736,18 @@ protected void handleUpdate(MySqlPartition partition, MySqlOffsetContext offsetC
      * @throws InterruptedException if this thread is interrupted while blocking
      */
     protected void handleDelete(MySqlPartition partition, MySqlOffsetContext offsetContext, Event event) throws InterruptedException {
-        handleChange(partition, offsetContext, event, "delete", DeleteRowsEventData.class, x -> taskContext.getSchema().getTableId(x.getTableId()),
-                DeleteRowsEventData::getRows,
-                (tableId, row) -> eventDispatcher.dispatchDataChangeEvent(tableId,
-                        new MySqlChangeRecordEmitter(partition, offsetContext, clock, Operation.DELETE, row, null)));
+        handleChange(partition, offsetContext, event, "delete", DeleteRowsEventData.class, DeleteRowsEventData::getTableId,
+                DeleteRowsEventData::getRows, row -> row, row -> null,
+                (tableId, row, converted) -> eventDispatcher.dispatchDataChangeEvent(tableId,
+                        new MySqlChangeRecordEmitter(partition, offsetContext, clock, Operation.DELETE, row, null, converted)));
     }
 
     private <T extends EventData, U> void handleChange(MySqlPartition partition, MySqlOffsetContext offsetContext, Event event, String changeType,
                                                        Class<T> eventDataClass,
-                                                       TableIdProvider<T> tableIdProvider,
-                                                       RowsProvider<T, U> rowsProvider, BinlogChangeEmitter<U> changeEmitter)
+                                                       TableNumberProvider<T> tableNumberProvider,
+                                                       RowsProvider<T, U> rowsProvider,
+                                                       Function<U, Serializable[]> oldState, Function<U, Serializable[]> newState,
+                                                       BinlogChangeEmitter<U> changeEmitter)
             throws InterruptedException {
         if (skipEvent) {
             // We can skip this because we should already be at least this far ...
@@ -741,17 +759,29 @@ private <T extends EventData, U> void handleChange(MySqlPartition partition, MyS
             return;
         }
         final T data = unwrapData(event);
-        final TableId tableId = tableIdProvider.getTableId(data);
+        final TableNumberMapping mapping = taskContext.getSchema().getTableMapping(tableNumberProvider.getTableNumber(data));
+        if (mapping == null || !mapping.isIncluded()) {
+            // the events of the excluded tables are rejected without looking up the table again
+            informAboutUnknownTableIfRequired(partition, offsetContext, event, mapping != null ? mapping.tableId() : null, false, changeType + " row");
+            startingRowNumber = 0;
+            return;
+        }
+        final TableId tableId = mapping.tableId();
         final List<U> rows = rowsProvider.getRows(data);
 
-        if (tableId != null && taskContext.getSchema().schemaFor(tableId) != null) {
+        final TableSchema tableSchema = mapping.schema();
+        if (tableSchema != null) {
             int count = 0;
             int numRows = rows.size();
             if (startingRowNumber < numRows) {
+                // the rows are converted in parallel up front, but emitted one by one so the offset tracks each row
+                final ConvertedRow[] convertedRows = rowConverter != null
+                        ? rowConverter.convert(tableSchema, rows, startingRowNumber, oldState, newState)
+                        : null;
                 for (int row = startingRowNumber; row != numRows; ++row) {
                     offsetContext.setRowNumber(row, numRows);
                     offsetContext.event(tableId, eventTimestamp);
-                    changeEmitter.emit(tableId, rows.get(row));
+                    changeEmitter.emit(tableId, rows.get(row), convertedRows != null ? convertedRows[row - startingRowNumber] : null);
                     count++;
                 }
                 if (LOGGER.isDebugEnabled()) {
@@ -771,7 +801,8 @@ private <T extends EventData, U> void handleChange(MySqlPartition partition, MyS
             }
         }
         else {
-            informAboutUnknownTableIfRequired(partition, offsetContext, event, tableId, changeType + " row");
+            // an unknown table already reported for its TABLE_MAP event is filtered like an excluded one
+            informAboutUnknownTableIfRequired(partition, offsetContext, event, tableId, !mapping.isUnknownSchemaReported(), changeType + " row");
         }
         startingRowNumber = 0;
     }
@@ -862,11 +893,16 @@ public void execute(ChangeEventSourceContext context, MySqlPartition partition,
         }
 
         BinaryLogClient.EventListener listener;
+        final EventBuffer buffer;
         if (connectorConfig.bufferSizeForStreamingChangeEventSource() == 0) {
+            buffer = null;
             listener = (event) -> handleEvent(partition, effectiveOffsetContext, event);
         }
         else {
-            EventBuffer buffer = new EventBuffer(connectorConfig.bufferSizeForStreamingChangeEventSource(), this, context);
+            final EventSpillFile spillFile = connectorConfig.bufferOverflowModeForStreamingChangeEventSource() == BinlogBufferOverflowMode.SPILL
+                    ? new EventSpillFile(connectorConfig.bufferSpillDirectoryForStreamingChangeEventSource())
+                    : null;
+            buffer = new EventBuffer(connectorConfig.bufferSizeForStreamingChangeEventSource(), this, context, spillFile);
             listener = (event) -> buffer.add(partition, effectiveOffsetContext, event);
         }
         client.registerEventListener(listener);
@@ -900,13 +936,13 @@ public void execute(ChangeEventSourceContext context, MySqlPartition partition,
                 String filteredGtidSetStr = filteredGtidSet.toString();
                 client.setGtidSet(filteredGtidSetStr);
                 effectiveOffsetContext.setCompletedGtidSet(filteredGtidSetStr);
-                gtidSet = new com.github.shyiko.mysql.binlog.GtidSet(filteredGtidSetStr);
+                gtidSet = new MutableGtidSet(filteredGtidSetStr);
             }
             else {
                 // We've not yet seen any GTIDs, so that means we have to start reading the binlog from the beginning ...
                 client.setBinlogFilename(effectiveOffsetContext.getSource().binlogFilename());
                 client.setBinlogPosition(effectiveOffsetContext.getSource().binlogPosition());
-                gtidSet = new com.github.shyiko.mysql.binlog.GtidSet("");
+                gtidSet = new MutableGtidSet("");
             }
         }
         else {
@@ -985,6 +1021,12 @@ public void execute(ChangeEventSourceContext context, MySqlPartition partition,
             catch (Exception e) {
                 LOGGER.info("Exception while stopping binary log client", e);
             }
+            if (rowConverter != null) {
+                rowConverter.close();
+            }
+            if (buffer != null) {
+                buffer.close();
+            }
         }
     }
 
@@ -1243,8 +1285,8 @@ else if (eventDeserializationFailureHandlingMode == EventProcessingFailureHandli
     }
 
     @FunctionalInterface
-    private interface TableIdProvider<E extends EventData> {
-        TableId getTableId(E data);
+    private interface TableNumberProvider<E extends EventData> {
+        long getTableNumber(E data);
     }
 
     @FunctionalInterface
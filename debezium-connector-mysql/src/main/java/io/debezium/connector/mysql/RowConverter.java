@@ -0,0 +1,148 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.apache.kafka.connect.data.Struct;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.relational.TableSchema;
+import io.debezium.util.Threads;
+
+/**
+ * Converts the rows of a single binlog rows event into the key and value {@link Struct}s on a pool of worker threads.
+ * <p>
+ * Only the conversion of the column values is done in parallel. The converted rows are returned indexed by their
+ * position in the event, so the streaming source still emits them one by one in the order of the event, setting the
+ * row number of the offset for every row exactly as when the rows are converted while emitted. A failure of the
+ * conversion of a row is kept with the row and raised only when the row is emitted.
+ */
+@ThreadSafe
+class RowConverter implements AutoCloseable {
+
+    /**
+     * The minimal number of rows converted by one task; smaller events are converted while emitted.
+     */
+    static final int MIN_ROWS_PER_TASK = 16;
+
+    private final int threads;
+    private final ExecutorService executor;
+
+    RowConverter(MySqlConnectorConfig connectorConfig, int threads) {
+        this.threads = threads;
+        this.executor = Threads.newFixedThreadPool(MySqlConnector.class, connectorConfig.getLogicalName(), "binlog-row-converter", threads);
+    }
+
+    /**
+     * Converts the rows of the event starting at the given row.
+     *
+     * @param tableSchema the schema of the table of the event; may not be null
+     * @param rows the rows of the event; may not be null
+     * @param fromRow the index of the first row to convert
+     * @param oldState extracts the state of a row before the change, returning {@code null} for inserts
+     * @param newState extracts the state of a row after the change, returning {@code null} for deletes
+     * @return the converted rows, the first element being the row {@code fromRow}; or {@code null} if the event
+     *         has too few rows to be worth converting in parallel
+     * @throws InterruptedException if interrupted while waiting for the conversion
+     */
+    <U> ConvertedRow[] convert(TableSchema tableSchema, List<U> rows, int fromRow, Function<U, Serializable[]> oldState,
+                               Function<U, Serializable[]> newState)
+            throws InterruptedException {
+        final int size = rows.size() - fromRow;
+        if (size < 2 * MIN_ROWS_PER_TASK) {
+            return null;
+        }
+
+        final ConvertedRow[] converted = new ConvertedRow[size];
+        final int sliceSize = Math.max(MIN_ROWS_PER_TASK, (size + threads - 1) / threads);
+        final List<Future<?>> slices = new ArrayList<>();
+        for (int sliceStart = 0; sliceStart < size; sliceStart += sliceSize) {
+            final int from = sliceStart;
+            final int to = Math.min(sliceStart + sliceSize, size);
+            slices.add(executor.submit(() -> {
+                for (int i = from; i < to; i++) {
+                    final U row = rows.get(fromRow + i);
+                    converted[i] = ConvertedRow.of(tableSchema, oldState.apply(row), newState.apply(row));
+                }
+            }));
+        }
+        try {
+            for (Future<?> slice : slices) {
+                slice.get();
+            }
+        }
+        catch (ExecutionException e) {
+            throw new DebeziumException("Failed to convert rows of table " + tableSchema.id(), e.getCause());
+        }
+        finally {
+            slices.forEach(slice -> slice.cancel(true));
+        }
+        return converted;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * The key and value structs of the states of a row before and after the change.
+     */
+    static final class ConvertedRow {
+
+        final TableSchema tableSchema;
+        final Struct oldKey;
+        final Struct oldValue;
+        final Struct newKey;
+        final Struct newValue;
+        final RuntimeException failure;
+
+        private ConvertedRow(TableSchema tableSchema, Struct oldKey, Struct oldValue, Struct newKey, Struct newValue,
+                             RuntimeException failure) {
+            this.tableSchema = tableSchema;
+            this.oldKey = oldKey;
+            this.oldValue = oldValue;
+            this.newKey = newKey;
+            this.newValue = newValue;
+            this.failure = failure;
+        }
+
+        static ConvertedRow of(TableSchema tableSchema, Object[] oldState, Object[] newState) {
+            try {
+                return new ConvertedRow(tableSchema,
+                        oldState != null ? tableSchema.keyFromColumnData(oldState) : null,
+                        oldState != null ? tableSchema.valueFromColumnData(oldState) : null,
+                        newState != null ? tableSchema.keyFromColumnData(newState) : null,
+                        newState != null ? tableSchema.valueFromColumnData(newState) : null,
+                        null);
+            }
+            catch (RuntimeException e) {
+                return new ConvertedRow(tableSchema, null, null, null, null, e);
+            }
+        }
+
+        /**
+         * @return whether the row was converted using the given schema, raising the conversion failure if there was any
+         */
+        boolean isConvertedWith(TableSchema schema) {
+            if (tableSchema != schema) {
+                return false;
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return true;
+        }
+    }
+}
@@ -16,16 +16,26 @@
 import java.time.Year;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.BitSet;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import com.github.shyiko.mysql.binlog.event.DeleteRowsEventData;
 import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.UpdateRowsEventData;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
 import com.github.shyiko.mysql.binlog.event.deserialization.AbstractRowsEventDataDeserializer;
 import com.github.shyiko.mysql.binlog.event.deserialization.DeleteRowsEventDataDeserializer;
 import com.github.shyiko.mysql.binlog.event.deserialization.UpdateRowsEventDataDeserializer;
 import com.github.shyiko.mysql.binlog.event.deserialization.WriteRowsEventDataDeserializer;
 import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
 
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables.TableFilter;
+
 /**
  * Custom deserializers for the MySQL Binlog Client library.
  * <p>
@@ -42,6 +52,8 @@
  * methods on all 3 classes. It's ugly, but it works.
  * <p>
  * See the <a href="https://dev.mysql.com/doc/refman/5.0/en/datetime.html">MySQL Date Time</a> documentation.
+ * <p>
+ * The deserializers also skip the rows of the tables excluded by the connector, see {@link ExcludedTableRowsFilter}.
  *
  * @author Randall Hauch
  */
@@ -54,8 +66,32 @@ public class RowDeserializers {
      */
     public static class DeleteRowsDeserializer extends DeleteRowsEventDataDeserializer {
 
+        private final ExcludedTableRowsFilter rowsFilter;
+
         public DeleteRowsDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId) {
+            this(tableMapEventByTableId, null);
+        }
+
+        public DeleteRowsDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId, ExcludedTableRowsFilter rowsFilter) {
             super(tableMapEventByTableId);
+            this.rowsFilter = rowsFilter;
+        }
+
+        @Override
+        public DeleteRowsEventData deserialize(ByteArrayInputStream inputStream) throws IOException {
+            final DeleteRowsEventData data = super.deserialize(inputStream);
+            if (rowsFilter != null && rowsFilter.isExcluded(data.getTableId())) {
+                data.setRows(Collections.emptyList());
+            }
+            return data;
+        }
+
+        @Override
+        protected Serializable[] deserializeRow(long tableId, BitSet includedColumns, ByteArrayInputStream inputStream) throws IOException {
+            if (rowsFilter != null && rowsFilter.isExcluded(tableId)) {
+                return ExcludedTableRowsFilter.skipRows(inputStream);
+            }
+            return super.deserializeRow(tableId, includedColumns, inputStream);
         }
 
         @Override
@@ -116,8 +152,32 @@ protected Serializable deserializeYear(ByteArrayInputStream inputStream) throws
      */
     public static class UpdateRowsDeserializer extends UpdateRowsEventDataDeserializer {
 
+        private final ExcludedTableRowsFilter rowsFilter;
+
         public UpdateRowsDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId) {
+            this(tableMapEventByTableId, null);
+        }
+
+        public UpdateRowsDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId, ExcludedTableRowsFilter rowsFilter) {
             super(tableMapEventByTableId);
+            this.rowsFilter = rowsFilter;
+        }
+
+        @Override
+        public UpdateRowsEventData deserialize(ByteArrayInputStream inputStream) throws IOException {
+            final UpdateRowsEventData data = super.deserialize(inputStream);
+            if (rowsFilter != null && rowsFilter.isExcluded(data.getTableId())) {
+                data.setRows(Collections.emptyList());
+            }
+            return data;
+        }
+
+        @Override
+        protected Serializable[] deserializeRow(long tableId, BitSet includedColumns, ByteArrayInputStream inputStream) throws IOException {
+            if (rowsFilter != null && rowsFilter.isExcluded(tableId)) {
+                return ExcludedTableRowsFilter.skipRows(inputStream);
+            }
+            return super.deserializeRow(tableId, includedColumns, inputStream);
         }
 
         @Override
@@ -178,8 +238,32 @@ protected Serializable deserializeYear(ByteArrayInputStream inputStream) throws
      */
     public static class WriteRowsDeserializer extends WriteRowsEventDataDeserializer {
 
+        private final ExcludedTableRowsFilter rowsFilter;
+
         public WriteRowsDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId) {
+            this(tableMapEventByTableId, null);
+        }
+
+        public WriteRowsDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId, ExcludedTableRowsFilter rowsFilter) {
             super(tableMapEventByTableId);
+            this.rowsFilter = rowsFilter;
+        }
+
+        @Override
+        public WriteRowsEventData deserialize(ByteArrayInputStream inputStream) throws IOException {
+            final WriteRowsEventData data = super.deserialize(inputStream);
+            if (rowsFilter != null && rowsFilter.isExcluded(data.getTableId())) {
+                data.setRows(Collections.emptyList());
+            }
+            return data;
+        }
+
+        @Override
+        protected Serializable[] deserializeRow(long tableId, BitSet includedColumns, ByteArrayInputStream inputStream) throws IOException {
+            if (rowsFilter != null && rowsFilter.isExcluded(tableId)) {
+                return ExcludedTableRowsFilter.skipRows(inputStream);
+            }
+            return super.deserializeRow(tableId, includedColumns, inputStream);
         }
 
         @Override
@@ -236,6 +320,69 @@ protected Serializable deserializeYear(ByteArrayInputStream inputStream) throws
     private static final int MASK_10_BITS = (1 << 10) - 1;
     private static final int MASK_6_BITS = (1 << 6) - 1;
 
+    /**
+     * Rejects the rows events of the tables excluded by the table filters of the connector while they are deserialized.
+     * The rows of such events are skipped as raw bytes without decoding the column values, and the events are passed on
+     * with no rows, as the streaming source ignores the events of the excluded tables anyway.
+     * <p>
+     * The table of an event is identified using the preceding {@link TableMapEventData TABLE_MAP} event and the filter
+     * decision is kept per table number until the table number is mapped by a different {@code TABLE_MAP} event.
+     */
+    public static class ExcludedTableRowsFilter {
+
+        private static final Serializable[] NO_VALUES = new Serializable[0];
+
+        private final Map<Long, TableMapEventData> tableMapEventByTableId;
+        private final TableFilter tableFilter;
+        private final ConcurrentMap<Long, Decision> decisionsByTableId = new ConcurrentHashMap<>();
+
+        public ExcludedTableRowsFilter(Map<Long, TableMapEventData> tableMapEventByTableId, TableFilter tableFilter) {
+            this.tableMapEventByTableId = tableMapEventByTableId;
+            this.tableFilter = tableFilter;
+        }
+
+        /**
+         * @return {@code true} if the rows of the table with the given number are excluded by the table filters; tables
+         *         without a known {@code TABLE_MAP} event are never excluded, so the deserializer can report them
+         */
+        boolean isExcluded(long tableId) {
+            final TableMapEventData tableMapEvent = tableMapEventByTableId.get(tableId);
+            if (tableMapEvent == null) {
+                return false;
+            }
+            Decision decision = decisionsByTableId.get(tableId);
+            if (decision == null || decision.tableMapEvent != tableMapEvent) {
+                decision = new Decision(tableMapEvent,
+                        !tableFilter.isIncluded(new TableId(tableMapEvent.getDatabase(), null, tableMapEvent.getTable())));
+                decisionsByTableId.put(tableId, decision);
+            }
+            return decision.excluded;
+        }
+
+        /**
+         * Skips all the remaining rows of the event, which makes the deserializer stop reading rows.
+         */
+        static Serializable[] skipRows(ByteArrayInputStream inputStream) throws IOException {
+            final int remaining = inputStream.available();
+            if (remaining > 0) {
+                // not fastSkip() which leaves the event block, exposing the checksum of the event as available bytes
+                inputStream.skip(remaining);
+            }
+            return NO_VALUES;
+        }
+
+        private static final class Decision {
+
+            private final TableMapEventData tableMapEvent;
+            private final boolean excluded;
+
+            Decision(TableMapEventData tableMapEvent, boolean excluded) {
+                this.tableMapEvent = tableMapEvent;
+                this.excluded = excluded;
+            }
+        }
+    }
+
     /**
      * Converts a MySQL string to a {@code byte[]}.
      *
@@ -16,6 +16,8 @@
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.tree.ParseTree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.mysql.cj.CharsetMapping;
 
@@ -35,6 +37,7 @@
 import io.debezium.relational.SystemVariables;
 import io.debezium.relational.TableEditor;
 import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
 import io.debezium.relational.Tables.TableFilter;
 
 /**
@@ -44,9 +47,12 @@
  */
 public class MySqlAntlrDdlParser extends AntlrDdlParser<MySqlLexer, MySqlParser> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(MySqlAntlrDdlParser.class);
+
     private final ConcurrentMap<String, String> charsetNameForDatabase = new ConcurrentHashMap<>();
     private final MySqlValueConverters converters;
     private final TableFilter tableFilter;
+    private final MySqlDdlStatementClassifier statementClassifier;
 
     public MySqlAntlrDdlParser() {
         this(null, TableFilter.includeAll());
@@ -62,10 +68,29 @@ public MySqlAntlrDdlParser(MySqlValueConverters converters, TableFilter tableFil
 
     public MySqlAntlrDdlParser(boolean throwErrorsFromTreeWalk, boolean includeViews, boolean includeComments,
                                MySqlValueConverters converters, TableFilter tableFilter) {
+        this(throwErrorsFromTreeWalk, includeViews, includeComments, converters, tableFilter, null);
+    }
+
+    /**
+     * @param statementClassifier the classifier of the statements which do not need to be parsed; may be null if all the
+     *            statements are parsed
+     */
+    public MySqlAntlrDdlParser(boolean throwErrorsFromTreeWalk, boolean includeViews, boolean includeComments,
+                               MySqlValueConverters converters, TableFilter tableFilter, MySqlDdlStatementClassifier statementClassifier) {
         super(throwErrorsFromTreeWalk, includeViews, includeComments);
         systemVariables = new MySqlSystemVariables();
         this.converters = converters;
         this.tableFilter = tableFilter;
+        this.statementClassifier = statementClassifier;
+    }
+
+    @Override
+    public void parse(String ddlContent, Tables databaseTables) {
+        if (statementClassifier != null && !statementClassifier.requiresParsing(ddlContent, currentSchema())) {
+            LOGGER.debug("Skipping parsing of DDL statements not affecting captured tables: '{}'", ddlContent);
+            return;
+        }
+        super.parse(ddlContent, databaseTables);
     }
 
     @Override
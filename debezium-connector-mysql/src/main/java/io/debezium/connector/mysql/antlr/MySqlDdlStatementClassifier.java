@@ -0,0 +1,302 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql.antlr;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables.TableFilter;
+import io.debezium.text.ParsingException;
+import io.debezium.text.Position;
+import io.debezium.text.TokenStream;
+import io.debezium.text.TokenStream.BasicTokenizer;
+import io.debezium.text.TokenStream.CharacterStream;
+import io.debezium.text.TokenStream.Tokenizer;
+import io.debezium.text.TokenStream.Tokens;
+
+/**
+ * A lightweight classifier of MySQL DDL statements, deciding whether they have to be parsed by the ANTLR grammar at all.
+ * <p>
+ * The statements are only tokenized and their leading keywords inspected. Statements which never change the table model,
+ * such as {@code GRANT}, {@code CREATE USER}, {@code CREATE PROCEDURE} or {@code ANALYZE TABLE}, do not need to be parsed.
+ * Optionally, the same applies to {@code CREATE}, {@code ALTER}, {@code DROP} and {@code TRUNCATE} of tables and indexes
+ * which are not included by the table filter. Whenever the classifier is not sure, the statements are parsed.
+ */
+@ThreadSafe
+public class MySqlDdlStatementClassifier {
+
+    private static final int QUOTED_IDENTIFIER = 64;
+
+    /**
+     * The maximum number of tokens between the {@code CREATE}, {@code ALTER} or {@code DROP} keyword and the type of the object,
+     * covering clauses such as {@code OR REPLACE}, {@code DEFINER = user} or {@code SQL SECURITY INVOKER}.
+     */
+    private static final int MAX_OBJECT_TYPE_DISTANCE = 12;
+
+    private final TableFilter tableFilter;
+    private final boolean skipExcludedTables;
+
+    /**
+     * @param tableFilter the filter of the captured tables; may not be null
+     * @param skipExcludedTables {@code true} if the statements changing only tables not included by the filter do not have to
+     *            be parsed, {@code false} if only the statements never changing any table are skipped
+     */
+    public MySqlDdlStatementClassifier(TableFilter tableFilter, boolean skipExcludedTables) {
+        this.tableFilter = tableFilter;
+        this.skipExcludedTables = skipExcludedTables;
+    }
+
+    /**
+     * Determines whether any of the given statements may change the table model, the system variables or the current database.
+     *
+     * @param ddlContent the DDL statements separated by semicolons; may not be null
+     * @param currentDatabase the database of the unqualified table names; may be null
+     * @return {@code true} if the statements have to be parsed, {@code false} if they can be ignored
+     */
+    public boolean requiresParsing(String ddlContent, String currentDatabase) {
+        final TokenStream stream = new TokenStream(ddlContent, new DdlTokenizer(), false);
+        try {
+            stream.start();
+            while (stream.hasNext()) {
+                if (stream.canConsume(';')) {
+                    continue;
+                }
+                final Statement statement = classify(stream, currentDatabase);
+                if (statement == Statement.RELEVANT) {
+                    return true;
+                }
+                if (statement == Statement.COMPOUND) {
+                    // the body of a stored program may contain semicolons, so it is the last statement
+                    return false;
+                }
+                stream.consumeUntilEndOrOneOf(";");
+            }
+            return false;
+        }
+        catch (ParsingException e) {
+            // e.g. an unterminated string literal, reported by the parser
+            return true;
+        }
+    }
+
+    private Statement classify(TokenStream stream, String currentDatabase) {
+        if (stream.canConsumeAnyOf("GRANT", "REVOKE", "FLUSH", "ANALYZE", "OPTIMIZE", "CHECK", "REPAIR", "CHECKSUM")) {
+            return Statement.IRRELEVANT;
+        }
+        if (stream.canConsume("RENAME")) {
+            return stream.matches("USER") ? Statement.IRRELEVANT : Statement.RELEVANT;
+        }
+        if (stream.canConsume("TRUNCATE")) {
+            stream.canConsume("TABLE");
+            return classifyTables(stream, currentDatabase, false);
+        }
+        if (stream.canConsume("CREATE")) {
+            if (!skipToObjectType(stream)) {
+                return Statement.RELEVANT;
+            }
+            if (stream.matchesAnyOf("PROCEDURE", "FUNCTION", "TRIGGER", "EVENT")) {
+                return Statement.COMPOUND;
+            }
+            if (stream.matchesAnyOf("USER", "ROLE")) {
+                return Statement.IRRELEVANT;
+            }
+            if (stream.canConsume("TABLE")) {
+                stream.canConsume("IF", "NOT", "EXISTS");
+                return classifyTables(stream, currentDatabase, false);
+            }
+            if (stream.canConsume("INDEX")) {
+                return classifyIndexTable(stream, currentDatabase);
+            }
+            return Statement.RELEVANT;
+        }
+        if (stream.canConsume("ALTER")) {
+            if (!skipToObjectType(stream)) {
+                return Statement.RELEVANT;
+            }
+            if (stream.matches("EVENT")) {
+                return Statement.COMPOUND;
+            }
+            if (stream.matchesAnyOf("PROCEDURE", "FUNCTION", "USER", "ROLE")) {
+                return Statement.IRRELEVANT;
+            }
+            if (stream.canConsume("TABLE") && !containsRename(stream)) {
+                return classifyTables(stream, currentDatabase, false);
+            }
+            return Statement.RELEVANT;
+        }
+        if (stream.canConsume("DROP")) {
+            if (!skipToObjectType(stream)) {
+                return Statement.RELEVANT;
+            }
+            if (stream.matchesAnyOf("PROCEDURE", "FUNCTION", "TRIGGER", "EVENT", "USER", "ROLE")) {
+                return Statement.IRRELEVANT;
+            }
+            if (stream.canConsumeAnyOf("TABLE", "TABLES")) {
+                stream.canConsume("IF", "EXISTS");
+                return classifyTables(stream, currentDatabase, true);
+            }
+            if (stream.canConsume("INDEX")) {
+                return classifyIndexTable(stream, currentDatabase);
+            }
+            return Statement.RELEVANT;
+        }
+        return Statement.RELEVANT;
+    }
+
+    /**
+     * Moves the stream to the keyword denoting the type of the created, altered or dropped object.
+     *
+     * @return {@code true} if the keyword has been found
+     */
+    private boolean skipToObjectType(TokenStream stream) {
+        for (int i = 0; i < MAX_OBJECT_TYPE_DISTANCE && stream.hasNext() && !stream.matches(';') && !stream.matches('('); i++) {
+            if (stream.matchesAnyOf(BasicTokenizer.WORD, "TABLE", "TABLES", "INDEX", "VIEW", "DATABASE", "SCHEMA", "PROCEDURE", "FUNCTION",
+                    "TRIGGER", "EVENT", "USER", "ROLE")) {
+                return true;
+            }
+            stream.consume();
+        }
+        return false;
+    }
+
+    private boolean containsRename(TokenStream stream) {
+        final TokenStream.Marker start = stream.mark();
+        stream.consumeUntilEndOrOneOf(";", "RENAME");
+        final boolean rename = stream.matches("RENAME");
+        stream.rewind(start);
+        return rename;
+    }
+
+    private Statement classifyIndexTable(TokenStream stream, String currentDatabase) {
+        stream.consumeUntilEndOrOneOf(";", "ON");
+        return stream.canConsume("ON") ? classifyTables(stream, currentDatabase, false) : Statement.RELEVANT;
+    }
+
+    /**
+     * Classifies a statement by the name of the table at the current position of the stream, or by the comma separated list
+     * of table names.
+     */
+    private Statement classifyTables(TokenStream stream, String currentDatabase, boolean list) {
+        if (!skipExcludedTables) {
+            return Statement.RELEVANT;
+        }
+        do {
+            final TableId tableId = tableId(stream, currentDatabase);
+            if (tableId == null || tableFilter.isIncluded(tableId)) {
+                return Statement.RELEVANT;
+            }
+        } while (list && stream.canConsume(','));
+        return Statement.IRRELEVANT;
+    }
+
+    private TableId tableId(TokenStream stream, String currentDatabase) {
+        String name = identifier(stream);
+        if (name == null) {
+            return null;
+        }
+        String database = currentDatabase;
+        if (stream.canConsume('.')) {
+            database = name;
+            name = identifier(stream);
+            if (name == null) {
+                return null;
+            }
+        }
+        return database != null ? new TableId(database, null, name) : null;
+    }
+
+    private String identifier(TokenStream stream) {
+        if (stream.matches(BasicTokenizer.WORD)) {
+            return stream.consume();
+        }
+        if (stream.matches(QUOTED_IDENTIFIER)) {
+            final String quoted = stream.consume();
+            return quoted.substring(1, quoted.length() - 1).replace("``", "`");
+        }
+        return null;
+    }
+
+    private enum Statement {
+        /**
+         * A statement which may change the table model, system variables or the current database.
+         */
+        RELEVANT,
+        /**
+         * A statement which never changes the table model, or which changes only tables not being captured.
+         */
+        IRRELEVANT,
+        /**
+         * The definition of a stored program, whose body extends to the end of the content.
+         */
+        COMPOUND
+    }
+
+    /**
+     * Tokenizes MySQL statements into words, quoted strings, backtick quoted identifiers and single character symbols,
+     * skipping whitespace and comments; like in the grammar, the content of the executable comments is skipped as well.
+     */
+    private static class DdlTokenizer implements Tokenizer {
+
+        private static final String SYMBOLS = "(),;.=";
+
+        @Override
+        public void tokenize(CharacterStream input, Tokens tokens) throws ParsingException {
+            while (input.hasNext()) {
+                final char c = input.next();
+                final int startIndex = input.index();
+                final Position startingPosition = input.position(startIndex);
+                if (Character.isWhitespace(c)) {
+                    continue;
+                }
+                if (c == '#' || (c == '-' && input.isNext('-'))) {
+                    while (input.hasNext() && !input.isNext('\n')) {
+                        input.next();
+                    }
+                }
+                else if (c == '/' && input.isNext('*')) {
+                    input.next();
+                    while (input.hasNext() && !input.isNext('*', '/')) {
+                        input.next();
+                    }
+                    if (!input.hasNext()) {
+                        throw new ParsingException(startingPosition, "Unterminated comment");
+                    }
+                    input.next();
+                    input.next();
+                }
+                else if (c == '\'' || c == '"' || c == '`') {
+                    consumeQuoted(input, c, startingPosition);
+                    tokens.addToken(startingPosition, startIndex, input.index() + 1,
+                            c == '`' ? QUOTED_IDENTIFIER : (c == '\'' ? BasicTokenizer.SINGLE_QUOTED_STRING : BasicTokenizer.DOUBLE_QUOTED_STRING));
+                }
+                else if (SYMBOLS.indexOf(c) >= 0) {
+                    tokens.addToken(startingPosition, startIndex, startIndex + 1, BasicTokenizer.SYMBOL);
+                }
+                else {
+                    while (input.hasNext() && !input.isNextWhitespace() && !input.isNextAnyOf(SYMBOLS + "'\"`")) {
+                        input.next();
+                    }
+                    tokens.addToken(startingPosition, startIndex, input.index() + 1, BasicTokenizer.WORD);
+                }
+            }
+        }
+
+        private void consumeQuoted(CharacterStream input, char quote, Position startingPosition) {
+            while (input.hasNext()) {
+                final char c = input.next();
+                if (c == '\\' && quote != '`' && input.hasNext()) {
+                    input.next();
+                }
+                else if (c == quote) {
+                    if (!input.isNext(quote)) {
+                        return;
+                    }
+                    input.next();
+                }
+            }
+            throw new ParsingException(startingPosition, "Unterminated quoted text");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.debezium.connector.mysql.ChunkedSnapshotProgress.KeyRange;
+import io.debezium.relational.TableId;
+
+public class ChunkedSnapshotProgressTest {
+
+    private static final TableId TABLE1 = new TableId("db", null, "t1");
+    private static final TableId TABLE2 = new TableId("db", null, "t2");
+    private static final TableId TABLE3 = new TableId("db", null, "t3");
+    private static final List<TableId> TABLES = Arrays.asList(TABLE1, TABLE2, TABLE3);
+
+    @Test
+    public void shouldMergeCompletedRangesAndTables() {
+        final ChunkedSnapshotProgress progress = new ChunkedSnapshotProgress(TABLES);
+        assertThat(progress.toString()).isEmpty();
+
+        progress.completed(TABLE2, new KeyRange(null, 100L));
+        progress.completed(TABLE2, new KeyRange(200L, null));
+        assertThat(progress.toString()).isEqualTo(";db.t2=:100,200:");
+
+        progress.completed(TABLE2, new KeyRange(100L, 200L));
+        assertThat(progress.isCompleted(TABLE2)).isTrue();
+        assertThat(progress.toString()).isEqualTo(";db.t2=:");
+
+        progress.completed(TABLE1, KeyRange.ALL);
+        assertThat(progress.toString()).isEqualTo("db.t2");
+        assertThat(progress.isCompleted(TABLE1)).isTrue();
+        assertThat(progress.isCompleted(TABLE3)).isFalse();
+    }
+
+    @Test
+    public void shouldReturnRemainingRanges() {
+        final ChunkedSnapshotProgress progress = new ChunkedSnapshotProgress(TABLES);
+        progress.completed(TABLE1, new KeyRange(-50L, 0L));
+        progress.completed(TABLE1, new KeyRange(100L, 150L));
+
+        assertThat(progress.remaining(TABLE1, KeyRange.ALL)).containsExactly(
+                new KeyRange(null, -50L), new KeyRange(0L, 100L), new KeyRange(150L, null));
+        assertThat(progress.remaining(TABLE1, new KeyRange(-10L, 120L))).containsExactly(new KeyRange(0L, 100L));
+        assertThat(progress.remaining(TABLE1, new KeyRange(100L, 150L))).isEmpty();
+        assertThat(progress.remaining(TABLE2, new KeyRange(5L, 10L))).containsExactly(new KeyRange(5L, 10L));
+    }
+
+    @Test
+    public void shouldRestoreProgress() {
+        final ChunkedSnapshotProgress progress = new ChunkedSnapshotProgress(TABLES);
+        progress.completed(TABLE1, KeyRange.ALL);
+        progress.completed(TABLE3, new KeyRange(null, 1000L));
+
+        final ChunkedSnapshotProgress restored = ChunkedSnapshotProgress.parse(TABLES, progress.toString());
+        assertThat(restored.toString()).isEqualTo("db.t1;db.t3=:1000");
+        assertThat(restored.isCompleted(TABLE1)).isTrue();
+        assertThat(restored.isCompleted(TABLE2)).isFalse();
+        assertThat(restored.remaining(TABLE3, KeyRange.ALL)).containsExactly(new KeyRange(1000L, null));
+    }
+
+    @Test
+    public void shouldIgnoreTablesNoLongerCaptured() {
+        final ChunkedSnapshotProgress restored = ChunkedSnapshotProgress.parse(Arrays.asList(TABLE1, TABLE3), "db.t1;db.t2=:10;db.t3=5:");
+        assertThat(restored.toString()).isEqualTo("db.t1;db.t3=5:");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectProgressOfUnknownCompletedTable() {
+        ChunkedSnapshotProgress.parse(Arrays.asList(TABLE1, TABLE3), "db.t2");
+    }
+}
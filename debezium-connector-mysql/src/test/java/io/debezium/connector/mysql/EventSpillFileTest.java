@@ -0,0 +1,111 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.File;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
+
+import io.debezium.util.Testing;
+
+public class EventSpillFileTest {
+
+    private Path directory;
+    private EventSpillFile spillFile;
+
+    @Before
+    public void beforeEach() throws Exception {
+        directory = Testing.Files.createTestingDirectory("spill").toPath();
+        spillFile = new EventSpillFile(directory);
+    }
+
+    @After
+    public void afterEach() {
+        spillFile.close();
+        Testing.Files.delete(directory);
+    }
+
+    @Test
+    public void shouldReplayEventsInOrder() {
+        for (int i = 0; i < 1000; i++) {
+            spillFile.append(insert(i));
+        }
+        assertThat(spillFile.size()).isEqualTo(1000);
+        assertThat(files()).hasSize(1);
+
+        final List<Event> replayed = new ArrayList<>();
+        spillFile.replay(replayed::add);
+
+        assertThat(replayed).hasSize(1000);
+        for (int i = 0; i < replayed.size(); i++) {
+            final EventHeaderV4 header = replayed.get(i).getHeader();
+            final WriteRowsEventData data = replayed.get(i).getData();
+            assertThat(header.getEventType()).isEqualTo(EventType.EXT_WRITE_ROWS);
+            assertThat(header.getNextPosition()).isEqualTo(i);
+            assertThat(data.getRows().get(0)[0]).isEqualTo(i);
+            assertThat(data.getRows().get(0)[1]).isEqualTo("name" + i);
+        }
+    }
+
+    @Test
+    public void shouldDeleteFileWhenCleared() {
+        assertThat(spillFile.isEmpty()).isTrue();
+        assertThat(files()).isEmpty();
+
+        spillFile.append(insert(1));
+        spillFile.clear();
+
+        assertThat(spillFile.isEmpty()).isTrue();
+        assertThat(files()).isEmpty();
+    }
+
+    @Test
+    public void shouldBeReusableAfterClear() {
+        spillFile.append(insert(1));
+        spillFile.replay(event -> {
+        });
+        spillFile.clear();
+
+        spillFile.append(insert(2));
+        final List<Event> replayed = new ArrayList<>();
+        spillFile.replay(replayed::add);
+
+        assertThat(replayed).hasSize(1);
+        assertThat(((EventHeaderV4) replayed.get(0).getHeader()).getNextPosition()).isEqualTo(2);
+    }
+
+    private Event insert(int id) {
+        final EventHeaderV4 header = new EventHeaderV4();
+        header.setEventType(EventType.EXT_WRITE_ROWS);
+        header.setNextPosition(id);
+        final BitSet columns = new BitSet();
+        columns.set(0, 2);
+        final WriteRowsEventData data = new WriteRowsEventData();
+        data.setTableId(1);
+        data.setIncludedColumns(columns);
+        data.setRows(Collections.singletonList(new Serializable[]{ id, "name" + id }));
+        return new Event(header, data);
+    }
+
+    private File[] files() {
+        return directory.toFile().listFiles();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class MutableGtidSetTest {
+
+    private static final String UUID1 = "24bc7850-2c16-11e6-a073-0242ac110002";
+    private static final String UUID2 = "7c1de3f2-3fd2-11e6-9cdc-42010af000bc";
+
+    @Test
+    public void shouldParseAndMergeIntervals() {
+        final MutableGtidSet gtids = new MutableGtidSet(UUID1 + ":1-191:192-199:201-205,\n" + UUID2 + ":1-3");
+        assertThat(gtids.toString()).isEqualTo(UUID1 + ":1-199:201-205," + UUID2 + ":1-3");
+        assertThat(gtids.contains(UUID1 + ":199")).isTrue();
+        assertThat(gtids.contains(UUID1 + ":200")).isFalse();
+        assertThat(gtids.contains(UUID2 + ":4")).isFalse();
+    }
+
+    @Test
+    public void shouldExtendAndJoinIntervals() {
+        final MutableGtidSet gtids = new MutableGtidSet(UUID1 + ":1-10:12-20:30-40");
+
+        assertThat(gtids.add(UUID1 + ":41")).isTrue();
+        assertThat(gtids.toString()).isEqualTo(UUID1 + ":1-10:12-20:30-41");
+
+        assertThat(gtids.add(UUID1 + ":11")).isTrue();
+        assertThat(gtids.toString()).isEqualTo(UUID1 + ":1-20:30-41");
+
+        assertThat(gtids.add(UUID1 + ":25")).isTrue();
+        assertThat(gtids.toString()).isEqualTo(UUID1 + ":1-20:25-25:30-41");
+
+        assertThat(gtids.add(UUID1 + ":15")).isFalse();
+        assertThat(gtids.toString()).isEqualTo(UUID1 + ":1-20:25-25:30-41");
+
+        assertThat(gtids.add(UUID2 + ":5")).isTrue();
+        assertThat(gtids.toString()).isEqualTo(UUID1 + ":1-20:25-25:30-41," + UUID2 + ":5-5");
+    }
+
+    @Test
+    public void shouldStartEmpty() {
+        final MutableGtidSet gtids = new MutableGtidSet("");
+        assertThat(gtids.toString()).isEmpty();
+
+        gtids.add(UUID2 + ":1");
+        gtids.add(UUID1 + ":1");
+        gtids.add(UUID2 + ":2");
+        assertThat(gtids.toString()).isEqualTo(UUID2 + ":1-2," + UUID1 + ":1-1");
+    }
+
+    @Test
+    public void shouldRenderSameStringAsBinlogClientGtidSet() {
+        final Random random = new Random(42);
+        final String initial = UUID1 + ":1-100:200-300," + UUID2 + ":5-10";
+        final MutableGtidSet gtids = new MutableGtidSet(initial);
+        final com.github.shyiko.mysql.binlog.GtidSet expected = new com.github.shyiko.mysql.binlog.GtidSet(initial);
+
+        for (int i = 0; i < 5000; i++) {
+            final String gtid = (random.nextBoolean() ? UUID1 : UUID2) + ":" + (1 + random.nextInt(1000));
+            assertThat(gtids.add(gtid)).isEqualTo(expected.add(gtid));
+            assertThat(gtids.toString()).isEqualTo(expected.toString());
+        }
+    }
+}
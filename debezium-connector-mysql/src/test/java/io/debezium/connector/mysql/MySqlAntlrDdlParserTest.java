@@ -25,14 +25,22 @@
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.fest.assertions.Assertions;
 import org.junit.Before;
 import org.junit.Test;
 
+import io.debezium.antlr.CaseChangingCharStream;
 import io.debezium.config.CommonConnectorConfig.BinaryHandlingMode;
 import io.debezium.connector.mysql.antlr.MySqlAntlrDdlParser;
+import io.debezium.ddl.parser.mysql.generated.MySqlLexer;
+import io.debezium.ddl.parser.mysql.generated.MySqlParser;
 import io.debezium.doc.FixFor;
 import io.debezium.jdbc.JdbcValueConverters;
 import io.debezium.jdbc.TemporalPrecisionMode;
@@ -49,6 +57,7 @@
 import io.debezium.relational.ddl.DdlParser;
 import io.debezium.relational.ddl.DdlParserListener.Event;
 import io.debezium.relational.ddl.SimpleDdlParserListener;
+import io.debezium.text.ParsingException;
 import io.debezium.time.ZonedTimestamp;
 import io.debezium.util.IoUtil;
 import io.debezium.util.SchemaNameAdjuster;
@@ -3048,6 +3057,52 @@ public void shouldParseTimestampDefaultValue() {
         assertThat(getColumnSchema(table, "ts_col").defaultValue()).isEqualTo(toIsoString("2020-01-02 03:04:05"));
     }
 
+    @Test
+    public void shouldParseStatementRequiringFullContextPrediction() {
+        final String statement = "SELECT max(id) FROM _result INTO i";
+        assertThat(parsesWithSllPrediction(statement)).isFalse();
+
+        parser.parse("CREATE TABLE foo (id INT PRIMARY KEY)", tables);
+        parser.parse(statement, tables);
+        parser.parse("ALTER TABLE foo ADD COLUMN c1 INT", tables);
+
+        assertThat(((MySqlAntlrDdlParser) parser).getParsingExceptionsFromWalker().size()).isEqualTo(0);
+        assertThat(tables.forTable(null, null, "foo").retrieveColumnNames()).containsExactly("id", "c1");
+    }
+
+    @Test
+    public void shouldReportErrorsOfInvalidStatement() {
+        parser.parse("CREATE TABLE foo (id INT PRIMARY KEY)", tables);
+        try {
+            parser.parse("CREATE TABLE bar (id INT,)", tables);
+            fail("Invalid statement should not be parsed");
+        }
+        catch (ParsingException e) {
+            assertThat(e.getPosition().line()).isEqualTo(1);
+            assertThat(e.getPosition().column()).isEqualTo(25);
+            assertThat(e.getMessage()).endsWith("no viable alternative at input 'CREATE TABLE bar (id INT,)'");
+        }
+
+        parser.parse("CREATE TABLE bar (id INT)", tables);
+        assertThat(tables.size()).isEqualTo(2);
+    }
+
+    private boolean parsesWithSllPrediction(String statement) {
+        final MySqlLexer lexer = new MySqlLexer(new CaseChangingCharStream(CharStreams.fromString(statement), true));
+        final MySqlParser sllParser = new MySqlParser(new CommonTokenStream(lexer));
+        lexer.removeErrorListeners();
+        sllParser.removeErrorListeners();
+        sllParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        sllParser.setErrorHandler(new BailErrorStrategy());
+        try {
+            sllParser.root();
+            return true;
+        }
+        catch (ParseCancellationException e) {
+            return false;
+        }
+    }
+
     private String toIsoString(String timestamp) {
         return ZonedTimestamp.toIsoString(Timestamp.valueOf(timestamp).toInstant().atZone(ZoneId.systemDefault()), null);
     }
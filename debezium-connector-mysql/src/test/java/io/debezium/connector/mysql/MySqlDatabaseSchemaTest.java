@@ -17,6 +17,7 @@
 
 import io.debezium.config.CommonConnectorConfig.BinaryHandlingMode;
 import io.debezium.config.Configuration;
+import io.debezium.connector.mysql.MySqlDatabaseSchema.TableNumberMapping;
 import io.debezium.doc.FixFor;
 import io.debezium.jdbc.JdbcValueConverters.BigIntUnsignedMode;
 import io.debezium.jdbc.JdbcValueConverters.DecimalMode;
@@ -365,6 +366,47 @@ public void shouldNotStoreNonCapturedTable() {
         assertTableExcluded("non_captured.nct");
     }
 
+    @Test
+    public void shouldCacheTableNumberMappings() {
+        final Configuration config = DATABASE.defaultConfigWithoutDatabaseFilter()
+                .with(MySqlConnectorConfig.TABLE_INCLUDE_LIST, "captured.ct")
+                .build();
+        mysql = getSchema(config);
+        mysql.initializeStorage();
+        final MySqlPartition partition = initializePartition(connectorConfig);
+        final MySqlOffsetContext offset = initializeOffset(connectorConfig);
+        offset.setBinlogStartPoint("binlog-001", 400);
+        mysql.parseStreamingDdl(partition, IoUtil.readClassPathResource("ddl/mysql-schema-captured.ddl"), "db1",
+                offset, Instant.now()).forEach(x -> mysql.applySchemaChange(x));
+
+        final TableNumberMapping captured = mysql.assignTableNumber(1, "captured", "ct");
+        assertThat(captured.isIncluded()).isTrue();
+        assertThat(captured.schema()).isSameAs(mysql.schemaFor(TableId.parse("captured.ct")));
+        assertThat(mysql.assignTableNumber(1, "captured", "ct")).isSameAs(captured);
+        assertThat(mysql.getTableMapping(1)).isSameAs(captured);
+        assertThat(mysql.getTableId(1)).isEqualTo(TableId.parse("captured.ct"));
+
+        final TableNumberMapping nonCaptured = mysql.assignTableNumber(2, "captured", "nct");
+        assertThat(nonCaptured.isIncluded()).isFalse();
+        assertThat(nonCaptured.schema()).isNull();
+        assertThat(mysql.getTableId(2)).isNull();
+
+        // the table number is reused for a different table
+        final TableNumberMapping reused = mysql.assignTableNumber(2, "captured", "ct");
+        assertThat(reused).isNotSameAs(nonCaptured);
+        assertThat(reused.isIncluded()).isTrue();
+
+        // the schema is looked up again after a schema change
+        final TableSchema schemaBeforeAlter = captured.schema();
+        mysql.parseStreamingDdl(partition, "ALTER TABLE captured.ct ADD COLUMN extra INT", "captured",
+                offset, Instant.now()).forEach(x -> mysql.applySchemaChange(x));
+        assertThat(captured.schema()).isNotSameAs(schemaBeforeAlter);
+        assertThat(captured.schema()).isSameAs(mysql.schemaFor(TableId.parse("captured.ct")));
+
+        mysql.clearTableMappings();
+        assertThat(mysql.getTableMapping(1)).isNull();
+    }
+
     protected void assertTableIncluded(String fullyQualifiedTableName) {
         TableId tableId = TableId.parse(fullyQualifiedTableName);
         TableSchema tableSchema = mysql.schemaFor(tableId);
@@ -0,0 +1,66 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+import io.debezium.connector.mysql.antlr.MySqlDdlStatementClassifier;
+import io.debezium.relational.Tables.TableFilter;
+
+public class MySqlDdlStatementClassifierTest {
+
+    private static final TableFilter FILTER = TableFilter.fromPredicate(id -> id.catalog().equals("db") && !id.table().startsWith("ignored"));
+
+    private final MySqlDdlStatementClassifier classifier = new MySqlDdlStatementClassifier(FILTER, false);
+    private final MySqlDdlStatementClassifier excludedTablesClassifier = new MySqlDdlStatementClassifier(FILTER, true);
+
+    @Test
+    public void shouldSkipStatementsNotChangingTables() {
+        assertSkipped("GRANT SELECT ON db.* TO 'user'@'%'");
+        assertSkipped("create user 'app'@'localhost' identified by 'pass;word'");
+        assertSkipped("DROP PROCEDURE IF EXISTS db.p; ALTER USER app IDENTIFIED BY 'x';");
+        assertSkipped("ANALYZE NO_WRITE_TO_BINLOG TABLE db.customers");
+        assertSkipped("/* generated */ RENAME USER a TO b");
+        assertSkipped("CREATE DEFINER=`root`@`%` PROCEDURE `p`() BEGIN DECLARE x INT; CREATE TABLE t (id INT); END");
+        assertSkipped("CREATE DEFINER = CURRENT_USER TRIGGER trg BEFORE INSERT ON db.t FOR EACH ROW SET NEW.x = 1");
+    }
+
+    @Test
+    public void shouldParseStatementsChangingTablesOrVariables() {
+        assertParsed("CREATE TABLE db.customers (id INT)");
+        assertParsed("GRANT ALL ON *.* TO app; CREATE TABLE t (id INT)");
+        assertParsed("SET character_set_server = utf8mb4");
+        assertParsed("USE db");
+        assertParsed("CREATE ALGORITHM=MERGE DEFINER=`root`@`%` VIEW v AS SELECT 1");
+        assertParsed("RENAME TABLE db.ignored_t TO db.t");
+        assertParsed("CREATE USER 'unterminated");
+    }
+
+    @Test
+    public void shouldSkipStatementsChangingOnlyExcludedTables() {
+        assertThat(excludedTablesClassifier.requiresParsing("CREATE TABLE IF NOT EXISTS ignored_t (id INT)", "db")).isFalse();
+        assertThat(excludedTablesClassifier.requiresParsing("ALTER TABLE `db`.`ignored_t` ADD COLUMN c INT", "other")).isFalse();
+        assertThat(excludedTablesClassifier.requiresParsing("DROP TABLE IF EXISTS other.t, `ignored_t` /* generated by server */", "db")).isFalse();
+        assertThat(excludedTablesClassifier.requiresParsing("CREATE UNIQUE INDEX i ON ignored_t (id)", "db")).isFalse();
+        assertThat(excludedTablesClassifier.requiresParsing("TRUNCATE TABLE other.t", null)).isFalse();
+
+        assertThat(excludedTablesClassifier.requiresParsing("CREATE TABLE t (id INT)", "db")).isTrue();
+        assertThat(excludedTablesClassifier.requiresParsing("DROP TABLE ignored_t, t", "db")).isTrue();
+        assertThat(excludedTablesClassifier.requiresParsing("ALTER TABLE ignored_t RENAME TO t", "db")).isTrue();
+        assertThat(excludedTablesClassifier.requiresParsing("CREATE TABLE ignored_t (id INT)", null)).isTrue();
+    }
+
+    private void assertSkipped(String ddl) {
+        assertThat(classifier.requiresParsing(ddl, "db")).isFalse();
+    }
+
+    private void assertParsed(String ddl) {
+        assertThat(classifier.requiresParsing(ddl, "db")).isTrue();
+        assertThat(excludedTablesClassifier.requiresParsing(ddl, "db")).isTrue();
+    }
+}
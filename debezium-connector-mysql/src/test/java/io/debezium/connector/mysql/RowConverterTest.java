@@ -0,0 +1,133 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.mysql.RowConverter.ConvertedRow;
+import io.debezium.data.Envelope;
+import io.debezium.relational.TableId;
+import io.debezium.relational.TableSchema;
+
+public class RowConverterTest {
+
+    private static final int FAILING_ID = 42;
+
+    private final Schema keySchema = SchemaBuilder.struct().field("id", Schema.INT32_SCHEMA).build();
+    private final Schema valueSchema = SchemaBuilder.struct()
+            .field("id", Schema.INT32_SCHEMA)
+            .field("name", Schema.STRING_SCHEMA)
+            .build();
+
+    private RowConverter converter;
+    private TableSchema tableSchema;
+
+    @Before
+    public void beforeEach() {
+        converter = new RowConverter(new MySqlConnectorConfig(Configuration.create()
+                .with(MySqlConnectorConfig.SERVER_NAME, "server")
+                .build()), 4);
+        tableSchema = new TableSchema(new TableId("db", null, "t"), keySchema,
+                row -> new Struct(keySchema).put("id", row[0]),
+                Envelope.defineSchema().withName("server.db.t.Envelope").withRecord(valueSchema).withSource(SchemaBuilder.struct().build()).build(),
+                valueSchema,
+                row -> {
+                    if ((Integer) row[0] == FAILING_ID) {
+                        throw new IllegalArgumentException("Cannot convert row " + FAILING_ID);
+                    }
+                    return new Struct(valueSchema).put("id", row[0]).put("name", row[1]);
+                });
+    }
+
+    @After
+    public void afterEach() {
+        converter.close();
+    }
+
+    @Test
+    public void shouldNotConvertSmallEvents() throws Exception {
+        assertThat(converter.convert(tableSchema, inserts(0, 2 * RowConverter.MIN_ROWS_PER_TASK - 1), 0, row -> null, row -> row)).isNull();
+    }
+
+    @Test
+    public void shouldConvertRowsInOrderStartingAtGivenRow() throws Exception {
+        final List<Serializable[]> rows = inserts(0, 1000);
+        final ConvertedRow[] converted = converter.convert(tableSchema, rows, 10, row -> null, row -> row);
+
+        assertThat(converted).hasSize(990);
+        for (int i = 0; i < converted.length; i++) {
+            final int id = 10 + i;
+            if (id == FAILING_ID) {
+                continue;
+            }
+            assertThat(converted[i].isConvertedWith(tableSchema)).isTrue();
+            assertThat(converted[i].oldKey).isNull();
+            assertThat(converted[i].oldValue).isNull();
+            assertThat(converted[i].newKey.get("id")).isEqualTo(id);
+            assertThat(converted[i].newValue.get("name")).isEqualTo("name" + id);
+        }
+    }
+
+    @Test
+    public void shouldConvertBothStatesOfUpdates() throws Exception {
+        final List<Map.Entry<Serializable[], Serializable[]>> rows = new ArrayList<>();
+        for (int id = 100; id < 200; id++) {
+            rows.add(new AbstractMap.SimpleEntry<>(new Serializable[]{ id, "old" }, new Serializable[]{ id, "new" }));
+        }
+        final ConvertedRow[] converted = converter.convert(tableSchema, rows, 0, Map.Entry::getKey, Map.Entry::getValue);
+
+        assertThat(converted).hasSize(100);
+        assertThat(converted[5].oldKey.get("id")).isEqualTo(105);
+        assertThat(converted[5].oldValue.get("name")).isEqualTo("old");
+        assertThat(converted[5].newKey.get("id")).isEqualTo(105);
+        assertThat(converted[5].newValue.get("name")).isEqualTo("new");
+    }
+
+    @Test
+    public void shouldRaiseConversionFailureWhenRowIsEmitted() throws Exception {
+        final ConvertedRow[] converted = converter.convert(tableSchema, inserts(0, 100), 0, row -> null, row -> row);
+
+        assertThat(converted[FAILING_ID - 1].isConvertedWith(tableSchema)).isTrue();
+        try {
+            converted[FAILING_ID].isConvertedWith(tableSchema);
+            throw new AssertionError("Conversion failure was expected");
+        }
+        catch (IllegalArgumentException e) {
+            assertThat(e.getMessage()).isEqualTo("Cannot convert row " + FAILING_ID);
+        }
+    }
+
+    @Test
+    public void shouldNotUseRowsConvertedWithDifferentSchema() throws Exception {
+        final ConvertedRow[] converted = converter.convert(tableSchema, inserts(0, 100), 0, row -> null, row -> row);
+        final TableSchema otherSchema = new TableSchema(tableSchema.id(), keySchema, row -> null, tableSchema.getEnvelopeSchema(), valueSchema,
+                row -> null);
+
+        assertThat(converted[0].isConvertedWith(otherSchema)).isFalse();
+    }
+
+    private List<Serializable[]> inserts(int from, int to) {
+        final List<Serializable[]> rows = new ArrayList<>();
+        for (int id = from; id < to; id++) {
+            rows.add(new Serializable[]{ id, "name" + id });
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.UpdateRowsEventData;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.ColumnType;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+
+import io.debezium.connector.mysql.RowDeserializers.ExcludedTableRowsFilter;
+
+public class RowDeserializersTest {
+
+    private static final long INCLUDED_TABLE = 1;
+    private static final long EXCLUDED_TABLE = 2;
+    private static final byte[] CHECKSUM = { 9, 8, 7, 6 };
+
+    private final Map<Long, TableMapEventData> tableMapEventByTableId = new HashMap<>();
+    private ExcludedTableRowsFilter rowsFilter;
+
+    @Before
+    public void beforeEach() {
+        tableMapEventByTableId.put(INCLUDED_TABLE, tableMap(INCLUDED_TABLE, "captured"));
+        tableMapEventByTableId.put(EXCLUDED_TABLE, tableMap(EXCLUDED_TABLE, "non_captured"));
+        rowsFilter = new ExcludedTableRowsFilter(tableMapEventByTableId, id -> id.table().equals("captured"));
+    }
+
+    @Test
+    public void shouldDeserializeRowsOfIncludedTable() throws Exception {
+        final ByteArrayInputStream input = event(INCLUDED_TABLE, 1, 2, 3);
+        final WriteRowsEventData data = new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId, rowsFilter).deserialize(input);
+
+        assertThat(data.getRows()).hasSize(3);
+        assertThat(data.getRows().get(2)[0]).isEqualTo(3);
+        assertChecksumRemains(input);
+    }
+
+    @Test
+    public void shouldSkipRowsOfExcludedTable() throws Exception {
+        final ByteArrayInputStream input = event(EXCLUDED_TABLE, 1, 2, 3);
+        final WriteRowsEventData data = new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId, rowsFilter).deserialize(input);
+
+        assertThat(data.getTableId()).isEqualTo(EXCLUDED_TABLE);
+        assertThat(data.getRows()).isEmpty();
+        assertChecksumRemains(input);
+    }
+
+    @Test
+    public void shouldSkipBothStatesOfUpdatedRowsOfExcludedTable() throws Exception {
+        final ByteArrayInputStream input = event(EXCLUDED_TABLE, 1, 2, 3, 4);
+        final UpdateRowsEventData data = new RowDeserializers.UpdateRowsDeserializer(tableMapEventByTableId, rowsFilter).deserialize(input);
+
+        assertThat(data.getRows()).isEmpty();
+        assertChecksumRemains(input);
+    }
+
+    @Test
+    public void shouldDecideAgainWhenTableNumberIsReused() throws Exception {
+        assertThat(rowsFilter.isExcluded(EXCLUDED_TABLE)).isTrue();
+
+        tableMapEventByTableId.put(EXCLUDED_TABLE, tableMap(EXCLUDED_TABLE, "captured"));
+        assertThat(rowsFilter.isExcluded(EXCLUDED_TABLE)).isFalse();
+
+        assertThat(rowsFilter.isExcluded(42)).isFalse();
+    }
+
+    private TableMapEventData tableMap(long tableId, String table) {
+        final TableMapEventData tableMap = new TableMapEventData();
+        tableMap.setTableId(tableId);
+        tableMap.setDatabase("db");
+        tableMap.setTable(table);
+        tableMap.setColumnTypes(new byte[]{ (byte) ColumnType.LONG.getCode() });
+        tableMap.setColumnMetadata(new int[]{ 0 });
+        final BitSet nullability = new BitSet();
+        nullability.set(0);
+        tableMap.setColumnNullability(nullability);
+        return tableMap;
+    }
+
+    /**
+     * Creates the body of a rows event of a table with a single {@code INT} column, followed by the checksum of the event.
+     */
+    private ByteArrayInputStream event(long tableId, int... values) {
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeLittleEndian(body, tableId, 6);
+        writeLittleEndian(body, 0, 2); // flags
+        body.write(1); // number of columns
+        body.write(0x01); // included columns
+        for (int value : values) {
+            body.write(0x00); // null columns
+            writeLittleEndian(body, value, 4);
+        }
+        final int bodyLength = body.size();
+        body.write(CHECKSUM, 0, CHECKSUM.length);
+
+        final ByteArrayInputStream input = new ByteArrayInputStream(body.toByteArray());
+        input.enterBlock(bodyLength);
+        return input;
+    }
+
+    private void writeLittleEndian(ByteArrayOutputStream out, long value, int length) {
+        for (int i = 0; i < length; i++) {
+            out.write((int) (value >>> (8 * i)) & 0xFF);
+        }
+    }
+
+    private void assertChecksumRemains(ByteArrayInputStream input) throws Exception {
+        assertThat(input.available()).isEqualTo(0);
+        input.skipToTheEndOfTheBlock();
+        assertThat(input.read(CHECKSUM.length)).isEqualTo(CHECKSUM);
+    }
+}
@@ -1284,6 +1284,11 @@ protected SourceInfoStructMaker<? extends AbstractSourceInfo> getSourceInfoStruc
                     SCHEMA_REFRESH_MODE,
                     TRUNCATE_HANDLING_MODE,
                     INCREMENTAL_SNAPSHOT_CHUNK_SIZE,
+                    INCREMENTAL_SNAPSHOT_CHUNK_SIZE_ADAPTIVE,
+                    INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MIN,
+                    INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MAX,
+                    INCREMENTAL_SNAPSHOT_CHUNK_TARGET_DURATION_MS,
+                    INCREMENTAL_SNAPSHOT_WINDOW_MAX_BYTES,
                     UNAVAILABLE_VALUE_PLACEHOLDER,
                     LOGICAL_DECODING_MESSAGE_PREFIX_INCLUDE_LIST,
                     LOGICAL_DECODING_MESSAGE_PREFIX_EXCLUDE_LIST)
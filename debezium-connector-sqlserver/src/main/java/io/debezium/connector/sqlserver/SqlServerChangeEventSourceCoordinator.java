@@ -14,7 +14,6 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.debezium.config.CommonConnectorConfig;
 import io.debezium.connector.common.CdcSourceTaskContext;
 import io.debezium.pipeline.ChangeEventSourceCoordinator;
 import io.debezium.pipeline.ErrorHandler;
@@ -40,10 +39,11 @@ public class SqlServerChangeEventSourceCoordinator extends ChangeEventSourceCoor
 
     private final Clock clock;
     private final Duration pollInterval;
+    private final Duration maxPollInterval;
 
     public SqlServerChangeEventSourceCoordinator(Offsets<SqlServerPartition, SqlServerOffsetContext> previousOffsets, ErrorHandler errorHandler,
                                                  Class<? extends SourceConnector> connectorType,
-                                                 CommonConnectorConfig connectorConfig,
+                                                 SqlServerConnectorConfig connectorConfig,
                                                  ChangeEventSourceFactory<SqlServerPartition, SqlServerOffsetContext> changeEventSourceFactory,
                                                  ChangeEventSourceMetricsFactory changeEventSourceMetricsFactory, EventDispatcher<?> eventDispatcher,
                                                  DatabaseSchema<?> schema,
@@ -52,6 +52,7 @@ public SqlServerChangeEventSourceCoordinator(Offsets<SqlServerPartition, SqlServ
                 changeEventSourceMetricsFactory, eventDispatcher, schema);
         this.clock = clock;
         this.pollInterval = connectorConfig.getPollInterval();
+        this.maxPollInterval = connectorConfig.getMaxPollInterval();
     }
 
     @Override
@@ -85,6 +86,9 @@ private void streamEvents(ChangeEventSourceContext context, Offsets<SqlServerPar
 
         initStreamEvents(offsetContext);
         final Metronome metronome = Metronome.sleeper(pollInterval, clock);
+        // Backs off while there are no changes and polls immediately as long as an iteration streams changes
+        final boolean idleBackoff = maxPollInterval.compareTo(pollInterval) > 0;
+        Duration idleDelay = pollInterval;
 
         LOGGER.info("Starting streaming");
 
@@ -101,8 +105,18 @@ private void streamEvents(ChangeEventSourceContext context, Offsets<SqlServerPar
                 }
             }
 
-            if (!streamedEvents) {
-                metronome.pause();
+            if (!idleBackoff) {
+                if (!streamedEvents) {
+                    metronome.pause();
+                }
+            }
+            else if (streamedEvents) {
+                idleDelay = pollInterval;
+            }
+            else {
+                Metronome.sleeper(idleDelay, clock).pause();
+                final Duration nextIdleDelay = idleDelay.multipliedBy(2);
+                idleDelay = nextIdleDelay.compareTo(maxPollInterval) < 0 ? nextIdleDelay : maxPollInterval;
             }
         }
 
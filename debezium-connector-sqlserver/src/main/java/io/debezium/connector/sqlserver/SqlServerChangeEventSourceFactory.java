@@ -26,20 +26,25 @@ public class SqlServerChangeEventSourceFactory implements ChangeEventSourceFacto
     private final SqlServerConnectorConfig configuration;
     private final SqlServerConnection dataConnection;
     private final SqlServerConnection metadataConnection;
+    private final SqlServerChangeTableFetcher changeTableFetcher;
     private final ErrorHandler errorHandler;
     private final EventDispatcher<TableId> dispatcher;
     private final Clock clock;
     private final SqlServerDatabaseSchema schema;
+    private final SqlServerStreamingChangeEventSourceMetrics streamingMetrics;
 
     public SqlServerChangeEventSourceFactory(SqlServerConnectorConfig configuration, SqlServerConnection dataConnection, SqlServerConnection metadataConnection,
-                                             ErrorHandler errorHandler, EventDispatcher<TableId> dispatcher, Clock clock, SqlServerDatabaseSchema schema) {
+                                             SqlServerChangeTableFetcher changeTableFetcher, ErrorHandler errorHandler, EventDispatcher<TableId> dispatcher, Clock clock,
+                                             SqlServerDatabaseSchema schema, SqlServerStreamingChangeEventSourceMetrics streamingMetrics) {
         this.configuration = configuration;
         this.dataConnection = dataConnection;
         this.metadataConnection = metadataConnection;
+        this.changeTableFetcher = changeTableFetcher;
         this.errorHandler = errorHandler;
         this.dispatcher = dispatcher;
         this.clock = clock;
         this.schema = schema;
+        this.streamingMetrics = streamingMetrics;
     }
 
     @Override
@@ -54,10 +59,12 @@ public StreamingChangeEventSource<SqlServerPartition, SqlServerOffsetContext> ge
                 configuration,
                 dataConnection,
                 metadataConnection,
+                changeTableFetcher,
                 dispatcher,
                 errorHandler,
                 clock,
-                schema);
+                schema,
+                streamingMetrics);
     }
 
     @Override
@@ -0,0 +1,31 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.sqlserver;
+
+import io.debezium.connector.base.ChangeEventQueueMetrics;
+import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.pipeline.metrics.DefaultChangeEventSourceMetricsFactory;
+import io.debezium.pipeline.metrics.StreamingChangeEventSourceMetrics;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+
+/**
+ * Provides the SQL Server specific streaming metrics, which are created up front as the streaming source updates them.
+ */
+public class SqlServerChangeEventSourceMetricsFactory extends DefaultChangeEventSourceMetricsFactory {
+
+    private final SqlServerStreamingChangeEventSourceMetrics streamingMetrics;
+
+    public SqlServerChangeEventSourceMetricsFactory(SqlServerStreamingChangeEventSourceMetrics streamingMetrics) {
+        this.streamingMetrics = streamingMetrics;
+    }
+
+    @Override
+    public <T extends CdcSourceTaskContext> StreamingChangeEventSourceMetrics getStreamingMetrics(T taskContext,
+                                                                                                  ChangeEventQueueMetrics changeEventQueueMetrics,
+                                                                                                  EventMetadataProvider eventMetadataProvider) {
+        return streamingMetrics;
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.sqlserver;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.relational.Table;
+import io.debezium.util.Clock;
+import io.debezium.util.ColumnUtils;
+import io.debezium.util.Threads;
+
+/**
+ * Reads the changes of multiple change tables concurrently, each of the given connections reading a subset of the
+ * tables. The changes read are buffered in a bounded queue per table and are exposed as
+ * {@link SqlServerChangeTablePointer}s, so that they are merged in the order of their position in the transaction log
+ * exactly like the changes read from a single connection.
+ */
+class SqlServerChangeTableFetcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlServerChangeTableFetcher.class);
+
+    private static final Duration SHUTDOWN_WAIT_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * The maximum number of changes buffered per change table.
+     */
+    static final int BUFFERED_CHANGES_PER_TABLE = 1024;
+
+    private final List<SqlServerConnection> connections;
+    private final SourceTimestampMode sourceTimestampMode;
+    private final Clock clock;
+    private final ExecutorService executor;
+
+    SqlServerChangeTableFetcher(SqlServerConnectorConfig connectorConfig, List<SqlServerConnection> connections, Clock clock) {
+        this.connections = connections;
+        this.sourceTimestampMode = connectorConfig.getSourceTimestampMode();
+        this.clock = clock;
+        this.executor = Executors.newFixedThreadPool(connections.size(),
+                Threads.threadFactory(SqlServerConnector.class, connectorConfig.getLogicalName(), "change-table-fetcher", true, true));
+    }
+
+    /**
+     * Reads the changes of the given tables in the given interval and passes the pointers to the changes to the
+     * consumer. The pointers are valid only during the invocation of the consumer.
+     */
+    void fetch(String databaseName, SqlServerChangeTable[] tables, Lsn fromLsn, Lsn toLsn, ChangeTablePointersConsumer consumer)
+            throws SQLException, InterruptedException {
+        final int fetcherCount = Math.min(connections.size(), tables.length);
+        final BufferedChangeTablePointer[] pointers = new BufferedChangeTablePointer[tables.length];
+        final AtomicBoolean stopped = new AtomicBoolean();
+        final List<Future<?>> futures = new ArrayList<>(fetcherCount);
+
+        final Semaphore[] spaceAvailable = new Semaphore[fetcherCount];
+        for (int i = 0; i < fetcherCount; i++) {
+            spaceAvailable[i] = new Semaphore(0);
+        }
+        for (int i = 0; i < tables.length; i++) {
+            pointers[i] = new BufferedChangeTablePointer(tables[i], sourceTimestampMode, spaceAvailable[i % fetcherCount]);
+        }
+        for (int i = 0; i < fetcherCount; i++) {
+            final SqlServerConnection connection = connections.get(i);
+            final List<SqlServerChangeTable> fetcherTables = new ArrayList<>();
+            final List<BufferedChangeTablePointer> fetcherPointers = new ArrayList<>();
+            for (int j = i; j < tables.length; j += fetcherCount) {
+                fetcherTables.add(tables[j]);
+                fetcherPointers.add(pointers[j]);
+            }
+            final Semaphore fetcherSpaceAvailable = spaceAvailable[i];
+            futures.add(executor.submit(() -> {
+                read(connection, databaseName, fetcherTables.toArray(new SqlServerChangeTable[0]), fromLsn, toLsn, fetcherPointers,
+                        fetcherSpaceAvailable, stopped);
+                return null;
+            }));
+        }
+
+        boolean completed = false;
+        try {
+            consumer.accept(pointers);
+            completed = true;
+        }
+        finally {
+            if (!completed) {
+                stopped.set(true);
+                for (Semaphore semaphore : spaceAvailable) {
+                    semaphore.release();
+                }
+            }
+            awaitFetchers(futures, completed);
+        }
+    }
+
+    /**
+     * Stops the fetcher threads; the connections are not closed and remain owned by the caller.
+     */
+    void close() {
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_WAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Change table fetcher threads did not stop within {}", SHUTDOWN_WAIT_TIMEOUT);
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void read(SqlServerConnection connection, String databaseName, SqlServerChangeTable[] tables, Lsn fromLsn, Lsn toLsn,
+                      List<BufferedChangeTablePointer> pointers, Semaphore spaceAvailable, AtomicBoolean stopped)
+            throws SQLException, InterruptedException {
+        try {
+            connection.getChangesForTables(databaseName, tables, fromLsn, toLsn, resultSets -> {
+                final SqlServerChangeTablePointer[] changeTables = new SqlServerChangeTablePointer[resultSets.length];
+                final int[] columnCounts = new int[resultSets.length];
+                for (int i = 0; i < resultSets.length; i++) {
+                    changeTables[i] = new SqlServerChangeTablePointer(tables[i], resultSets[i], sourceTimestampMode);
+                    final List<String> columnNames = changeTables[i].getResultColumnNames();
+                    columnCounts[i] = columnNames.size();
+                    pointers.get(i).setResultColumnNames(columnNames);
+                }
+
+                int remaining = changeTables.length;
+                while (remaining > 0 && !stopped.get()) {
+                    boolean buffered = false;
+                    // Reading the tables in turns keeps all queues filled so the merge never waits for a single table
+                    for (int i = 0; i < changeTables.length; i++) {
+                        final SqlServerChangeTablePointer changeTable = changeTables[i];
+                        final BufferedChangeTablePointer pointer = pointers.get(i);
+                        if (changeTable.isCompleted() || !pointer.hasSpace()) {
+                            continue;
+                        }
+                        if (changeTable.next()) {
+                            pointer.add(new BufferedChange(changeTable.getChangePosition(), changeTable.getOperation(),
+                                    changeTable.getResultColumnValues(columnCounts[i]),
+                                    sourceTimestampMode == SourceTimestampMode.COMMIT ? changeTable.getSourceTimestamp(clock) : null));
+                        }
+                        else {
+                            pointer.add(BufferedChange.END);
+                            remaining--;
+                        }
+                        buffered = true;
+                    }
+                    if (!buffered) {
+                        spaceAvailable.acquire();
+                        spaceAvailable.drainPermits();
+                    }
+                }
+            });
+        }
+        catch (SQLException | RuntimeException | InterruptedException e) {
+            final Exception failure = e instanceof InterruptedException ? new DebeziumException("Interrupted while reading change tables", e) : e;
+            for (BufferedChangeTablePointer pointer : pointers) {
+                pointer.fail(failure);
+            }
+            throw e;
+        }
+        finally {
+            // Terminate the transaction otherwise CDC could not be disabled for tables
+            connection.rollback();
+        }
+    }
+
+    private void awaitFetchers(List<Future<?>> futures, boolean propagateFailure) throws SQLException, InterruptedException {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            }
+            catch (ExecutionException e) {
+                if (!propagateFailure) {
+                    LOGGER.debug("Reading of change tables failed after the processing of changes failed", e.getCause());
+                }
+                else if (e.getCause() instanceof SQLException) {
+                    throw (SQLException) e.getCause();
+                }
+                else {
+                    throw new DebeziumException("Failed to read change tables", e.getCause());
+                }
+            }
+        }
+    }
+
+    /**
+     * Processes the pointers to the changes of the change tables.
+     */
+    @FunctionalInterface
+    interface ChangeTablePointersConsumer {
+        void accept(SqlServerChangeTablePointer[] changeTables) throws SQLException, InterruptedException;
+    }
+
+    /**
+     * A change read from a change table.
+     */
+    private static class BufferedChange {
+
+        static final BufferedChange END = new BufferedChange(TxLogPosition.NULL, 0, null, null);
+
+        final TxLogPosition position;
+        final int operation;
+        final Object[] values;
+        final Instant timestamp;
+
+        BufferedChange(TxLogPosition position, int operation, Object[] values, Instant timestamp) {
+            this.position = position;
+            this.operation = operation;
+            this.values = values;
+            this.timestamp = timestamp;
+        }
+    }
+
+    /**
+     * A pointer to the changes of a change table that have been read by a fetcher thread.
+     */
+    private static class BufferedChangeTablePointer extends SqlServerChangeTablePointer {
+
+        private final BlockingQueue<Object> changes = new ArrayBlockingQueue<>(BUFFERED_CHANGES_PER_TABLE + 1);
+        private final Semaphore spaceAvailable;
+        private volatile List<String> resultColumnNames;
+        private Table mappedTable;
+        private ColumnUtils.MappedColumns columnMap;
+        private IndicesMapping indicesMapping;
+        private BufferedChange current;
+        private TxLogPosition previousPosition;
+        private boolean completed;
+
+        BufferedChangeTablePointer(SqlServerChangeTable changeTable, SourceTimestampMode sourceTimestampMode, Semaphore spaceAvailable) {
+            super(changeTable, null, sourceTimestampMode);
+            this.spaceAvailable = spaceAvailable;
+        }
+
+        void setResultColumnNames(List<String> resultColumnNames) {
+            this.resultColumnNames = resultColumnNames;
+        }
+
+        /**
+         * @return whether a change can be added; one place is always kept free for the end of the changes or a failure
+         */
+        boolean hasSpace() {
+            return changes.remainingCapacity() > 1;
+        }
+
+        void add(BufferedChange change) {
+            changes.add(change);
+        }
+
+        void fail(Exception e) {
+            // The place kept free is taken only if the end of the changes has been added already, the failure can be ignored then
+            changes.offer(e);
+        }
+
+        @Override
+        public boolean next() throws SQLException {
+            final Object next;
+            try {
+                next = changes.take();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DebeziumException("Interrupted while waiting for changes of table " + getChangeTable(), e);
+            }
+            spaceAvailable.release();
+            if (next instanceof SQLException) {
+                throw (SQLException) next;
+            }
+            else if (next instanceof RuntimeException) {
+                throw (RuntimeException) next;
+            }
+            previousPosition = current != null ? current.position : null;
+            current = (BufferedChange) next;
+            completed = current == BufferedChange.END;
+            return !completed;
+        }
+
+        @Override
+        public TxLogPosition getChangePosition() {
+            return current.position;
+        }
+
+        @Override
+        protected TxLogPosition getPreviousChangePosition() {
+            return previousPosition;
+        }
+
+        @Override
+        public boolean isCurrentPositionSmallerThanPreviousPosition() {
+            return previousPosition != null && previousPosition.compareTo(current.position) > 0;
+        }
+
+        @Override
+        public boolean isCompleted() {
+            return completed;
+        }
+
+        @Override
+        public int getOperation() {
+            return current.operation;
+        }
+
+        @Override
+        protected Instant getSourceTimestamp(Clock clock) {
+            return current.timestamp != null ? current.timestamp : clock.currentTime();
+        }
+
+        /**
+         * The values are put into the order of the columns of the table here rather than on the fetcher thread, as
+         * the table schema might be migrated while the changes are processed.
+         */
+        @Override
+        public Object[] getData() {
+            final Table table = getChangeTable().getSourceTable();
+            if (table != mappedTable) {
+                columnMap = ColumnUtils.toMap(table);
+                indicesMapping = new IndicesMapping(columnMap.getSourceTableColumns(), resultColumnNames);
+                mappedTable = table;
+            }
+            final Object[] data = new Object[columnMap.getGreatestColumnPosition()];
+            for (int i = 0; i < current.values.length; i++) {
+                final int index = indicesMapping.getSourceTableColumnIndex(i);
+                if (index != INVALID_COLUMN_INDEX) {
+                    data[index] = current.values[i];
+                }
+            }
+            return data;
+        }
+
+        @Override
+        public String toString() {
+            return "BufferedChangeTablePointer{" +
+                    "changeTable=" + getChangeTable() +
+                    ", completed=" + completed +
+                    ", currentChangePosition=" + (current != null ? current.position : null) +
+                    '}';
+        }
+    }
+}
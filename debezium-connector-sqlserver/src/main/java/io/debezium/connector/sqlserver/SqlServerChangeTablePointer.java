@@ -8,6 +8,7 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,6 +20,7 @@
 import io.debezium.pipeline.source.spi.ChangeTableResultSet;
 import io.debezium.relational.Column;
 import io.debezium.relational.Table;
+import io.debezium.util.Clock;
 import io.debezium.util.ColumnUtils;
 
 /**
@@ -36,12 +38,12 @@ public class SqlServerChangeTablePointer extends ChangeTableResultSet<SqlServerC
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SqlServerChangeTablePointer.class);
 
-    private static final int INVALID_COLUMN_INDEX = -1;
+    static final int INVALID_COLUMN_INDEX = -1;
 
     private static final int COL_COMMIT_LSN = 1;
     private static final int COL_ROW_LSN = 2;
     private static final int COL_OPERATION = 3;
-    private static final int COL_DATA = 5;
+    static final int COL_DATA = 5;
 
     private ResultSetMapper<Object[]> resultSetMapper;
     private final ResultSet resultSet;
@@ -60,6 +62,31 @@ protected ResultSet getResultSet() {
         return resultSet;
     }
 
+    /**
+     * @return the timestamp of the current change to be put in the source metadata of the event
+     */
+    protected Instant getSourceTimestamp(Clock clock) throws SQLException {
+        return sourceTimestampMode.getTimestamp(clock, resultSet);
+    }
+
+    /**
+     * @return the names of the captured columns in the order of the result set
+     */
+    List<String> getResultColumnNames() throws SQLException {
+        return sourceTimestampMode.getResultColumnNames(resultSet.getMetaData(), columnDataOffset);
+    }
+
+    /**
+     * @return the values of the captured columns of the current change in the order of the result set
+     */
+    Object[] getResultColumnValues(int columnCount) throws SQLException {
+        final Object[] values = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            values[i] = getColumnData(resultSet, columnDataOffset + i);
+        }
+        return values;
+    }
+
     @Override
     protected int getOperation(ResultSet resultSet) throws SQLException {
         return resultSet.getInt(COL_OPERATION);
@@ -129,7 +156,7 @@ private ResultSetMapper<Object[]> createResultSetMapper(Table table) throws SQLE
         };
     }
 
-    private class IndicesMapping {
+    static class IndicesMapping {
 
         private final Map<Integer, Integer> mapping;
 
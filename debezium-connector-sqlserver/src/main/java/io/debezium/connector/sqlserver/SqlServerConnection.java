@@ -39,6 +39,7 @@
 import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
 import io.debezium.schema.DatabaseSchema;
+import io.debezium.util.HexConverter;
 
 /**
  * {@link JdbcConnection} extension to be used with Microsoft SQL Server
@@ -63,6 +64,8 @@ public class SqlServerConnection extends JdbcConnection {
     private static final String DATABASE_NAME_PLACEHOLDER = "#db";
     private static final String GET_MAX_LSN = "SELECT [#db].sys.fn_cdc_get_max_lsn()";
     private static final String GET_MAX_TRANSACTION_LSN = "SELECT MAX(start_lsn) FROM [#db].cdc.lsn_time_mapping WHERE tran_id <> 0x00";
+    private static final String GET_TRANSACTION_COUNT_AFTER_LSN = "SELECT COUNT(*) FROM [#db].cdc.lsn_time_mapping WHERE start_lsn > ? AND tran_id <> 0x00";
+    private static final String GET_TRANSACTION_COUNT_BETWEEN_LSNS = "SELECT COUNT(*) FROM [#db].cdc.lsn_time_mapping WHERE start_lsn >= ? AND start_lsn <= ? AND tran_id <> 0x00";
     private static final String GET_NTH_TRANSACTION_LSN_FROM_BEGINNING = "SELECT MAX(start_lsn) FROM (SELECT TOP (?) start_lsn FROM [#db].cdc.lsn_time_mapping WHERE tran_id <> 0x00 ORDER BY start_lsn) as next_lsns";
     private static final String GET_NTH_TRANSACTION_LSN_FROM_LAST = "SELECT MAX(start_lsn) FROM (SELECT TOP (? + 1) start_lsn FROM [#db].cdc.lsn_time_mapping WHERE start_lsn >= ? AND tran_id <> 0x00 ORDER BY start_lsn) as next_lsns";
 
@@ -102,6 +105,10 @@ public class SqlServerConnection extends JdbcConnection {
             " FROM ordered_change_tables WHERE ct_sequence = 1";
 
     private static final String GET_NEW_CHANGE_TABLES = "SELECT * FROM [#db].cdc.change_tables WHERE start_lsn BETWEEN ? AND ?";
+    /**
+     * The number of change tables probed for changes by a single statement.
+     */
+    private static final int CHANGE_TABLES_PER_PROBE = 200;
     private static final String OPENING_QUOTING_CHARACTER = "[";
     private static final String CLOSING_QUOTING_CHARACTER = "]";
 
@@ -267,6 +274,26 @@ public Lsn getNthTransactionLsnFromLast(String databaseName, Lsn lastLsn, int ma
         }, "Nth LSN query must return exactly one value"));
     }
 
+    /**
+     * @return the number of transactions recorded after the given log sequence number
+     */
+    public long getTransactionCountAfter(String databaseName, Lsn lsn) throws SQLException {
+        return prepareQueryAndMap(replaceDatabaseNamePlaceholder(GET_TRANSACTION_COUNT_AFTER_LSN, databaseName), statement -> {
+            statement.setBytes(1, lsn.getBinary());
+        }, singleResultMapper(rs -> rs.getLong(1), "Transaction count query must return exactly one value"));
+    }
+
+    /**
+     * @return the number of transactions recorded in the given interval, including the transactions of the tables
+     *         not captured by the connector
+     */
+    public long getTransactionCount(String databaseName, Lsn fromLsn, Lsn toLsn) throws SQLException {
+        return prepareQueryAndMap(replaceDatabaseNamePlaceholder(GET_TRANSACTION_COUNT_BETWEEN_LSNS, databaseName), statement -> {
+            statement.setBytes(1, fromLsn.isAvailable() ? fromLsn.getBinary() : new byte[toLsn.getBinary().length]);
+            statement.setBytes(2, toLsn.getBinary());
+        }, singleResultMapper(rs -> rs.getLong(1), "Transaction count query must return exactly one value"));
+    }
+
     /**
      * @return the log sequence number of the most recent transaction.
      */
@@ -329,6 +356,55 @@ public void getChangesForTables(String databaseName, SqlServerChangeTable[] chan
         prepareQuery(queries, preparers, consumer);
     }
 
+    /**
+     * Determines the change tables that contain changes in the given interval, so that the functions providing
+     * the changes need to be queried only for these tables. The change tables are probed by few statements, each
+     * of them checking the existence of a change in the clustered index of many change tables.
+     *
+     * @param databaseName - the name of the database to query
+     * @param changeTables - the candidate tables
+     * @param intervalFromLsn - closed lower bound of the interval, may be not available
+     * @param intervalToLsn  - closed upper bound of the interval
+     * @return the change tables with changes in the interval, in the order of the candidate tables
+     * @throws SQLException
+     */
+    public SqlServerChangeTable[] getChangedTables(String databaseName, SqlServerChangeTable[] changeTables, Lsn intervalFromLsn,
+                                                   Lsn intervalToLsn)
+            throws SQLException {
+        // The LSNs are inlined as binary literals, a single statement could exceed the limit of parameters otherwise
+        final String range = intervalFromLsn.isAvailable()
+                ? "BETWEEN 0x" + HexConverter.convertToHexString(intervalFromLsn.getBinary()) + " AND 0x"
+                        + HexConverter.convertToHexString(intervalToLsn.getBinary())
+                : "<= 0x" + HexConverter.convertToHexString(intervalToLsn.getBinary());
+        final boolean[] changed = new boolean[changeTables.length];
+        for (int from = 0; from < changeTables.length; from += CHANGE_TABLES_PER_PROBE) {
+            final StringBuilder query = new StringBuilder();
+            for (int i = from; i < Math.min(changeTables.length, from + CHANGE_TABLES_PER_PROBE); i++) {
+                if (i > from) {
+                    query.append(" UNION ALL ");
+                }
+                query.append("SELECT ").append(i)
+                        .append(" WHERE EXISTS (SELECT 1 FROM [").append(databaseName)
+                        .append("].cdc.[").append(changeTables[i].getCaptureInstance())
+                        .append("_CT] WHERE [__$start_lsn] ").append(range).append(')');
+            }
+            query(query.toString(), rs -> {
+                while (rs.next()) {
+                    changed[rs.getInt(1)] = true;
+                }
+            });
+        }
+
+        final List<SqlServerChangeTable> changedTables = new ArrayList<>();
+        for (int i = 0; i < changeTables.length; i++) {
+            if (changed[i]) {
+                changedTables.add(changeTables[i]);
+            }
+        }
+        LOGGER.trace("Tables with changes in range[{}, {}] are {}", intervalFromLsn, intervalToLsn, changedTables);
+        return changedTables.toArray(new SqlServerChangeTable[changedTables.size()]);
+    }
+
     private Lsn getFromLsn(String databaseName, SqlServerChangeTable changeTable, Lsn intervalFromLsn) throws SQLException {
         Lsn fromLsn = changeTable.getStartLsn().compareTo(intervalFromLsn) > 0 ? changeTable.getStartLsn() : intervalFromLsn;
         return fromLsn.getBinary() != null ? fromLsn : getMinLsn(databaseName, changeTable.getCaptureInstance());
@@ -6,6 +6,7 @@
 package io.debezium.connector.sqlserver;
 
 import java.time.DateTimeException;
+import java.time.Duration;
 import java.time.ZoneId;
 
 import org.apache.kafka.common.config.ConfigDef;
@@ -283,6 +284,38 @@ public static SnapshotIsolationMode parse(String value, String defaultValue) {
             .withValidation(Field::isNonNegativeInteger)
             .withDescription("This property can be used to reduce the connector memory usage footprint when changes are streamed from multiple tables per database.");
 
+    public static final Field MAX_CHANGES_PER_ITERATION = Field.create("max.iteration.changes")
+            .withDisplayName("Max changes per iteration")
+            .withDefault(0)
+            .withType(Type.INT)
+            .withImportance(Importance.LOW)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("The number of changes an iteration should read. When set, the number of transactions read per iteration "
+                    + "is adapted to the number of changes per transaction observed in the previous iterations, still not exceeding '"
+                    + MAX_TRANSACTIONS_PER_ITERATION_CONFIG_NAME + "' if that is set. "
+                    + "Defaults to 0, which reads all available transactions or the number given by '" + MAX_TRANSACTIONS_PER_ITERATION_CONFIG_NAME + "'.");
+
+    public static final Field MAX_POLL_INTERVAL_MS = Field.create("poll.interval.max.ms")
+            .withDisplayName("Max poll interval (ms)")
+            .withDefault(0L)
+            .withType(Type.LONG)
+            .withImportance(Importance.LOW)
+            .withValidation(Field::isNonNegativeLong)
+            .withDescription("The maximum time to wait for new changes after receiving no changes, given in milliseconds. When greater than '"
+                    + POLL_INTERVAL_MS.name() + "', the wait starts at '" + POLL_INTERVAL_MS.name()
+                    + "' and doubles with every poll without changes up to this value. "
+                    + "Defaults to 0, which always waits '" + POLL_INTERVAL_MS.name() + "'.");
+
+    public static final Field STREAMING_FETCH_THREADS = Field.create("streaming.fetch.threads")
+            .withDisplayName("Streaming fetch threads")
+            .withDefault(1)
+            .withType(Type.INT)
+            .withImportance(Importance.LOW)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The number of threads, each using its own database connection, that read the changes of the captured tables "
+                    + "in an iteration concurrently. The changes are still emitted in the order of their position in the transaction log. "
+                    + "Defaults to 1, which reads all change tables sequentially on a single connection.");
+
     public static final Field SOURCE_TIMESTAMP_MODE = Field.create(SOURCE_TIMESTAMP_MODE_CONFIG_NAME)
             .withDisplayName("Source timestamp mode")
             .withDefault(SourceTimestampMode.COMMIT.getValue())
@@ -352,9 +385,17 @@ public static SnapshotIsolationMode parse(String value, String defaultValue) {
                     SNAPSHOT_ISOLATION_MODE,
                     SOURCE_TIMESTAMP_MODE,
                     MAX_TRANSACTIONS_PER_ITERATION,
+                    MAX_CHANGES_PER_ITERATION,
+                    MAX_POLL_INTERVAL_MS,
+                    STREAMING_FETCH_THREADS,
                     BINARY_HANDLING_MODE,
                     INCREMENTAL_SNAPSHOT_OPTION_RECOMPILE,
                     INCREMENTAL_SNAPSHOT_CHUNK_SIZE,
+                    INCREMENTAL_SNAPSHOT_CHUNK_SIZE_ADAPTIVE,
+                    INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MIN,
+                    INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MAX,
+                    INCREMENTAL_SNAPSHOT_CHUNK_TARGET_DURATION_MS,
+                    INCREMENTAL_SNAPSHOT_WINDOW_MAX_BYTES,
                     INCREMENTAL_SNAPSHOT_ALLOW_SCHEMA_CHANGES)
             .excluding(
                     SCHEMA_WHITELIST,
@@ -379,6 +420,9 @@ public static ConfigDef configDef() {
     private final SourceTimestampMode sourceTimestampMode;
     private final boolean readOnlyDatabaseConnection;
     private final int maxTransactionsPerIteration;
+    private final int maxChangesPerIteration;
+    private final Duration maxPollInterval;
+    private final int streamingFetchThreads;
     private final boolean multiPartitionMode;
     private final boolean optionRecompile;
 
@@ -417,6 +461,9 @@ else if (databaseNames != null) {
 
         this.sourceTimestampMode = SourceTimestampMode.fromMode(config.getString(SOURCE_TIMESTAMP_MODE_CONFIG_NAME));
         this.maxTransactionsPerIteration = config.getInteger(MAX_TRANSACTIONS_PER_ITERATION);
+        this.maxChangesPerIteration = config.getInteger(MAX_CHANGES_PER_ITERATION);
+        this.maxPollInterval = Duration.ofMillis(config.getLong(MAX_POLL_INTERVAL_MS));
+        this.streamingFetchThreads = config.getInteger(STREAMING_FETCH_THREADS);
 
         if (!config.getBoolean(MAX_LSN_OPTIMIZATION)) {
             LOGGER.warn("The option '{}' is no longer taken into account. The optimization is always enabled.", MAX_LSN_OPTIMIZATION.name());
@@ -461,6 +508,18 @@ public int getMaxTransactionsPerIteration() {
         return maxTransactionsPerIteration;
     }
 
+    public int getMaxChangesPerIteration() {
+        return maxChangesPerIteration;
+    }
+
+    public Duration getMaxPollInterval() {
+        return maxPollInterval;
+    }
+
+    public int getStreamingFetchThreads() {
+        return streamingFetchThreads;
+    }
+
     public boolean getOptionRecompile() {
         return optionRecompile;
     }
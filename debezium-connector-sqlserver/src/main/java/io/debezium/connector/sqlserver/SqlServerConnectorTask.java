@@ -6,7 +6,9 @@
 package io.debezium.connector.sqlserver;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apache.kafka.connect.source.SourceRecord;
@@ -21,7 +23,6 @@
 import io.debezium.pipeline.DataChangeEvent;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
-import io.debezium.pipeline.metrics.DefaultChangeEventSourceMetricsFactory;
 import io.debezium.pipeline.spi.Offsets;
 import io.debezium.relational.HistorizedRelationalDatabaseConnectorConfig;
 import io.debezium.relational.TableId;
@@ -46,6 +47,8 @@ public class SqlServerConnectorTask extends BaseSourceTask<SqlServerPartition, S
     private volatile ChangeEventQueue<DataChangeEvent> queue;
     private volatile SqlServerConnection dataConnection;
     private volatile SqlServerConnection metadataConnection;
+    private volatile List<SqlServerConnection> fetchConnections;
+    private volatile SqlServerChangeTableFetcher changeTableFetcher;
     private volatile ErrorHandler errorHandler;
     private volatile SqlServerDatabaseSchema schema;
 
@@ -72,11 +75,23 @@ public ChangeEventSourceCoordinator<SqlServerPartition, SqlServerOffsetContext>
         final Configuration jdbcConfig = config.filter(
                 x -> !(x.startsWith(DatabaseHistory.CONFIGURATION_FIELD_PREFIX_STRING) || x.equals(HistorizedRelationalDatabaseConnectorConfig.DATABASE_HISTORY.name())))
                 .subset("database.", true);
-        dataConnection = new SqlServerConnection(jdbcConfig, connectorConfig.getSourceTimestampMode(), valueConverters, () -> getClass().getClassLoader(),
-                connectorConfig.getSkippedOperations(), connectorConfig.isMultiPartitionModeEnabled(), connectorConfig.getOptionRecompile());
+        final Supplier<SqlServerConnection> dataConnectionFactory = () -> new SqlServerConnection(jdbcConfig, connectorConfig.getSourceTimestampMode(),
+                valueConverters, () -> getClass().getClassLoader(), connectorConfig.getSkippedOperations(), connectorConfig.isMultiPartitionModeEnabled(),
+                connectorConfig.getOptionRecompile());
+        dataConnection = dataConnectionFactory.get();
         metadataConnection = new SqlServerConnection(jdbcConfig, connectorConfig.getSourceTimestampMode(), valueConverters, () -> getClass().getClassLoader(),
                 connectorConfig.getSkippedOperations(), connectorConfig.isMultiPartitionModeEnabled());
 
+        // The change tables are read on dedicated connections, set up like the data connection, when they are to be read concurrently
+        final List<SqlServerConnection> fetchConnections = new ArrayList<>();
+        if (connectorConfig.getStreamingFetchThreads() > 1) {
+            for (int i = 0; i < connectorConfig.getStreamingFetchThreads(); i++) {
+                fetchConnections.add(dataConnectionFactory.get());
+            }
+            this.changeTableFetcher = new SqlServerChangeTableFetcher(connectorConfig, fetchConnections, clock);
+        }
+        this.fetchConnections = fetchConnections;
+
         this.schema = new SqlServerDatabaseSchema(connectorConfig, metadataConnection.getDefaultValueConverter(), valueConverters, topicSelector, schemaNameAdjuster);
         this.schema.initializeStorage();
 
@@ -104,6 +119,7 @@ public ChangeEventSourceCoordinator<SqlServerPartition, SqlServerOffsetContext>
         errorHandler = new SqlServerErrorHandler(connectorConfig.getLogicalName(), queue);
 
         final SqlServerEventMetadataProvider metadataProvider = new SqlServerEventMetadataProvider();
+        final SqlServerStreamingChangeEventSourceMetrics streamingMetrics = new SqlServerStreamingChangeEventSourceMetrics(taskContext, queue, metadataProvider);
 
         final EventDispatcher<TableId> dispatcher = new EventDispatcher<>(
                 connectorConfig,
@@ -120,8 +136,9 @@ public ChangeEventSourceCoordinator<SqlServerPartition, SqlServerOffsetContext>
                 errorHandler,
                 SqlServerConnector.class,
                 connectorConfig,
-                new SqlServerChangeEventSourceFactory(connectorConfig, dataConnection, metadataConnection, errorHandler, dispatcher, clock, schema),
-                new DefaultChangeEventSourceMetricsFactory(),
+                new SqlServerChangeEventSourceFactory(connectorConfig, dataConnection, metadataConnection, changeTableFetcher, errorHandler, dispatcher, clock,
+                        schema, streamingMetrics),
+                new SqlServerChangeEventSourceMetricsFactory(streamingMetrics),
                 dispatcher,
                 schema,
                 clock);
@@ -162,6 +179,21 @@ protected void doStop() {
             LOGGER.error("Exception while closing JDBC metadata connection", e);
         }
 
+        if (changeTableFetcher != null) {
+            changeTableFetcher.close();
+        }
+
+        if (fetchConnections != null) {
+            for (SqlServerConnection fetchConnection : fetchConnections) {
+                try {
+                    fetchConnection.close();
+                }
+                catch (SQLException e) {
+                    LOGGER.error("Exception while closing JDBC fetch connection", e);
+                }
+            }
+        }
+
         if (schema != null) {
             schema.close();
         }
@@ -0,0 +1,89 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.sqlserver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.NotThreadSafe;
+
+/**
+ * Determines the number of transactions whose changes are read in a single streaming iteration. Without a limit of
+ * changes per iteration the configured maximum number of transactions is used. Otherwise the number of transactions
+ * is derived from the number of changes per transaction observed in the previous iterations, so that an iteration
+ * reads about the configured number of changes however large the backlog is.
+ * <p>
+ * The transactions are those recorded in {@code cdc.lsn_time_mapping}, which includes the transactions changing only
+ * tables not captured by the connector, as the window is delimited by them.
+ */
+@NotThreadSafe
+class SqlServerIterationWindow {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlServerIterationWindow.class);
+
+    /**
+     * The maximum factor by which the window grows after a single iteration, as an iteration with few changes per
+     * transaction doesn't mean the following transactions are small too.
+     */
+    static final int MAX_GROWTH_FACTOR = 2;
+
+    private final int maxTransactions;
+    private final int maxChanges;
+    private int transactions;
+
+    /**
+     * @param maxTransactions the maximum number of transactions per iteration, {@code 0} if unlimited
+     * @param maxChanges the targeted number of changes per iteration, {@code 0} if the window is not adapted
+     */
+    SqlServerIterationWindow(int maxTransactions, int maxChanges) {
+        this.maxTransactions = maxTransactions;
+        this.maxChanges = maxChanges;
+        this.transactions = maxChanges > 0 && (maxTransactions == 0 || maxChanges < maxTransactions) ? maxChanges : maxTransactions;
+    }
+
+    /**
+     * @return the number of transactions to be read by the next iteration, {@code 0} if unlimited
+     */
+    int transactions() {
+        return transactions;
+    }
+
+    /**
+     * @return {@code true} if the window is adapted to the changes read, {@code false} if it is fixed
+     */
+    boolean isAdaptive() {
+        return maxChanges > 0;
+    }
+
+    /**
+     * Adjusts the window after an iteration has been processed.
+     *
+     * @param readTransactions the number of transactions in the interval read by the iteration
+     * @param readChanges the number of changes read by the iteration
+     * @param full {@code true} if the interval was limited by the window, {@code false} if it reached the most recent transaction
+     */
+    void iterationCompleted(long readTransactions, long readChanges, boolean full) {
+        if (maxChanges == 0 || readTransactions == 0) {
+            return;
+        }
+        long newTransactions = Math.max(1, maxChanges * readTransactions / Math.max(1, readChanges));
+        if (newTransactions > transactions) {
+            // Only a full window says something about the transactions that were not read
+            if (!full) {
+                return;
+            }
+            newTransactions = Math.min(newTransactions, (long) transactions * MAX_GROWTH_FACTOR);
+        }
+        if (maxTransactions > 0) {
+            newTransactions = Math.min(newTransactions, maxTransactions);
+        }
+        if (newTransactions != transactions) {
+            LOGGER.debug("Transactions per iteration changed from {} to {}, {} changes in {} transactions read", transactions, newTransactions,
+                    readChanges, readTransactions);
+            transactions = (int) newTransactions;
+        }
+    }
+}
@@ -16,6 +16,7 @@
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -24,6 +25,8 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.DebeziumException;
+import io.debezium.connector.sqlserver.SqlServerChangeTableFetcher.ChangeTablePointersConsumer;
 import io.debezium.connector.sqlserver.SqlServerConnectorConfig.SnapshotMode;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
@@ -42,10 +45,11 @@
  * <p>The connector uses CDC functionality of SQL Server that is implemented as as a process that monitors
  * source table and write changes from the table into the change table.</p>
  *
- * <p>The main loop keeps a pointer to the LSN of changes that were already processed. It queries all change
- * tables and get result set of changes. It always finds the smallest LSN across all tables and the change
- * is converted into the event message and sent downstream. The process repeats until all result sets are
- * empty. The LSN is marked and the procedure repeats.</p>
+ * <p>The main loop keeps a pointer to the LSN of changes that were already processed. It queries the change
+ * tables containing changes since that LSN and get result set of changes. It always takes the smallest LSN across
+ * all tables from a priority queue and the change is converted into the event message and sent downstream. The process repeats until all result sets are
+ * empty. The LSN is marked and the procedure repeats. When multiple fetch threads are configured, the change tables are
+ * read concurrently on dedicated connections into bounded buffers and the changes are merged in the same order.</p>
  *
  * <p>The schema changes detection follows the procedure recommended by SQL Server CDC documentation.
  * The database operator should create one more capture process (and table) when a table schema is updated.
@@ -77,10 +81,15 @@ public class SqlServerStreamingChangeEventSource implements StreamingChangeEvent
      */
     private final SqlServerConnection metadataConnection;
 
+    /**
+     * Reads the change tables concurrently on dedicated connections, if configured
+     */
+    private final SqlServerChangeTableFetcher changeTableFetcher;
     private final EventDispatcher<TableId> dispatcher;
     private final ErrorHandler errorHandler;
     private final Clock clock;
     private final SqlServerDatabaseSchema schema;
+    private final SqlServerStreamingChangeEventSourceMetrics streamingMetrics;
     private final Duration pollInterval;
     private final SqlServerConnectorConfig connectorConfig;
 
@@ -88,15 +97,19 @@ public class SqlServerStreamingChangeEventSource implements StreamingChangeEvent
     private final Map<SqlServerPartition, SqlServerStreamingExecutionContext> streamingExecutionContexts;
 
     public SqlServerStreamingChangeEventSource(SqlServerConnectorConfig connectorConfig, SqlServerConnection dataConnection,
-                                               SqlServerConnection metadataConnection, EventDispatcher<TableId> dispatcher, ErrorHandler errorHandler, Clock clock,
-                                               SqlServerDatabaseSchema schema) {
+                                               SqlServerConnection metadataConnection, SqlServerChangeTableFetcher changeTableFetcher,
+                                               EventDispatcher<TableId> dispatcher,
+                                               ErrorHandler errorHandler, Clock clock,
+                                               SqlServerDatabaseSchema schema, SqlServerStreamingChangeEventSourceMetrics streamingMetrics) {
         this.connectorConfig = connectorConfig;
         this.dataConnection = dataConnection;
         this.metadataConnection = metadataConnection;
+        this.changeTableFetcher = changeTableFetcher;
         this.dispatcher = dispatcher;
         this.errorHandler = errorHandler;
         this.clock = clock;
         this.schema = schema;
+        this.streamingMetrics = streamingMetrics;
         this.pollInterval = connectorConfig.getPollInterval();
         final Duration intervalBetweenCommitsBasedOnPoll = this.pollInterval.multipliedBy(INTERVAL_BETWEEN_COMMITS_BASED_ON_POLL_FACTOR);
         this.pauseBetweenCommits = ElapsedTimeStrategy.constant(clock,
@@ -131,7 +144,8 @@ public boolean executeIteration(ChangeEventSourceContext context, SqlServerParti
                             new AtomicBoolean(false),
                             // LSN should be increased for the first run only immediately after snapshot completion
                             // otherwise we might skip an incomplete transaction after restart
-                            offsetContext.isSnapshotCompleted()));
+                            offsetContext.isSnapshotCompleted(),
+                            new SqlServerIterationWindow(connectorConfig.getMaxTransactionsPerIteration(), connectorConfig.getMaxChangesPerIteration())));
 
             if (!streamingExecutionContexts.containsKey(partition)) {
                 streamingExecutionContexts.put(partition, streamingExecutionContext);
@@ -143,7 +157,8 @@ public boolean executeIteration(ChangeEventSourceContext context, SqlServerParti
             final TxLogPosition lastProcessedPositionOnStart = offsetContext.getChangePosition();
             final long lastProcessedEventSerialNoOnStart = offsetContext.getEventSerialNo();
             final AtomicBoolean changesStoppedBeingMonotonic = streamingExecutionContext.getChangesStoppedBeingMonotonic();
-            final int maxTransactionsPerIteration = connectorConfig.getMaxTransactionsPerIteration();
+            final SqlServerIterationWindow iterationWindow = streamingExecutionContext.getIterationWindow();
+            final int maxTransactionsPerIteration = iterationWindow.transactions();
 
             TxLogPosition lastProcessedPosition = streamingExecutionContext.getLastProcessedPosition();
 
@@ -186,33 +201,37 @@ public boolean executeIteration(ChangeEventSourceContext context, SqlServerParti
                     tablesSlot.set(getChangeTablesToQuery(partition, offsetContext, toLsn));
                 }
                 try {
-                    dataConnection.getChangesForTables(databaseName, tablesSlot.get(), fromLsn, toLsn, resultSets -> {
+                    final SqlServerChangeTable[] tables = getChangedTables(databaseName, tablesSlot.get(), fromLsn, toLsn);
+                    final AtomicLong readChanges = new AtomicLong();
+                    final ChangeTablePointersConsumer changesConsumer = changeTables -> {
 
                         long eventSerialNoInInitialTx = 1;
-                        final int tableCount = resultSets.length;
-                        final SqlServerChangeTablePointer[] changeTables = new SqlServerChangeTablePointer[tableCount];
-                        final SqlServerChangeTable[] tables = tablesSlot.get();
+                        final int tableCount = changeTables.length;
+                        // Indexes of the tables ordered by the position of their current change; the table queried
+                        // first wins when the positions are equal
+                        final Queue<Integer> tablesByPosition = new PriorityQueue<>(Math.max(1, tableCount), (x, y) -> {
+                            final int result = comparePositions(changeTables[x], changeTables[y]);
+                            return result != 0 ? result : Integer.compare(x, y);
+                        });
 
                         for (int i = 0; i < tableCount; i++) {
-                            changeTables[i] = new SqlServerChangeTablePointer(tables[i], resultSets[i],
-                                    connectorConfig.getSourceTimestampMode());
-                            changeTables[i].next();
+                            if (changeTables[i].next()) {
+                                tablesByPosition.add(i);
+                            }
                         }
 
+                        Integer tableIndex = null;
                         for (;;) {
-                            SqlServerChangeTablePointer tableWithSmallestLsn = null;
-                            for (SqlServerChangeTablePointer changeTable : changeTables) {
-                                if (changeTable.isCompleted()) {
-                                    continue;
-                                }
-                                if (tableWithSmallestLsn == null || changeTable.compareTo(tableWithSmallestLsn) < 0) {
-                                    tableWithSmallestLsn = changeTable;
-                                }
+                            // The table of the previous change has been moved to its next change, if any
+                            if (tableIndex != null && !changeTables[tableIndex].isCompleted()) {
+                                tablesByPosition.add(tableIndex);
                             }
-                            if (tableWithSmallestLsn == null) {
+                            tableIndex = tablesByPosition.poll();
+                            if (tableIndex == null) {
                                 // No more LSNs available
                                 break;
                             }
+                            final SqlServerChangeTablePointer tableWithSmallestLsn = changeTables[tableIndex];
 
                             if (!(tableWithSmallestLsn.getChangePosition().isAvailable() && tableWithSmallestLsn.getChangePosition().getInTxLsn().isAvailable())) {
                                 LOGGER.error("Skipping change {} as its LSN is NULL which is not expected", tableWithSmallestLsn);
@@ -279,11 +298,12 @@ public boolean executeIteration(ChangeEventSourceContext context, SqlServerParti
                             }
                             final Object[] dataNext = (operation == SqlServerChangeRecordEmitter.OP_UPDATE_BEFORE) ? tableWithSmallestLsn.getData() : null;
 
+                            readChanges.incrementAndGet();
+
                             offsetContext.setChangePosition(tableWithSmallestLsn.getChangePosition(), eventCount);
                             offsetContext.event(
                                     tableWithSmallestLsn.getChangeTable().getSourceTableId(),
-                                    connectorConfig.getSourceTimestampMode().getTimestamp(
-                                            clock, tableWithSmallestLsn.getResultSet()));
+                                    tableWithSmallestLsn.getSourceTimestamp(clock));
 
                             dispatcher
                                     .dispatchDataChangeEvent(
@@ -297,8 +317,22 @@ public boolean executeIteration(ChangeEventSourceContext context, SqlServerParti
                                                     clock));
                             tableWithSmallestLsn.next();
                         }
-                    });
+                    };
+                    if (changeTableFetcher != null && tables.length > 1) {
+                        changeTableFetcher.fetch(databaseName, tables, fromLsn, toLsn, changesConsumer);
+                    }
+                    else {
+                        dataConnection.getChangesForTables(databaseName, tables, fromLsn, toLsn, resultSets -> {
+                            final SqlServerChangeTablePointer[] changeTables = new SqlServerChangeTablePointer[resultSets.length];
+                            for (int i = 0; i < resultSets.length; i++) {
+                                changeTables[i] = new SqlServerChangeTablePointer(tables[i], resultSets[i],
+                                        connectorConfig.getSourceTimestampMode());
+                            }
+                            changesConsumer.accept(changeTables);
+                        });
+                    }
                     streamingExecutionContext.setLastProcessedPosition(TxLogPosition.valueOf(toLsn));
+                    iterationCompleted(databaseName, iterationWindow, fromLsn, toLsn, readChanges.get());
                     // Terminate the transaction otherwise CDC could not be disabled for tables
                     dataConnection.rollback();
                 }
@@ -314,6 +348,50 @@ public boolean executeIteration(ChangeEventSourceContext context, SqlServerParti
         return true;
     }
 
+    /**
+     * @return the change tables with changes in the given interval; all tables if they can't be determined
+     */
+    private SqlServerChangeTable[] getChangedTables(String databaseName, SqlServerChangeTable[] tables, Lsn fromLsn, Lsn toLsn) {
+        if (tables.length < 2) {
+            return tables;
+        }
+        try {
+            final SqlServerChangeTable[] changedTables = dataConnection.getChangedTables(databaseName, tables, fromLsn, toLsn);
+            LOGGER.debug("Querying {} of {} change tables for changes in range[{}, {}]", changedTables.length, tables.length, fromLsn, toLsn);
+            return changedTables;
+        }
+        catch (SQLException e) {
+            // A capture instance might have been disabled meanwhile, the error is then processed by the changes query
+            LOGGER.debug("Failed to determine change tables with changes, querying all of them", e);
+            return tables;
+        }
+    }
+
+    private void iterationCompleted(String databaseName, SqlServerIterationWindow iterationWindow, Lsn fromLsn, Lsn toLsn, long readChanges)
+            throws SQLException {
+        final int windowTransactions = iterationWindow.transactions();
+        long backlogTransactions = 0;
+        // The transactions are counted only when the window is adapted to them, as counting them is not free
+        if (iterationWindow.isAdaptive()) {
+            final long readTransactions = dataConnection.getTransactionCount(databaseName, fromLsn, toLsn);
+            final boolean full = windowTransactions > 0 && toLsn.compareTo(dataConnection.getMaxTransactionLsn(databaseName)) < 0;
+            iterationWindow.iterationCompleted(readTransactions, readChanges, full);
+            // Only a full window leaves transactions to read
+            backlogTransactions = full ? dataConnection.getTransactionCountAfter(databaseName, toLsn) : 0;
+            LOGGER.trace("Read {} changes in {} transactions, {} transactions left to read", readChanges, readTransactions, backlogTransactions);
+        }
+        streamingMetrics.iterationCompleted(windowTransactions, readChanges, backlogTransactions);
+    }
+
+    private static int comparePositions(SqlServerChangeTablePointer x, SqlServerChangeTablePointer y) {
+        try {
+            return x.compareTo(y);
+        }
+        catch (SQLException e) {
+            throw new DebeziumException(e);
+        }
+    }
+
     private void commitTransaction() throws SQLException {
         // When reading from read-only Always On replica the default and only transaction isolation
         // is snapshot. This means that CDC metadata are not visible for long-running transactions.
@@ -0,0 +1,57 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.sqlserver;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.connector.base.ChangeEventQueueMetrics;
+import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.pipeline.metrics.StreamingChangeEventSourceMetrics;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+
+@ThreadSafe
+public class SqlServerStreamingChangeEventSourceMetrics extends StreamingChangeEventSourceMetrics implements SqlServerStreamingChangeEventSourceMetricsMXBean {
+
+    private final AtomicInteger iterationWindowTransactions = new AtomicInteger();
+    private final AtomicLong lastIterationChanges = new AtomicLong();
+    private final AtomicLong backlogTransactions = new AtomicLong();
+
+    public <T extends CdcSourceTaskContext> SqlServerStreamingChangeEventSourceMetrics(T taskContext, ChangeEventQueueMetrics changeEventQueueMetrics,
+                                                                                       EventMetadataProvider metadataProvider) {
+        super(taskContext, changeEventQueueMetrics, metadataProvider);
+    }
+
+    @Override
+    public int getIterationWindowTransactions() {
+        return iterationWindowTransactions.get();
+    }
+
+    @Override
+    public long getLastIterationChanges() {
+        return lastIterationChanges.get();
+    }
+
+    @Override
+    public long getBacklogTransactions() {
+        return backlogTransactions.get();
+    }
+
+    void iterationCompleted(int windowTransactions, long changes, long backlog) {
+        iterationWindowTransactions.set(windowTransactions);
+        lastIterationChanges.set(changes);
+        backlogTransactions.set(backlog);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        iterationWindowTransactions.set(0);
+        lastIterationChanges.set(0);
+        backlogTransactions.set(0);
+    }
+}
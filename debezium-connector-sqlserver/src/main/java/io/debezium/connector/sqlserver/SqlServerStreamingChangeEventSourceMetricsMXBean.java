@@ -0,0 +1,30 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.sqlserver;
+
+import io.debezium.pipeline.metrics.StreamingChangeEventSourceMetricsMXBean;
+
+/**
+ * Metrics specific to SQL Server streaming.
+ */
+public interface SqlServerStreamingChangeEventSourceMetricsMXBean extends StreamingChangeEventSourceMetricsMXBean {
+
+    /**
+     * The number of transactions the last iteration was allowed to read, {@code 0} if unlimited.
+     */
+    int getIterationWindowTransactions();
+
+    /**
+     * The number of changes read by the last iteration.
+     */
+    long getLastIterationChanges();
+
+    /**
+     * The number of transactions recorded in the database that had not been read when the last iteration completed;
+     * determined only when the transactions per iteration are adapted to {@code max.iteration.changes}, {@code 0} otherwise.
+     */
+    long getBacklogTransactions();
+}
@@ -22,14 +22,17 @@ public class SqlServerStreamingExecutionContext {
     private TxLogPosition lastProcessedPosition;
     private final AtomicBoolean changesStoppedBeingMonotonic;
     private boolean shouldIncreaseFromLsn;
+    private final SqlServerIterationWindow iterationWindow;
 
     public SqlServerStreamingExecutionContext(PriorityQueue<SqlServerChangeTable> schemaChangeCheckpoints, AtomicReference<SqlServerChangeTable[]> tablesSlot,
-                                              TxLogPosition changePosition, AtomicBoolean changesStoppedBeingMonotonic, boolean snapshotCompleted) {
+                                              TxLogPosition changePosition, AtomicBoolean changesStoppedBeingMonotonic, boolean snapshotCompleted,
+                                              SqlServerIterationWindow iterationWindow) {
         this.schemaChangeCheckpoints = schemaChangeCheckpoints;
         this.tablesSlot = tablesSlot;
         this.changesStoppedBeingMonotonic = changesStoppedBeingMonotonic;
         this.shouldIncreaseFromLsn = snapshotCompleted;
         this.lastProcessedPosition = changePosition;
+        this.iterationWindow = iterationWindow;
     }
 
     public void setShouldIncreaseFromLsn(boolean shouldIncreaseFromLsn) {
@@ -59,4 +62,8 @@ public AtomicBoolean getChangesStoppedBeingMonotonic() {
     public boolean getShouldIncreaseFromLsn() {
         return shouldIncreaseFromLsn;
     }
+
+    SqlServerIterationWindow getIterationWindow() {
+        return iterationWindow;
+    }
 }
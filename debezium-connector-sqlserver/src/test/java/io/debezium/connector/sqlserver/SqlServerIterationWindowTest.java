@@ -0,0 +1,100 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.sqlserver;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class SqlServerIterationWindowTest {
+
+    @Test
+    public void shouldKeepConfiguredTransactionsWhenNotAdaptive() {
+        final SqlServerIterationWindow unlimited = new SqlServerIterationWindow(0, 0);
+        unlimited.iterationCompleted(1000, 1_000_000, false);
+        assertThat(unlimited.transactions()).isEqualTo(0);
+
+        final SqlServerIterationWindow limited = new SqlServerIterationWindow(50, 0);
+        limited.iterationCompleted(50, 1_000_000, true);
+        assertThat(limited.transactions()).isEqualTo(50);
+    }
+
+    @Test
+    public void shouldAdaptTransactionsToChangesPerTransaction() {
+        final SqlServerIterationWindow window = new SqlServerIterationWindow(0, 1000);
+        assertThat(window.transactions()).isEqualTo(1000);
+
+        window.iterationCompleted(1000, 10_000, true);
+        assertThat(window.transactions()).isEqualTo(100);
+
+        window.iterationCompleted(100, 500, true);
+        assertThat(window.transactions()).isEqualTo(200);
+
+        window.iterationCompleted(200, 200, true);
+        assertThat(window.transactions()).isEqualTo(400);
+
+        // A partial window doesn't allow to grow
+        window.iterationCompleted(10, 10, false);
+        assertThat(window.transactions()).isEqualTo(400);
+
+        window.iterationCompleted(0, 0, false);
+        assertThat(window.transactions()).isEqualTo(400);
+
+        // but to shrink
+        window.iterationCompleted(10, 1000, false);
+        assertThat(window.transactions()).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldNotExceedMaxTransactions() {
+        final SqlServerIterationWindow window = new SqlServerIterationWindow(300, 1000);
+        assertThat(window.transactions()).isEqualTo(300);
+
+        window.iterationCompleted(300, 300, true);
+        assertThat(window.transactions()).isEqualTo(300);
+
+        window.iterationCompleted(300, 3000, true);
+        assertThat(window.transactions()).isEqualTo(100);
+    }
+
+    @Test
+    public void shouldGrowWithTransactionsOfTablesNotCaptured() {
+        final SqlServerIterationWindow window = new SqlServerIterationWindow(0, 1000);
+        window.iterationCompleted(1000, 10_000, true);
+        assertThat(window.transactions()).isEqualTo(100);
+
+        // Only 10 of the 100 transactions in the window change captured tables
+        window.iterationCompleted(100, 100, true);
+        assertThat(window.transactions()).isEqualTo(200);
+
+        window.iterationCompleted(200, 200, true);
+        assertThat(window.transactions()).isEqualTo(400);
+
+        window.iterationCompleted(400, 400, true);
+        assertThat(window.transactions()).isEqualTo(800);
+
+        // The window converges to the number of transactions holding the targeted number of changes
+        window.iterationCompleted(800, 800, true);
+        assertThat(window.transactions()).isEqualTo(1000);
+
+        window.iterationCompleted(1000, 1000, true);
+        assertThat(window.transactions()).isEqualTo(1000);
+    }
+
+    @Test
+    public void shouldGrowWhenWindowHoldsOnlyTransactionsNotCaptured() {
+        final SqlServerIterationWindow window = new SqlServerIterationWindow(0, 1000);
+        window.iterationCompleted(1000, 100_000, true);
+        assertThat(window.transactions()).isEqualTo(10);
+
+        window.iterationCompleted(10, 0, true);
+        assertThat(window.transactions()).isEqualTo(20);
+
+        // An interval reaching the most recent transaction is not full
+        window.iterationCompleted(5, 0, false);
+        assertThat(window.transactions()).isEqualTo(20);
+    }
+}
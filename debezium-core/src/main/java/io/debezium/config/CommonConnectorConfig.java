@@ -347,6 +347,67 @@ public static BinaryHandlingMode parse(String value, String defaultValue) {
             .withDefault(1024)
             .withValidation(Field::isNonNegativeInteger);
 
+    public static final Field INCREMENTAL_SNAPSHOT_CHUNK_SIZE_ADAPTIVE = Field.create("incremental.snapshot.chunk.size.adaptive")
+            .withDisplayName("Adapt incremental snapshot chunk size")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Whether the chunk size of each table should be adapted during an incremental snapshot. "
+                    + "Starting from 'incremental.snapshot.chunk.size', the size is adjusted after every window "
+                    + "towards reading a chunk in 'incremental.snapshot.chunk.target.duration.ms', "
+                    + "keeping the window within 'incremental.snapshot.window.max.bytes', "
+                    + "and it is reduced when many rows of the window are changed while it is open.")
+            .withDefault(false);
+
+    public static final Field INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MIN = Field.create("incremental.snapshot.chunk.size.min")
+            .withDisplayName("Incremental snapshot minimum chunk size")
+            .withType(Type.INT)
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDescription("The minimum size of chunk for incremental snapshotting when the chunk size is adapted")
+            .withDefault(128)
+            .withValidation(Field::isPositiveInteger);
+
+    public static final Field INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MAX = Field.create("incremental.snapshot.chunk.size.max")
+            .withDisplayName("Incremental snapshot maximum chunk size")
+            .withType(Type.INT)
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum size of chunk for incremental snapshotting when the chunk size is adapted")
+            .withDefault(65536)
+            .withValidation(Field::isPositiveInteger);
+
+    public static final Field INCREMENTAL_SNAPSHOT_CHUNK_TARGET_DURATION_MS = Field.create("incremental.snapshot.chunk.target.duration.ms")
+            .withDisplayName("Incremental snapshot target chunk read duration (milliseconds)")
+            .withType(Type.LONG)
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDescription("The time reading a chunk of an incremental snapshot should take when the chunk size is adapted")
+            .withDefault(1000L)
+            .withValidation(Field::isPositiveLong);
+
+    public static final Field INCREMENTAL_SNAPSHOT_WINDOW_MAX_BYTES = Field.create("incremental.snapshot.window.max.bytes")
+            .withDisplayName("Incremental snapshot maximum window size in bytes")
+            .withType(Type.LONG)
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDescription("The estimated memory the rows buffered in an incremental snapshot window may use "
+                    + "when the chunk size is adapted")
+            .withDefault(64L * 1024 * 1024)
+            .withValidation(Field::isPositiveLong);
+
+    public static final Field INCREMENTAL_SNAPSHOT_MAX_THREADS = Field.create("incremental.snapshot.max.threads")
+            .withDisplayName("Incremental snapshot maximum threads")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of threads used to read the key ranges of an incremental snapshot chunk concurrently. "
+                    + "Each thread reads up to 'incremental.snapshot.chunk.size' rows on its own database connection, "
+                    + "so a single window can hold up to this many times as many rows. "
+                    + "Defaults to 1, which reads the chunks sequentially on the connector's connection.")
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger);
+
     public static final Field INCREMENTAL_SNAPSHOT_ALLOW_SCHEMA_CHANGES = Field.create("incremental.snapshot.allow.schema.changes")
             .withDisplayName("Allow schema changes during incremental snapshot if supported.")
             .withType(Type.BOOLEAN)
@@ -514,6 +575,12 @@ public static BinaryHandlingMode parse(String value, String defaultValue) {
     private final Duration retriableRestartWait;
     private final int snapshotFetchSize;
     private final int incrementalSnapshotChunkSize;
+    private final int incrementalSnapshotMaxThreads;
+    private final boolean incrementalSnapshotChunkSizeAdaptive;
+    private final int incrementalSnapshotChunkSizeMin;
+    private final int incrementalSnapshotChunkSizeMax;
+    private final Duration incrementalSnapshotChunkTargetDuration;
+    private final long incrementalSnapshotWindowMaxBytes;
     private final boolean incrementalSnapshotAllowSchemaChanges;
     private final int snapshotMaxThreads;
     private final Integer queryFetchSize;
@@ -543,6 +610,12 @@ protected CommonConnectorConfig(Configuration config, String logicalName, int de
         this.snapshotMaxThreads = config.getInteger(SNAPSHOT_MAX_THREADS);
         this.queryFetchSize = config.getInteger(QUERY_FETCH_SIZE);
         this.incrementalSnapshotChunkSize = config.getInteger(INCREMENTAL_SNAPSHOT_CHUNK_SIZE);
+        this.incrementalSnapshotMaxThreads = config.getInteger(INCREMENTAL_SNAPSHOT_MAX_THREADS);
+        this.incrementalSnapshotChunkSizeAdaptive = config.getBoolean(INCREMENTAL_SNAPSHOT_CHUNK_SIZE_ADAPTIVE);
+        this.incrementalSnapshotChunkSizeMin = config.getInteger(INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MIN);
+        this.incrementalSnapshotChunkSizeMax = config.getInteger(INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MAX);
+        this.incrementalSnapshotChunkTargetDuration = Duration.ofMillis(config.getLong(INCREMENTAL_SNAPSHOT_CHUNK_TARGET_DURATION_MS));
+        this.incrementalSnapshotWindowMaxBytes = config.getLong(INCREMENTAL_SNAPSHOT_WINDOW_MAX_BYTES);
         this.incrementalSnapshotAllowSchemaChanges = config.getBoolean(INCREMENTAL_SNAPSHOT_ALLOW_SCHEMA_CHANGES);
         this.sourceInfoStructMaker = getSourceInfoStructMaker(Version.parse(config.getString(SOURCE_STRUCT_MAKER_VERSION)));
         this.sanitizeFieldNames = config.getBoolean(SANITIZE_FIELD_NAMES) || isUsingAvroConverter(config);
@@ -639,6 +712,30 @@ public int getIncrementalSnashotChunkSize() {
         return incrementalSnapshotChunkSize;
     }
 
+    public int getIncrementalSnapshotMaxThreads() {
+        return incrementalSnapshotMaxThreads;
+    }
+
+    public boolean isIncrementalSnapshotChunkSizeAdaptive() {
+        return incrementalSnapshotChunkSizeAdaptive;
+    }
+
+    public int getIncrementalSnapshotChunkSizeMin() {
+        return incrementalSnapshotChunkSizeMin;
+    }
+
+    public int getIncrementalSnapshotChunkSizeMax() {
+        return incrementalSnapshotChunkSizeMax;
+    }
+
+    public Duration getIncrementalSnapshotChunkTargetDuration() {
+        return incrementalSnapshotChunkTargetDuration;
+    }
+
+    public long getIncrementalSnapshotWindowMaxBytes() {
+        return incrementalSnapshotWindowMaxBytes;
+    }
+
     public boolean shouldProvideTransactionMetadata() {
         return shouldProvideTransactionMetadata;
     }
@@ -9,9 +9,8 @@
 import static org.apache.kafka.connect.data.Schema.Type.STRUCT;
 import static org.apache.kafka.connect.transforms.util.Requirements.requireStruct;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.HashMap;
@@ -37,9 +36,9 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.JsonNodeFactory;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.debezium.annotation.Immutable;
 import io.debezium.annotation.VisibleForTesting;
@@ -52,6 +51,8 @@
 import io.debezium.converters.spi.SerializerType;
 import io.debezium.data.Envelope;
 import io.debezium.pipeline.txmetadata.TransactionMonitor;
+import io.debezium.util.BoundedConcurrentHashMap;
+import io.debezium.util.SchemaIdentityKey;
 import io.debezium.util.SchemaNameAdjuster;
 
 /**
@@ -75,6 +76,10 @@
  * <p>
  * Since Kafka converters has not support headers yet, right now CloudEvents converter use structured mode as the
  * default.
+ * <p>
+ * CloudEvents in JSON are written directly by a streaming generator, only the data attribute is serialized by the
+ * underlying converter. The envelope schema needed for Avro and the names of the extension attributes are cached per
+ * envelope name and source schema.
  */
 public class CloudEventsConverter implements Converter {
 
@@ -97,20 +102,19 @@ public class CloudEventsConverter implements Converter {
     private static final String DATA_SCHEMA_SUFFIX = "-data";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CloudEventsConverter.class);
-    private static Method CONVERT_TO_CONNECT_METHOD;
+
+    private static final int SCHEMA_CACHE_SIZE = 64;
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String OPERATION_ATTRIBUTE_NAME = adjustExtensionName(Envelope.FieldName.OPERATION);
+    private static final String[] TX_ATTRIBUTE_NAMES = TransactionMonitor.TRANSACTION_BLOCK_SCHEMA.fields().stream()
+            .map(field -> txExtensionName(field.name()))
+            .toArray(String[]::new);
 
     @Immutable
     private static Map<String, CloudEventsProvider> providers = new HashMap<>();
 
     static {
-        try {
-            CONVERT_TO_CONNECT_METHOD = JsonConverter.class.getDeclaredMethod("convertToConnect", Schema.class, JsonNode.class);
-            CONVERT_TO_CONNECT_METHOD.setAccessible(true);
-        }
-        catch (NoSuchMethodException e) {
-            throw new DataException(e.getCause());
-        }
-
         Map<String, CloudEventsProvider> tmp = new HashMap<>();
 
         for (CloudEventsProvider provider : ServiceLoader.load(CloudEventsProvider.class)) {
@@ -125,8 +129,10 @@ public class CloudEventsConverter implements Converter {
 
     private final JsonConverter jsonCloudEventsConverter = new JsonConverter();
     private final JsonConverter jsonDataConverter = new JsonConverter();
-    private boolean enableJsonSchemas;
     private final JsonDeserializer jsonDeserializer = new JsonDeserializer();
+    private final Map<SchemaIdentityKey, CloudEventsEnvelope> envelopes = new BoundedConcurrentHashMap<>(SCHEMA_CACHE_SIZE);
+    // the converter may be shared by the threads converting the records of a batch, so each of them gets its own buffer
+    private final ThreadLocal<ByteArrayOutputStream> jsonBuffers = ThreadLocal.withInitial(() -> new ByteArrayOutputStream(INITIAL_BUFFER_SIZE));
 
     private Converter avroConverter;
     private List<String> schemaRegistryUrls;
@@ -166,7 +172,6 @@ public void configure(Map<String, ?> configs, boolean isKey) {
         }
 
         if (dataSerializerType == SerializerType.JSON) {
-            enableJsonSchemas = jsonConfig.getBoolean(JsonConverterConfig.SCHEMAS_ENABLE_CONFIG, JsonConverterConfig.SCHEMAS_ENABLE_DEFAULT);
             jsonDataConverter.configure(jsonConfig.asMap(), true);
         }
         else {
@@ -217,45 +222,102 @@ public byte[] fromConnectData(String topic, Schema schema, Object value) {
         CloudEventsMaker maker = provider.createMaker(parser, dataSerializerType,
                 (schemaRegistryUrls == null) ? null : String.join(",", schemaRegistryUrls));
 
+        final String envelopeName = maker.ceEnvelopeSchemaName();
+        final Schema sourceSchema = parser.source().schema();
+        CloudEventsEnvelope envelope = envelopes.computeIfAbsent(SchemaIdentityKey.of(envelopeName, sourceSchema),
+                key -> new CloudEventsEnvelope(envelopeName, sourceSchema));
+
         if (ceSerializerType == SerializerType.JSON) {
             if (dataSerializerType == SerializerType.JSON) {
-                // JSON - JSON (with schema in data)
-                if (enableJsonSchemas) {
-                    SchemaBuilder dummy = SchemaBuilder.struct();
-                    SchemaAndValue cloudEvent = convertToCloudEventsFormat(parser, maker, dummy, null, new Struct(dummy));
-
-                    // need to create a JSON node with schema + payload first
-                    byte[] data = jsonDataConverter.fromConnectData(topic, maker.ceDataAttributeSchema(), maker.ceDataAttribute());
-
-                    // replace the dummy '{}' in '"data" : {}' with the schema + payload JSON node;
-                    // the event itself must not have schema enabled, so to be a proper CloudEvent
-                    byte[] cloudEventJson = jsonCloudEventsConverter.fromConnectData(topic, cloudEvent.schema(), cloudEvent.value());
-
-                    ByteBuffer cloudEventWithData = ByteBuffer.allocate(cloudEventJson.length + data.length - 2);
-                    cloudEventWithData.put(cloudEventJson, 0, cloudEventJson.length - 3);
-                    cloudEventWithData.put(data);
-                    cloudEventWithData.put((byte) '}');
-                    return cloudEventWithData.array();
-                }
-                // JSON - JSON (without schema); can just use the regular JSON converter for the entire event
-                else {
-                    SchemaAndValue cloudEvent = convertToCloudEventsFormat(parser, maker, maker.ceDataAttributeSchema(), null, maker.ceDataAttribute());
-                    return jsonCloudEventsConverter.fromConnectData(topic, cloudEvent.schema(), cloudEvent.value());
-                }
+                // JSON - JSON; the data is serialized with schema + payload or just the payload, depending on the
+                // configuration; the event itself must not have schema enabled, so to be a proper CloudEvent
+                byte[] data = jsonDataConverter.fromConnectData(topic, maker.ceDataAttributeSchema(), maker.ceDataAttribute());
+                return writeJson(parser, maker, envelope, null, data, true);
             }
             // JSON - Avro; need to convert "data" to Avro first
             else {
-                SchemaAndValue cloudEvent = convertToCloudEventsFormatWithDataAsAvro(topic, parser, maker);
-                return jsonCloudEventsConverter.fromConnectData(topic, cloudEvent.schema(), cloudEvent.value());
+                byte[] data = avroConverter.fromConnectData(topic, maker.ceDataAttributeSchema(), maker.ceDataAttribute());
+                return writeJson(parser, maker, envelope, maker.ceDataschemaUri(getSchemaIdFromAvroMessage(data)), data, false);
             }
         }
         // Avro - Avro; need to convert "data" to Avro first
         else {
-            SchemaAndValue cloudEvent = convertToCloudEventsFormatWithDataAsAvro(topic + DATA_SCHEMA_SUFFIX, parser, maker);
+            SchemaAndValue cloudEvent = convertToCloudEventsFormatWithDataAsAvro(topic + DATA_SCHEMA_SUFFIX, parser, maker, envelope);
             return avroConverter.fromConnectData(topic, cloudEvent.schema(), cloudEvent.value());
         }
     }
 
+    /**
+     * Writes a CloudEvent in JSON, without the schema.
+     *
+     * @param data the serialized data attribute
+     * @param dataIsJson whether the data is a JSON document to be embedded or bytes to be encoded in Base64
+     */
+    private byte[] writeJson(RecordParser parser, CloudEventsMaker maker, CloudEventsEnvelope envelope, String dataSchemaUri, byte[] data,
+                             boolean dataIsJson) {
+        final ByteArrayOutputStream jsonBuffer = jsonBuffers.get();
+        jsonBuffer.reset();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(jsonBuffer)) {
+            generator.writeStartObject();
+            generator.writeStringField(CloudEventsMaker.FieldName.ID, maker.ceId());
+            generator.writeStringField(CloudEventsMaker.FieldName.SOURCE, maker.ceSource(parser.source().getString("name")));
+            generator.writeStringField(CloudEventsMaker.FieldName.SPECVERSION, maker.ceSpecversion());
+            generator.writeStringField(CloudEventsMaker.FieldName.TYPE, maker.ceType());
+            generator.writeStringField(CloudEventsMaker.FieldName.TIME, maker.ceTime());
+            generator.writeStringField(CloudEventsMaker.FieldName.DATACONTENTTYPE, maker.ceDatacontenttype());
+            if (dataSchemaUri != null) {
+                generator.writeStringField(CloudEventsMaker.FieldName.DATASCHEMA, dataSchemaUri);
+            }
+            generator.writeStringField(OPERATION_ATTRIBUTE_NAME, parser.op());
+            writeJsonExtensionAttributes(generator, parser.source(), envelope.sourceSchema, envelope.sourceAttributeNames);
+            writeJsonExtensionAttributes(generator, parser.transaction(), TransactionMonitor.TRANSACTION_BLOCK_SCHEMA, TX_ATTRIBUTE_NAMES);
+
+            generator.writeFieldName(CloudEventsMaker.FieldName.DATA);
+            if (dataIsJson) {
+                // Let the generator write the separator of the field value, then append the serialized data as is
+                generator.writeRawValue("");
+                generator.flush();
+                jsonBuffer.write(data);
+            }
+            else {
+                generator.writeBinary(data);
+            }
+            generator.writeEndObject();
+        }
+        catch (IOException e) {
+            throw new DataException("Converting Kafka Connect data to CloudEvents in JSON failed: ", e);
+        }
+        return jsonBuffer.toByteArray();
+    }
+
+    /**
+     * Writes the fields of the given struct as extension attributes, with the types defined by
+     * {@link #convertToCeExtensionSchema(Schema, boolean)}; all attributes are null if there is no struct.
+     */
+    private static void writeJsonExtensionAttributes(JsonGenerator generator, Struct struct, Schema schema, String[] attributeNames) throws IOException {
+        final List<Field> fields = schema.fields();
+        for (int i = 0; i < attributeNames.length; i++) {
+            final Field field = fields.get(i);
+            final Object value = struct == null ? null : struct.get(field);
+            generator.writeFieldName(attributeNames[i]);
+            if (value == null) {
+                generator.writeNull();
+            }
+            else if (field.schema().type() == Type.BOOLEAN) {
+                generator.writeBoolean((Boolean) value);
+            }
+            else if (field.schema().type() == Type.INT64) {
+                generator.writeString(String.valueOf((long) value));
+            }
+            else if (value instanceof Number) {
+                generator.writeNumber(((Number) value).intValue());
+            }
+            else {
+                generator.writeString(value.toString());
+            }
+        }
+    }
+
     /**
      * Lookup the CloudEventsProvider implementation for the source connector.
      */
@@ -271,12 +333,12 @@ private static CloudEventsProvider lookupCloudEventsProvider(Struct record) {
     /**
      * Creates a CloudEvents wrapper, converting the "data" to Avro.
      */
-    private SchemaAndValue convertToCloudEventsFormatWithDataAsAvro(String topic, RecordParser parser, CloudEventsMaker maker) {
-        Schema dataSchemaType = Schema.BYTES_SCHEMA;
+    private SchemaAndValue convertToCloudEventsFormatWithDataAsAvro(String topic, RecordParser parser, CloudEventsMaker maker,
+                                                                    CloudEventsEnvelope envelope) {
         byte[] serializedData = avroConverter.fromConnectData(topic, maker.ceDataAttributeSchema(), maker.ceDataAttribute());
         String dataSchemaUri = maker.ceDataschemaUri(getSchemaIdFromAvroMessage(serializedData));
 
-        return convertToCloudEventsFormat(parser, maker, dataSchemaType, dataSchemaUri, serializedData);
+        return convertToCloudEventsFormat(parser, maker, envelope, dataSchemaUri, serializedData);
     }
 
     /**
@@ -296,7 +358,7 @@ public SchemaAndValue toConnectData(String topic, byte[] value) {
                 try {
                     jsonValue = jsonDeserializer.deserialize(topic, value);
                     byte[] data = jsonValue.get(CloudEventsMaker.FieldName.DATA).binaryValue();
-                    SchemaAndValue dataField = reconvertData(topic, data, dataSerializerType, enableJsonSchemas);
+                    SchemaAndValue dataField = reconvertData(topic, data, dataSerializerType);
                     Schema incompleteSchema = jsonCloudEventsConverter.asConnectSchema(jsonValue);
                     SchemaBuilder builder = SchemaBuilder.struct();
 
@@ -316,19 +378,9 @@ public SchemaAndValue toConnectData(String topic, byte[] value) {
                     }
                     Schema schema = builder.build();
 
-                    Struct incompleteStruct = (Struct) CONVERT_TO_CONNECT_METHOD.invoke(jsonCloudEventsConverter, incompleteSchema, jsonValue);
-                    Struct struct = new Struct(schema);
-
-                    for (Field ceField : incompleteSchema.fields()) {
-                        if (ceField.name().equals(CloudEventsMaker.FieldName.DATA)) {
-                            struct.put(ceField, dataField.value());
-                        }
-                        struct.put(ceField, incompleteStruct.get(ceField));
-                    }
-
                     return new SchemaAndValue(schema, value);
                 }
-                catch (SerializationException | IOException | IllegalAccessException | InvocationTargetException e) {
+                catch (SerializationException | IOException e) {
                     throw new DataException("Converting byte[] to Kafka Connect data failed due to serialization error: ", e);
                 }
             case AVRO:
@@ -375,35 +427,11 @@ public SchemaAndValue toConnectData(String topic, byte[] value) {
         return SchemaAndValue.NULL;
     }
 
-    private SchemaAndValue reconvertData(String topic, byte[] serializedData, SerializerType dataType, Boolean enableSchemas) {
+    private SchemaAndValue reconvertData(String topic, byte[] serializedData, SerializerType dataType) {
         switch (dataType) {
             case JSON:
-                JsonNode jsonValue;
-
-                try {
-                    jsonValue = jsonDeserializer.deserialize(topic, serializedData);
-                }
-                catch (SerializationException e) {
-                    throw new DataException("Converting byte[] to Kafka Connect data failed due to serialization error: ", e);
-                }
-
-                if (!enableSchemas) {
-                    ObjectNode envelope = JsonNodeFactory.instance.objectNode();
-                    envelope.set(CloudEventsMaker.FieldName.SCHEMA_FIELD_NAME, null);
-                    envelope.set(CloudEventsMaker.FieldName.PAYLOAD_FIELD_NAME, jsonValue);
-                    jsonValue = envelope;
-                }
-
-                Schema schema = jsonCloudEventsConverter.asConnectSchema(jsonValue.get(CloudEventsMaker.FieldName.SCHEMA_FIELD_NAME));
-
-                try {
-                    return new SchemaAndValue(
-                            schema,
-                            CONVERT_TO_CONNECT_METHOD.invoke(jsonCloudEventsConverter, schema, jsonValue.get(CloudEventsMaker.FieldName.PAYLOAD_FIELD_NAME)));
-                }
-                catch (IllegalAccessException | InvocationTargetException e) {
-                    throw new DataException(e.getCause());
-                }
+                // The data converter expects schema + payload or just the payload, depending on whether schemas are enabled
+                return jsonDataConverter.toConnectData(topic, serializedData);
             case AVRO:
                 return avroConverter.toConnectData(topic, serializedData);
             default:
@@ -411,69 +439,43 @@ private SchemaAndValue reconvertData(String topic, byte[] serializedData, Serial
         }
     }
 
-    private SchemaAndValue convertToCloudEventsFormat(RecordParser parser, CloudEventsMaker maker, Schema dataSchemaType, String dataSchema, Object serializedData) {
-        SchemaNameAdjuster schemaNameAdjuster = SchemaNameAdjuster.create();
+    private SchemaAndValue convertToCloudEventsFormat(RecordParser parser, CloudEventsMaker maker, CloudEventsEnvelope envelope, String dataSchema,
+                                                      Object serializedData) {
         Struct source = parser.source();
-        Schema sourceSchema = parser.source().schema();
         final Struct transaction = parser.transaction();
 
-        // construct schema of CloudEvents envelope
-        CESchemaBuilder ceSchemaBuilder = defineSchema()
-                .withName(schemaNameAdjuster.adjust(maker.ceEnvelopeSchemaName()))
-                .withSchema(CloudEventsMaker.FieldName.ID, Schema.STRING_SCHEMA)
-                .withSchema(CloudEventsMaker.FieldName.SOURCE, Schema.STRING_SCHEMA)
-                .withSchema(CloudEventsMaker.FieldName.SPECVERSION, Schema.STRING_SCHEMA)
-                .withSchema(CloudEventsMaker.FieldName.TYPE, Schema.STRING_SCHEMA)
-                .withSchema(CloudEventsMaker.FieldName.TIME, Schema.STRING_SCHEMA)
-                .withSchema(CloudEventsMaker.FieldName.DATACONTENTTYPE, Schema.STRING_SCHEMA);
-
-        if (dataSchema != null) {
-            ceSchemaBuilder.withSchema(CloudEventsMaker.FieldName.DATASCHEMA, Schema.STRING_SCHEMA);
-        }
-
-        ceSchemaBuilder.withSchema(adjustExtensionName(Envelope.FieldName.OPERATION), Schema.STRING_SCHEMA);
-
-        ceSchemaFromSchema(sourceSchema, ceSchemaBuilder, CloudEventsConverter::adjustExtensionName, false);
-
-        // transaction attributes
-        ceSchemaFromSchema(TransactionMonitor.TRANSACTION_BLOCK_SCHEMA, ceSchemaBuilder, CloudEventsConverter::txExtensionName, true);
-
-        ceSchemaBuilder.withSchema(CloudEventsMaker.FieldName.DATA, dataSchemaType);
-
-        Schema ceSchema = ceSchemaBuilder.build();
-
         // construct value of CloudEvents Envelope
-        CEValueBuilder ceValueBuilder = withValue(ceSchema)
+        CEValueBuilder ceValueBuilder = withValue(envelope.schema)
                 .withValue(CloudEventsMaker.FieldName.ID, maker.ceId())
                 .withValue(CloudEventsMaker.FieldName.SOURCE, maker.ceSource(source.getString("name")))
                 .withValue(CloudEventsMaker.FieldName.SPECVERSION, maker.ceSpecversion())
                 .withValue(CloudEventsMaker.FieldName.TYPE, maker.ceType())
                 .withValue(CloudEventsMaker.FieldName.TIME, maker.ceTime())
-                .withValue(CloudEventsMaker.FieldName.DATACONTENTTYPE, maker.ceDatacontenttype());
-        if (dataSchema != null) {
-            ceValueBuilder.withValue(CloudEventsMaker.FieldName.DATASCHEMA, dataSchema);
-        }
+                .withValue(CloudEventsMaker.FieldName.DATACONTENTTYPE, maker.ceDatacontenttype())
+                .withValue(CloudEventsMaker.FieldName.DATASCHEMA, dataSchema);
 
-        ceValueBuilder.withValue(adjustExtensionName(Envelope.FieldName.OPERATION), parser.op());
+        ceValueBuilder.withValue(OPERATION_ATTRIBUTE_NAME, parser.op());
 
-        ceValueFromStruct(source, sourceSchema, ceValueBuilder, CloudEventsConverter::adjustExtensionName);
+        ceValueFromStruct(source, envelope.sourceSchema, ceValueBuilder, envelope.sourceAttributeNames);
 
         if (transaction != null) {
-            ceValueFromStruct(transaction, TransactionMonitor.TRANSACTION_BLOCK_SCHEMA, ceValueBuilder, CloudEventsConverter::txExtensionName);
+            ceValueFromStruct(transaction, TransactionMonitor.TRANSACTION_BLOCK_SCHEMA, ceValueBuilder, TX_ATTRIBUTE_NAMES);
         }
 
         ceValueBuilder.withValue(CloudEventsMaker.FieldName.DATA, serializedData);
 
-        return new SchemaAndValue(ceSchema, ceValueBuilder.build());
+        return new SchemaAndValue(envelope.schema, ceValueBuilder.build());
     }
 
-    private void ceValueFromStruct(Struct struct, Schema schema, CEValueBuilder ceValueBuilder, Function<String, String> nameMapper) {
-        for (Field field : schema.fields()) {
+    private void ceValueFromStruct(Struct struct, Schema schema, CEValueBuilder ceValueBuilder, String[] attributeNames) {
+        final List<Field> fields = schema.fields();
+        for (int i = 0; i < attributeNames.length; i++) {
+            final Field field = fields.get(i);
             Object value = struct.get(field);
             if (field.schema().type() == Type.INT64 && value != null) {
                 value = String.valueOf((long) value);
             }
-            ceValueBuilder.withValue(nameMapper.apply(field.name()), value);
+            ceValueBuilder.withValue(attributeNames[i], value);
         }
     }
 
@@ -563,6 +565,45 @@ public Struct build() {
         };
     }
 
+    /**
+     * The schema of the CloudEvents envelope with the data serialized to bytes and the names of the extension
+     * attributes for the source fields; they depend only on the envelope name and the source schema.
+     */
+    private final class CloudEventsEnvelope {
+
+        private final Schema sourceSchema;
+        private final String[] sourceAttributeNames;
+        private final Schema schema;
+
+        CloudEventsEnvelope(String envelopeSchemaName, Schema sourceSchema) {
+            this.sourceSchema = sourceSchema;
+            this.sourceAttributeNames = sourceSchema.fields().stream()
+                    .map(field -> adjustExtensionName(field.name()))
+                    .toArray(String[]::new);
+
+            CESchemaBuilder ceSchemaBuilder = defineSchema()
+                    .withName(SchemaNameAdjuster.create().adjust(envelopeSchemaName))
+                    .withSchema(CloudEventsMaker.FieldName.ID, Schema.STRING_SCHEMA)
+                    .withSchema(CloudEventsMaker.FieldName.SOURCE, Schema.STRING_SCHEMA)
+                    .withSchema(CloudEventsMaker.FieldName.SPECVERSION, Schema.STRING_SCHEMA)
+                    .withSchema(CloudEventsMaker.FieldName.TYPE, Schema.STRING_SCHEMA)
+                    .withSchema(CloudEventsMaker.FieldName.TIME, Schema.STRING_SCHEMA)
+                    .withSchema(CloudEventsMaker.FieldName.DATACONTENTTYPE, Schema.STRING_SCHEMA)
+                    .withSchema(CloudEventsMaker.FieldName.DATASCHEMA, Schema.STRING_SCHEMA)
+                    .withSchema(OPERATION_ATTRIBUTE_NAME, Schema.STRING_SCHEMA);
+
+            // also validates that the source fields can be represented as extension attributes
+            ceSchemaFromSchema(sourceSchema, ceSchemaBuilder, CloudEventsConverter::adjustExtensionName, false);
+
+            // transaction attributes
+            ceSchemaFromSchema(TransactionMonitor.TRANSACTION_BLOCK_SCHEMA, ceSchemaBuilder, CloudEventsConverter::txExtensionName, true);
+
+            ceSchemaBuilder.withSchema(CloudEventsMaker.FieldName.DATA, Schema.BYTES_SCHEMA);
+
+            this.schema = ceSchemaBuilder.build();
+        }
+    }
+
     /**
      * Builder of a CloudEvents envelope schema.
      */
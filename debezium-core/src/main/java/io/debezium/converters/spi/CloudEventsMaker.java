@@ -5,9 +5,10 @@
  */
 package io.debezium.converters.spi;
 
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.Map;
-import java.util.TimeZone;
 
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.Struct;
@@ -22,6 +23,7 @@
 public abstract class CloudEventsMaker {
 
     private static final String SCHEMA_URL_PATH = "/schemas/ids/";
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX").withZone(ZoneOffset.UTC);
 
     /**
      * The constants for the names of CloudEvents attributes.
@@ -138,9 +140,7 @@ public String ceDataschemaUri(String schemaId) {
      */
     public String ceTime() {
         long time = (long) recordParser.getMetadata(AbstractSourceInfo.TIMESTAMP_KEY);
-        SimpleDateFormat formatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
-        formatter.setTimeZone(TimeZone.getTimeZone("UTC"));
-        return formatter.format(time);
+        return TIME_FORMATTER.format(Instant.ofEpochMilli(time));
     }
 
     /**
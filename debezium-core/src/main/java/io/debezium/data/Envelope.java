@@ -253,9 +253,20 @@ public static Envelope fromSchema(Schema schema) {
     }
 
     private final Schema schema;
+    private final Field operationField;
+    private final Field beforeField;
+    private final Field afterField;
+    private final Field sourceField;
+    private final Field timestampField;
 
     private Envelope(Schema schema) {
         this.schema = schema;
+        // Resolved once, as the messages of an envelope are generated for each change
+        this.operationField = schema.field(FieldName.OPERATION);
+        this.beforeField = schema.field(FieldName.BEFORE);
+        this.afterField = schema.field(FieldName.AFTER);
+        this.sourceField = schema.field(FieldName.SOURCE);
+        this.timestampField = schema.field(FieldName.TIMESTAMP);
     }
 
     /**
@@ -277,13 +288,13 @@ public Schema schema() {
      */
     public Struct read(Object record, Struct source, Instant timestamp) {
         Struct struct = new Struct(schema);
-        struct.put(FieldName.OPERATION, Operation.READ.code());
-        struct.put(FieldName.AFTER, record);
+        struct.put(operationField, Operation.READ.code());
+        struct.put(afterField, record);
         if (source != null) {
-            struct.put(FieldName.SOURCE, source);
+            struct.put(sourceField, source);
         }
         if (timestamp != null) {
-            struct.put(FieldName.TIMESTAMP, timestamp.toEpochMilli());
+            struct.put(timestampField, timestamp.toEpochMilli());
         }
         return struct;
     }
@@ -298,13 +309,13 @@ public Struct read(Object record, Struct source, Instant timestamp) {
      */
     public Struct create(Object record, Struct source, Instant timestamp) {
         Struct struct = new Struct(schema);
-        struct.put(FieldName.OPERATION, Operation.CREATE.code());
-        struct.put(FieldName.AFTER, record);
+        struct.put(operationField, Operation.CREATE.code());
+        struct.put(afterField, record);
         if (source != null) {
-            struct.put(FieldName.SOURCE, source);
+            struct.put(sourceField, source);
         }
         if (timestamp != null) {
-            struct.put(FieldName.TIMESTAMP, timestamp.toEpochMilli());
+            struct.put(timestampField, timestamp.toEpochMilli());
         }
         return struct;
     }
@@ -320,16 +331,16 @@ public Struct create(Object record, Struct source, Instant timestamp) {
      */
     public Struct update(Object before, Struct after, Struct source, Instant timestamp) {
         Struct struct = new Struct(schema);
-        struct.put(FieldName.OPERATION, Operation.UPDATE.code());
+        struct.put(operationField, Operation.UPDATE.code());
         if (before != null) {
-            struct.put(FieldName.BEFORE, before);
+            struct.put(beforeField, before);
         }
-        struct.put(FieldName.AFTER, after);
+        struct.put(afterField, after);
         if (source != null) {
-            struct.put(FieldName.SOURCE, source);
+            struct.put(sourceField, source);
         }
         if (timestamp != null) {
-            struct.put(FieldName.TIMESTAMP, timestamp.toEpochMilli());
+            struct.put(timestampField, timestamp.toEpochMilli());
         }
         return struct;
     }
@@ -344,15 +355,15 @@ public Struct update(Object before, Struct after, Struct source, Instant timesta
      */
     public Struct delete(Object before, Struct source, Instant timestamp) {
         Struct struct = new Struct(schema);
-        struct.put(FieldName.OPERATION, Operation.DELETE.code());
+        struct.put(operationField, Operation.DELETE.code());
         if (before != null) {
-            struct.put(FieldName.BEFORE, before);
+            struct.put(beforeField, before);
         }
         if (source != null) {
-            struct.put(FieldName.SOURCE, source);
+            struct.put(sourceField, source);
         }
         if (timestamp != null) {
-            struct.put(FieldName.TIMESTAMP, timestamp.toEpochMilli());
+            struct.put(timestampField, timestamp.toEpochMilli());
         }
         return struct;
     }
@@ -366,17 +377,17 @@ public Struct delete(Object before, Struct source, Instant timestamp) {
      */
     public Struct truncate(Struct source, Instant timestamp) {
         Struct struct = new Struct(schema);
-        struct.put(FieldName.OPERATION, Operation.TRUNCATE.code());
-        struct.put(FieldName.SOURCE, source);
-        struct.put(FieldName.TIMESTAMP, timestamp.toEpochMilli());
+        struct.put(operationField, Operation.TRUNCATE.code());
+        struct.put(sourceField, source);
+        struct.put(timestampField, timestamp.toEpochMilli());
         return struct;
     }
 
     public Struct truncateCascade(Struct source, Instant timestamp) {
         Struct struct = new Struct(schema);
-        struct.put(FieldName.OPERATION, Operation.TRUNCATE_CASCADE.code());
-        struct.put(FieldName.SOURCE, source);
-        struct.put(FieldName.TIMESTAMP, timestamp.toEpochMilli());
+        struct.put(operationField, Operation.TRUNCATE_CASCADE.code());
+        struct.put(sourceField, source);
+        struct.put(timestampField, timestamp.toEpochMilli());
         return struct;
     }
 
@@ -0,0 +1,154 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.DataException;
+
+import io.debezium.annotation.Immutable;
+import io.debezium.util.BoundedConcurrentHashMap;
+import io.debezium.util.BoundedConcurrentHashMap.Eviction;
+import io.debezium.util.SchemaIdentityKey;
+
+/**
+ * Copies the values of the structs of one schema into structs of another schema. The fields of both schemas are
+ * resolved once when the copier is created, so that copying a struct reads and writes the values by the positions of
+ * the fields instead of looking up each field by its name.
+ * <p>
+ * The values are still validated by {@link Struct#put(Field, Object)}; this is cheap when the fields of both schemas
+ * share their schema instances, as it is the case for schemas derived from one another.
+ */
+@Immutable
+public final class StructCopier {
+
+    /**
+     * The maximum number of copiers cached by {@link #forSchemas(Schema, Schema)}.
+     */
+    static final int CACHE_SIZE = 256;
+
+    private static final Map<SchemaIdentityKey, StructCopier> COPIERS = new BoundedConcurrentHashMap<>(CACHE_SIZE, 16, Eviction.LRU);
+
+    private final Schema sourceSchema;
+    private final Schema targetSchema;
+    private final Field[] sourceFields;
+    private final Field[] targetFields;
+
+    private StructCopier(Schema sourceSchema, Schema targetSchema, Field[] sourceFields, Field[] targetFields) {
+        this.sourceSchema = sourceSchema;
+        this.targetSchema = targetSchema;
+        this.sourceFields = sourceFields;
+        this.targetFields = targetFields;
+    }
+
+    /**
+     * Returns a copier of the fields of the source schema into the fields of the same names of the target schema.
+     * Fields of the source schema not present in the target schema are not copied. Copiers are cached per pair of
+     * schema instances, still callers copying many structs of the same schemas should keep the copier rather than
+     * looking it up for each struct.
+     *
+     * @param sourceSchema the schema of the structs to copy from; may not be null
+     * @param targetSchema the schema of the structs to copy into; may not be null
+     * @return the copier; never null
+     */
+    public static StructCopier forSchemas(Schema sourceSchema, Schema targetSchema) {
+        final SchemaIdentityKey key = SchemaIdentityKey.of(sourceSchema, targetSchema);
+        StructCopier copier = COPIERS.get(key);
+        if (copier == null) {
+            copier = create(sourceSchema, targetSchema);
+            COPIERS.put(key, copier);
+        }
+        return copier;
+    }
+
+    /**
+     * Creates a copier of the given fields of the source schema into the fields of the target schema they are mapped
+     * to, a source field may be copied into several target fields. Such copiers are not cached, callers are expected
+     * to keep them as long as the schemas don't change.
+     *
+     * @param sourceSchema the schema of the structs to copy from; may not be null
+     * @param targetSchema the schema of the structs to copy into; may not be null
+     * @param sourceFieldNames the names of the source fields keyed by the names of the target fields; may not be null
+     * @return the copier; never null
+     * @throws DataException if one of the fields is not present in its schema
+     */
+    public static StructCopier forFields(Schema sourceSchema, Schema targetSchema, Map<String, String> sourceFieldNames) {
+        final Field[] sourceFields = new Field[sourceFieldNames.size()];
+        final Field[] targetFields = new Field[sourceFieldNames.size()];
+        int i = 0;
+        for (Map.Entry<String, String> fieldNames : sourceFieldNames.entrySet()) {
+            targetFields[i] = requireField(targetSchema, fieldNames.getKey());
+            sourceFields[i] = requireField(sourceSchema, fieldNames.getValue());
+            i++;
+        }
+        return new StructCopier(sourceSchema, targetSchema, sourceFields, targetFields);
+    }
+
+    private static StructCopier create(Schema sourceSchema, Schema targetSchema) {
+        final List<Field> sourceFields = new ArrayList<>(sourceSchema.fields().size());
+        final List<Field> targetFields = new ArrayList<>(sourceSchema.fields().size());
+        for (Field sourceField : sourceSchema.fields()) {
+            final Field targetField = targetSchema.field(sourceField.name());
+            if (targetField != null) {
+                sourceFields.add(sourceField);
+                targetFields.add(targetField);
+            }
+        }
+        return new StructCopier(sourceSchema, targetSchema, sourceFields.toArray(new Field[0]), targetFields.toArray(new Field[0]));
+    }
+
+    private static Field requireField(Schema schema, String fieldName) {
+        final Field field = schema.field(fieldName);
+        if (field == null) {
+            throw new DataException("Field '" + fieldName + "' not found in schema " + schema.name());
+        }
+        return field;
+    }
+
+    /**
+     * @return the schema of the structs copied from; never null
+     */
+    public Schema sourceSchema() {
+        return sourceSchema;
+    }
+
+    /**
+     * @return the schema of the structs copied into; never null
+     */
+    public Schema targetSchema() {
+        return targetSchema;
+    }
+
+    /**
+     * Copies the given struct into a new struct of the target schema.
+     *
+     * @param source the struct to copy from, must be of the source schema; may not be null
+     * @return the new struct; never null
+     */
+    public Struct copy(Struct source) {
+        return copy(source, new Struct(targetSchema));
+    }
+
+    /**
+     * Copies the given struct into the given struct of the target schema, the values of other fields of the target
+     * struct are left as they are.
+     *
+     * @param source the struct to copy from, must be of the source schema; may not be null
+     * @param target the struct to copy into, must be of the target schema; may not be null
+     * @return the target struct; never null
+     */
+    public Struct copy(Struct source, Struct target) {
+        for (int i = 0; i < sourceFields.length; i++) {
+            target.put(targetFields[i], source.get(sourceFields[i]));
+        }
+        return target;
+    }
+}
@@ -14,6 +14,8 @@
 import java.io.Reader;
 import java.net.URL;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import io.debezium.annotation.ThreadSafe;
 
 /**
@@ -69,6 +71,17 @@ static DocumentReader floatNumbersAsTextReader() {
      */
     Document read(String json) throws IOException;
 
+    /**
+     * Read a document from the supplied parser, e.g. the value of a field of a larger JSON structure that is read by the
+     * caller. The current token of the parser must be the start of the document, the parser is left at its end and is
+     * not closed.
+     *
+     * @param parser the parser positioned at the start of the document; may not be null
+     * @return the document instance; never null
+     * @throws IOException if a document could not be read from the supplied parser
+     */
+    Document read(JsonParser parser) throws IOException;
+
     /**
      * Read a document from the content at the given URL.
      *
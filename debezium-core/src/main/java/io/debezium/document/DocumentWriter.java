@@ -10,6 +10,8 @@
 import java.io.OutputStream;
 import java.io.Writer;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import io.debezium.annotation.ThreadSafe;
 
 /**
@@ -79,4 +81,13 @@ default byte[] writeAsBytes(Document document) {
      */
     String write(Document document) throws IOException;
 
+    /**
+     * Write the supplied document to the given generator, e.g. as the value of a field of a larger JSON structure that
+     * is written by the caller. The generator is not closed.
+     * @param document the document to be written; may not be null
+     * @param generator the generator to which the document is to be written; may not be null
+     * @throws IOException if a document could not be written to the supplied generator
+     */
+    void write(Document document, JsonGenerator generator) throws IOException;
+
 }
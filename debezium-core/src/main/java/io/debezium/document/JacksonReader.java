@@ -57,6 +57,14 @@ public Document read(String json) throws IOException {
         return parse(factory.createParser(json));
     }
 
+    @Override
+    public Document read(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected data to start with an Object, but was " + parser.currentToken());
+        }
+        return parseDocument(parser, true);
+    }
+
     @Override
     public Document read(File jsonFile) throws IOException {
         return parse(factory.createParser(jsonFile));
@@ -67,6 +67,11 @@ public String write(Document document) throws IOException {
         return writer.getBuffer().toString();
     }
 
+    @Override
+    public void write(Document document, JsonGenerator generator) throws IOException {
+        writeDocument(document, generator);
+    }
+
     @Override
     public byte[] writeAsBytes(Document document) {
         try (ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
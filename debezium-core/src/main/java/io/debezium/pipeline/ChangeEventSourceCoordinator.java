@@ -66,6 +66,7 @@
 
     private volatile boolean running;
     protected volatile StreamingChangeEventSource<P, O> streamingSource;
+    private volatile Optional<IncrementalSnapshotChangeEventSource<? extends DataCollectionId>> incrementalSnapshotSource = Optional.empty();
     protected final ReentrantLock commitOffsetLock = new ReentrantLock();
 
     protected SnapshotChangeEventSourceMetrics snapshotMetrics;
@@ -115,6 +116,7 @@ public synchronized void start(CdcSourceTaskContext taskContext, ChangeEventQueu
                     errorHandler.setProducerThrowable(e);
                 }
                 finally {
+                    incrementalSnapshotSource.ifPresent(IncrementalSnapshotChangeEventSource::stop);
                     streamingConnected(false);
                 }
             });
@@ -183,6 +185,7 @@ protected void initStreamEvents(O offsetContext) throws InterruptedException {
                 .getIncrementalSnapshotChangeEventSource(offsetContext, snapshotMetrics, snapshotMetrics);
         eventDispatcher.setIncrementalSnapshotChangeEventSource(incrementalSnapshotChangeEventSource);
         incrementalSnapshotChangeEventSource.ifPresent(x -> x.init(offsetContext));
+        incrementalSnapshotSource = incrementalSnapshotChangeEventSource;
     }
 
     public void commitOffset(Map<String, ?> offset) {
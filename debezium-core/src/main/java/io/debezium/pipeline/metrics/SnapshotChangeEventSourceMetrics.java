@@ -46,6 +46,7 @@ public class SnapshotChangeEventSourceMetrics extends PipelineMetrics implements
     private final AtomicReference<Object[]> chunkTo = new AtomicReference<>();
     private final AtomicReference<Object[]> tableFrom = new AtomicReference<>();
     private final AtomicReference<Object[]> tableTo = new AtomicReference<>();
+    private final ConcurrentMap<String, Integer> chunkSizes = new ConcurrentHashMap<>();
 
     private final Set<String> capturedTables = Collections.synchronizedSet(new HashSet<>());
 
@@ -173,6 +174,11 @@ public void currentChunk(String chunkId, Object[] chunkFrom, Object[] chunkTo, O
         this.tableTo.set(tableTo);
     }
 
+    @Override
+    public void currentChunkSize(DataCollectionId dataCollectionId, int chunkSize) {
+        chunkSizes.put(dataCollectionId.identifier(), chunkSize);
+    }
+
     @Override
     public String getChunkId() {
         return chunkId.get();
@@ -198,6 +204,11 @@ public String getTableTo() {
         return arrayToString(tableTo.get());
     }
 
+    @Override
+    public ConcurrentMap<String, Integer> getChunkSizes() {
+        return chunkSizes;
+    }
+
     private String arrayToString(Object[] array) {
         return (array == null) ? null : Arrays.toString(array);
     }
@@ -218,5 +229,6 @@ public void reset() {
         chunkTo.set(null);
         tableFrom.set(null);
         tableTo.set(null);
+        chunkSizes.clear();
     }
 }
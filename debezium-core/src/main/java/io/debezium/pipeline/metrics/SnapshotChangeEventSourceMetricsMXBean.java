@@ -35,4 +35,6 @@ public interface SnapshotChangeEventSourceMetricsMXBean extends ChangeEventSourc
     String getTableFrom();
 
     String getTableTo();
+
+    Map<String, Integer> getChunkSizes();
 }
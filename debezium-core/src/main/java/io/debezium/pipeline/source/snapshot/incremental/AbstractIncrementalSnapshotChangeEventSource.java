@@ -17,14 +17,21 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.debezium.DebeziumException;
 import io.debezium.annotation.NotThreadSafe;
+import io.debezium.config.CommonConnectorConfig;
 import io.debezium.data.ValueWrapper;
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
@@ -46,6 +53,7 @@
 import io.debezium.schema.DatabaseSchema;
 import io.debezium.util.Clock;
 import io.debezium.util.ColumnUtils;
+import io.debezium.util.ObjectSizeCalculator;
 import io.debezium.util.Strings;
 import io.debezium.util.Threads;
 import io.debezium.util.Threads.Timer;
@@ -58,11 +66,21 @@
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractIncrementalSnapshotChangeEventSource.class);
 
+    /**
+     * The number of rows of a chunk whose size is measured to estimate the memory used by a row.
+     */
+    private static final int ROW_SIZE_SAMPLES = 8;
+
     private final RelationalDatabaseConnectorConfig connectorConfig;
     private final Clock clock;
     private final RelationalDatabaseSchema databaseSchema;
     private final SnapshotProgressListener progressListener;
     private final DataChangeEventListener dataListener;
+    private final Class<? extends SourceConnector> connectorType;
+    private final Supplier<? extends JdbcConnection> chunkConnectionFactory;
+    private final AdaptiveChunkSize chunkSizes;
+    private final List<JdbcConnection> chunkConnections = new ArrayList<>();
+    private ExecutorService chunkReaderExecutor;
     private long totalRowsScanned = 0;
 
     private Table currentTable;
@@ -79,6 +97,24 @@ public AbstractIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorC
                                                         Clock clock,
                                                         SnapshotProgressListener progressListener,
                                                         DataChangeEventListener dataChangeEventListener) {
+        this(config, jdbcConnection, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, null, null);
+    }
+
+    /**
+     * @param connectorType the connector class used to name the chunk reader threads; may be null only if
+     *            {@code chunkConnectionFactory} is null
+     * @param chunkConnectionFactory the supplier of additional, not yet connected, connections used to read the key
+     *            ranges of a chunk concurrently; may be null if the chunks are always read sequentially
+     */
+    public AbstractIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig config,
+                                                        JdbcConnection jdbcConnection,
+                                                        EventDispatcher<T> dispatcher,
+                                                        DatabaseSchema<?> databaseSchema,
+                                                        Clock clock,
+                                                        SnapshotProgressListener progressListener,
+                                                        DataChangeEventListener dataChangeEventListener,
+                                                        Class<? extends SourceConnector> connectorType,
+                                                        Supplier<? extends JdbcConnection> chunkConnectionFactory) {
         this.connectorConfig = config;
         this.jdbcConnection = jdbcConnection;
         this.dispatcher = dispatcher;
@@ -86,6 +122,19 @@ public AbstractIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorC
         this.clock = clock;
         this.progressListener = progressListener;
         this.dataListener = dataChangeEventListener;
+        this.connectorType = connectorType;
+        this.chunkConnectionFactory = chunkConnectionFactory;
+        this.chunkSizes = new AdaptiveChunkSize(config.isIncrementalSnapshotChunkSizeAdaptive(),
+                config.getIncrementalSnashotChunkSize(),
+                config.getIncrementalSnapshotChunkSizeMin(),
+                config.getIncrementalSnapshotChunkSizeMax(),
+                config.getIncrementalSnapshotChunkTargetDuration(),
+                config.getIncrementalSnapshotWindowMaxBytes(),
+                chunkConnectionFactory != null ? config.getIncrementalSnapshotMaxThreads() : 1);
+        if (chunkConnectionFactory == null && config.getIncrementalSnapshotMaxThreads() > 1) {
+            LOGGER.warn("The connector doesn't support reading incremental snapshot chunks concurrently, '{}' is ignored",
+                    CommonConnectorConfig.INCREMENTAL_SNAPSHOT_MAX_THREADS.name());
+        }
     }
 
     @Override
@@ -108,6 +157,7 @@ protected String getSignalTableName(String dataCollectionId) {
 
     protected void sendWindowEvents(Partition partition, OffsetContext offsetContext) throws InterruptedException {
         LOGGER.debug("Sending {} events from window buffer", window.size());
+        chunkSizes.windowClosed(window.size());
         offsetContext.incrementalSnapshotEvents();
         for (Object[] row : window.values()) {
             sendEvent(partition, dispatcher, offsetContext, row);
@@ -155,10 +205,14 @@ protected void deduplicateWindow(DataCollectionId dataCollectionId, Object key)
     protected abstract void emitWindowClose() throws SQLException, InterruptedException;
 
     protected String buildChunkQuery(Table table) {
-        return buildChunkQuery(table, connectorConfig.getIncrementalSnashotChunkSize());
+        return buildChunkQuery(table, chunkSizes.chunkSize(table.id()));
     }
 
     protected String buildChunkQuery(Table table, int limit) {
+        return buildChunkQuery(table, limit, "*");
+    }
+
+    private String buildChunkQuery(Table table, int limit, String projection) {
         String condition = null;
         // Add condition when this is not the first query
         if (context.isNonInitialChunk()) {
@@ -170,14 +224,34 @@ protected String buildChunkQuery(Table table, int limit) {
             addLowerBound(table, sql);
             condition = sql.toString();
         }
-        final String orderBy = getKeyMapper().getKeyKolumns(table).stream()
-                .map(c -> jdbcConnection.quotedColumnIdString(c.name()))
-                .collect(Collectors.joining(", "));
         return jdbcConnection.buildSelectWithRowLimits(table.id(),
                 limit,
-                "*",
+                projection,
                 Optional.ofNullable(condition),
-                orderBy);
+                keyColumnList(table));
+    }
+
+    /**
+     * Builds the query reading the rows of a table between two keys; the lower key is exclusive and the
+     * upper key is inclusive.
+     */
+    protected String buildKeyRangeQuery(Table table, boolean hasLowerBound) {
+        final StringBuilder sql = new StringBuilder("SELECT * FROM ")
+                .append(jdbcConnection.quotedTableIdString(table.id()))
+                .append(" WHERE ");
+        if (hasLowerBound) {
+            addLowerBound(table, sql);
+            sql.append(" AND ");
+        }
+        sql.append("NOT ");
+        addLowerBound(table, sql);
+        return sql.append(" ORDER BY ").append(keyColumnList(table)).toString();
+    }
+
+    private String keyColumnList(Table table) {
+        return getKeyMapper().getKeyKolumns(table).stream()
+                .map(c -> jdbcConnection.quotedColumnIdString(c.name()))
+                .collect(Collectors.joining(", "));
     }
 
     private void addLowerBound(Table table, StringBuilder sql) {
@@ -314,6 +388,8 @@ protected void readChunk() throws InterruptedException {
         finally {
             postReadChunk(context);
             if (!context.snapshotRunning()) {
+                closeChunkReaders();
+                chunkSizes.reset();
                 postIncrementalSnapshotCompleted();
             }
         }
@@ -413,10 +489,19 @@ protected void addKeyColumnsToCondition(Table table, StringBuilder sql, String p
      * Dispatches the data change events for the records of a single table.
      */
     private boolean createDataEventsForTable() {
+        if (chunkConnectionFactory != null && connectorConfig.getIncrementalSnapshotMaxThreads() > 1) {
+            return createDataEventsForTableConcurrently();
+        }
+        return createDataEventsForTableSequentially();
+    }
+
+    private boolean createDataEventsForTableSequentially() {
         long exportStart = clock.currentTimeInMillis();
         LOGGER.debug("Exporting data chunk from table '{}' (total {} tables)", currentTable.id(), context.dataCollectionsToBeSnapshottedCount());
 
-        final String selectStatement = buildChunkQuery(currentTable);
+        final int chunkSize = chunkSizes.chunkSize(currentTable.id());
+        progressListener.currentChunkSize(currentTable.id(), chunkSize);
+        final String selectStatement = buildChunkQuery(currentTable, chunkSize);
         LOGGER.debug("\t For table '{}' using select statement: '{}', key: '{}', maximum key: '{}'", currentTable.id(),
                 selectStatement, context.chunkEndPosititon(), context.maximumKey().get());
 
@@ -465,6 +550,7 @@ private boolean createDataEventsForTable() {
             LOGGER.debug("\t Finished exporting {} records for window of table table '{}'; total duration '{}'", rows,
                     currentTable.id(), Strings.duration(clock.currentTimeInMillis() - exportStart));
             incrementTableRowsScanned(rows);
+            chunkRead(chunkSize, rows, clock.currentTimeInMillis() - exportStart);
         }
         catch (SQLException e) {
             throw new DebeziumException("Snapshotting of table " + currentTable.id() + " failed", e);
@@ -472,6 +558,229 @@ private boolean createDataEventsForTable() {
         return true;
     }
 
+    /**
+     * Reads up to {@code incremental.snapshot.max.threads} chunks of a single table into the current window.
+     * The keys delimiting the chunks are looked up first, then the key ranges are read concurrently, the first one
+     * on the connector's connection and the others on the chunk connections.
+     */
+    private boolean createDataEventsForTableConcurrently() {
+        final long exportStart = clock.currentTimeInMillis();
+        final int chunkSize = chunkSizes.chunkSize(currentTable.id());
+        final int maxChunks = connectorConfig.getIncrementalSnapshotMaxThreads();
+        try {
+            List<Object[]> chunkEnds;
+            do {
+                chunkEnds = readChunkEnds(chunkSize, maxChunks);
+                if (chunkEnds.size() < 2) {
+                    // A single chunk remains, there is nothing to read concurrently
+                    return createDataEventsForTableSequentially();
+                }
+                progressListener.currentChunkSize(currentTable.id(), chunkSize);
+                LOGGER.debug("Exporting {} data chunks from table '{}' concurrently, key: '{}', chunk ends: '{}'", chunkEnds.size(),
+                        currentTable.id(), context.chunkEndPosititon(), chunkEnds);
+
+                final List<List<Object[]>> chunks = readKeyRanges(chunkEnds);
+                if (chunks == null) {
+                    return false;
+                }
+                final TableSchema tableSchema = databaseSchema.schemaFor(currentTable.id());
+                long rows = 0;
+                Object[] firstRow = null;
+                Object[] lastRow = null;
+                for (List<Object[]> chunk : chunks) {
+                    for (Object[] row : chunk) {
+                        rows++;
+                        if (firstRow == null) {
+                            firstRow = row;
+                        }
+                        window.put(tableSchema.keyFromColumnData(row), row);
+                        lastRow = row;
+                    }
+                }
+                final Object[] firstKey = keyFromRow(firstRow);
+                final Object[] lastKey = chunkEnds.get(chunkEnds.size() - 1);
+                if (context.isNonInitialChunk()) {
+                    progressListener.currentChunk(context.currentChunkId(), firstKey, lastKey);
+                }
+                else {
+                    progressListener.currentChunk(context.currentChunkId(), firstKey, lastKey, context.maximumKey().orElse(null));
+                }
+                // The rows of the key ranges can be deleted after the chunk ends were read, an empty window
+                // doesn't mean that the table has been read completely then
+                context.nextChunkPosition(lastRow != null ? keyFromRow(lastRow) : lastKey);
+                LOGGER.debug("\t Finished exporting {} records for window of table table '{}'; total duration '{}'", rows,
+                        currentTable.id(), Strings.duration(clock.currentTimeInMillis() - exportStart));
+                incrementTableRowsScanned(rows);
+                chunkRead((long) chunkSize * maxChunks, rows, clock.currentTimeInMillis() - exportStart);
+            } while (window.isEmpty());
+            LOGGER.debug("\t Next window will resume from {}", (Object) context.chunkEndPosititon());
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Snapshotting of table " + currentTable.id() + " failed", e);
+        }
+        return true;
+    }
+
+    /**
+     * Passes the measurements of the chunks read into the window to the chunk size adaptation.
+     */
+    private void chunkRead(long requestedRows, long rows, long durationMillis) {
+        if (!chunkSizes.isAdaptive()) {
+            return;
+        }
+        long bytesPerRow = 0;
+        if (!window.isEmpty()) {
+            final int stride = Math.max(1, window.size() / ROW_SIZE_SAMPLES);
+            long sampledBytes = 0;
+            int samples = 0;
+            int i = 0;
+            for (Object[] row : window.values()) {
+                if (i++ % stride == 0) {
+                    sampledBytes += ObjectSizeCalculator.getObjectSize(row);
+                    samples++;
+                }
+            }
+            bytesPerRow = sampledBytes / samples;
+        }
+        chunkSizes.chunkRead(currentTable.id(), requestedRows, rows, durationMillis, bytesPerRow);
+    }
+
+    /**
+     * Returns the last keys of the next chunks of the current table; the last key of the list can end a partial chunk.
+     */
+    private List<Object[]> readChunkEnds(int chunkSize, int chunkCount) throws SQLException {
+        final String selectStatement = buildChunkQuery(currentTable, chunkSize * chunkCount, keyColumnList(currentTable));
+        final List<Object[]> chunkEnds = new ArrayList<>(chunkCount);
+        try (PreparedStatement statement = readTableChunkStatement(selectStatement);
+                ResultSet rs = statement.executeQuery()) {
+            final ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, currentTable);
+            long rows = 0;
+            Object[] lastKey = null;
+            while (rs.next()) {
+                lastKey = keyFromRow(jdbcConnection.rowToArray(currentTable, databaseSchema, rs, columnArray));
+                if (++rows % chunkSize == 0) {
+                    chunkEnds.add(lastKey);
+                }
+            }
+            if (rows % chunkSize != 0) {
+                chunkEnds.add(lastKey);
+            }
+        }
+        return chunkEnds;
+    }
+
+    /**
+     * Reads the rows of the key ranges ending at the given keys, the first range starts at the current chunk position.
+     *
+     * @return the rows of each key range, or {@code null} if the schema of the table has changed
+     */
+    private List<List<Object[]>> readKeyRanges(List<Object[]> chunkEnds) throws SQLException {
+        final Table table = currentTable;
+        final Object[] chunkStart = context.isNonInitialChunk() ? context.chunkEndPosititon() : null;
+        final String firstChunkStatement = buildKeyRangeQuery(table, chunkStart != null);
+        final String chunkStatement = buildKeyRangeQuery(table, true);
+
+        final List<Future<List<Object[]>>> futures = new ArrayList<>(chunkEnds.size() - 1);
+        for (int i = 1; i < chunkEnds.size(); i++) {
+            final JdbcConnection connection = chunkConnection(i - 1);
+            final Object[] lowerBound = chunkEnds.get(i - 1);
+            final Object[] upperBound = chunkEnds.get(i);
+            futures.add(chunkReaderExecutor().submit(() -> {
+                // Starts a new transaction so the range is read as of the opened window
+                connection.commit();
+                try (PreparedStatement statement = keyRangeStatement(connection, chunkStatement, lowerBound, upperBound);
+                        ResultSet rs = statement.executeQuery()) {
+                    return readRows(connection, table, rs);
+                }
+            }));
+        }
+
+        final List<List<Object[]>> chunks = new ArrayList<>(chunkEnds.size());
+        try {
+            try (PreparedStatement statement = keyRangeStatement(jdbcConnection, firstChunkStatement, chunkStart, chunkEnds.get(0));
+                    ResultSet rs = statement.executeQuery()) {
+                if (checkSchemaChanges(rs)) {
+                    return null;
+                }
+                chunks.add(readRows(jdbcConnection, table, rs));
+            }
+            for (Future<List<Object[]>> future : futures) {
+                chunks.add(future.get());
+            }
+            return chunks;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DebeziumException("Reading of data chunks of table " + table.id() + " has been interrupted", e);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new DebeziumException("Reading of data chunks of table " + table.id() + " failed", e.getCause());
+        }
+        finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private PreparedStatement keyRangeStatement(JdbcConnection connection, String sql, Object[] lowerBound, Object[] upperBound)
+            throws SQLException {
+        final PreparedStatement statement = connection.readTablePreparedStatement(connectorConfig, sql, OptionalLong.empty());
+        int pos = 0;
+        if (lowerBound != null) {
+            pos = setKeyParameters(statement, pos, lowerBound);
+        }
+        setKeyParameters(statement, pos, upperBound);
+        return statement;
+    }
+
+    private List<Object[]> readRows(JdbcConnection connection, Table table, ResultSet rs) throws SQLException {
+        final ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, table);
+        final List<Object[]> rows = new ArrayList<>();
+        while (rs.next()) {
+            rows.add(connection.rowToArray(table, databaseSchema, rs, columnArray));
+        }
+        return rows;
+    }
+
+    private JdbcConnection chunkConnection(int index) {
+        while (chunkConnections.size() <= index) {
+            chunkConnections.add(chunkConnectionFactory.get());
+        }
+        return chunkConnections.get(index);
+    }
+
+    private ExecutorService chunkReaderExecutor() {
+        if (chunkReaderExecutor == null) {
+            chunkReaderExecutor = Executors.newFixedThreadPool(connectorConfig.getIncrementalSnapshotMaxThreads() - 1,
+                    Threads.threadFactory(connectorType, connectorConfig.getLogicalName(), "incremental-snapshot-chunk-reader", true, true));
+        }
+        return chunkReaderExecutor;
+    }
+
+    @Override
+    public void stop() {
+        // the snapshot is resumed from the offsets when the task is restarted, only the readers are released here
+        closeChunkReaders();
+    }
+
+    private void closeChunkReaders() {
+        if (chunkReaderExecutor != null) {
+            chunkReaderExecutor.shutdownNow();
+            chunkReaderExecutor = null;
+        }
+        for (JdbcConnection connection : chunkConnections) {
+            try {
+                connection.close();
+            }
+            catch (SQLException e) {
+                LOGGER.warn("Failed to close incremental snapshot chunk connection", e);
+            }
+        }
+        chunkConnections.clear();
+    }
+
     private boolean checkSchemaChanges(ResultSet rs) throws SQLException {
         if (!connectorConfig.isIncrementalSnapshotSchemaChangesEnabled()) {
             return false;
@@ -524,25 +833,28 @@ protected PreparedStatement readTableChunkStatement(String sql) throws SQLExcept
         final PreparedStatement statement = jdbcConnection.readTablePreparedStatement(connectorConfig, sql,
                 OptionalLong.empty());
         if (context.isNonInitialChunk()) {
-            final Object[] maximumKey = context.maximumKey().get();
-            final Object[] chunkEndPosition = context.chunkEndPosititon();
             // Fill boundaries placeholders
-            int pos = 0;
-            for (int i = 0; i < chunkEndPosition.length; i++) {
-                for (int j = 0; j < i + 1; j++) {
-                    statement.setObject(++pos, chunkEndPosition[j]);
-                }
-            }
+            final int pos = setKeyParameters(statement, 0, context.chunkEndPosititon());
             // Fill maximum key placeholders
-            for (int i = 0; i < chunkEndPosition.length; i++) {
-                for (int j = 0; j < i + 1; j++) {
-                    statement.setObject(++pos, maximumKey[j]);
-                }
-            }
+            setKeyParameters(statement, pos, context.maximumKey().get());
         }
         return statement;
     }
 
+    /**
+     * Fills the placeholders of a condition built by {@link #addLowerBound(Table, StringBuilder)}.
+     *
+     * @return the position of the last filled placeholder
+     */
+    private int setKeyParameters(PreparedStatement statement, int pos, Object[] key) throws SQLException {
+        for (int i = 0; i < key.length; i++) {
+            for (int j = 0; j < i + 1; j++) {
+                statement.setObject(++pos, key[j]);
+            }
+        }
+        return pos;
+    }
+
     private Timer getTableScanLogTimer() {
         return Threads.timer(clock, RelationalSnapshotChangeEventSource.LOG_INTERVAL);
     }
@@ -0,0 +1,149 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.incremental;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.schema.DataCollectionId;
+
+/**
+ * Determines the number of rows read by an incremental snapshot chunk of each table. With adaptive sizing disabled
+ * the configured chunk size is always used. Otherwise the size starts at the configured chunk size and is adjusted
+ * after every window so that
+ * <ul>
+ * <li>reading a chunk takes about the configured target duration,</li>
+ * <li>the rows buffered in a window fit into the configured memory budget,</li>
+ * <li>it shrinks when many rows of the window are changed while the window is open, as these rows are read in vain,</li>
+ * </ul>
+ * always staying within the configured minimum and maximum size.
+ */
+@NotThreadSafe
+class AdaptiveChunkSize {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveChunkSize.class);
+
+    /**
+     * The maximum factor by which the size changes after a single window, so that one outlier doesn't distort it.
+     */
+    static final double MAX_CHANGE_FACTOR = 2.0;
+
+    /**
+     * The share of rows removed from a window by deduplication from which the size is reduced.
+     */
+    static final double DEDUPLICATION_THRESHOLD = 0.1;
+
+    private final boolean adaptive;
+    private final int initialSize;
+    private final int minSize;
+    private final int maxSize;
+    private final long targetDurationMillis;
+    private final long windowMaxBytes;
+    private final int chunksPerWindow;
+    private final Map<DataCollectionId, Integer> sizes = new HashMap<>();
+
+    private DataCollectionId chunkDataCollectionId;
+    private long chunkRequestedRows;
+    private long chunkRows;
+    private long chunkDurationMillis;
+    private long chunkBytesPerRow;
+
+    /**
+     * @param adaptive whether the size is adapted, see {@link CommonConnectorConfig#INCREMENTAL_SNAPSHOT_CHUNK_SIZE_ADAPTIVE}
+     * @param chunkSize the configured chunk size
+     * @param minSize the minimum size of an adapted chunk
+     * @param maxSize the maximum size of an adapted chunk
+     * @param targetDuration the time reading an adapted chunk should take
+     * @param windowMaxBytes the estimated memory the rows of a window may use
+     * @param chunksPerWindow the maximum number of chunks buffered in a single window
+     */
+    AdaptiveChunkSize(boolean adaptive, int chunkSize, int minSize, int maxSize, Duration targetDuration, long windowMaxBytes,
+                      int chunksPerWindow) {
+        this.adaptive = adaptive;
+        this.minSize = minSize;
+        this.maxSize = Math.max(minSize, maxSize);
+        this.initialSize = adaptive ? clamp(chunkSize) : chunkSize;
+        this.targetDurationMillis = targetDuration.toMillis();
+        this.windowMaxBytes = windowMaxBytes;
+        this.chunksPerWindow = chunksPerWindow;
+    }
+
+    boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * @return the number of rows to be read by the next chunk of the given table
+     */
+    int chunkSize(DataCollectionId dataCollectionId) {
+        return sizes.getOrDefault(dataCollectionId, initialSize);
+    }
+
+    /**
+     * Records the measurements of the chunks read into the current window.
+     *
+     * @param requestedRows the maximum number of rows the chunks could return
+     * @param rows the number of rows returned
+     * @param durationMillis the time spent reading the chunks
+     * @param bytesPerRow the estimated memory used by a single row
+     */
+    void chunkRead(DataCollectionId dataCollectionId, long requestedRows, long rows, long durationMillis, long bytesPerRow) {
+        chunkDataCollectionId = dataCollectionId;
+        chunkRequestedRows = requestedRows;
+        chunkRows = rows;
+        chunkDurationMillis = durationMillis;
+        chunkBytesPerRow = bytesPerRow;
+    }
+
+    /**
+     * Adjusts the chunk size of the table read into the window once the window is closed.
+     *
+     * @param sentRows the number of rows left in the window after deduplication
+     * @return the new chunk size of the table, or {@code -1} if it has not been adjusted
+     */
+    int windowClosed(long sentRows) {
+        final DataCollectionId dataCollectionId = chunkDataCollectionId;
+        chunkDataCollectionId = null;
+        // A partial chunk is the last one of the table, it says nothing about the table's read rate
+        if (!adaptive || dataCollectionId == null || chunkRows == 0 || chunkRows < chunkRequestedRows) {
+            return -1;
+        }
+        final int size = chunkSize(dataCollectionId);
+        double newSize = size * Math.min(MAX_CHANGE_FACTOR, Math.max(1 / MAX_CHANGE_FACTOR,
+                (double) targetDurationMillis / Math.max(1, chunkDurationMillis)));
+
+        final double deduplicationRate = (double) (chunkRows - Math.min(sentRows, chunkRows)) / chunkRows;
+        if (deduplicationRate > DEDUPLICATION_THRESHOLD) {
+            newSize = Math.min(newSize, size * Math.max(1 / MAX_CHANGE_FACTOR, 1 - deduplicationRate));
+        }
+        if (chunkBytesPerRow > 0) {
+            newSize = Math.min(newSize, (double) windowMaxBytes / chunkBytesPerRow / chunksPerWindow);
+        }
+
+        final int adjustedSize = clamp((long) newSize);
+        if (adjustedSize != size) {
+            LOGGER.debug("Chunk size of table '{}' changed from {} to {}, chunk read in {} ms, {} bytes per row, {} rows deduplicated",
+                    dataCollectionId, size, adjustedSize, chunkDurationMillis, chunkBytesPerRow, chunkRows - sentRows);
+        }
+        sizes.put(dataCollectionId, adjustedSize);
+        return adjustedSize;
+    }
+
+    void reset() {
+        sizes.clear();
+        chunkDataCollectionId = null;
+    }
+
+    private int clamp(long size) {
+        return (int) Math.max(minSize, Math.min(maxSize, size));
+    }
+}
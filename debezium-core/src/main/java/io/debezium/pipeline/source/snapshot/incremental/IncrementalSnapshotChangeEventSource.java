@@ -40,4 +40,10 @@ default void processTransactionStartedEvent(Partition partition, OffsetContext o
 
     default void processTransactionCommittedEvent(Partition partition, OffsetContext offsetContext) throws InterruptedException {
     }
+
+    /**
+     * Releases the resources held by the source when streaming ends, also if a snapshot is still running.
+     */
+    default void stop() {
+    }
 }
@@ -6,7 +6,9 @@
 package io.debezium.pipeline.source.snapshot.incremental;
 
 import java.sql.SQLException;
+import java.util.function.Supplier;
 
+import org.apache.kafka.connect.source.SourceConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,7 +36,19 @@ public SignalBasedIncrementalSnapshotChangeEventSource(RelationalDatabaseConnect
                                                            Clock clock,
                                                            SnapshotProgressListener progressListener,
                                                            DataChangeEventListener dataChangeEventListener) {
-        super(config, jdbcConnection, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener);
+        this(config, jdbcConnection, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, null, null);
+    }
+
+    public SignalBasedIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig config,
+                                                           JdbcConnection jdbcConnection,
+                                                           EventDispatcher<T> dispatcher, DatabaseSchema<?> databaseSchema,
+                                                           Clock clock,
+                                                           SnapshotProgressListener progressListener,
+                                                           DataChangeEventListener dataChangeEventListener,
+                                                           Class<? extends SourceConnector> connectorType,
+                                                           Supplier<? extends JdbcConnection> chunkConnectionFactory) {
+        super(config, jdbcConnection, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, connectorType,
+                chunkConnectionFactory);
         signalWindowStatement = "INSERT INTO " + getSignalTableName(config.getSignalingDataCollectionId())
                 + " VALUES (?, ?, null)";
     }
@@ -31,6 +31,8 @@ public interface SnapshotProgressListener {
 
     void currentChunk(String chunkId, Object[] chunkFrom, Object[] chunkTo, Object tableTo[]);
 
+    void currentChunkSize(DataCollectionId dataCollectionId, int chunkSize);
+
     public static SnapshotProgressListener NO_OP = new SnapshotProgressListener() {
 
         @Override
@@ -64,5 +66,9 @@ public void currentChunk(String chunkId, Object[] chunkFrom, Object[] chunkTo) {
         @Override
         public void currentChunk(String chunkId, Object[] chunkFrom, Object[] chunkTo, Object tableTo[]) {
         }
+
+        @Override
+        public void currentChunkSize(DataCollectionId dataCollectionId, int chunkSize) {
+        }
     };
 }
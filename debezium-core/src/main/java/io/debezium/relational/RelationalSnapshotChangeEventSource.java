@@ -287,8 +287,12 @@ protected abstract SchemaChangeEvent getCreateTableEvent(RelationalSnapshotConte
                                                              Table table)
             throws Exception;
 
-    private void createDataEvents(ChangeEventSourceContext sourceContext,
-                                  RelationalSnapshotContext<P, O> snapshotContext)
+    /**
+     * Dispatches the data change events for the records of all the captured tables, releasing the data snapshot locks
+     * and completing the snapshot afterwards.
+     */
+    protected void createDataEvents(ChangeEventSourceContext sourceContext,
+                                    RelationalSnapshotContext<P, O> snapshotContext)
             throws Exception {
         SnapshotReceiver snapshotReceiver = dispatcher.getSnapshotChangeEventReceiver();
         tryStartingSnapshot(snapshotContext);
@@ -424,7 +428,7 @@ protected ChangeRecordEmitter getChangeRecordEmitter(SnapshotContext<P, O> snaps
      * @param tableId the table to generate a query for
      * @return a valid query string or empty if table will not be snapshotted
      */
-    private Optional<String> determineSnapshotSelect(RelationalSnapshotContext<P, O> snapshotContext, TableId tableId) {
+    protected Optional<String> determineSnapshotSelect(RelationalSnapshotContext<P, O> snapshotContext, TableId tableId) {
         String overriddenSelect = connectorConfig.getSnapshotSelectOverridesByTable().get(tableId);
 
         // try without catalog id, as this might or might not be populated based on the given connector
@@ -5,6 +5,7 @@
  */
 package io.debezium.relational.history;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -20,7 +21,6 @@
 
 import io.debezium.config.Configuration;
 import io.debezium.config.Field;
-import io.debezium.document.Array;
 import io.debezium.document.Document;
 import io.debezium.function.Predicates;
 import io.debezium.relational.Tables;
@@ -57,7 +57,6 @@ public abstract class AbstractDatabaseHistory implements DatabaseHistory {
     private DatabaseHistoryListener listener = DatabaseHistoryListener.NOOP;
     private boolean useCatalogBeforeSchema;
     private boolean preferDdl = false;
-    private TableChanges.TableChangesSerializer<Array> tableChangesSerializer = new JsonTableChangeSerializer();
 
     protected AbstractDatabaseHistory() {
     }
@@ -111,13 +110,12 @@ public void recover(Map<Map<String, ?>, Map<String, ?>> offsets, Tables schema,
 
         recoverRecords(recovered -> {
             listener.onChangeFromHistory(recovered);
-            Document srcDocument = recovered.document().getDocument(HistoryRecord.Fields.SOURCE);
+            Document srcDocument = recovered.source();
             if (stopPoints.containsKey(srcDocument) && comparator.isAtOrBefore(recovered, stopPoints.get(srcDocument))) {
-                Array tableChanges = recovered.tableChanges();
+                TableChanges changes = preferDdl ? null : recovered.tableChanges(useCatalogBeforeSchema);
                 String ddl = recovered.ddl();
 
-                if (!preferDdl && tableChanges != null && !tableChanges.isEmpty()) {
-                    TableChanges changes = tableChangesSerializer.deserialize(tableChanges, useCatalogBeforeSchema);
+                if (changes != null) {
                     for (TableChange entry : changes) {
                         if (entry.getType() == TableChangeType.CREATE || entry.getType() == TableChangeType.ALTER) {
                             schema.overwriteTable(entry.getTable());
@@ -167,6 +165,17 @@ else if (ddl != null && ddlParser != null) {
 
     protected abstract void recoverRecords(Consumer<HistoryRecord> records);
 
+    /**
+     * Reads a record stored in its JSON form, the table changes of the record are read directly into tables.
+     *
+     * @param json the JSON form of the record; may not be null
+     * @return the record; never null
+     * @throws IOException if the record could not be read
+     */
+    protected HistoryRecord readRecord(String json) throws IOException {
+        return HistoryRecord.read(json, useCatalogBeforeSchema);
+    }
+
     @Override
     public void stop() {
         listener.stopped();
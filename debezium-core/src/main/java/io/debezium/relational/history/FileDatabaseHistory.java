@@ -5,6 +5,7 @@
  */
 package io.debezium.relational.history;
 
+import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.nio.charset.Charset;
@@ -23,8 +24,6 @@
 import io.debezium.annotation.ThreadSafe;
 import io.debezium.config.Configuration;
 import io.debezium.config.Field;
-import io.debezium.document.DocumentReader;
-import io.debezium.document.DocumentWriter;
 import io.debezium.util.Collect;
 import io.debezium.util.FunctionalReadWriteLock;
 
@@ -44,8 +43,6 @@ public final class FileDatabaseHistory extends AbstractDatabaseHistory {
 
     private static final Charset UTF8 = StandardCharsets.UTF_8;
     private final FunctionalReadWriteLock lock = FunctionalReadWriteLock.reentrant();
-    private final DocumentWriter writer = DocumentWriter.defaultWriter();
-    private final DocumentReader reader = DocumentReader.defaultReader();
     private final AtomicBoolean running = new AtomicBoolean();
     private Path path;
 
@@ -108,7 +105,7 @@ protected void storeRecord(HistoryRecord record) throws DatabaseHistoryException
                 throw new IllegalStateException("The history has been stopped and will not accept more records");
             }
             try {
-                String line = writer.write(record.document());
+                String line = record.toJson();
                 // Create a buffered writer to write all of the records, closing the file when there is an error or when
                 // the thread is no longer supposed to run
                 try (BufferedWriter historyWriter = Files.newBufferedWriter(path, StandardOpenOption.APPEND)) {
@@ -142,9 +139,13 @@ protected synchronized void recoverRecords(Consumer<HistoryRecord> records) {
         lock.write(() -> {
             try {
                 if (exists()) {
-                    for (String line : Files.readAllLines(path, UTF8)) {
-                        if (line != null && !line.isEmpty()) {
-                            records.accept(new HistoryRecord(reader.read(line)));
+                    // Read line by line, so that the whole history is never held in memory
+                    try (BufferedReader historyReader = Files.newBufferedReader(path, UTF8)) {
+                        String line;
+                        while ((line = historyReader.readLine()) != null) {
+                            if (!line.isEmpty()) {
+                                records.accept(readRecord(line));
+                            }
                         }
                     }
                 }
@@ -5,13 +5,30 @@
  */
 package io.debezium.relational.history;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+
 import io.debezium.document.Array;
 import io.debezium.document.Document;
-import io.debezium.relational.history.TableChanges.TableChangesSerializer;
+import io.debezium.document.DocumentReader;
+import io.debezium.document.DocumentWriter;
+import io.debezium.document.Value;
 
+/**
+ * A record of the database history. The table changes of records created from their values or read by
+ * {@link #read(String, boolean)} are kept as {@link TableChanges} and are written directly as JSON by
+ * {@link #write(JsonGenerator)}, they are only converted into a document when the {@link #document()} is requested.
+ * Such records are not changed by requesting their document.
+ */
 public class HistoryRecord {
 
     public static final class Fields {
@@ -23,11 +40,25 @@ public static final class Fields {
         public static final String TABLE_CHANGES = "tableChanges";
     }
 
+    // The same features as used by the default document reader
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .enable(JsonReadFeature.ALLOW_JAVA_COMMENTS)
+            .enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+            .build();
+    private static final JsonTableChangeSerializer tableChangesSerializer = new JsonTableChangeSerializer();
+
     private final Document doc;
-    private static final TableChangesSerializer<Array> tableChangesSerializer = new JsonTableChangeSerializer();
+    private final TableChanges changes;
+    private final boolean changesRead;
 
     public HistoryRecord(Document document) {
+        this(document, null, false);
+    }
+
+    private HistoryRecord(Document document, TableChanges changes, boolean changesRead) {
         this.doc = document;
+        this.changes = changes;
+        this.changesRead = changesRead;
     }
 
     public HistoryRecord(Map<String, ?> source, Map<String, ?> position, String databaseName, String schemaName, String ddl, TableChanges changes) {
@@ -62,13 +93,108 @@ public HistoryRecord(Map<String, ?> source, Map<String, ?> position, String data
             doc.setString(Fields.DDL_STATEMENTS, ddl);
         }
 
-        if (changes != null) {
-            doc.setArray(Fields.TABLE_CHANGES, tableChangesSerializer.serialize(changes));
+        this.changes = changes;
+        this.changesRead = false;
+    }
+
+    /**
+     * Reads a record from its JSON form. The table changes are read directly into tables without building documents
+     * for them, other fields of the record not being objects or strings are skipped.
+     *
+     * @param json the JSON form of the record; may not be null
+     * @param useCatalogBeforeSchema whether the table identifiers are of the form catalog.schema.table
+     * @return the record; never null
+     * @throws IOException if the record could not be read
+     */
+    public static HistoryRecord read(String json, boolean useCatalogBeforeSchema) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected data to start with an Object, but was " + parser.currentToken());
+            }
+
+            final Document document = Document.create();
+            TableChanges changes = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.getCurrentName();
+                final JsonToken token = parser.nextToken();
+                if (Fields.TABLE_CHANGES.equals(fieldName) && token == JsonToken.START_ARRAY) {
+                    changes = tableChangesSerializer.deserialize(parser, useCatalogBeforeSchema);
+                }
+                else if (token == JsonToken.START_OBJECT) {
+                    document.setDocument(fieldName, DocumentReader.defaultReader().read(parser));
+                }
+                else if (token == JsonToken.VALUE_STRING) {
+                    document.setString(fieldName, parser.getText());
+                }
+                else if (token == JsonToken.VALUE_NULL) {
+                    document.setNull(fieldName);
+                }
+                else {
+                    parser.skipChildren();
+                }
+            }
+            return new HistoryRecord(document, changes, true);
+        }
+    }
+
+    /**
+     * Writes the JSON form of this record to the generator.
+     *
+     * @param generator the generator to which the record is to be written; may not be null
+     * @throws IOException if the record could not be written
+     */
+    public void write(JsonGenerator generator) throws IOException {
+        if (changes == null) {
+            DocumentWriter.defaultWriter().write(doc, generator);
+            return;
         }
 
+        generator.writeStartObject();
+        for (Document.Field field : doc) {
+            generator.writeFieldName(field.getName().toString());
+            final Value value = field.getValue();
+            if (value.isDocument()) {
+                DocumentWriter.defaultWriter().write(value.asDocument(), generator);
+            }
+            else {
+                // Apart from the source and the position, the fields of such records are strings
+                generator.writeString(value.asString());
+            }
+        }
+        generator.writeFieldName(Fields.TABLE_CHANGES);
+        tableChangesSerializer.serialize(changes, generator);
+        generator.writeEndObject();
     }
 
+    /**
+     * @return the compact JSON form of this record; never null
+     * @throws IOException if the record could not be written
+     */
+    public String toJson() throws IOException {
+        return toJson(false);
+    }
+
+    private String toJson(boolean pretty) throws IOException {
+        final StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            if (pretty) {
+                generator.setPrettyPrinter(new DefaultPrettyPrinter());
+            }
+            write(generator);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * @return the document of this record; for records keeping their table changes this is a new document on each
+     *         invocation
+     */
     public Document document() {
+        if (changes != null) {
+            final Document document = doc.clone();
+            document.setArray(Fields.TABLE_CHANGES, tableChangesSerializer.serialize(changes));
+            return document;
+        }
         return this.doc;
     }
 
@@ -93,12 +219,48 @@ protected String ddl() {
     }
 
     protected Array tableChanges() {
+        if (changes != null) {
+            return tableChangesSerializer.serialize(changes);
+        }
         return doc.getArray(Fields.TABLE_CHANGES);
     }
 
+    /**
+     * Returns the table changes of this record as recovered from the history.
+     *
+     * @param useCatalogBeforeSchema whether the table identifiers are of the form catalog.schema.table
+     * @return the table changes, or null if the record has none
+     */
+    protected TableChanges tableChanges(boolean useCatalogBeforeSchema) {
+        if (changes != null) {
+            TableChanges recovered = changes;
+            if (!changesRead) {
+                // Recovered from their JSON form like from a durable history, e.g. a history kept in memory
+                try {
+                    recovered = read(toJson(), useCatalogBeforeSchema).changes;
+                }
+                catch (IOException e) {
+                    throw new DatabaseHistoryException("Unable to read table changes of history record " + this, e);
+                }
+            }
+            return recovered.iterator().hasNext() ? recovered : null;
+        }
+
+        final Array tableChanges = doc.getArray(Fields.TABLE_CHANGES);
+        if (tableChanges == null || tableChanges.isEmpty()) {
+            return null;
+        }
+        return tableChangesSerializer.deserialize(tableChanges, useCatalogBeforeSchema);
+    }
+
     @Override
     public String toString() {
-        return doc.toString();
+        try {
+            return toJson(true);
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     /**
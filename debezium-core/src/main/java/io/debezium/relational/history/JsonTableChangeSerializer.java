@@ -5,7 +5,13 @@
  */
 package io.debezium.relational.history;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -14,7 +20,11 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -68,6 +78,10 @@ public class JsonTableChangeSerializer implements TableChanges.TableChangesSeria
     public static final String AUTO_INCREMENTED = "autoIncremented";
     public static final String GENERATED = "generated";
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<Map<String, String>>> FOREIGN_KEY_COLUMNS_TYPE = new TypeReference<List<Map<String, String>>>() {
+    };
+
     @Override
     public Array serialize(TableChanges tableChanges) {
         List<Value> values = StreamSupport.stream(tableChanges.spliterator(), false)
@@ -97,7 +111,7 @@ private Document toDocument(Table table) {
 
         if (table.foreignKeyColumns() != null && table.foreignKeyColumns().size() > 0) {
             try {
-                document.set(FOREIGN_KEY_COLUMNS, new ObjectMapper().writeValueAsString(table.foreignKeyColumns()));
+                document.set(FOREIGN_KEY_COLUMNS, OBJECT_MAPPER.writeValueAsString(table.foreignKeyColumns()));
             }
             catch (JsonProcessingException e) {
                 throw new DebeziumException("Document failed to set foreign key, JSON conversion exception.", e);
@@ -155,22 +169,24 @@ public TableChanges deserialize(Array array, boolean useCatalogBeforeSchema) {
         TableChanges tableChanges = new TableChanges();
 
         for (Entry entry : array) {
-            TableChange change = fromDocument(entry.getValue().asDocument(), useCatalogBeforeSchema);
-
-            if (change.getType() == TableChangeType.CREATE) {
-                tableChanges.create(change.getTable());
-            }
-            else if (change.getType() == TableChangeType.ALTER) {
-                tableChanges.alter(change.getTable());
-            }
-            else if (change.getType() == TableChangeType.DROP) {
-                tableChanges.drop(change.getTable());
-            }
+            addChange(tableChanges, fromDocument(entry.getValue().asDocument(), useCatalogBeforeSchema));
         }
 
         return tableChanges;
     }
 
+    private static void addChange(TableChanges tableChanges, TableChange change) {
+        if (change.getType() == TableChangeType.CREATE) {
+            tableChanges.create(change.getTable());
+        }
+        else if (change.getType() == TableChangeType.ALTER) {
+            tableChanges.alter(change.getTable());
+        }
+        else if (change.getType() == TableChangeType.DROP) {
+            tableChanges.drop(change.getTable());
+        }
+    }
+
     private static Table fromDocument(TableId id, Document document) {
         TableEditor editor = Table.editor().tableId(id).setDefaultCharsetName(document.getString(DEFAULT_CHARSET_NAME));
         if (document.getString(COMMENT) != null) {
@@ -247,7 +263,7 @@ else if (Boolean.TRUE.equals(hasDefaultValue)) {
         String foreignKeyColumns = document.getString(FOREIGN_KEY_COLUMNS);
         if (foreignKeyColumns != null && foreignKeyColumns.length() > 0) {
             try {
-                editor.setForeignKeys(new ObjectMapper().readValue(foreignKeyColumns, List.class));
+                editor.setForeignKeys(OBJECT_MAPPER.readValue(foreignKeyColumns, FOREIGN_KEY_COLUMNS_TYPE));
             }
             catch (JsonMappingException e) {
                 throw new DebeziumException("Document failed to get foreign key, JsonMapping exception.", e);
@@ -273,4 +289,383 @@ public static TableChange fromDocument(Document document, boolean useCatalogBefo
         }
         return new TableChange(type, table);
     }
+
+    /**
+     * Writes the given table changes as a JSON array to the generator. The output is the same as the one of
+     * {@link #serialize(TableChanges)}, but no documents are built for the tables and their columns.
+     *
+     * @param tableChanges the table changes to be written; may not be null
+     * @param generator the generator to which the array is to be written; may not be null
+     * @throws IOException if the table changes could not be written
+     */
+    public void serialize(TableChanges tableChanges, JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        for (TableChange tableChange : tableChanges) {
+            generator.writeStartObject();
+            generator.writeStringField(TYPE, tableChange.getType().name());
+            generator.writeStringField(ID, tableChange.getId().toDoubleQuotedString());
+            generator.writeFieldName(TABLE);
+            writeTable(tableChange.getTable(), generator);
+            generator.writeStringField(COMMENT, tableChange.getTable().comment());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeTable(Table table, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(DEFAULT_CHARSET_NAME, table.defaultCharsetName());
+        writeStrings(PRIMARY_KEY_COLUMN_NAMES, table.primaryKeyColumnNames(), generator);
+        writeStrings(PRIMARY_CONSTRAINT_NAME, table.primaryConstraintName(), generator);
+
+        if (table.foreignKeyColumns() != null && table.foreignKeyColumns().size() > 0) {
+            generator.writeStringField(FOREIGN_KEY_COLUMNS, OBJECT_MAPPER.writeValueAsString(table.foreignKeyColumns()));
+        }
+        if (table.indexes() != null && table.indexes().size() > 0) {
+            writeStrings(INDEXES, table.indexes(), generator);
+        }
+
+        generator.writeArrayFieldStart(COLUMNS);
+        for (Column column : table.columns()) {
+            writeColumn(column, generator);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void writeColumn(Column column, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(NAME, column.name());
+        generator.writeNumberField(JDBC_TYPE, column.jdbcType());
+
+        if (column.nativeType() != Column.UNSET_INT_VALUE) {
+            generator.writeNumberField(NATIVE_TYPE, column.nativeType());
+        }
+
+        generator.writeStringField(TYPE_NAME, column.typeName());
+        generator.writeStringField(TYPE_EXPRESSION, column.typeExpression());
+        generator.writeStringField(CHARSET_NAME, column.charsetName());
+
+        if (column.length() != Column.UNSET_INT_VALUE) {
+            generator.writeNumberField(LENGTH, column.length());
+        }
+
+        final Optional<Integer> scale = column.scale();
+        if (scale.isPresent()) {
+            generator.writeNumberField(SCALE, scale.get());
+        }
+
+        generator.writeNumberField(POSITION, column.position());
+        generator.writeBooleanField(OPTIONAL, column.isOptional());
+        generator.writeBooleanField(AUTO_INCREMENTED, column.isAutoIncremented());
+        generator.writeBooleanField(GENERATED, column.isGenerated());
+        generator.writeStringField(COMMENT, column.comment());
+        generator.writeBooleanField(HAS_DEFAULT_VALUE, column.hasDefaultValue());
+
+        final Optional<String> defaultValueExpression = column.defaultValueExpression();
+        if (defaultValueExpression.isPresent()) {
+            generator.writeStringField(DEFAULT_VALUE_EXPRESSION, defaultValueExpression.get());
+        }
+        if (column.enumValues() != null) {
+            writeStrings(ENUM_VALUES, column.enumValues(), generator);
+        }
+        if (column.modifyKeys() != null) {
+            writeStrings(MODIFY_KEYS, column.modifyKeys(), generator);
+        }
+
+        generator.writeEndObject();
+    }
+
+    private static void writeStrings(String fieldName, Collection<String> values, JsonGenerator generator) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        if (values != null) {
+            for (String value : values) {
+                generator.writeString(value);
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Reads table changes in the JSON form of {@link #serialize(TableChanges)} from the parser. The tables and their
+     * columns are built with their editors while parsing, no documents are built for them. The current token of the
+     * parser must be the start of the array, the parser is left at its end.
+     *
+     * @param parser the parser positioned at the start of the array; may not be null
+     * @param useCatalogBeforeSchema whether the table identifiers are of the form catalog.schema.table
+     * @return the table changes; never null
+     * @throws IOException if the table changes could not be read
+     */
+    public TableChanges deserialize(JsonParser parser, boolean useCatalogBeforeSchema) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IOException("Expected table changes to start with an Array, but was " + parser.currentToken());
+        }
+        TableChanges tableChanges = new TableChanges();
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            addChange(tableChanges, readTableChange(parser, useCatalogBeforeSchema));
+        }
+
+        return tableChanges;
+    }
+
+    private static TableChange readTableChange(JsonParser parser, boolean useCatalogBeforeSchema) throws IOException {
+        TableChangeType type = null;
+        TableId id = null;
+        TableEditor editor = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case TYPE:
+                    type = TableChangeType.valueOf(readString(parser));
+                    break;
+                case ID:
+                    id = TableId.parse(readString(parser), useCatalogBeforeSchema);
+                    break;
+                case TABLE:
+                    // The identifier precedes the table, it is set early for the messages of failed validations
+                    editor = Table.editor().tableId(id);
+                    readTable(parser, editor);
+                    break;
+                default:
+                    // The comment of the table is read from the table
+                    parser.skipChildren();
+                    break;
+            }
+        }
+
+        if ((type == TableChangeType.CREATE || type == TableChangeType.ALTER) && editor != null) {
+            return new TableChange(type, editor.tableId(id).create());
+        }
+        return new TableChange(type, Table.editor().tableId(id).create());
+    }
+
+    private static void readTable(JsonParser parser, TableEditor editor) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+
+        String defaultCharsetName = null;
+        String comment = null;
+        List<String> indexes = null;
+        List<Column> columns = Collections.emptyList();
+        List<String> primaryKeyColumnNames = Collections.emptyList();
+        List<String> primaryConstraintName = null;
+        String foreignKeyColumns = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case DEFAULT_CHARSET_NAME:
+                    defaultCharsetName = readString(parser);
+                    break;
+                case COMMENT:
+                    comment = readString(parser);
+                    break;
+                case INDEXES:
+                    indexes = readStrings(parser);
+                    break;
+                case COLUMNS:
+                    columns = readColumns(parser);
+                    break;
+                case PRIMARY_KEY_COLUMN_NAMES:
+                    primaryKeyColumnNames = readStrings(parser);
+                    break;
+                case PRIMARY_CONSTRAINT_NAME:
+                    primaryConstraintName = readStrings(parser);
+                    break;
+                case FOREIGN_KEY_COLUMNS:
+                    foreignKeyColumns = readString(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+
+        // The editor is changed in the same order as by the document based deserialization
+        editor.setDefaultCharsetName(defaultCharsetName);
+        if (comment != null) {
+            editor.setComment(comment);
+        }
+        if (indexes != null && indexes.size() > 0) {
+            editor.setIndexes(new HashSet<>(indexes));
+        }
+        columns.forEach(editor::addColumn);
+        editor.setPrimaryKeyNames(primaryKeyColumnNames);
+        if (primaryConstraintName != null) {
+            editor.setPrimaryConstraintName(primaryConstraintName);
+        }
+        if (foreignKeyColumns != null && foreignKeyColumns.length() > 0) {
+            editor.setForeignKeys(OBJECT_MAPPER.readValue(foreignKeyColumns, FOREIGN_KEY_COLUMNS_TYPE));
+        }
+    }
+
+    private static List<Column> readColumns(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return Collections.emptyList();
+        }
+        final List<Column> columns = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            columns.add(readColumn(parser));
+        }
+        return columns;
+    }
+
+    private static Column readColumn(JsonParser parser) throws IOException {
+        String name = null;
+        Integer jdbcType = null;
+        Integer nativeType = null;
+        String typeName = null;
+        String typeExpression = null;
+        String charsetName = null;
+        Integer length = null;
+        Integer scale = null;
+        Integer position = null;
+        Boolean optional = null;
+        Boolean autoIncremented = null;
+        Boolean generated = null;
+        String comment = null;
+        Boolean hasDefaultValue = null;
+        String defaultValueExpression = null;
+        List<String> enumValues = null;
+        List<String> modifyKeys = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case NAME:
+                    name = readString(parser);
+                    break;
+                case JDBC_TYPE:
+                    jdbcType = readInteger(parser);
+                    break;
+                case NATIVE_TYPE:
+                    nativeType = readInteger(parser);
+                    break;
+                case TYPE_NAME:
+                    typeName = readString(parser);
+                    break;
+                case TYPE_EXPRESSION:
+                    typeExpression = readString(parser);
+                    break;
+                case CHARSET_NAME:
+                    charsetName = readString(parser);
+                    break;
+                case LENGTH:
+                    length = readInteger(parser);
+                    break;
+                case SCALE:
+                    scale = readInteger(parser);
+                    break;
+                case POSITION:
+                    position = readInteger(parser);
+                    break;
+                case OPTIONAL:
+                    optional = readBoolean(parser);
+                    break;
+                case AUTO_INCREMENTED:
+                    autoIncremented = readBoolean(parser);
+                    break;
+                case GENERATED:
+                    generated = readBoolean(parser);
+                    break;
+                case COMMENT:
+                    comment = readString(parser);
+                    break;
+                case HAS_DEFAULT_VALUE:
+                    hasDefaultValue = readBoolean(parser);
+                    break;
+                case DEFAULT_VALUE_EXPRESSION:
+                    defaultValueExpression = readString(parser);
+                    break;
+                case ENUM_VALUES:
+                    enumValues = readStrings(parser);
+                    break;
+                case MODIFY_KEYS:
+                    modifyKeys = readStrings(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+
+        // The editor is changed in the same order as by the document based deserialization
+        ColumnEditor columnEditor = Column.editor().name(name).jdbcType(jdbcType);
+        if (nativeType != null) {
+            columnEditor.nativeType(nativeType);
+        }
+        columnEditor.type(typeName, typeExpression).charsetName(charsetName);
+        if (length != null) {
+            columnEditor.length(length);
+        }
+        if (scale != null) {
+            columnEditor.scale(scale);
+        }
+        if (comment != null) {
+            columnEditor.comment(comment);
+        }
+        if (defaultValueExpression != null) {
+            columnEditor.defaultValueExpression(defaultValueExpression);
+        }
+        else if (Boolean.TRUE.equals(hasDefaultValue)) {
+            columnEditor.defaultValueExpression(null);
+        }
+        if (enumValues != null && !enumValues.isEmpty()) {
+            columnEditor.enumValues(enumValues);
+        }
+        if (modifyKeys != null && !modifyKeys.isEmpty()) {
+            columnEditor.enumValues(modifyKeys);
+        }
+        columnEditor.position(position)
+                .optional(optional)
+                .autoIncremented(autoIncremented)
+                .generated(generated);
+
+        return columnEditor.create();
+    }
+
+    /**
+     * @return the current scalar value as a string, or null if it is null or not a scalar value
+     */
+    private static String readString(JsonParser parser) throws IOException {
+        final String value = parser.getValueAsString();
+        parser.skipChildren();
+        return value;
+    }
+
+    private static Integer readInteger(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private static Boolean readBoolean(JsonParser parser) throws IOException {
+        if (parser.currentToken().isBoolean()) {
+            return parser.getBooleanValue();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private static List<String> readStrings(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        final List<String> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(readString(parser));
+        }
+        return values;
+    }
 }
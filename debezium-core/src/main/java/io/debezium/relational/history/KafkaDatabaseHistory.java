@@ -55,7 +55,6 @@
 import io.debezium.config.Configuration;
 import io.debezium.config.Field;
 import io.debezium.config.Field.Validator;
-import io.debezium.document.DocumentReader;
 import io.debezium.relational.HistorizedRelationalDatabaseConnectorConfig;
 import io.debezium.util.Collect;
 import io.debezium.util.Threads;
@@ -168,7 +167,6 @@ public class KafkaDatabaseHistory extends AbstractDatabaseHistory {
      */
     private static final Integer PARTITION = 0;
 
-    private final DocumentReader reader = DocumentReader.defaultReader();
     private String topicName;
     private Configuration consumerConfig;
     private Configuration producerConfig;
@@ -300,7 +298,7 @@ protected void recoverRecords(Consumer<HistoryRecord> records) {
                                         "This is often not an issue, but if it happens repeatedly please check the '{}' topic.", topicName);
                             }
                             else {
-                                HistoryRecord recordObj = new HistoryRecord(reader.read(record.value()));
+                                HistoryRecord recordObj = readRecord(record.value());
                                 LOGGER.trace("Recovering database history: {}", recordObj);
                                 if (recordObj == null || !recordObj.isValid()) {
                                     LOGGER.warn("Skipping invalid database history record '{}'. " +
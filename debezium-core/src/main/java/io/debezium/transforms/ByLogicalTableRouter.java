@@ -12,9 +12,6 @@
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.apache.kafka.common.cache.Cache;
-import org.apache.kafka.common.cache.LRUCache;
-import org.apache.kafka.common.cache.SynchronizedCache;
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.connect.connector.ConnectRecord;
 import org.apache.kafka.connect.data.Schema;
@@ -25,9 +22,12 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.annotation.ThreadSafe;
 import io.debezium.config.Configuration;
 import io.debezium.config.Field;
 import io.debezium.data.Envelope;
+import io.debezium.data.StructCopier;
+import io.debezium.util.BoundedConcurrentHashMap;
 import io.debezium.util.SchemaNameAdjuster;
 import io.debezium.util.Strings;
 
@@ -47,11 +47,15 @@
  * be the old topic name, but if a custom value is desired, the config options {@link #KEY_FIELD_REGEX} and
  * {@link #KEY_FIELD_REPLACEMENT} may be used to change it. For instance, in our above example, we might choose to
  * make the identifier `db_shard1` and `db_shard2` respectively.
+ * <p>
+ * The regexes are evaluated once per topic, and the new key and envelope schemas are built once per original schema
+ * together with the positions of the fields to be copied, so that records are rewritten without any name lookups.
  *
  * @param <R> the subtype of {@link ConnectRecord} on which this transformation will operate
  * @author David Leibovic
  * @author Mario Mueller
  */
+@ThreadSafe
 public class ByLogicalTableRouter<R extends ConnectRecord<R>> implements Transformation<R> {
 
     private static final Field TOPIC_REGEX = Field.create("topic.regex")
@@ -114,6 +118,8 @@
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ByLogicalTableRouter.class);
 
+    private static final int CACHE_SIZE = 64;
+
     private final SchemaNameAdjuster schemaNameAdjuster = SchemaNameAdjuster.create();
     private Pattern topicRegex;
     private String topicReplacement;
@@ -121,10 +127,9 @@
     private boolean keyEnforceUniqueness;
     private String keyFieldReplacement;
     private String keyFieldName;
-    private final Cache<Schema, Schema> keySchemaUpdateCache = new SynchronizedCache<>(new LRUCache<Schema, Schema>(16));
-    private final Cache<Schema, Schema> envelopeSchemaUpdateCache = new SynchronizedCache<>(new LRUCache<Schema, Schema>(16));
-    private final Cache<String, String> keyRegexReplaceCache = new SynchronizedCache<>(new LRUCache<String, String>(16));
-    private final Cache<String, String> topicRegexReplaceCache = new SynchronizedCache<>(new LRUCache<String, String>(16));
+    private final Map<String, TopicRoute> topicRoutes = new BoundedConcurrentHashMap<>(CACHE_SIZE);
+    private final SchemaPlanCache<KeyPlan> keyPlans = new SchemaPlanCache<>(CACHE_SIZE);
+    private final SchemaPlanCache<EnvelopePlan> envelopePlans = new SchemaPlanCache<>(CACHE_SIZE);
     private SmtManager<R> smtManager;
 
     /**
@@ -189,7 +194,8 @@ public void configure(Map<String, ?> props) {
     @Override
     public R apply(R record) {
         final String oldTopic = record.topic();
-        final String newTopic = determineNewTopic(oldTopic);
+        final TopicRoute route = topicRoutes.computeIfAbsent(oldTopic, this::determineRoute);
+        final String newTopic = route.newTopic;
 
         if (newTopic == null) {
             return record;
@@ -208,8 +214,9 @@ public R apply(R record) {
         // Key could be null in the case of a table without a primary key
         if (record.key() != null) {
             final Struct oldKey = requireStruct(record.key(), "Updating schema");
-            newKeySchema = updateKeySchema(oldKey.schema(), newTopic);
-            newKey = updateKey(newKeySchema, oldKey, oldTopic);
+            final KeyPlan keyPlan = keyPlans.get(oldKey.schema(), oldKeySchema -> new KeyPlan(oldKeySchema, newTopic));
+            newKeySchema = keyPlan.copier.targetSchema();
+            newKey = keyPlan.updateKey(oldKey, route.physicalTableIdentifier);
         }
 
         // In case of tombstones or non-CDC events (heartbeats, schema change events),
@@ -227,8 +234,9 @@ public R apply(R record) {
         }
 
         final Struct oldEnvelope = requireStruct(record.value(), "Updating schema");
-        final Schema newEnvelopeSchema = updateEnvelopeSchema(oldEnvelope.schema(), newTopic);
-        final Struct newEnvelope = updateEnvelope(newEnvelopeSchema, oldEnvelope);
+        final EnvelopePlan envelopePlan = envelopePlans.get(oldEnvelope.schema(), oldEnvelopeSchema -> new EnvelopePlan(oldEnvelopeSchema, newTopic));
+        final Schema newEnvelopeSchema = envelopePlan.schema;
+        final Struct newEnvelope = envelopePlan.updateEnvelope(oldEnvelope);
 
         return record.newRecord(
                 newTopic,
@@ -259,33 +267,29 @@ public ConfigDef config() {
     }
 
     /**
-     * Determine the new topic name.
+     * Determine the new topic name and the physical table identifier.
      *
      * @param oldTopic the name of the old topic
-     * @return return the new topic name, if the regex applies. Otherwise, return null.
+     * @return return the route with the new topic name, if the regex applies. Otherwise, the route has no topic name.
      */
-    private String determineNewTopic(String oldTopic) {
-        String newTopic = topicRegexReplaceCache.get(oldTopic);
-        if (newTopic != null) {
-            return newTopic;
+    private TopicRoute determineRoute(String oldTopic) {
+        final Matcher matcher = topicRegex.matcher(oldTopic);
+        if (!matcher.matches()) {
+            return new TopicRoute(null, null);
         }
-        else {
-            final Matcher matcher = topicRegex.matcher(oldTopic);
-            if (matcher.matches()) {
-                newTopic = matcher.replaceFirst(topicReplacement);
-                topicRegexReplaceCache.put(oldTopic, newTopic);
-                return newTopic;
+        final String newTopic = matcher.replaceFirst(topicReplacement);
+
+        String physicalTableIdentifier = oldTopic;
+        if (keyEnforceUniqueness && keyFieldRegex != null) {
+            final Matcher keyMatcher = keyFieldRegex.matcher(oldTopic);
+            if (keyMatcher.matches()) {
+                physicalTableIdentifier = keyMatcher.replaceFirst(keyFieldReplacement);
             }
-            return null;
         }
+        return new TopicRoute(newTopic, physicalTableIdentifier);
     }
 
     private Schema updateKeySchema(Schema oldKeySchema, String newTopicName) {
-        Schema newKeySchema = keySchemaUpdateCache.get(oldKeySchema);
-        if (newKeySchema != null) {
-            return newKeySchema;
-        }
-
         final SchemaBuilder builder = copySchemaExcludingName(oldKeySchema, SchemaBuilder.struct());
         builder.name(schemaNameAdjuster.adjust(newTopicName + ".Key"));
 
@@ -296,45 +300,10 @@ private Schema updateKeySchema(Schema oldKeySchema, String newTopicName) {
             builder.field(keyFieldName, Schema.STRING_SCHEMA);
         }
 
-        newKeySchema = builder.build();
-        keySchemaUpdateCache.put(oldKeySchema, newKeySchema);
-        return newKeySchema;
-    }
-
-    private Struct updateKey(Schema newKeySchema, Struct oldKey, String oldTopic) {
-        final Struct newKey = new Struct(newKeySchema);
-        for (org.apache.kafka.connect.data.Field field : oldKey.schema().fields()) {
-            newKey.put(field.name(), oldKey.get(field));
-        }
-
-        String physicalTableIdentifier = oldTopic;
-        if (keyEnforceUniqueness) {
-            if (keyFieldRegex != null) {
-                physicalTableIdentifier = keyRegexReplaceCache.get(oldTopic);
-                if (physicalTableIdentifier == null) {
-                    final Matcher matcher = keyFieldRegex.matcher(oldTopic);
-                    if (matcher.matches()) {
-                        physicalTableIdentifier = matcher.replaceFirst(keyFieldReplacement);
-                        keyRegexReplaceCache.put(oldTopic, physicalTableIdentifier);
-                    }
-                    else {
-                        physicalTableIdentifier = oldTopic;
-                    }
-                }
-            }
-
-            newKey.put(keyFieldName, physicalTableIdentifier);
-        }
-
-        return newKey;
+        return builder.build();
     }
 
     private Schema updateEnvelopeSchema(Schema oldEnvelopeSchema, String newTopicName) {
-        Schema newEnvelopeSchema = envelopeSchemaUpdateCache.get(oldEnvelopeSchema);
-        if (newEnvelopeSchema != null) {
-            return newEnvelopeSchema;
-        }
-
         final Schema oldValueSchema = oldEnvelopeSchema.field(Envelope.FieldName.BEFORE).schema();
         final SchemaBuilder valueBuilder = copySchemaExcludingName(oldValueSchema, SchemaBuilder.struct());
         valueBuilder.name(schemaNameAdjuster.adjust(newTopicName + ".Value"));
@@ -344,40 +313,28 @@ private Schema updateEnvelopeSchema(Schema oldEnvelopeSchema, String newTopicNam
         for (org.apache.kafka.connect.data.Field field : oldEnvelopeSchema.fields()) {
             final String fieldName = field.name();
             Schema fieldSchema = field.schema();
-            if (Objects.equals(fieldName, Envelope.FieldName.BEFORE) || Objects.equals(fieldName, Envelope.FieldName.AFTER)) {
+            if (isRowField(fieldName)) {
                 fieldSchema = newValueSchema;
             }
             envelopeBuilder.field(fieldName, fieldSchema);
         }
         envelopeBuilder.name(schemaNameAdjuster.adjust(Envelope.schemaName(newTopicName)));
 
-        newEnvelopeSchema = envelopeBuilder.build();
-        envelopeSchemaUpdateCache.put(oldEnvelopeSchema, newEnvelopeSchema);
-        return newEnvelopeSchema;
+        return envelopeBuilder.build();
     }
 
-    private Struct updateEnvelope(Schema newEnvelopeSchema, Struct oldEnvelope) {
-        final Struct newEnvelope = new Struct(newEnvelopeSchema);
-        final Schema newValueSchema = newEnvelopeSchema.field(Envelope.FieldName.BEFORE).schema();
-        for (org.apache.kafka.connect.data.Field field : oldEnvelope.schema().fields()) {
-            final String fieldName = field.name();
-            Object fieldValue = oldEnvelope.get(field);
-            if ((Objects.equals(fieldName, Envelope.FieldName.BEFORE) || Objects.equals(fieldName, Envelope.FieldName.AFTER))
-                    && fieldValue != null) {
-                fieldValue = updateValue(newValueSchema, requireStruct(fieldValue, "Updating schema"));
-            }
-            newEnvelope.put(fieldName, fieldValue);
-        }
-
-        return newEnvelope;
+    private static boolean isRowField(String fieldName) {
+        return Objects.equals(fieldName, Envelope.FieldName.BEFORE) || Objects.equals(fieldName, Envelope.FieldName.AFTER);
     }
 
-    private Struct updateValue(Schema newValueSchema, Struct oldValue) {
-        final Struct newValue = new Struct(newValueSchema);
-        for (org.apache.kafka.connect.data.Field field : oldValue.schema().fields()) {
-            newValue.put(field.name(), oldValue.get(field));
-        }
-        return newValue;
+    /**
+     * Returns the fields of the target schema having the names of the fields of the source schema, in the order of the
+     * fields of the source schema.
+     */
+    private static org.apache.kafka.connect.data.Field[] targetFields(Schema sourceSchema, Schema targetSchema) {
+        return sourceSchema.fields().stream()
+                .map(field -> targetSchema.field(field.name()))
+                .toArray(org.apache.kafka.connect.data.Field[]::new);
     }
 
     private SchemaBuilder copySchemaExcludingName(Schema source, SchemaBuilder builder) {
@@ -408,4 +365,78 @@ private SchemaBuilder copySchemaExcludingName(Schema source, SchemaBuilder build
 
         return builder;
     }
+
+    /**
+     * The new topic of the records of a topic and the identifier of their physical table.
+     */
+    private static final class TopicRoute {
+
+        private final String newTopic;
+        private final String physicalTableIdentifier;
+
+        TopicRoute(String newTopic, String physicalTableIdentifier) {
+            this.newTopic = newTopic;
+            this.physicalTableIdentifier = physicalTableIdentifier;
+        }
+    }
+
+    /**
+     * The new schema of the keys of a key schema and the copier of their fields.
+     */
+    private final class KeyPlan {
+
+        private final StructCopier copier;
+        private final org.apache.kafka.connect.data.Field physicalTableIdentifierField;
+
+        KeyPlan(Schema oldKeySchema, String newTopic) {
+            final Schema schema = updateKeySchema(oldKeySchema, newTopic);
+            this.copier = StructCopier.forSchemas(oldKeySchema, schema);
+            this.physicalTableIdentifierField = keyEnforceUniqueness ? schema.field(keyFieldName) : null;
+        }
+
+        Struct updateKey(Struct oldKey, String physicalTableIdentifier) {
+            final Struct newKey = copier.copy(oldKey);
+            if (physicalTableIdentifierField != null) {
+                newKey.put(physicalTableIdentifierField, physicalTableIdentifier);
+            }
+            return newKey;
+        }
+    }
+
+    /**
+     * The new schema of the envelopes of an envelope schema and the positions of the fields to be copied.
+     */
+    private final class EnvelopePlan {
+
+        private final Schema schema;
+        private final org.apache.kafka.connect.data.Field[] sourceFields;
+        private final org.apache.kafka.connect.data.Field[] targetFields;
+        private final boolean[] rowFields;
+        private final StructCopier valueCopier;
+
+        EnvelopePlan(Schema oldEnvelopeSchema, String newTopic) {
+            this.schema = updateEnvelopeSchema(oldEnvelopeSchema, newTopic);
+            this.sourceFields = oldEnvelopeSchema.fields().toArray(new org.apache.kafka.connect.data.Field[0]);
+            this.targetFields = targetFields(oldEnvelopeSchema, schema);
+            this.rowFields = new boolean[sourceFields.length];
+            for (int i = 0; i < sourceFields.length; i++) {
+                rowFields[i] = isRowField(sourceFields[i].name());
+            }
+
+            final Schema oldValueSchema = oldEnvelopeSchema.field(Envelope.FieldName.BEFORE).schema();
+            this.valueCopier = StructCopier.forSchemas(oldValueSchema, schema.field(Envelope.FieldName.BEFORE).schema());
+        }
+
+        Struct updateEnvelope(Struct oldEnvelope) {
+            final Struct newEnvelope = new Struct(schema);
+            for (int i = 0; i < sourceFields.length; i++) {
+                Object fieldValue = oldEnvelope.get(sourceFields[i]);
+                if (rowFields[i] && fieldValue != null) {
+                    fieldValue = valueCopier.copy(requireStruct(fieldValue, "Updating schema"));
+                }
+                newEnvelope.put(targetFields[i], fieldValue);
+            }
+            return newEnvelope;
+        }
+    }
 }
@@ -25,20 +25,20 @@
 import org.apache.kafka.connect.header.ConnectHeaders;
 import org.apache.kafka.connect.header.Headers;
 import org.apache.kafka.connect.transforms.ExtractField;
-import org.apache.kafka.connect.transforms.InsertField;
 import org.apache.kafka.connect.transforms.Transformation;
 import org.apache.kafka.connect.transforms.util.SchemaUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.annotation.ThreadSafe;
 import io.debezium.config.Configuration;
 import io.debezium.config.Field;
 import io.debezium.data.Envelope;
 import io.debezium.data.Envelope.FieldName;
 import io.debezium.data.Envelope.Operation;
+import io.debezium.data.StructCopier;
 import io.debezium.pipeline.txmetadata.TransactionMonitor;
 import io.debezium.transforms.ExtractNewRecordStateConfigDefinition.DeleteHandling;
-import io.debezium.util.BoundedConcurrentHashMap;
 import io.debezium.util.Strings;
 
 /**
@@ -56,10 +56,14 @@
  * <p>
  * The SMT also has the option to insert fields from the original record (e.g. 'op' or 'source.ts_ms' into the
  * unwrapped record or ad them as header attributes.
+ * <p>
+ * The references to the inserted fields are resolved once per envelope schema, and the layout of the unwrapped value
+ * once per value schema, so that records are transformed by copying fields by their position.
  *
  * @param <R> the subtype of {@link ConnectRecord} on which this transformation will operate
  * @author Jiri Pechanec
  */
+@ThreadSafe
 public class ExtractNewRecordState<R extends ConnectRecord<R>> implements Transformation<R> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ExtractNewRecordState.class);
@@ -76,9 +80,8 @@
     private String routeByField;
     private final ExtractField<R> afterDelegate = new ExtractField.Value<R>();
     private final ExtractField<R> beforeDelegate = new ExtractField.Value<R>();
-    private final InsertField<R> removedDelegate = new InsertField.Value<R>();
-    private final InsertField<R> updatedDelegate = new InsertField.Value<R>();
-    private BoundedConcurrentHashMap<Schema, Schema> schemaUpdateCache;
+    private SchemaPlanCache<EnvelopePlan> envelopePlans;
+    private SchemaPlanCache<ValuePlan> valuePlans;
     private SmtManager<R> smtManager;
 
     @Override
@@ -110,17 +113,8 @@ public void configure(final Map<String, ?> configs) {
         delegateConfig.put("field", "after");
         afterDelegate.configure(delegateConfig);
 
-        delegateConfig = new HashMap<>();
-        delegateConfig.put("static.field", ExtractNewRecordStateConfigDefinition.DELETED_FIELD);
-        delegateConfig.put("static.value", "true");
-        removedDelegate.configure(delegateConfig);
-
-        delegateConfig = new HashMap<>();
-        delegateConfig.put("static.field", ExtractNewRecordStateConfigDefinition.DELETED_FIELD);
-        delegateConfig.put("static.value", "false");
-        updatedDelegate.configure(delegateConfig);
-
-        schemaUpdateCache = new BoundedConcurrentHashMap<>(SCHEMA_CACHE_SIZE);
+        envelopePlans = new SchemaPlanCache<>(SCHEMA_CACHE_SIZE);
+        valuePlans = new SchemaPlanCache<>(SCHEMA_CACHE_SIZE);
     }
 
     @Override
@@ -131,7 +125,7 @@ public R apply(final R record) {
                 return null;
             }
             if (!additionalHeaders.isEmpty()) {
-                Headers headersToAdd = makeHeaders(additionalHeaders, (Struct) record.value());
+                Headers headersToAdd = makeTombstoneHeaders(additionalHeaders);
                 headersToAdd.forEach(h -> record.headers().add(h));
             }
             return record;
@@ -141,9 +135,11 @@ public R apply(final R record) {
             return record;
         }
 
-        if (!additionalHeaders.isEmpty()) {
-            Headers headersToAdd = makeHeaders(additionalHeaders, (Struct) record.value());
-            headersToAdd.forEach(h -> record.headers().add(h));
+        final Struct originalRecordValue = requireStruct(record.value(), PURPOSE);
+        final EnvelopePlan envelopePlan = envelopePlans.get(originalRecordValue.schema(), EnvelopePlan::new);
+
+        for (FieldAccessor header : envelopePlan.headers) {
+            record.headers().add(header.newField, header.getValue(originalRecordValue), header.schema);
         }
 
         R newRecord = afterDelegate.apply(record);
@@ -162,9 +158,7 @@ public R apply(final R record) {
                 case REWRITE:
                     LOGGER.trace("Delete message {} requested to be rewritten", record.key());
                     R oldRecord = beforeDelegate.apply(record);
-                    oldRecord = addFields(additionalFields, record, oldRecord);
-
-                    return removedDelegate.apply(oldRecord);
+                    return addFields(envelopePlan, originalRecordValue, oldRecord, "true");
                 default:
                     return newRecord;
             }
@@ -177,15 +171,13 @@ public R apply(final R record) {
                 newRecord = setTopic(newTopicName, newRecord);
             }
 
-            newRecord = addFields(additionalFields, record, newRecord);
-
             // Handling insert and update records
             switch (handleDeletes) {
                 case REWRITE:
                     LOGGER.trace("Insert/update message {} requested to be rewritten", record.key());
-                    return updatedDelegate.apply(newRecord);
+                    return addFields(envelopePlan, originalRecordValue, newRecord, "false");
                 default:
-                    return newRecord;
+                    return addFields(envelopePlan, originalRecordValue, newRecord, null);
             }
         }
     }
@@ -204,42 +196,35 @@ private R setTopic(String updatedTopicValue, R record) {
     }
 
     /**
-     * Create an Headers object which contains the headers to be added.
+     * Create an Headers object which contains the headers to be added to a tombstone.
      */
-    private Headers makeHeaders(List<FieldReference> additionalHeaders, Struct originalRecordValue) {
+    private Headers makeTombstoneHeaders(List<FieldReference> additionalHeaders) {
         Headers headers = new ConnectHeaders();
 
         for (FieldReference fieldReference : additionalHeaders) {
             // add "d" operation header to tombstone events
-            if (originalRecordValue == null) {
-                if (FieldName.OPERATION.equals(fieldReference.field)) {
-                    headers.addString(fieldReference.getNewField(), Operation.DELETE.code());
-                }
-                continue;
+            if (FieldName.OPERATION.equals(fieldReference.field)) {
+                headers.addString(fieldReference.getNewField(), Operation.DELETE.code());
             }
-            headers.add(fieldReference.getNewField(), fieldReference.getValue(originalRecordValue),
-                    fieldReference.getSchema(originalRecordValue.schema()));
         }
 
         return headers;
     }
 
-    private R addFields(List<FieldReference> additionalFields, R originalRecord, R unwrappedRecord) {
+    /**
+     * Adds the requested fields of the original record and, if given, the deleted marker to the unwrapped record.
+     */
+    private R addFields(EnvelopePlan envelopePlan, Struct originalRecordValue, R unwrappedRecord, String deleted) {
         final Struct value = requireStruct(unwrappedRecord.value(), PURPOSE);
-        Struct originalRecordValue = (Struct) originalRecord.value();
-
-        Schema updatedSchema = schemaUpdateCache.computeIfAbsent(value.schema(),
-                s -> makeUpdatedSchema(additionalFields, value.schema(), originalRecordValue));
+        final ValuePlan valuePlan = valuePlans.get(value.schema(), s -> new ValuePlan(s, envelopePlan));
 
         // Update the value with the new fields
-        Struct updatedValue = new Struct(updatedSchema);
-        for (org.apache.kafka.connect.data.Field field : value.schema().fields()) {
-            updatedValue.put(field.name(), value.get(field));
-
+        final Struct updatedValue = valuePlan.copier.copy(value);
+        for (int i = 0; i < valuePlan.addedFields.length; i++) {
+            updatedValue.put(valuePlan.addedFields[i], envelopePlan.fields.get(i).getValue(originalRecordValue));
         }
-
-        for (FieldReference fieldReference : additionalFields) {
-            updatedValue = updateValue(fieldReference, updatedValue, originalRecordValue);
+        if (valuePlan.deletedField != null) {
+            updatedValue.put(valuePlan.deletedField, deleted);
         }
 
         return unwrappedRecord.newRecord(
@@ -247,34 +232,11 @@ private R addFields(List<FieldReference> additionalFields, R originalRecord, R u
                 unwrappedRecord.kafkaPartition(),
                 unwrappedRecord.keySchema(),
                 unwrappedRecord.key(),
-                updatedSchema,
+                valuePlan.schema,
                 updatedValue,
                 unwrappedRecord.timestamp());
     }
 
-    private Schema makeUpdatedSchema(List<FieldReference> additionalFields, Schema schema, Struct originalRecordValue) {
-        // Get fields from original schema
-        SchemaBuilder builder = SchemaUtil.copySchemaBasics(schema, SchemaBuilder.struct());
-        for (org.apache.kafka.connect.data.Field field : schema.fields()) {
-            builder.field(field.name(), field.schema());
-        }
-
-        // Update the schema with the new fields
-        for (FieldReference fieldReference : additionalFields) {
-            builder = updateSchema(fieldReference, builder, originalRecordValue.schema());
-        }
-
-        return builder.build();
-    }
-
-    private SchemaBuilder updateSchema(FieldReference fieldReference, SchemaBuilder builder, Schema originalRecordSchema) {
-        return builder.field(fieldReference.getNewField(), fieldReference.getSchema(originalRecordSchema));
-    }
-
-    private Struct updateValue(FieldReference fieldReference, Struct updatedValue, Struct struct) {
-        return updatedValue.put(fieldReference.getNewField(), fieldReference.getValue(struct));
-    }
-
     @Override
     public ConfigDef config() {
         final ConfigDef config = new ConfigDef();
@@ -289,8 +251,95 @@ public ConfigDef config() {
     public void close() {
         beforeDelegate.close();
         afterDelegate.close();
-        removedDelegate.close();
-        updatedDelegate.close();
+    }
+
+    /**
+     * The references to the fields to be added to the unwrapped records or their headers, resolved against an
+     * envelope schema.
+     */
+    private final class EnvelopePlan {
+
+        private final List<FieldAccessor> fields;
+        private final List<FieldAccessor> headers;
+
+        EnvelopePlan(Schema envelopeSchema) {
+            this.fields = additionalFields.stream()
+                    .map(fieldReference -> new FieldAccessor(fieldReference, envelopeSchema))
+                    .collect(Collectors.toList());
+            this.headers = additionalHeaders.stream()
+                    .map(fieldReference -> new FieldAccessor(fieldReference, envelopeSchema))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * The schema of the unwrapped values with the added fields, the copier of the original fields and the positions of the added fields.
+     */
+    private final class ValuePlan {
+
+        private final Schema schema;
+        private final StructCopier copier;
+        private final org.apache.kafka.connect.data.Field[] addedFields;
+        private final org.apache.kafka.connect.data.Field deletedField;
+
+        ValuePlan(Schema valueSchema, EnvelopePlan envelopePlan) {
+            // Get fields from original schema
+            final SchemaBuilder builder = SchemaUtil.copySchemaBasics(valueSchema, SchemaBuilder.struct());
+            for (org.apache.kafka.connect.data.Field field : valueSchema.fields()) {
+                builder.field(field.name(), field.schema());
+            }
+
+            // Update the schema with the new fields
+            for (FieldAccessor fieldAccessor : envelopePlan.fields) {
+                builder.field(fieldAccessor.newField, fieldAccessor.schema);
+            }
+            if (handleDeletes == DeleteHandling.REWRITE) {
+                builder.field(ExtractNewRecordStateConfigDefinition.DELETED_FIELD, Schema.OPTIONAL_STRING_SCHEMA);
+            }
+
+            this.schema = builder.build();
+            this.copier = StructCopier.forSchemas(valueSchema, schema);
+            this.addedFields = envelopePlan.fields.stream()
+                    .map(fieldAccessor -> schema.field(fieldAccessor.newField))
+                    .toArray(org.apache.kafka.connect.data.Field[]::new);
+            this.deletedField = handleDeletes == DeleteHandling.REWRITE ? schema.field(ExtractNewRecordStateConfigDefinition.DELETED_FIELD) : null;
+        }
+    }
+
+    /**
+     * A {@link FieldReference} resolved against an envelope schema, reading the field by its position.
+     */
+    private static final class FieldAccessor {
+
+        private final String newField;
+        private final org.apache.kafka.connect.data.Field parentField;
+        private final org.apache.kafka.connect.data.Field field;
+        private final Schema schema;
+
+        FieldAccessor(FieldReference fieldReference, Schema envelopeSchema) {
+            this.newField = fieldReference.getNewField();
+            this.parentField = fieldReference.struct != null ? envelopeSchema.field(fieldReference.struct) : null;
+            final Schema parentSchema = fieldReference.struct != null ? getParentSchema(fieldReference, parentField) : envelopeSchema;
+            this.field = parentSchema.field(fieldReference.field);
+            this.schema = fieldReference.getSchema(envelopeSchema);
+        }
+
+        private static Schema getParentSchema(FieldReference fieldReference, org.apache.kafka.connect.data.Field parentField) {
+            if (parentField == null) {
+                throw new IllegalArgumentException("Unexpected field name: " + fieldReference.struct);
+            }
+            return parentField.schema();
+        }
+
+        Object getValue(Struct originalRecordValue) {
+            if (parentField == null) {
+                return originalRecordValue.get(field);
+            }
+            final Struct parentStruct = (Struct) originalRecordValue.get(parentField);
+
+            // transaction is optional; e.g. not present during snapshotting atm.
+            return parentStruct != null ? parentStruct.get(field) : null;
+        }
     }
 
     /**
@@ -364,13 +413,6 @@ public String getNewField() {
             return this.newField;
         }
 
-        Object getValue(Struct originalRecordValue) {
-            Struct parentStruct = struct != null ? (Struct) originalRecordValue.get(struct) : originalRecordValue;
-
-            // transaction is optional; e.g. not present during snapshotting atm.
-            return parentStruct != null ? parentStruct.get(field) : null;
-        }
-
         Schema getSchema(Schema originalRecordSchema) {
             Schema parentSchema = struct != null ? originalRecordSchema.field(struct).schema() : originalRecordSchema;
 
@@ -0,0 +1,47 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.transforms;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.kafka.connect.data.Schema;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.util.BoundedConcurrentHashMap;
+import io.debezium.util.SchemaIdentityKey;
+
+/**
+ * A bounded cache of the plans a transformation compiles for transforming the records of a schema. Plans are looked
+ * up by the {@link SchemaIdentityKey identity} of the schema first. A schema that is equal to a known one but is
+ * another instance gets the plan of the known one, so that transformed records share their schema instances as well.
+ *
+ * @param <P> the type of the plans
+ */
+@ThreadSafe
+final class SchemaPlanCache<P> {
+
+    private final Map<SchemaIdentityKey, P> plansByIdentity;
+    private final Map<Schema, P> plansByEquality;
+
+    SchemaPlanCache(int capacity) {
+        this.plansByIdentity = new BoundedConcurrentHashMap<>(capacity);
+        this.plansByEquality = new BoundedConcurrentHashMap<>(capacity);
+    }
+
+    /**
+     * Returns the plan for the given schema, creating it with the given planner if there is none yet.
+     */
+    P get(Schema schema, Function<Schema, P> planner) {
+        final SchemaIdentityKey identity = SchemaIdentityKey.of(schema);
+        P plan = plansByIdentity.get(identity);
+        if (plan == null) {
+            plan = plansByEquality.computeIfAbsent(schema, planner);
+            plansByIdentity.put(identity, plan);
+        }
+        return plan;
+    }
+}
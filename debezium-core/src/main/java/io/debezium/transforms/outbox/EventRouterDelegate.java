@@ -9,6 +9,7 @@
 import static org.apache.kafka.connect.transforms.util.Requirements.requireStruct;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
@@ -17,6 +18,7 @@
 import org.apache.kafka.connect.connector.ConnectRecord;
 import org.apache.kafka.connect.data.Field;
 import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaAndValue;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.errors.ConnectException;
@@ -26,12 +28,10 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import io.debezium.config.Configuration;
 import io.debezium.connector.AbstractSourceInfo;
 import io.debezium.data.Envelope;
+import io.debezium.data.StructCopier;
 import io.debezium.time.MicroTimestamp;
 import io.debezium.time.NanoTimestamp;
 import io.debezium.time.Timestamp;
@@ -66,6 +66,8 @@
     private boolean routeTombstoneOnEmptyPayload;
 
     private List<EventRouterConfigDefinition.AdditionalField> additionalFields;
+    private final Map<String, String> envelopeFields = new LinkedHashMap<>();
+    private StructCopier envelopeFieldsCopier;
 
     private Schema defaultValueSchema;
     private final Map<Integer, Schema> versionedValueSchema = new HashMap<>();
@@ -73,7 +75,7 @@
     private boolean onlyHeadersInOutputMessage = false;
 
     private boolean expandJsonPayload;
-    private ObjectMapper objectMapper;
+    private JsonPayloadExpander jsonPayloadExpander;
 
     private SmtManager<R> smtManager;
 
@@ -156,11 +158,10 @@ public R apply(R r, RecordConverter<R> recordConverter) {
                 final String payloadString = (String) payload;
 
                 try {
-                    // Parse and get Jackson JsonNode.
-                    final JsonNode jsonPayload = parseJsonPayload(payloadString);
-                    // Build a new Schema and new payload Struct that replace existing ones.
-                    payloadSchema = SchemaBuilderUtil.jsonNodeToSchema(jsonPayload);
-                    payload = StructBuilderUtil.jsonNodeToStruct(jsonPayload, payloadSchema);
+                    // Get the Schema, cached per payload structure, and a new payload Struct that replace existing ones.
+                    final SchemaAndValue expandedPayload = jsonPayloadExpander.expand(eventStruct.getString(routeByField), payloadString);
+                    payloadSchema = expandedPayload.schema();
+                    payload = expandedPayload.value();
                 }
                 catch (Exception e) {
                     LOGGER.warn("JSON expansion failed", e);
@@ -175,19 +176,16 @@ public R apply(R r, RecordConverter<R> recordConverter) {
 
         final Struct structValue = onlyHeadersInOutputMessage ? null : new Struct(structValueSchema).put(ENVELOPE_PAYLOAD, payload);
 
+        if (structValue != null) {
+            getEnvelopeFieldsCopier(eventValueSchema, structValueSchema).copy(eventStruct, structValue);
+        }
+
         additionalFields.forEach((additionalField -> {
-            switch (additionalField.getPlacement()) {
-                case ENVELOPE:
-                    structValue.put(
-                            additionalField.getAlias(),
-                            eventStruct.get(additionalField.getField()));
-                    break;
-                case HEADER:
-                    headers.add(
-                            additionalField.getAlias(),
-                            eventStruct.get(additionalField.getField()),
-                            eventValueSchema.field(additionalField.getField()).schema());
-                    break;
+            if (additionalField.getPlacement() == EventRouterConfigDefinition.AdditionalFieldPlacement.HEADER) {
+                headers.add(
+                        additionalField.getAlias(),
+                        eventStruct.get(additionalField.getField()),
+                        eventValueSchema.field(additionalField.getField()).schema());
             }
         }));
 
@@ -295,13 +293,6 @@ private void handleUnexpectedOperation(R r) {
         }
     }
 
-    private JsonNode parseJsonPayload(String jsonString) throws Exception {
-        if (jsonString.startsWith("{") || jsonString.startsWith("[")) {
-            return objectMapper.readTree(jsonString);
-        }
-        throw new Exception("Unable to parse payload starting with '" + jsonString.charAt(0) + "'");
-    }
-
     public ConfigDef config() {
         return EventRouterConfigDefinition.configDef();
     }
@@ -331,7 +322,7 @@ public void configure(Map<String, ?> configMap) {
 
         expandJsonPayload = config.getBoolean(EventRouterConfigDefinition.EXPAND_JSON_PAYLOAD);
         if (expandJsonPayload) {
-            objectMapper = new ObjectMapper();
+            jsonPayloadExpander = new JsonPayloadExpander();
         }
 
         // Configure the default configuration provider
@@ -358,6 +349,13 @@ public void configure(Map<String, ?> configMap) {
         afterExtractor.configure(afterExtractorConfig);
 
         additionalFields = parseAdditionalFieldsConfig(config);
+        envelopeFields.clear();
+        envelopeFieldsCopier = null;
+        additionalFields.forEach(additionalField -> {
+            if (additionalField.getPlacement() == EventRouterConfigDefinition.AdditionalFieldPlacement.ENVELOPE) {
+                envelopeFields.put(additionalField.getAlias(), additionalField.getField());
+            }
+        });
         onlyHeadersInOutputMessage = !additionalFields.stream().anyMatch(field -> field.getPlacement() == EventRouterConfigDefinition.AdditionalFieldPlacement.ENVELOPE);
     }
 
@@ -380,6 +378,18 @@ private Schema getValueSchema(String fieldPayload, Schema debeziumEventSchema, I
         return versionedValueSchema.get(version);
     }
 
+    /**
+     * Returns the copier of the additional fields placed into the envelope, it is kept as long as the event schema and
+     * the value schema don't change.
+     */
+    private StructCopier getEnvelopeFieldsCopier(Schema eventValueSchema, Schema structValueSchema) {
+        if (envelopeFieldsCopier == null || envelopeFieldsCopier.sourceSchema() != eventValueSchema
+                || envelopeFieldsCopier.targetSchema() != structValueSchema) {
+            envelopeFieldsCopier = StructCopier.forFields(eventValueSchema, structValueSchema, envelopeFields);
+        }
+        return envelopeFieldsCopier;
+    }
+
     private SchemaBuilder getSchemaBuilder(String fieldPayload, Schema debeziumEventSchema, String routedTopic) {
         SchemaBuilder schemaBuilder = SchemaBuilder.struct().name(getSchemaName(debeziumEventSchema, routedTopic));
 
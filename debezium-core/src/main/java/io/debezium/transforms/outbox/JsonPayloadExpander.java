@@ -0,0 +1,230 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.transforms.outbox;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaAndValue;
+import org.apache.kafka.connect.data.Struct;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.debezium.util.BoundedConcurrentHashMap;
+import io.debezium.util.BoundedConcurrentHashMap.Eviction;
+
+/**
+ * Expands JSON payloads of outbox events into structs. The schema inferred from a payload by {@link SchemaBuilderUtil}
+ * only depends on the structure of the payload, i.e. the names and types of its fields, so it is cached per aggregate
+ * type and fingerprint of that structure. Payloads of the same structure thus get the very same schema instance,
+ * which keeps the schema caches of the converters effective, and they are read with a streaming parser without
+ * building a tree.
+ */
+public class JsonPayloadExpander {
+
+    /**
+     * The maximum number of cached schemas.
+     */
+    static final int SCHEMA_CACHE_SIZE = 1_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<SchemaKey, Schema> schemas = new BoundedConcurrentHashMap<>(SCHEMA_CACHE_SIZE, 10, Eviction.LRU);
+    private final StringBuilder fingerprint = new StringBuilder();
+
+    /**
+     * Converts the given JSON payload into a struct.
+     *
+     * @param aggregateType the aggregate type of the event, may be null
+     * @param payload the JSON payload, must start with an object or an array
+     * @return the schema and the struct of the payload
+     */
+    public SchemaAndValue expand(String aggregateType, String payload) throws IOException {
+        if (!payload.startsWith("{") && !payload.startsWith("[")) {
+            throw new IOException("Unable to parse payload starting with '" + payload.charAt(0) + "'");
+        }
+
+        fingerprint.setLength(0);
+        try (JsonParser parser = objectMapper.getFactory().createParser(payload)) {
+            parser.nextToken();
+            appendFingerprint(parser, fingerprint);
+        }
+
+        final SchemaKey key = new SchemaKey(aggregateType, fingerprint.toString());
+        Schema schema = schemas.get(key);
+        if (schema == null) {
+            schema = SchemaBuilderUtil.jsonNodeToSchema(objectMapper.readTree(payload));
+            schemas.put(key, schema);
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(payload)) {
+            // A top-level array has no fields
+            final Struct struct = parser.nextToken() == JsonToken.START_OBJECT ? readStruct(parser, schema) : new Struct(schema);
+            return new SchemaAndValue(schema, struct);
+        }
+    }
+
+    /**
+     * Appends the structure of the current value to the fingerprint. Consecutive array elements of the same structure
+     * are described only once, as the inferred schema is the same for any number of them.
+     */
+    private static void appendFingerprint(JsonParser parser, StringBuilder fingerprint) throws IOException {
+        switch (parser.currentToken()) {
+            case START_OBJECT:
+                fingerprint.append('{');
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String name = parser.getCurrentName();
+                    fingerprint.append(name.length()).append(':').append(name);
+                    parser.nextToken();
+                    appendFingerprint(parser, fingerprint);
+                }
+                fingerprint.append('}');
+                break;
+            case START_ARRAY:
+                fingerprint.append('[');
+                int previousElement = -1;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    final int element = fingerprint.length();
+                    appendFingerprint(parser, fingerprint);
+                    if (previousElement != -1 && isRepeated(fingerprint, previousElement, element)) {
+                        fingerprint.setLength(element);
+                    }
+                    else {
+                        previousElement = element;
+                    }
+                }
+                fingerprint.append(']');
+                break;
+            case VALUE_STRING:
+                fingerprint.append('s');
+                break;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                fingerprint.append('b');
+                break;
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        fingerprint.append('i');
+                        break;
+                    case LONG:
+                        fingerprint.append('l');
+                        break;
+                    default:
+                        fingerprint.append('d');
+                        break;
+                }
+                break;
+            case VALUE_NUMBER_FLOAT:
+                fingerprint.append('f');
+                break;
+            default:
+                fingerprint.append('n');
+                break;
+        }
+    }
+
+    /**
+     * @return whether the description of the element starting at {@code element} equals the description of the
+     * previous element starting at {@code previousElement}
+     */
+    private static boolean isRepeated(StringBuilder fingerprint, int previousElement, int element) {
+        final int length = element - previousElement;
+        if (fingerprint.length() - element != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (fingerprint.charAt(previousElement + i) != fingerprint.charAt(element + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the current object into a struct, the values are converted like by {@link StructBuilderUtil}.
+     */
+    private static Struct readStruct(JsonParser parser, Schema schema) throws IOException {
+        final Struct struct = new Struct(schema);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final Field field = schema.field(parser.getCurrentName());
+            parser.nextToken();
+            if (field == null) {
+                parser.skipChildren();
+            }
+            else {
+                struct.put(field, readValue(parser, field.schema()));
+            }
+        }
+        return struct;
+    }
+
+    private static Object readValue(JsonParser parser, Schema schema) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        return parser.getIntValue();
+                    case LONG:
+                        return parser.getLongValue();
+                    default:
+                        return parser.getDecimalValue();
+                }
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case START_ARRAY:
+                final List<Object> elements = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elements.add(readValue(parser, schema.valueSchema()));
+                }
+                return elements;
+            case START_OBJECT:
+                return readStruct(parser, schema);
+            default:
+                return null;
+        }
+    }
+
+    private static final class SchemaKey {
+
+        private final String aggregateType;
+        private final String fingerprint;
+
+        SchemaKey(String aggregateType, String fingerprint) {
+            this.aggregateType = aggregateType;
+            this.fingerprint = fingerprint;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(aggregateType) + fingerprint.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof SchemaKey)) {
+                return false;
+            }
+            final SchemaKey other = (SchemaKey) obj;
+            return Objects.equals(aggregateType, other.aggregateType) && fingerprint.equals(other.fingerprint);
+        }
+    }
+}
@@ -143,7 +143,10 @@ private static Schema buildDocumentUnionSchema(ArrayNode array) {
             Iterator<Entry<String, JsonNode>> fieldsEntries = element.fields();
             while (fieldsEntries.hasNext()) {
                 Entry<String, JsonNode> fieldEntry = fieldsEntries.next();
-                addFieldSchema(fieldEntry, builder);
+                // The schema of a field is defined by the first element having it
+                if (builder.field(fieldEntry.getKey()) == null) {
+                    addFieldSchema(fieldEntry, builder);
+                }
             }
         }
         return builder.build();
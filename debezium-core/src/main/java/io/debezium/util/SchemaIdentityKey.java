@@ -0,0 +1,86 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.util;
+
+import java.util.Objects;
+
+import org.apache.kafka.connect.data.Schema;
+
+import io.debezium.annotation.Immutable;
+
+/**
+ * A key of caches of values derived from schemas, comparing the schemas by identity rather than by equality. Connectors
+ * reuse one schema instance for all the change events of a table, whereas the hash code of a schema is computed over
+ * all of its fields on each invocation, so that looking up a schema by equality costs more than deriving many values
+ * from it. A key may be qualified by a name, which is compared by equality.
+ */
+@Immutable
+public final class SchemaIdentityKey {
+
+    private final String name;
+    private final Schema schema;
+    private final Schema otherSchema;
+
+    private SchemaIdentityKey(String name, Schema schema, Schema otherSchema) {
+        this.name = name;
+        this.schema = schema;
+        this.otherSchema = otherSchema;
+    }
+
+    /**
+     * Returns the key of the given schema instance.
+     *
+     * @param schema the schema; may not be null
+     * @return the key; never null
+     */
+    public static SchemaIdentityKey of(Schema schema) {
+        return new SchemaIdentityKey(null, schema, null);
+    }
+
+    /**
+     * Returns the key of the given pair of schema instances, e.g. the source and the target schema of a conversion.
+     *
+     * @param schema the first schema; may not be null
+     * @param otherSchema the second schema; may not be null
+     * @return the key; never null
+     */
+    public static SchemaIdentityKey of(Schema schema, Schema otherSchema) {
+        return new SchemaIdentityKey(null, schema, otherSchema);
+    }
+
+    /**
+     * Returns the key of the given schema instance qualified by a name.
+     *
+     * @param name the name; may not be null
+     * @param schema the schema; may not be null
+     * @return the key; never null
+     */
+    public static SchemaIdentityKey of(String name, Schema schema) {
+        return new SchemaIdentityKey(name, schema, null);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Objects.hashCode(name) + System.identityHashCode(schema)) + System.identityHashCode(otherSchema);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SchemaIdentityKey)) {
+            return false;
+        }
+        final SchemaIdentityKey other = (SchemaIdentityKey) obj;
+        return schema == other.schema && otherSchema == other.otherSchema && Objects.equals(name, other.name);
+    }
+
+    @Override
+    public String toString() {
+        return name != null ? name + ":" + schema : schema + (otherSchema != null ? " -> " + otherSchema : "");
+    }
+}
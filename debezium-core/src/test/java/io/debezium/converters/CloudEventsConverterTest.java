@@ -8,17 +8,30 @@
 import static org.fest.assertions.Assertions.assertThat;
 import static org.junit.Assert.fail;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 
+import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaAndValue;
+import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.DataException;
+import org.apache.kafka.connect.json.JsonConverter;
 import org.apache.kafka.connect.json.JsonDeserializer;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.apache.kafka.connect.storage.Converter;
+import org.junit.Test;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -27,12 +40,239 @@
 import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
 import io.debezium.config.Configuration;
 import io.debezium.converters.spi.CloudEventsMaker;
+import io.debezium.converters.spi.CloudEventsProvider;
+import io.debezium.converters.spi.RecordParser;
+import io.debezium.converters.spi.SerializerType;
 import io.debezium.data.Envelope;
 import io.debezium.data.SchemaUtil;
+import io.debezium.pipeline.txmetadata.TransactionMonitor;
 import io.debezium.util.Testing;
 
 public class CloudEventsConverterTest {
 
+    private static final String TOPIC = "server1.inventory.customers";
+
+    private static final Schema ROW_SCHEMA = SchemaBuilder.struct().name("server1.inventory.customers.Value").optional()
+            .field("id", Schema.INT32_SCHEMA)
+            .field("name", Schema.STRING_SCHEMA)
+            .field("email", Schema.OPTIONAL_STRING_SCHEMA)
+            .build();
+
+    private static final Schema SOURCE_SCHEMA = SchemaBuilder.struct().name("io.debezium.connector.test.Source")
+            .field("version", Schema.STRING_SCHEMA)
+            .field("connector", Schema.STRING_SCHEMA)
+            .field("name", Schema.STRING_SCHEMA)
+            .field("ts_ms", Schema.INT64_SCHEMA)
+            .field("snapshot", Schema.OPTIONAL_BOOLEAN_SCHEMA)
+            .field("db", Schema.STRING_SCHEMA)
+            .field("table", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("row", Schema.INT32_SCHEMA)
+            .build();
+
+    private static final Envelope ENVELOPE = Envelope.defineSchema()
+            .withName("server1.inventory.customers.Envelope")
+            .withRecord(ROW_SCHEMA)
+            .withSource(SOURCE_SCHEMA)
+            .build();
+
+    // The expected events were written by the converter before CloudEvents in JSON were written by a generator
+    private static final String EXPECTED_JSON_WITH_SCHEMAS = "{\"id\":\"name:server1;row:1\",\"source\":\"/debezium/test/server1\",\"specversion\":\"1.0\","
+            + "\"type\":\"io.debezium.test.datachangeevent\",\"time\":\"2020-09-13T12:26:40.001Z\","
+            + "\"datacontenttype\":\"application/json\",\"iodebeziumop\":\"c\",\"iodebeziumversion\":\"1.8.1.Final\","
+            + "\"iodebeziumconnector\":\"test\",\"iodebeziumname\":\"server1\",\"iodebeziumtsms\":\"1600000000001\","
+            + "\"iodebeziumsnapshot\":false,\"iodebeziumdb\":\"inventory\",\"iodebeziumtable\":\"customers\","
+            + "\"iodebeziumrow\":1,\"iodebeziumtxid\":null,\"iodebeziumtxtotalorder\":null,"
+            + "\"iodebeziumtxdatacollectionorder\":null,\"data\":{\"schema\":{\"type\":\"struct\",\"fields\":[{\"type\":\"struct\","
+            + "\"fields\":[{\"type\":\"int32\",\"optional\":false,\"field\":\"id\"},{\"type\":\"string\",\"optional\":false,"
+            + "\"field\":\"name\"},{\"type\":\"string\",\"optional\":true,\"field\":\"email\"}],\"optional\":true,"
+            + "\"name\":\"server1.inventory.customers.Value\",\"field\":\"before\"},{\"type\":\"struct\","
+            + "\"fields\":[{\"type\":\"int32\",\"optional\":false,\"field\":\"id\"},{\"type\":\"string\",\"optional\":false,"
+            + "\"field\":\"name\"},{\"type\":\"string\",\"optional\":true,\"field\":\"email\"}],\"optional\":true,"
+            + "\"name\":\"server1.inventory.customers.Value\",\"field\":\"after\"}],\"optional\":false,"
+            + "\"name\":\"io.debezium.connector.mysql.Data\"},\"payload\":{\"before\":null,\"after\":{\"id\":1,"
+            + "\"name\":\"name \\\"1\\\"\",\"email\":\"user1@acme.com\"}}}}\n"
+            + "{\"id\":\"name:server1;row:2\",\"source\":\"/debezium/test/server1\",\"specversion\":\"1.0\","
+            + "\"type\":\"io.debezium.test.datachangeevent\",\"time\":\"2020-09-13T12:26:40.002Z\","
+            + "\"datacontenttype\":\"application/json\",\"iodebeziumop\":\"u\",\"iodebeziumversion\":\"1.8.1.Final\","
+            + "\"iodebeziumconnector\":\"test\",\"iodebeziumname\":\"server1\",\"iodebeziumtsms\":\"1600000000002\","
+            + "\"iodebeziumsnapshot\":true,\"iodebeziumdb\":\"inventory\",\"iodebeziumtable\":null,\"iodebeziumrow\":2,"
+            + "\"iodebeziumtxid\":\"tx-1\",\"iodebeziumtxtotalorder\":\"2\",\"iodebeziumtxdatacollectionorder\":\"1\","
+            + "\"data\":{\"schema\":{\"type\":\"struct\",\"fields\":[{\"type\":\"struct\",\"fields\":[{\"type\":\"int32\","
+            + "\"optional\":false,\"field\":\"id\"},{\"type\":\"string\",\"optional\":false,\"field\":\"name\"},{\"type\":\"string\","
+            + "\"optional\":true,\"field\":\"email\"}],\"optional\":true,\"name\":\"server1.inventory.customers.Value\","
+            + "\"field\":\"before\"},{\"type\":\"struct\",\"fields\":[{\"type\":\"int32\",\"optional\":false,"
+            + "\"field\":\"id\"},{\"type\":\"string\",\"optional\":false,\"field\":\"name\"},{\"type\":\"string\",\"optional\":true,"
+            + "\"field\":\"email\"}],\"optional\":true,\"name\":\"server1.inventory.customers.Value\",\"field\":\"after\"}],"
+            + "\"optional\":false,\"name\":\"io.debezium.connector.mysql.Data\"},\"payload\":{\"before\":{\"id\":1,"
+            + "\"name\":\"name \\\"1\\\"\",\"email\":\"user1@acme.com\"},\"after\":{\"id\":2,\"name\":\"name \\\"2\\\"\",\"email\":null}}}}\n";
+    private static final String EXPECTED_JSON_WITHOUT_SCHEMAS = "{\"id\":\"name:server1;row:1\",\"source\":\"/debezium/test/server1\",\"specversion\":\"1.0\","
+            + "\"type\":\"io.debezium.test.datachangeevent\",\"time\":\"2020-09-13T12:26:40.001Z\","
+            + "\"datacontenttype\":\"application/json\",\"iodebeziumop\":\"c\",\"iodebeziumversion\":\"1.8.1.Final\","
+            + "\"iodebeziumconnector\":\"test\",\"iodebeziumname\":\"server1\",\"iodebeziumtsms\":\"1600000000001\","
+            + "\"iodebeziumsnapshot\":false,\"iodebeziumdb\":\"inventory\",\"iodebeziumtable\":\"customers\","
+            + "\"iodebeziumrow\":1,\"iodebeziumtxid\":null,\"iodebeziumtxtotalorder\":null,"
+            + "\"iodebeziumtxdatacollectionorder\":null,\"data\":{\"before\":null,\"after\":{\"id\":1,\"name\":\"name \\\"1\\\"\","
+            + "\"email\":\"user1@acme.com\"}}}\n"
+            + "{\"id\":\"name:server1;row:2\",\"source\":\"/debezium/test/server1\",\"specversion\":\"1.0\","
+            + "\"type\":\"io.debezium.test.datachangeevent\",\"time\":\"2020-09-13T12:26:40.002Z\","
+            + "\"datacontenttype\":\"application/json\",\"iodebeziumop\":\"u\",\"iodebeziumversion\":\"1.8.1.Final\","
+            + "\"iodebeziumconnector\":\"test\",\"iodebeziumname\":\"server1\",\"iodebeziumtsms\":\"1600000000002\","
+            + "\"iodebeziumsnapshot\":true,\"iodebeziumdb\":\"inventory\",\"iodebeziumtable\":null,\"iodebeziumrow\":2,"
+            + "\"iodebeziumtxid\":\"tx-1\",\"iodebeziumtxtotalorder\":\"2\",\"iodebeziumtxdatacollectionorder\":\"1\","
+            + "\"data\":{\"before\":{\"id\":1,\"name\":\"name \\\"1\\\"\",\"email\":\"user1@acme.com\"},\"after\":{\"id\":2,"
+            + "\"name\":\"name \\\"2\\\"\",\"email\":null}}}\n";
+    private static final String EXPECTED_JSON_WITH_DATA_AS_AVRO = "{\"id\":\"name:server1;row:1\",\"source\":\"/debezium/test/server1\",\"specversion\":\"1.0\","
+            + "\"type\":\"io.debezium.test.datachangeevent\",\"time\":\"2020-09-13T12:26:40.001Z\","
+            + "\"datacontenttype\":\"application/avro\",\"dataschema\":\"http://fake-url/schemas/ids/1\","
+            + "\"iodebeziumop\":\"c\",\"iodebeziumversion\":\"1.8.1.Final\",\"iodebeziumconnector\":\"test\","
+            + "\"iodebeziumname\":\"server1\",\"iodebeziumtsms\":\"1600000000001\",\"iodebeziumsnapshot\":false,"
+            + "\"iodebeziumdb\":\"inventory\",\"iodebeziumtable\":\"customers\",\"iodebeziumrow\":1,\"iodebeziumtxid\":null,"
+            + "\"iodebeziumtxtotalorder\":null,\"iodebeziumtxdatacollectionorder\":null,"
+            + "\"data\":\"AAAAAAF7ImJlZm9yZSI6bnVsbCwiYWZ0ZXIiOnsiaWQiOjEsIm5hbWUiOiJuYW1lIFwiMVwiIiwiZW1haWwiOiJ1c2VyMUBhY21lLmNvbSJ9fQ==\"}\n"
+            + "{\"id\":\"name:server1;row:2\",\"source\":\"/debezium/test/server1\",\"specversion\":\"1.0\","
+            + "\"type\":\"io.debezium.test.datachangeevent\",\"time\":\"2020-09-13T12:26:40.002Z\","
+            + "\"datacontenttype\":\"application/avro\",\"dataschema\":\"http://fake-url/schemas/ids/1\","
+            + "\"iodebeziumop\":\"u\",\"iodebeziumversion\":\"1.8.1.Final\",\"iodebeziumconnector\":\"test\","
+            + "\"iodebeziumname\":\"server1\",\"iodebeziumtsms\":\"1600000000002\",\"iodebeziumsnapshot\":true,"
+            + "\"iodebeziumdb\":\"inventory\",\"iodebeziumtable\":null,\"iodebeziumrow\":2,\"iodebeziumtxid\":\"tx-1\","
+            + "\"iodebeziumtxtotalorder\":\"2\",\"iodebeziumtxdatacollectionorder\":\"1\","
+            + "\"data\":\"AAAAAAF7ImJlZm9yZSI6eyJpZCI6MSwibmFtZSI6Im5hbWUgXCIxXCIiLCJlbWFpbCI6InVzZXIxQGFjbWUuY29tIn0sImFmdGVyIjp7ImlkIjoyLCJuYW1lIjoibmFtZSBcIjJcIiIsImVtYWlsIjpudWxsfX0=\"}\n";
+    private static final String EXPECTED_AVRO = "{\"id\":\"name:server1;row:1\",\"source\":\"/debezium/test/server1\",\"specversion\":\"1.0\","
+            + "\"type\":\"io.debezium.test.datachangeevent\",\"time\":\"2020-09-13T12:26:40.001Z\","
+            + "\"datacontenttype\":\"application/avro\",\"dataschema\":\"http://fake-url/schemas/ids/1\","
+            + "\"iodebeziumop\":\"c\",\"iodebeziumversion\":\"1.8.1.Final\",\"iodebeziumconnector\":\"test\","
+            + "\"iodebeziumname\":\"server1\",\"iodebeziumtsms\":\"1600000000001\",\"iodebeziumsnapshot\":false,"
+            + "\"iodebeziumdb\":\"inventory\",\"iodebeziumtable\":\"customers\",\"iodebeziumrow\":1,\"iodebeziumtxid\":null,"
+            + "\"iodebeziumtxtotalorder\":null,\"iodebeziumtxdatacollectionorder\":null,"
+            + "\"data\":\"AAAAAAF7ImJlZm9yZSI6bnVsbCwiYWZ0ZXIiOnsiaWQiOjEsIm5hbWUiOiJuYW1lIFwiMVwiIiwiZW1haWwiOiJ1c2VyMUBhY21lLmNvbSJ9fQ==\"}\n"
+            + "{\"id\":\"name:server1;row:2\",\"source\":\"/debezium/test/server1\",\"specversion\":\"1.0\","
+            + "\"type\":\"io.debezium.test.datachangeevent\",\"time\":\"2020-09-13T12:26:40.002Z\","
+            + "\"datacontenttype\":\"application/avro\",\"dataschema\":\"http://fake-url/schemas/ids/1\","
+            + "\"iodebeziumop\":\"u\",\"iodebeziumversion\":\"1.8.1.Final\",\"iodebeziumconnector\":\"test\","
+            + "\"iodebeziumname\":\"server1\",\"iodebeziumtsms\":\"1600000000002\",\"iodebeziumsnapshot\":true,"
+            + "\"iodebeziumdb\":\"inventory\",\"iodebeziumtable\":null,\"iodebeziumrow\":2,\"iodebeziumtxid\":\"tx-1\","
+            + "\"iodebeziumtxtotalorder\":\"2\",\"iodebeziumtxdatacollectionorder\":\"1\","
+            + "\"data\":\"AAAAAAF7ImJlZm9yZSI6eyJpZCI6MSwibmFtZSI6Im5hbWUgXCIxXCIiLCJlbWFpbCI6InVzZXIxQGFjbWUuY29tIn0sImFmdGVyIjp7ImlkIjoyLCJuYW1lIjoibmFtZSBcIjJcIiIsImVtYWlsIjpudWxsfX0=\"}\n";
+
+    @Test
+    public void shouldWriteJsonWithDataAsJsonWithSchemas() {
+        assertThat(convertToJson(jsonConverter(true))).isEqualTo(EXPECTED_JSON_WITH_SCHEMAS);
+    }
+
+    @Test
+    public void shouldWriteJsonWithDataAsJsonWithoutSchemas() {
+        assertThat(convertToJson(jsonConverter(false))).isEqualTo(EXPECTED_JSON_WITHOUT_SCHEMAS);
+    }
+
+    @Test
+    public void shouldWriteJsonWithDataAsAvro() {
+        assertThat(convertToJson(avroConverter("json"))).isEqualTo(EXPECTED_JSON_WITH_DATA_AS_AVRO);
+    }
+
+    @Test
+    public void shouldWriteAvro() {
+        final CloudEventsConverter converter = avroConverter("avro");
+        final StringBuilder events = new StringBuilder();
+        for (Struct value : changeEvents()) {
+            final byte[] event = converter.fromConnectData(TOPIC, ENVELOPE.schema(), value);
+            // the envelope is written after the schema id, see WireFormatConverter
+            events.append(new String(event, 5, event.length - 5, StandardCharsets.UTF_8)).append('\n');
+        }
+        assertThat(events.toString()).isEqualTo(EXPECTED_AVRO);
+    }
+
+    @Test
+    public void shouldWriteJsonConcurrently() throws Exception {
+        final CloudEventsConverter converter = jsonConverter(true);
+        final List<Struct> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(ENVELOPE.create(row(i), source(i), Instant.ofEpochMilli(1_600_000_000_000L + i)));
+        }
+        final List<String> expected = new ArrayList<>();
+        for (Struct value : values) {
+            expected.add(new String(converter.fromConnectData(TOPIC, ENVELOPE.schema(), value), StandardCharsets.UTF_8));
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String>> events = new ArrayList<>();
+            for (Struct value : values) {
+                events.add(executor.submit(() -> new String(converter.fromConnectData(TOPIC, ENVELOPE.schema(), value), StandardCharsets.UTF_8)));
+            }
+            for (int i = 0; i < values.size(); i++) {
+                assertThat(events.get(i).get()).isEqualTo(expected.get(i));
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static CloudEventsConverter jsonConverter(boolean schemasEnabled) {
+        final Map<String, Object> config = new HashMap<>();
+        config.put("serializer.type", "json");
+        config.put("data.serializer.type", "json");
+        config.put("json.schemas.enable", Boolean.toString(schemasEnabled));
+
+        final CloudEventsConverter converter = new CloudEventsConverter();
+        converter.configure(config, false);
+        return converter;
+    }
+
+    private static CloudEventsConverter avroConverter(String serializerType) {
+        final Map<String, Object> config = new HashMap<>();
+        config.put("serializer.type", serializerType);
+        config.put("data.serializer.type", "avro");
+        config.put("avro.schema.registry.url", "http://fake-url");
+
+        final CloudEventsConverter converter = new CloudEventsConverter(new WireFormatConverter());
+        converter.configure(config, false);
+        return converter;
+    }
+
+    private static String convertToJson(CloudEventsConverter converter) {
+        final StringBuilder events = new StringBuilder();
+        for (Struct value : changeEvents()) {
+            events.append(new String(converter.fromConnectData(TOPIC, ENVELOPE.schema(), value), StandardCharsets.UTF_8)).append('\n');
+        }
+        return events.toString();
+    }
+
+    /**
+     * An insert without transaction metadata and an update with transaction metadata.
+     */
+    private static List<Struct> changeEvents() {
+        final List<Struct> values = new ArrayList<>();
+        values.add(ENVELOPE.create(row(1), source(1), Instant.ofEpochMilli(1_600_000_000_123L)));
+
+        final Struct update = ENVELOPE.update(row(1), row(2), source(2), Instant.ofEpochMilli(1_600_000_000_456L));
+        update.put(Envelope.FieldName.TRANSACTION, new Struct(TransactionMonitor.TRANSACTION_BLOCK_SCHEMA)
+                .put(TransactionMonitor.DEBEZIUM_TRANSACTION_ID_KEY, "tx-1")
+                .put(TransactionMonitor.DEBEZIUM_TRANSACTION_TOTAL_ORDER_KEY, 2L)
+                .put(TransactionMonitor.DEBEZIUM_TRANSACTION_DATA_COLLECTION_ORDER_KEY, 1L));
+        values.add(update);
+        return values;
+    }
+
+    private static Struct row(int id) {
+        return new Struct(ROW_SCHEMA)
+                .put("id", id)
+                .put("name", "name \"" + id + "\"")
+                .put("email", id % 2 == 0 ? null : "user" + id + "@acme.com");
+    }
+
+    private static Struct source(int row) {
+        return new Struct(SOURCE_SCHEMA)
+                .put("version", "1.8.1.Final")
+                .put("connector", TestCloudEventsProvider.NAME)
+                .put("name", "server1")
+                .put("ts_ms", 1_600_000_000_000L + row)
+                .put("snapshot", row % 2 == 0)
+                .put("db", "inventory")
+                .put("table", row % 2 == 0 ? null : "customers")
+                .put("row", row);
+    }
+
     public static void shouldConvertToCloudEventsInJson(SourceRecord record, boolean hasTransaction) {
         shouldConvertToCloudEventsInJson(record, hasTransaction, valueJson -> {
         });
@@ -313,6 +553,72 @@ public static void shouldConvertToCloudEventsInAvro(SourceRecord record, String
         }
     }
 
+    /**
+     * A stand-in for the Avro converter that writes the wire format of the schema registry, the magic byte and the id
+     * of the schema followed by the value in JSON, so that the serialized events do not depend on a registry.
+     */
+    private static class WireFormatConverter implements Converter {
+
+        private final JsonConverter jsonConverter = new JsonConverter();
+        private final Map<Schema, Integer> schemaIds = new HashMap<>();
+
+        WireFormatConverter() {
+            jsonConverter.configure(Collections.singletonMap("schemas.enable", "false"), false);
+        }
+
+        @Override
+        public void configure(Map<String, ?> configs, boolean isKey) {
+        }
+
+        @Override
+        public byte[] fromConnectData(String topic, Schema schema, Object value) {
+            final int schemaId = schemaIds.computeIfAbsent(schema, s -> schemaIds.size() + 1);
+            final byte[] json = jsonConverter.fromConnectData(topic, schema, value);
+            return ByteBuffer.allocate(5 + json.length).put((byte) 0).putInt(schemaId).put(json).array();
+        }
+
+        @Override
+        public SchemaAndValue toConnectData(String topic, byte[] value) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Provides CloudEvents for the change events of {@link #SOURCE_SCHEMA}.
+     */
+    public static class TestCloudEventsProvider implements CloudEventsProvider {
+
+        static final String NAME = "test";
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public RecordParser createParser(Schema schema, Struct record) {
+            return new RecordParser(schema, record, Envelope.FieldName.BEFORE, Envelope.FieldName.AFTER) {
+                @Override
+                public Object getMetadata(String name) {
+                    if (SOURCE_FIELDS.contains(name) || "row".equals(name)) {
+                        return source().get(name);
+                    }
+                    throw new DataException("No such field \"" + name + "\" in the \"source\" field of test events");
+                }
+            };
+        }
+
+        @Override
+        public CloudEventsMaker createMaker(RecordParser parser, SerializerType contentType, String dataSchemaUriBase) {
+            return new CloudEventsMaker(parser, contentType, dataSchemaUriBase) {
+                @Override
+                public String ceId() {
+                    return "name:" + recordParser.getMetadata("name") + ";row:" + recordParser.getMetadata("row");
+                }
+            };
+        }
+    }
+
     private static String prettyJson(JsonNode json) {
         try {
             return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(json);
@@ -0,0 +1,88 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.data;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.DataException;
+import org.junit.Test;
+
+public class StructCopierTest {
+
+    private static final Schema SOURCE_SCHEMA = SchemaBuilder.struct()
+            .name("source")
+            .field("id", Schema.INT32_SCHEMA)
+            .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("dropped", Schema.OPTIONAL_STRING_SCHEMA)
+            .build();
+
+    private static final Schema TARGET_SCHEMA = SchemaBuilder.struct()
+            .name("target")
+            .field("added", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("id", Schema.INT32_SCHEMA)
+            .build();
+
+    @Test
+    public void shouldCopyFieldsOfSameName() {
+        final Struct source = new Struct(SOURCE_SCHEMA).put("id", 1).put("name", "a").put("dropped", "b");
+
+        final Struct target = StructCopier.forSchemas(SOURCE_SCHEMA, TARGET_SCHEMA).copy(source);
+
+        assertThat(target.schema()).isSameAs(TARGET_SCHEMA);
+        assertThat(target.get("id")).isEqualTo(1);
+        assertThat(target.get("name")).isEqualTo("a");
+        assertThat(target.get("added")).isNull();
+    }
+
+    @Test
+    public void shouldKeepOtherFieldsOfTarget() {
+        final Struct source = new Struct(SOURCE_SCHEMA).put("id", 1);
+        final Struct target = new Struct(TARGET_SCHEMA).put("added", "c");
+
+        assertThat(StructCopier.forSchemas(SOURCE_SCHEMA, TARGET_SCHEMA).copy(source, target)).isSameAs(target);
+        assertThat(target.get("id")).isEqualTo(1);
+        assertThat(target.get("name")).isNull();
+        assertThat(target.get("added")).isEqualTo("c");
+    }
+
+    @Test
+    public void shouldCacheCopierPerSchemas() {
+        final StructCopier copier = StructCopier.forSchemas(SOURCE_SCHEMA, TARGET_SCHEMA);
+
+        assertThat(StructCopier.forSchemas(SOURCE_SCHEMA, TARGET_SCHEMA)).isSameAs(copier);
+        assertThat(StructCopier.forSchemas(TARGET_SCHEMA, SOURCE_SCHEMA)).isNotSameAs(copier);
+    }
+
+    @Test
+    public void shouldCopyMappedFields() {
+        final Map<String, String> sourceFieldNames = new LinkedHashMap<>();
+        sourceFieldNames.put("added", "dropped");
+        sourceFieldNames.put("name", "dropped");
+        final Struct source = new Struct(SOURCE_SCHEMA).put("id", 1).put("name", "a").put("dropped", "b");
+
+        final Struct target = StructCopier.forFields(SOURCE_SCHEMA, TARGET_SCHEMA, sourceFieldNames)
+                .copy(source, new Struct(TARGET_SCHEMA).put("id", 2));
+
+        assertThat(target.get("id")).isEqualTo(2);
+        assertThat(target.get("name")).isEqualTo("b");
+        assertThat(target.get("added")).isEqualTo("b");
+    }
+
+    @Test(expected = DataException.class)
+    public void shouldRejectUnknownMappedField() {
+        final Map<String, String> sourceFieldNames = new LinkedHashMap<>();
+        sourceFieldNames.put("added", "unknown");
+
+        StructCopier.forFields(SOURCE_SCHEMA, TARGET_SCHEMA, sourceFieldNames);
+    }
+}
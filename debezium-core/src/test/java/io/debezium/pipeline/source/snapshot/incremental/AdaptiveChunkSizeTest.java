@@ -0,0 +1,83 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.incremental;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+import io.debezium.relational.TableId;
+
+public class AdaptiveChunkSizeTest {
+
+    private static final TableId TABLE1 = new TableId(null, "s1", "table1");
+    private static final TableId TABLE2 = new TableId(null, "s1", "table2");
+
+    private static AdaptiveChunkSize adaptiveChunkSize(int chunksPerWindow) {
+        return new AdaptiveChunkSize(true, 1000, 100, 3000, Duration.ofSeconds(1), 10_000_000, chunksPerWindow);
+    }
+
+    @Test
+    public void shouldKeepConfiguredSizeWhenNotAdaptive() {
+        final AdaptiveChunkSize sizes = new AdaptiveChunkSize(false, 5000, 100, 3000, Duration.ofSeconds(1), 10_000_000, 1);
+        sizes.chunkRead(TABLE1, 5000, 5000, 10, 100);
+        assertThat(sizes.windowClosed(5000)).isEqualTo(-1);
+        assertThat(sizes.chunkSize(TABLE1)).isEqualTo(5000);
+    }
+
+    @Test
+    public void shouldAdaptSizeToReadDuration() {
+        final AdaptiveChunkSize sizes = adaptiveChunkSize(1);
+        assertThat(sizes.chunkSize(TABLE1)).isEqualTo(1000);
+
+        sizes.chunkRead(TABLE1, 1000, 1000, 800, 100);
+        assertThat(sizes.windowClosed(1000)).isEqualTo(1250);
+
+        sizes.chunkRead(TABLE1, 1250, 1250, 10, 100);
+        assertThat(sizes.windowClosed(1250)).isEqualTo(2500);
+
+        sizes.chunkRead(TABLE1, 2500, 2500, 500, 100);
+        assertThat(sizes.windowClosed(2500)).isEqualTo(3000);
+
+        sizes.chunkRead(TABLE1, 3000, 3000, 60_000, 100);
+        assertThat(sizes.windowClosed(3000)).isEqualTo(1500);
+        assertThat(sizes.chunkSize(TABLE2)).isEqualTo(1000);
+
+        sizes.reset();
+        assertThat(sizes.chunkSize(TABLE1)).isEqualTo(1000);
+    }
+
+    @Test
+    public void shouldNotAdaptSizeToPartialChunk() {
+        final AdaptiveChunkSize sizes = adaptiveChunkSize(1);
+        sizes.chunkRead(TABLE1, 1000, 10, 1, 100);
+        assertThat(sizes.windowClosed(10)).isEqualTo(-1);
+        assertThat(sizes.windowClosed(10)).isEqualTo(-1);
+        assertThat(sizes.chunkSize(TABLE1)).isEqualTo(1000);
+    }
+
+    @Test
+    public void shouldLimitSizeByWindowMemory() {
+        final AdaptiveChunkSize sizes = adaptiveChunkSize(2);
+        sizes.chunkRead(TABLE1, 2000, 2000, 1000, 20_000);
+        assertThat(sizes.windowClosed(2000)).isEqualTo(250);
+
+        sizes.chunkRead(TABLE1, 500, 500, 1000, 1_000_000);
+        assertThat(sizes.windowClosed(500)).isEqualTo(100);
+    }
+
+    @Test
+    public void shouldReduceSizeOnHighDeduplicationRate() {
+        final AdaptiveChunkSize sizes = adaptiveChunkSize(1);
+        sizes.chunkRead(TABLE1, 1000, 1000, 1000, 100);
+        assertThat(sizes.windowClosed(950)).isEqualTo(1000);
+
+        sizes.chunkRead(TABLE1, 1000, 1000, 1000, 100);
+        assertThat(sizes.windowClosed(600)).isEqualTo(600);
+    }
+}
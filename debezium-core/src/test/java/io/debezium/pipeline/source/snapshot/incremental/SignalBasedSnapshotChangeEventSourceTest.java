@@ -90,6 +90,25 @@ public void testBuildQueryThreePkColumns() {
                 "SELECT * FROM \"s1\".\"table1\" WHERE ((\"pk1\" > ?) OR (\"pk1\" = ? AND \"pk2\" > ?) OR (\"pk1\" = ? AND \"pk2\" = ? AND \"pk3\" > ?)) AND NOT ((\"pk1\" > ?) OR (\"pk1\" = ? AND \"pk2\" > ?) OR (\"pk1\" = ? AND \"pk2\" = ? AND \"pk3\" > ?)) ORDER BY \"pk1\", \"pk2\", \"pk3\" LIMIT 1024");
     }
 
+    @Test
+    public void testBuildKeyRangeQuery() {
+        final SignalBasedIncrementalSnapshotChangeEventSource<TableId> source = new SignalBasedIncrementalSnapshotChangeEventSource<>(
+                config(), new JdbcConnection(config().getConfig(), config -> null, "\"", "\""), null, null, null, SnapshotProgressListener.NO_OP,
+                DataChangeEventListener.NO_OP);
+        final Column pk1 = Column.editor().name("pk1").create();
+        final Column pk2 = Column.editor().name("pk2").create();
+        final Column val1 = Column.editor().name("val1").create();
+        final Table table = Table.editor().tableId(new TableId(null, "s1", "table1"))
+                .addColumn(pk1)
+                .addColumn(pk2)
+                .addColumn(val1)
+                .setPrimaryKeyNames("pk1", "pk2").create();
+        Assertions.assertThat(source.buildKeyRangeQuery(table, false)).isEqualTo(
+                "SELECT * FROM \"s1\".\"table1\" WHERE NOT ((\"pk1\" > ?) OR (\"pk1\" = ? AND \"pk2\" > ?)) ORDER BY \"pk1\", \"pk2\"");
+        Assertions.assertThat(source.buildKeyRangeQuery(table, true)).isEqualTo(
+                "SELECT * FROM \"s1\".\"table1\" WHERE ((\"pk1\" > ?) OR (\"pk1\" = ? AND \"pk2\" > ?)) AND NOT ((\"pk1\" > ?) OR (\"pk1\" = ? AND \"pk2\" > ?)) ORDER BY \"pk1\", \"pk2\"");
+    }
+
     @Test
     public void testMaxQuery() {
         final SignalBasedIncrementalSnapshotChangeEventSource<TableId> source = new SignalBasedIncrementalSnapshotChangeEventSource<>(
@@ -7,21 +7,29 @@
 
 import static org.fest.assertions.Assertions.assertThat;
 
+import java.nio.file.Path;
 import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.apache.kafka.connect.data.Struct;
 import org.junit.Test;
 
+import io.debezium.config.Configuration;
 import io.debezium.document.Array;
 import io.debezium.document.Document;
 import io.debezium.document.DocumentReader;
+import io.debezium.document.DocumentWriter;
 import io.debezium.relational.Column;
 import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
 import io.debezium.relational.history.TableChanges.TableChangesSerializer;
 import io.debezium.util.Collect;
+import io.debezium.util.Testing;
 
 /**
  * @author Randall Hauch
@@ -112,4 +120,142 @@ public void canSerializeAndDeserializeHistoryRecord() throws Exception {
         List<Struct> columnStructs = (List<Struct>) tableStruct.get(ConnectTableChangeSerializer.COLUMNS_KEY);
         assertThat(columnStructs.get(0).get(ConnectTableChangeSerializer.COMMENT_KEY)).isEqualTo("first comment");
     }
+
+    @Test
+    public void canWriteAndReadHistoryRecordWithoutDocuments() throws Exception {
+        Map<String, Object> source = Collect.linkMapOf("server", "abc");
+        Map<String, Object> position = Collect.linkMapOf("file", "x.log", "positionLong", Long.MAX_VALUE, "gtids", new byte[]{ 1, 2 });
+
+        Table customers = Table.editor()
+                .tableId(new TableId("db", null, "customers"))
+                .addColumn(Column.editor()
+                        .name("id")
+                        .jdbcType(Types.INTEGER)
+                        .nativeType(4)
+                        .type("INT")
+                        .optional(false)
+                        .autoIncremented(true)
+                        .create())
+                .addColumn(Column.editor()
+                        .name("balance")
+                        .jdbcType(Types.DECIMAL)
+                        .type("DECIMAL", "DECIMAL(10,2)")
+                        .length(10)
+                        .scale(2)
+                        .optional(true)
+                        .defaultValueExpression("0.00")
+                        .create())
+                .addColumn(Column.editor()
+                        .name("name")
+                        .jdbcType(Types.VARCHAR)
+                        .type("VARCHAR")
+                        .charsetName("utf8")
+                        .length(255)
+                        .optional(true)
+                        .generated(true)
+                        .comment("the name")
+                        .create())
+                .setPrimaryKeyNames("id")
+                .setPrimaryConstraintName(Arrays.asList("pk_customers"))
+                .setIndexes(Collections.singleton("idx_name"))
+                .setForeignKeys(Arrays.asList(Collect.hashMapOf("column", "id")))
+                .setDefaultCharsetName("utf8")
+                .create();
+        Table orders = Table.editor()
+                .tableId(new TableId("db", null, "orders"))
+                .addColumn(Column.editor()
+                        .name("status")
+                        .jdbcType(Types.VARCHAR)
+                        .type("ENUM")
+                        .optional(false)
+                        .enumValues(Arrays.asList("new", "shipped"))
+                        .create())
+                .create();
+        TableChanges tableChanges = new TableChanges()
+                .create(customers)
+                .alter(orders)
+                .drop(Table.editor().tableId(new TableId("db", null, "archive")).create());
+
+        // Written like the document of the record
+        Document document = new HistoryRecord(source, position, "db", null, "CREATE TABLE customers", tableChanges).document();
+        String json = new HistoryRecord(source, position, "db", null, "CREATE TABLE customers", tableChanges).toJson();
+        assertThat(json).isEqualTo(DocumentWriter.defaultWriter().write(document));
+        assertThat(new HistoryRecord(source, position, "db", null, "CREATE TABLE customers", tableChanges).toString())
+                .isEqualTo(DocumentWriter.prettyWriter().write(document));
+
+        // Read like the document of the record
+        HistoryRecord read = HistoryRecord.read(json, true);
+        HistoryRecord readDocument = new HistoryRecord(DocumentReader.defaultReader().read(json));
+        assertThat((Object) read.source()).isEqualTo(readDocument.source());
+        assertThat((Object) read.position()).isEqualTo(readDocument.position());
+        assertThat(read.databaseName()).isEqualTo("db");
+        assertThat(read.schemaName()).isNull();
+        assertThat(read.ddl()).isEqualTo("CREATE TABLE customers");
+        assertThat((Object) read.tableChanges(true)).isEqualTo(readDocument.tableChanges(true));
+        assertThat((Object) read.tableChanges(true)).isEqualTo(tableChanges);
+        assertThat(read.toJson()).isEqualTo(json);
+        TableChanges readChanges = read.tableChanges(true);
+        assertThat((Object) read.document()).isEqualTo(readDocument.document());
+        assertThat((Object) read.tableChanges(true)).isSameAs(readChanges);
+
+        // Recovered from a record kept in memory like from its JSON form
+        assertThat((Object) new HistoryRecord(source, position, "db", null, null, tableChanges).tableChanges(true)).isEqualTo(tableChanges);
+    }
+
+    @Test
+    public void shouldRecoverTableChangesFromFileHistory() {
+        Path path = Testing.Files.createTestingPath("history-record-test.log");
+        Testing.Files.delete(path);
+
+        shouldRecoverTableChanges(() -> {
+            DatabaseHistory history = new FileDatabaseHistory();
+            history.configure(Configuration.create()
+                    .with(FileDatabaseHistory.FILE_PATH, path.toAbsolutePath().toString())
+                    .build(), null, DatabaseHistoryMetrics.NOOP, true);
+            history.start();
+            return history;
+        });
+    }
+
+    @Test
+    public void shouldRecoverTableChangesFromMemoryHistory() {
+        DatabaseHistory history = new MemoryDatabaseHistory();
+        history.configure(Configuration.create().build(), null, DatabaseHistoryMetrics.NOOP, true);
+        history.start();
+
+        shouldRecoverTableChanges(() -> history);
+    }
+
+    @SuppressWarnings("deprecation")
+    private void shouldRecoverTableChanges(Supplier<DatabaseHistory> histories) {
+        Map<String, Object> source = Collect.linkMapOf("server", "abc");
+        TableId customersId = new TableId("db", null, "customers");
+        TableId ordersId = new TableId("db", null, "orders");
+        Table customers = Table.editor()
+                .tableId(customersId)
+                .addColumn(Column.editor().name("id").jdbcType(Types.INTEGER).type("INT").optional(false).create())
+                .setPrimaryKeyNames("id")
+                .create();
+        Table orders = Table.editor()
+                .tableId(ordersId)
+                .addColumn(Column.editor().name("id").jdbcType(Types.INTEGER).type("INT").optional(false).create())
+                .create();
+
+        DatabaseHistory history = histories.get();
+        history.record(source, Collect.linkMapOf("pos", 1L), "db", null, "CREATE TABLE customers", new TableChanges().create(customers));
+        history.record(source, Collect.linkMapOf("pos", 2L), "db", null, "CREATE TABLE orders", new TableChanges().create(orders));
+        history.record(source, Collect.linkMapOf("pos", 3L), "db", null, "DROP TABLE customers", new TableChanges().drop(customers));
+        history.stop();
+
+        // Without a DDL parser, the tables can only be recovered from the table changes
+        Tables tables = new Tables();
+        histories.get().recover(source, Collect.linkMapOf("pos", 2L), tables, null);
+        assertThat((Object) tables.forTable(customersId)).isEqualTo(customers);
+        assertThat((Object) tables.forTable(ordersId)).isEqualTo(orders);
+
+        tables = new Tables();
+        histories.get().recover(source, Collect.linkMapOf("pos", 3L), tables, null);
+        assertThat(tables.forTable(customersId)).isNull();
+        assertThat((Object) tables.forTable(ordersId)).isEqualTo(orders);
+    }
 }
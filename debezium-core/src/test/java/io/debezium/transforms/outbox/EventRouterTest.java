@@ -937,6 +937,58 @@ public void canExpandJsonPayloadIfConfigured() {
         assertThat(valueStruct.getArray("pets").get(1)).isEqualTo("cat");
     }
 
+    @Test
+    public void shouldReuseExpandedPayloadSchemaForSameStructure() {
+        final EventRouter<SourceRecord> router = new EventRouter<>();
+        final Map<String, String> config = new HashMap<>();
+        config.put(
+                EventRouterConfigDefinition.EXPAND_JSON_PAYLOAD.name(),
+                "true");
+        router.configure(config);
+
+        final SourceRecord first = router.apply(createEventRecord(
+                "da8d6de6-3b77-45ff-8f44-57db55a7a06c",
+                "UserCreated",
+                "10711fa5",
+                "User",
+                "{\"fullName\": \"John Doe\", \"age\": 42, \"pets\": [{\"name\": \"Rex\"}, {\"name\": \"Tom\", \"age\": 3}]}"));
+        final SourceRecord second = router.apply(createEventRecord(
+                "9d2aa8a5-1a5c-4e55-b5a4-4e2d3f7c1f0b",
+                "UserCreated",
+                "10711fa6",
+                "User",
+                "{\"fullName\": \"Jane Doe\", \"age\": 37, \"pets\": [{\"name\": \"Rex\"}, {\"name\": \"Tom\", \"age\": 5}, {\"name\": \"Kitty\", \"age\": 2}]}"));
+        final SourceRecord otherStructure = router.apply(createEventRecord(
+                "5b7f9b2c-62f1-4f4d-8c0c-7c9a0ab1c2de",
+                "UserCreated",
+                "10711fa7",
+                "User",
+                "{\"fullName\": \"Jack Doe\", \"age\": \"unknown\", \"pets\": []}"));
+        final SourceRecord otherAggregate = router.apply(createEventRecord(
+                "0c4a8f0e-8f5e-4d43-9a8a-2c5b8a3e9f11",
+                "UserCreated",
+                "10711fa8",
+                "Customer",
+                "{\"fullName\": \"Jill Doe\", \"age\": 29, \"pets\": [{\"name\": \"Rex\"}, {\"name\": \"Tom\", \"age\": 1}]}"));
+
+        assertThat(first.valueSchema()).isSameAs(second.valueSchema());
+        assertThat(otherStructure.valueSchema()).isNotSameAs(first.valueSchema());
+        assertThat(otherAggregate.valueSchema()).isNotSameAs(first.valueSchema());
+        assertThat(otherAggregate.valueSchema()).isEqualTo(first.valueSchema());
+
+        final Schema petSchema = first.valueSchema().field("pets").schema().valueSchema();
+        assertThat(petSchema.fields().size()).isEqualTo(2);
+        assertThat(petSchema.field("age").schema().type().getName()).isEqualTo("int32");
+
+        final Struct secondValue = (Struct) second.value();
+        assertThat(secondValue.get("fullName")).isEqualTo("Jane Doe");
+        assertThat(secondValue.get("age")).isEqualTo(37);
+        assertThat(secondValue.getArray("pets").size()).isEqualTo(3);
+        assertThat(((Struct) secondValue.getArray("pets").get(0)).get("age")).isNull();
+        assertThat(((Struct) secondValue.getArray("pets").get(2)).get("name")).isEqualTo("Kitty");
+        assertThat(((Struct) otherStructure.value()).get("age")).isEqualTo("unknown");
+    }
+
     @Test
     public void shouldNotExpandJSONPayloadIfNotConfigured() {
         final EventRouter<SourceRecord> router = new EventRouter<>();
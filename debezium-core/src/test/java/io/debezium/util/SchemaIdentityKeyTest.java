@@ -0,0 +1,41 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.util;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.junit.Test;
+
+public class SchemaIdentityKeyTest {
+
+    private final Schema schema = SchemaBuilder.struct().name("a").field("id", Schema.INT32_SCHEMA).build();
+    private final Schema equalSchema = SchemaBuilder.struct().name("a").field("id", Schema.INT32_SCHEMA).build();
+    private final Schema otherSchema = SchemaBuilder.struct().name("b").field("id", Schema.INT32_SCHEMA).build();
+
+    @Test
+    public void shouldCompareSchemasByIdentity() {
+        assertThat(SchemaIdentityKey.of(schema)).isEqualTo(SchemaIdentityKey.of(schema));
+        assertThat(SchemaIdentityKey.of(schema).hashCode()).isEqualTo(SchemaIdentityKey.of(schema).hashCode());
+        assertThat(equalSchema).isEqualTo(schema);
+        assertThat(SchemaIdentityKey.of(equalSchema)).isNotEqualTo(SchemaIdentityKey.of(schema));
+    }
+
+    @Test
+    public void shouldCompareSchemaPairsInOrder() {
+        assertThat(SchemaIdentityKey.of(schema, otherSchema)).isEqualTo(SchemaIdentityKey.of(schema, otherSchema));
+        assertThat(SchemaIdentityKey.of(otherSchema, schema)).isNotEqualTo(SchemaIdentityKey.of(schema, otherSchema));
+        assertThat(SchemaIdentityKey.of(schema, otherSchema)).isNotEqualTo(SchemaIdentityKey.of(schema));
+    }
+
+    @Test
+    public void shouldCompareNamesByEquality() {
+        assertThat(SchemaIdentityKey.of(new String("envelope"), schema)).isEqualTo(SchemaIdentityKey.of("envelope", schema));
+        assertThat(SchemaIdentityKey.of("envelope", schema)).isNotEqualTo(SchemaIdentityKey.of("other", schema));
+        assertThat(SchemaIdentityKey.of("envelope", schema)).isNotEqualTo(SchemaIdentityKey.of(schema));
+    }
+}
@@ -8,18 +8,28 @@
 
 import java.util.Collection;
 
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CodePointCharStream;
 import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionContextCache;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.dfa.DFA;
 import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import io.debezium.ddl.parser.mysql.generated.MySqlParser;
 import io.debezium.ddl.parser.mysql.generated.MySqlParser.RenameTableContext;
 import io.debezium.relational.TableId;
@@ -34,11 +44,24 @@
  * This abstract class provides generic initialization of parser and its main sequence of steps
  * that are needed to properly start parsing.
  * It also provides implementation of helper methods for any type of ANTLR listeners.
+ * <p>
+ * The lexer and parser instances are reused for all the statements parsed by this instance, and the parser keeps a
+ * bounded prediction cache of its own. Every statement is first parsed using the faster SLL prediction mode, which
+ * either succeeds with the same parse tree as the full LL prediction or fails; only in the latter case is the statement
+ * parsed again with LL prediction and the usual error reporting.
  *
  * @author Roman Kuchár <kucharrom@gmail.com>.
  */
 public abstract class AntlrDdlParser<L extends Lexer, P extends Parser> extends AbstractDdlParser {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(AntlrDdlParser.class);
+
+    /**
+     * The maximum number of states of the prediction DFA cache of a parser instance; once exceeded, the cache is cleared
+     * and built again by the following statements.
+     */
+    private static final int MAX_DFA_STATES = 250_000;
+
     /**
      * Flag to indicate if the errors caught during tree walk will be thrown.
      * true = errors will be thrown
@@ -54,6 +77,9 @@
     protected Tables databaseTables;
     protected DataTypeResolver dataTypeResolver;
 
+    private L lexer;
+    private P parser;
+
     public AntlrDdlParser(boolean throwErrorsFromTreeWalk) {
         this(throwErrorsFromTreeWalk, false, false);
     }
@@ -68,18 +94,45 @@ public void parse(String ddlContent, Tables databaseTables) {
         this.databaseTables = databaseTables;
 
         CodePointCharStream ddlContentCharStream = CharStreams.fromString(ddlContent);
-        L lexer = createNewLexerInstance(new CaseChangingCharStream(ddlContentCharStream, isGrammarInUpperCase()));
-        P parser = createNewParserInstance(new CommonTokenStream(lexer));
+        CharStream charStream = new CaseChangingCharStream(ddlContentCharStream, isGrammarInUpperCase());
+        if (lexer == null) {
+            lexer = createNewLexerInstance(charStream);
+        }
+        else {
+            lexer.setInputStream(charStream);
+        }
+        CommonTokenStream tokenStream = new CommonTokenStream(lexer);
+        if (parser == null) {
+            parser = createNewParserInstance(tokenStream);
+            parser.setInterpreter(createInterpreter(parser));
+        }
+        else {
+            parser.setTokenStream(tokenStream);
+        }
 
         dataTypeResolver = initializeDataTypeResolver();
 
-        // remove default console output printing error listener
-        parser.removeErrorListener(ConsoleErrorListener.INSTANCE);
+        // remove default console output printing error listener and the one of the previous statement;
+        // the errors of the SLL stage are not reported as the statement is parsed again
+        parser.removeErrorListeners();
 
         ParsingErrorListener parsingErrorListener = new ParsingErrorListener(ddlContent, AbstractDdlParser::accumulateParsingFailure);
-        parser.addErrorListener(parsingErrorListener);
 
-        ParseTree parseTree = parseTree(parser);
+        ParseTree parseTree;
+        try {
+            parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            parser.setErrorHandler(new BailErrorStrategy());
+            parseTree = parseTree(parser);
+        }
+        catch (ParseCancellationException e) {
+            // either a syntax error or a statement requiring full-context prediction, the latter being rare
+            parser.addErrorListener(parsingErrorListener);
+            parser.reset();
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parseTree = parseTree(parser);
+        }
+        limitDfaCacheSize(parser.getInterpreter());
 
         if (parsingErrorListener.getErrors().isEmpty()) {
             antlrDdlParserListener = createParseTreeWalkerListener();
@@ -96,6 +149,30 @@ public void parse(String ddlContent, Tables databaseTables) {
         }
     }
 
+    /**
+     * Creates a prediction interpreter with a DFA cache of its own; the generated parsers share a static cache between
+     * all instances of a grammar, which could not be cleared while other parsers use it.
+     */
+    private static ParserATNSimulator createInterpreter(Parser parser) {
+        final ATN atn = parser.getATN();
+        final DFA[] decisionToDFA = new DFA[atn.getNumberOfDecisions()];
+        for (int i = 0; i < decisionToDFA.length; i++) {
+            decisionToDFA[i] = new DFA(atn.getDecisionState(i), i);
+        }
+        return new ParserATNSimulator(parser, atn, decisionToDFA, new PredictionContextCache());
+    }
+
+    private static void limitDfaCacheSize(ParserATNSimulator interpreter) {
+        int states = 0;
+        for (DFA dfa : interpreter.decisionToDFA) {
+            states += dfa.states.size();
+        }
+        if (states > MAX_DFA_STATES) {
+            LOGGER.debug("Clearing DDL parser prediction cache holding {} states", states);
+            interpreter.clearDFA();
+        }
+    }
+
     /**
      * Returns errors catched during tree walk.
      *
@@ -0,0 +1,137 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.embedded;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.engine.DebeziumEngine;
+import io.debezium.engine.DebeziumEngine.RecordCommitter;
+
+/**
+ * Delivers the batches of change records to the {@link DebeziumEngine.ChangeConsumer} on a dedicated thread, so that
+ * the engine can poll and transform the next batches while the previous one is being handled.
+ * <p>
+ * At most {@code maxQueuedBatches} batches wait for the delivery; the engine blocks when submitting a batch while the
+ * queue is full. The batches are delivered one at a time in the order in which they were submitted, so the
+ * {@link RecordCommitter} and thus the {@code OffsetStorageWriter} observe the records in the same order as when the
+ * batches are delivered synchronously.
+ */
+@ThreadSafe
+final class BatchDeliveryPipeline {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchDeliveryPipeline.class);
+
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final DebeziumEngine.ChangeConsumer<SourceRecord> handler;
+    private final RecordCommitter<SourceRecord> committer;
+    private final BlockingQueue<List<SourceRecord>> batches;
+    private final Thread deliveryThread;
+
+    private volatile boolean running = true;
+    private volatile Throwable failure;
+
+    BatchDeliveryPipeline(String engineName, DebeziumEngine.ChangeConsumer<SourceRecord> handler, RecordCommitter<SourceRecord> committer,
+                          int maxQueuedBatches) {
+        this.handler = handler;
+        this.committer = committer;
+        this.batches = new ArrayBlockingQueue<>(maxQueuedBatches);
+        this.deliveryThread = new Thread(this::deliver, "debezium-engine-delivery-" + engineName);
+        this.deliveryThread.setDaemon(true);
+    }
+
+    void start() {
+        deliveryThread.start();
+    }
+
+    /**
+     * Queues the batch for the delivery, waiting while the maximum number of batches is queued.
+     *
+     * @param batch the transformed records to be delivered; may not be null
+     * @return {@code true} if the batch was queued, {@code false} if the delivery has already stopped because
+     *         the consumer requested it or failed
+     * @throws InterruptedException if interrupted while waiting for a free slot in the queue
+     */
+    boolean submit(List<SourceRecord> batch) throws InterruptedException {
+        while (running) {
+            if (batches.offer(batch, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return {@code true} if the batches are being delivered, {@code false} if the consumer requested the stop or failed
+     */
+    boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @return the error raised by the consumer, or {@code null} if there was none
+     */
+    Throwable failure() {
+        return failure;
+    }
+
+    /**
+     * Stops the delivery after the batch currently handled by the consumer. The batches still waiting in the queue
+     * are discarded; as they have not been marked as processed their offsets are not committed and they are going to be
+     * delivered again after the restart.
+     *
+     * @throws InterruptedException if interrupted while waiting for the consumer to finish the current batch
+     */
+    void stop() throws InterruptedException {
+        running = false;
+        final int discarded = batches.size();
+        batches.clear();
+        if (discarded > 0) {
+            LOGGER.debug("Discarded {} batches awaiting delivery", discarded);
+        }
+        try {
+            deliveryThread.join();
+        }
+        catch (InterruptedException e) {
+            deliveryThread.interrupt();
+            throw e;
+        }
+    }
+
+    private void deliver() {
+        try {
+            while (running) {
+                final List<SourceRecord> batch = batches.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (batch == null || !running) {
+                    continue;
+                }
+                LOGGER.debug("Delivering {} records to the consumer", batch.size());
+                handler.handleBatch(batch, committer);
+            }
+        }
+        catch (StopConnectorException e) {
+            LOGGER.debug("Consumer requested to stop the connector");
+        }
+        catch (InterruptedException e) {
+            LOGGER.debug("Delivery of the batches interrupted");
+            Thread.currentThread().interrupt();
+        }
+        catch (Throwable t) {
+            failure = t;
+        }
+        finally {
+            running = false;
+        }
+    }
+}
@@ -6,17 +6,25 @@
 package io.debezium.embedded;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.apache.kafka.connect.source.SourceRecord;
 import org.apache.kafka.connect.storage.Converter;
 
 import io.debezium.DebeziumException;
 import io.debezium.config.Configuration;
+import io.debezium.config.Field;
 import io.debezium.engine.DebeziumEngine;
 import io.debezium.engine.DebeziumEngine.Builder;
 import io.debezium.engine.DebeziumEngine.ChangeConsumer;
@@ -27,6 +35,7 @@
 import io.debezium.engine.format.ChangeEventFormat;
 import io.debezium.engine.format.CloudEvents;
 import io.debezium.engine.format.Json;
+import io.debezium.engine.format.JsonByteArray;
 import io.debezium.engine.format.KeyValueChangeEventFormat;
 import io.debezium.engine.format.Protobuf;
 import io.debezium.engine.format.SerializationFormat;
@@ -40,6 +49,23 @@
  */
 public class ConvertingEngineBuilder<R> implements Builder<R> {
 
+    /**
+     * An optional field that specifies the number of threads used to convert the records of a batch into the
+     * target format. By default the records are converted on the engine thread. The converters must be thread-safe
+     * when more than one thread is used.
+     */
+    public static final Field CONVERSION_THREADS = Field.create("conversion.threads")
+            .withDescription("The number of threads used to convert the records of a batch into the target format. "
+                    + "Defaults to 1, which converts the records on the engine thread.")
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger);
+
+    /**
+     * The minimal number of records converted by a single conversion task so that
+     * the conversion of small batches is not dominated by the hand-off between threads.
+     */
+    private static final int MIN_RECORDS_PER_CONVERSION_TASK = 64;
+
     private static final String CONVERTER_PREFIX = "converter";
     private static final String KEY_CONVERTER_PREFIX = "key.converter";
     private static final String VALUE_CONVERTER_PREFIX = "value.converter";
@@ -54,6 +80,8 @@
 
     private Function<SourceRecord, R> toFormat;
     private Function<R, SourceRecord> fromFormat;
+    private int conversionThreads;
+    private ExecutorService conversionExecutor;
 
     ConvertingEngineBuilder(ChangeEventFormat<?> format) {
         this.delegate = EmbeddedEngine.create();
@@ -73,6 +101,47 @@ public Builder<R> notifying(Consumer<R> consumer) {
         return this;
     }
 
+    private List<R> convertBatch(List<SourceRecord> records) throws InterruptedException {
+        final int size = records.size();
+        final List<R> converted = new ArrayList<>(size);
+        if (conversionExecutor == null || size < 2 * MIN_RECORDS_PER_CONVERSION_TASK) {
+            for (SourceRecord record : records) {
+                converted.add(toFormat.apply(record));
+            }
+            return converted;
+        }
+
+        // the batch is split into contiguous slices converted in parallel, the results keep the order of the batch
+        @SuppressWarnings("unchecked")
+        final R[] results = (R[]) new Object[size];
+        final int sliceSize = Math.max(MIN_RECORDS_PER_CONVERSION_TASK, (size + conversionThreads - 1) / conversionThreads);
+        final List<Future<?>> slices = new ArrayList<>();
+        for (int sliceStart = 0; sliceStart < size; sliceStart += sliceSize) {
+            final int from = sliceStart;
+            final int to = Math.min(sliceStart + sliceSize, size);
+            slices.add(conversionExecutor.submit(() -> {
+                for (int i = from; i < to; i++) {
+                    results[i] = toFormat.apply(records.get(i));
+                }
+            }));
+        }
+        try {
+            for (Future<?> slice : slices) {
+                slice.get();
+            }
+        }
+        catch (ExecutionException e) {
+            throw new DebeziumException("Failed to convert records", e.getCause());
+        }
+        finally {
+            slices.forEach(slice -> slice.cancel(true));
+        }
+        for (R result : results) {
+            converted.add(result);
+        }
+        return converted;
+    }
+
     private boolean isFormat(Class<? extends SerializationFormat<?>> format1, Class<? extends SerializationFormat<?>> format2) {
         return format1 == (Class<?>) format2;
     }
@@ -80,9 +149,7 @@ private boolean isFormat(Class<? extends SerializationFormat<?>> format1, Class<
     @Override
     public Builder<R> notifying(ChangeConsumer<R> handler) {
         delegate.notifying(
-                (records, committer) -> handler.handleBatch(records.stream()
-                        .map(x -> toFormat.apply(x))
-                        .collect(Collectors.toList()),
+                (records, committer) -> handler.handleBatch(convertBatch(records),
                         new RecordCommitter<R>() {
 
                             @Override
@@ -149,6 +216,15 @@ public Builder<R> using(OffsetCommitPolicy policy) {
     @Override
     public DebeziumEngine<R> build() {
         final DebeziumEngine<SourceRecord> engine = delegate.build();
+        conversionThreads = config.getInteger(CONVERSION_THREADS);
+        if (conversionThreads > 1) {
+            final AtomicInteger threadCount = new AtomicInteger();
+            conversionExecutor = Executors.newFixedThreadPool(conversionThreads, runnable -> {
+                final Thread thread = new Thread(runnable, "debezium-engine-conversion-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
         Converter keyConverter;
         Converter valueConverter;
 
@@ -169,8 +245,8 @@ public DebeziumEngine<R> build() {
                 return isFormat(formatKey, Json.class) && isFormat(formatValue, Json.class)
                         || isFormat(formatValue, CloudEvents.class)
                                 ? (R) new EmbeddedEngineChangeEvent<String, String>(
-                                        key != null ? new String(key) : null,
-                                        value != null ? new String(value) : null,
+                                        key != null ? new String(key, StandardCharsets.UTF_8) : null,
+                                        value != null ? new String(value, StandardCharsets.UTF_8) : null,
                                         record)
                                 : (R) new EmbeddedEngineChangeEvent<byte[], byte[]>(
                                         key,
@@ -190,7 +266,14 @@ public void run() {
 
             @Override
             public void close() throws IOException {
-                engine.close();
+                try {
+                    engine.close();
+                }
+                finally {
+                    if (conversionExecutor != null) {
+                        conversionExecutor.shutdownNow();
+                    }
+                }
             }
         };
     }
@@ -203,7 +286,7 @@ private Converter createConverter(Class<? extends SerializationFormat<?>> format
         final Configuration commonConverterConfig = config.subset(CONVERTER_PREFIX, true);
         converterConfig = commonConverterConfig.edit().with(converterConfig).build();
 
-        if (isFormat(format, Json.class)) {
+        if (isFormat(format, Json.class) || isFormat(format, JsonByteArray.class)) {
             if (converterConfig.hasKey(APICURIO_SCHEMA_REGISTRY_URL_CONFIG)) {
                 converterConfig = converterConfig.edit().withDefault(FIELD_CLASS, "io.apicurio.registry.utils.converter.ExtJsonConverter").build();
             }
@@ -22,7 +22,6 @@
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.common.config.ConfigDef.Importance;
@@ -175,6 +174,18 @@ public final class EmbeddedEngine implements DebeziumEngine<SourceRecord> {
             .withDefault(io.debezium.embedded.spi.OffsetCommitPolicy.PeriodicCommitOffsetPolicy.class.getName())
             .withValidation(Field::isClassName);
 
+    /**
+     * An optional field that enables the pipelined delivery of the batches. When positive, the batches are handed
+     * over to the consumer on a dedicated thread and the engine continues polling the connector while the consumer handles
+     * the previous batch; at most this number of polled batches can wait for the delivery.
+     */
+    public static final Field MAX_QUEUED_BATCHES = Field.create("delivery.max.queued.batches")
+            .withDescription("The maximum number of polled and transformed batches that can wait for the delivery while "
+                    + "the consumer handles the previous batch. The default of 0 delivers each batch synchronously on the "
+                    + "polling thread.")
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger);
+
     protected static final Field INTERNAL_KEY_CONVERTER_CLASS = Field.create("internal.key.converter")
             .withDescription("The Converter class that should be used to serialize and deserialize key data for offsets.")
             .withDefault(JsonConverter.class.getName());
@@ -194,6 +205,17 @@ public final class EmbeddedEngine implements DebeziumEngine<SourceRecord> {
             .withDescription("Optional list of single message transformations applied on the messages. "
                     + "The transforms are defined using '<transform.prefix>.type' config option and configured using options '<transform.prefix>.<option>'");
 
+    /**
+     * An optional field that enables the parallel application of the SMTs. The records of a batch are sharded by their key
+     * across the given number of threads, so the records with the same key are transformed in order by the same thread.
+     */
+    public static final Field TRANSFORMATION_THREADS = Field.create("transformation.threads")
+            .withDescription("The number of threads applying the transformations to the records of a batch. The records are "
+                    + "sharded by their key and merged back in the original order. Transformations not annotated as thread-safe "
+                    + "are instantiated once per thread. Defaults to 1, which transforms the records on the engine thread.")
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger);
+
     /**
      * The array of fields that are required by each connectors.
      */
@@ -778,10 +800,22 @@ public Map<String, String> configs() {
 
                     recordsSinceLastCommit = 0;
                     Throwable handlerError = null;
+                    BatchDeliveryPipeline deliveryPipeline = null;
                     try {
                         timeOfLastCommitMillis = clock.currentTimeInMillis();
                         RecordCommitter committer = buildRecordCommitter(offsetWriter, task, commitTimeout);
+                        final int maxQueuedBatches = config.getInteger(MAX_QUEUED_BATCHES);
+                        if (maxQueuedBatches > 0) {
+                            LOGGER.info("Batches are delivered on a dedicated thread with at most {} batches waiting", maxQueuedBatches);
+                            deliveryPipeline = new BatchDeliveryPipeline(engineName, handler, committer, maxQueuedBatches);
+                            deliveryPipeline.start();
+                        }
                         while (runningThread.get() != null) {
+                            if (deliveryPipeline != null && !deliveryPipeline.isRunning()) {
+                                // the consumer requested the stop or failed
+                                handlerError = deliveryPipeline.failure();
+                                break;
+                            }
                             List<SourceRecord> changeRecords = null;
                             try {
                                 LOGGER.debug("Embedded engine is polling task for records on thread {}", runningThread.get());
@@ -808,20 +842,43 @@ public Map<String, String> configs() {
                             try {
                                 if (changeRecords != null && !changeRecords.isEmpty()) {
                                     LOGGER.debug("Received {} records from the task", changeRecords.size());
-                                    changeRecords = changeRecords.stream()
-                                            .map(transformations::transform)
-                                            .filter(x -> x != null)
-                                            .collect(Collectors.toList());
+                                    try {
+                                        changeRecords = transformations.transform(changeRecords);
+                                    }
+                                    catch (InterruptedException e) {
+                                        LOGGER.debug("Embedded engine interrupted on thread {} while transforming records", runningThread.get());
+                                        if (this.runningThread.get() == Thread.currentThread()) {
+                                            Thread.currentThread().interrupt();
+                                        }
+                                        break;
+                                    }
                                 }
 
                                 if (changeRecords != null && !changeRecords.isEmpty()) {
                                     LOGGER.debug("Received {} transformed records from the task", changeRecords.size());
 
-                                    try {
-                                        handler.handleBatch(changeRecords, committer);
+                                    if (deliveryPipeline != null) {
+                                        try {
+                                            if (!deliveryPipeline.submit(changeRecords)) {
+                                                handlerError = deliveryPipeline.failure();
+                                                break;
+                                            }
+                                        }
+                                        catch (InterruptedException e) {
+                                            LOGGER.debug("Embedded engine interrupted on thread {} while submitting records for delivery", runningThread.get());
+                                            if (this.runningThread.get() == Thread.currentThread()) {
+                                                Thread.currentThread().interrupt();
+                                            }
+                                            break;
+                                        }
                                     }
-                                    catch (StopConnectorException e) {
-                                        break;
+                                    else {
+                                        try {
+                                            handler.handleBatch(changeRecords, committer);
+                                        }
+                                        catch (StopConnectorException e) {
+                                            break;
+                                        }
                                     }
                                 }
                                 else {
@@ -836,6 +893,19 @@ public Map<String, String> configs() {
                         }
                     }
                     finally {
+                        if (deliveryPipeline != null) {
+                            // Wait for the batch being delivered so that its offsets can be committed below ...
+                            try {
+                                deliveryPipeline.stop();
+                            }
+                            catch (InterruptedException e) {
+                                LOGGER.debug("Interrupted while waiting for the delivery of the current batch");
+                                Thread.currentThread().interrupt();
+                            }
+                            if (handlerError == null) {
+                                handlerError = deliveryPipeline.failure();
+                            }
+                        }
                         if (handlerError != null) {
                             // There was an error in the handler so make sure it's always captured...
                             fail("Stopping connector after error in the application's handler method: " + handlerError.getMessage(),
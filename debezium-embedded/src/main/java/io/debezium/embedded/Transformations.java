@@ -8,7 +8,17 @@
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.kafka.connect.source.SourceRecord;
 import org.apache.kafka.connect.transforms.Transformation;
@@ -16,10 +26,16 @@
 import org.slf4j.LoggerFactory;
 
 import io.debezium.DebeziumException;
+import io.debezium.annotation.ThreadSafe;
 import io.debezium.config.Configuration;
 
 /**
  * Composite class representing transformation chain.
+ * <p>
+ * When {@link EmbeddedEngine#TRANSFORMATION_THREADS} is greater than one, the records of a batch are sharded by their key
+ * across a pool of workers, each worker applying the chain to its shard in the order of the batch; the results are
+ * merged back in the original order of the batch. Transformations annotated with {@link ThreadSafe} are shared by all
+ * workers, every other transformation is instantiated and configured once per worker.
  *
  * @author Jiri Pechanec
  *
@@ -30,21 +46,62 @@ public class Transformations implements Closeable {
 
     private static final String TYPE_SUFFIX = ".type";
 
+    /**
+     * Batches smaller than this are transformed on the calling thread, with the records still assigned to the chains
+     * of their shards.
+     */
+    private static final int MIN_RECORDS_FOR_PARALLEL_TRANSFORMATION = 128;
+
+    private static final long WORKER_KEEP_ALIVE_MS = 60_000;
+
     private final Configuration config;
     private final List<Transformation<SourceRecord>> transforms = new ArrayList<>();
+    private final List<List<Transformation<SourceRecord>>> workerTransforms = new ArrayList<>();
+    private final ExecutorService executor;
 
     public Transformations(Configuration config) {
         this.config = config;
+        workerTransforms.add(transforms);
         final String transformationList = config.getString(EmbeddedEngine.TRANSFORMS);
         if (transformationList == null) {
+            executor = null;
             return;
         }
+        final int threads = config.getInteger(EmbeddedEngine.TRANSFORMATION_THREADS);
+        for (int worker = 1; worker < threads; worker++) {
+            workerTransforms.add(new ArrayList<>());
+        }
         for (String transfName : transformationList.split(",")) {
             transfName = transfName.trim();
-            final Transformation<SourceRecord> transformation = getTransformation(transfName);
-            transformation.configure(config.subset(transformationConfigNamespace(transfName), true).asMap());
+            final Transformation<SourceRecord> transformation = createTransformation(transfName);
             transforms.add(transformation);
+            final boolean shared = transformation.getClass().isAnnotationPresent(ThreadSafe.class);
+            for (int worker = 1; worker < threads; worker++) {
+                workerTransforms.get(worker).add(shared ? transformation : createTransformation(transfName));
+            }
+        }
+        if (threads > 1) {
+            LOGGER.info("Transformations are applied by {} threads", threads);
+            final AtomicInteger threadCount = new AtomicInteger();
+            final ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, WORKER_KEEP_ALIVE_MS, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(), runnable -> {
+                        final Thread thread = new Thread(runnable, "debezium-engine-transformation-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            // the workers of a stopped engine must not linger
+            pool.allowCoreThreadTimeOut(true);
+            executor = pool;
         }
+        else {
+            executor = null;
+        }
+    }
+
+    private Transformation<SourceRecord> createTransformation(String name) {
+        final Transformation<SourceRecord> transformation = getTransformation(name);
+        transformation.configure(config.subset(transformationConfigNamespace(name), true).asMap());
+        return transformation;
     }
 
     private String transformationConfigNamespace(final String name) {
@@ -70,7 +127,11 @@ private Transformation<SourceRecord> getTransformation(String name) {
     }
 
     public SourceRecord transform(SourceRecord record) {
-        for (Transformation<SourceRecord> t : transforms) {
+        return transform(transforms, record);
+    }
+
+    private static SourceRecord transform(List<Transformation<SourceRecord>> chain, SourceRecord record) {
+        for (Transformation<SourceRecord> t : chain) {
             record = t.apply(record);
             if (record == null) {
                 break;
@@ -79,14 +140,101 @@ public SourceRecord transform(SourceRecord record) {
         return record;
     }
 
+    /**
+     * Applies the transformation chain to a batch of records.
+     *
+     * @param records the records to be transformed; may not be null
+     * @return the transformed records in the order of the batch, without the records filtered out by the chain
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public List<SourceRecord> transform(List<SourceRecord> records) throws InterruptedException {
+        if (transforms.isEmpty()) {
+            return records;
+        }
+        final int size = records.size();
+        final SourceRecord[] results = new SourceRecord[size];
+        if (executor == null) {
+            for (int i = 0; i < size; i++) {
+                results[i] = transform(transforms, records.get(i));
+            }
+            return collect(results);
+        }
+
+        // records with the same key are always handled by the same worker, in the order of the batch
+        final int workers = workerTransforms.size();
+        final int[] shards = new int[size];
+        for (int i = 0; i < size; i++) {
+            shards[i] = shardOf(records.get(i), workers);
+        }
+        if (size < MIN_RECORDS_FOR_PARALLEL_TRANSFORMATION) {
+            for (int i = 0; i < size; i++) {
+                results[i] = transform(workerTransforms.get(shards[i]), records.get(i));
+            }
+            return collect(results);
+        }
+
+        final List<Future<?>> tasks = new ArrayList<>(workers);
+        for (int worker = 0; worker < workers; worker++) {
+            final int shard = worker;
+            final List<Transformation<SourceRecord>> chain = workerTransforms.get(worker);
+            tasks.add(executor.submit(() -> {
+                for (int i = 0; i < size; i++) {
+                    if (shards[i] == shard) {
+                        results[i] = transform(chain, records.get(i));
+                    }
+                }
+            }));
+        }
+        try {
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new DebeziumException("Failed to transform records", e.getCause());
+        }
+        finally {
+            tasks.forEach(task -> task.cancel(true));
+        }
+        return collect(results);
+    }
+
+    private static int shardOf(SourceRecord record, int shards) {
+        final Object key = record.key();
+        final int hash = key != null ? key.hashCode() : record.topic().hashCode();
+        return Math.floorMod(hash, shards);
+    }
+
+    private static List<SourceRecord> collect(SourceRecord[] results) {
+        final List<SourceRecord> transformed = new ArrayList<>(results.length);
+        for (SourceRecord result : results) {
+            if (result != null) {
+                transformed.add(result);
+            }
+        }
+        return transformed;
+    }
+
     @Override
     public void close() throws IOException {
-        for (Transformation<SourceRecord> t : transforms) {
-            try {
-                t.close();
-            }
-            catch (Exception e) {
-                LOGGER.warn("Error while closing transformation", e);
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        final Set<Transformation<SourceRecord>> closed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (List<Transformation<SourceRecord>> chain : workerTransforms) {
+            for (Transformation<SourceRecord> t : chain) {
+                if (!closed.add(t)) {
+                    continue;
+                }
+                try {
+                    t.close();
+                }
+                catch (Exception e) {
+                    LOGGER.warn("Error while closing transformation", e);
+                }
             }
         }
     }
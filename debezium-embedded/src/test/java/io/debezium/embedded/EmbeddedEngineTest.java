@@ -21,14 +21,17 @@
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.connect.connector.Task;
+import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.file.FileStreamSourceConnector;
 import org.apache.kafka.connect.json.JsonDeserializer;
 import org.apache.kafka.connect.runtime.WorkerConfig;
@@ -53,6 +56,7 @@
 import io.debezium.engine.RecordChangeEvent;
 import io.debezium.engine.format.ChangeEventFormat;
 import io.debezium.engine.format.Json;
+import io.debezium.engine.format.JsonByteArray;
 import io.debezium.engine.spi.OffsetCommitPolicy;
 import io.debezium.util.Collect;
 import io.debezium.util.LoggingContext;
@@ -94,6 +98,47 @@ public void close() {
         }
     }
 
+    /**
+     * Drops every tenth record and records the order of the record ids it sees; it is not thread-safe, so every
+     * transformation thread gets its own instance.
+     */
+    public static class IdOrderTransform implements Transformation<SourceRecord> {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+        static final AtomicInteger OUT_OF_ORDER = new AtomicInteger();
+        static final Set<String> THREADS = new ConcurrentSkipListSet<>();
+
+        private int lastId;
+
+        public IdOrderTransform() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public void configure(Map<String, ?> configs) {
+        }
+
+        @Override
+        public SourceRecord apply(SourceRecord record) {
+            THREADS.add(Thread.currentThread().getName());
+            final int id = ((Struct) record.key()).getInt32("id");
+            if (id < lastId) {
+                OUT_OF_ORDER.incrementAndGet();
+            }
+            lastId = id;
+            return id % 10 == 0 ? null : record;
+        }
+
+        @Override
+        public ConfigDef config() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
     @Before
     public void beforeEach() throws Exception {
         nextConsumedLineNumber = 1;
@@ -561,6 +606,161 @@ public void shouldRunDebeziumEngineWithJson() throws Exception {
         stopConnector();
     }
 
+    @Test
+    public void shouldRunDebeziumEngineWithJsonByteArrayAndParallelConversion() throws Exception {
+        final int numberOfLines = 1000;
+        appendLinesToSource(numberOfLines);
+
+        final Properties props = new Properties();
+        props.setProperty("name", "debezium-engine");
+        props.setProperty("connector.class", "org.apache.kafka.connect.file.FileStreamSourceConnector");
+        props.setProperty(StandaloneConfig.OFFSET_STORAGE_FILE_FILENAME_CONFIG, OFFSET_STORE_PATH.toAbsolutePath().toString());
+        props.setProperty("offset.flush.interval.ms", "0");
+        props.setProperty("file", TEST_FILE_PATH.toAbsolutePath().toString());
+        props.setProperty("topic", "topicX");
+        props.setProperty("converter.schemas.enable", "false");
+        props.setProperty(ConvertingEngineBuilder.CONVERSION_THREADS.name(), "4");
+
+        final AtomicInteger nextLineNumber = new AtomicInteger(1);
+        final CountDownLatch allLatch = new CountDownLatch(numberOfLines);
+
+        final DebeziumEngine<ChangeEvent<byte[], byte[]>> engine = DebeziumEngine.create(JsonByteArray.class)
+                .using(props)
+                .notifying((records, committer) -> {
+                    for (ChangeEvent<byte[], byte[]> r : records) {
+                        Assertions.assertThat(r.key()).isNull();
+                        // records must be delivered in the order of the batch even when converted in parallel
+                        Assertions.assertThat(new String(r.value(), StandardCharsets.UTF_8))
+                                .isEqualTo("\"" + generateLine(nextLineNumber.getAndIncrement()) + "\"");
+                        committer.markProcessed(r);
+                        allLatch.countDown();
+                    }
+                    committer.markBatchFinished();
+                })
+                .using(this.getClass().getClassLoader())
+                .build();
+
+        ExecutorService exec = Executors.newFixedThreadPool(1);
+        exec.execute(() -> {
+            LoggingContext.forConnector(getClass().getSimpleName(), "", "engine");
+            engine.run();
+        });
+
+        allLatch.await(5000, TimeUnit.MILLISECONDS);
+        assertThat(allLatch.getCount()).isEqualTo(0);
+
+        engine.close();
+        exec.shutdown();
+        exec.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void shouldDeliverBatchesInOrderWhenPipelined() throws Exception {
+        appendLinesToSource(NUMBER_OF_LINES);
+
+        final Properties props = new Properties();
+        props.setProperty("name", "debezium-engine");
+        props.setProperty("connector.class", "org.apache.kafka.connect.file.FileStreamSourceConnector");
+        props.setProperty(StandaloneConfig.OFFSET_STORAGE_FILE_FILENAME_CONFIG, OFFSET_STORE_PATH.toAbsolutePath().toString());
+        props.setProperty("offset.flush.interval.ms", "0");
+        props.setProperty("file", TEST_FILE_PATH.toAbsolutePath().toString());
+        props.setProperty("topic", "topicX");
+        props.setProperty(EmbeddedEngine.MAX_QUEUED_BATCHES.name(), "2");
+
+        final AtomicInteger nextLineNumber = new AtomicInteger(1);
+        final CountDownLatch allLatch = new CountDownLatch(6 * NUMBER_OF_LINES);
+        final Set<String> deliveryThreads = new ConcurrentSkipListSet<>();
+
+        final DebeziumEngine<RecordChangeEvent<SourceRecord>> engine = DebeziumEngine.create(ChangeEventFormat.of(Connect.class))
+                .using(props)
+                .notifying((records, committer) -> {
+                    deliveryThreads.add(Thread.currentThread().getName());
+                    for (RecordChangeEvent<SourceRecord> r : records) {
+                        assertThat(r.record().value()).isEqualTo(generateLine(nextLineNumber.getAndIncrement()));
+                        committer.markProcessed(r);
+                        allLatch.countDown();
+                    }
+                    // simulate a slow sink
+                    Thread.sleep(20);
+                    committer.markBatchFinished();
+                })
+                .using(this.getClass().getClassLoader())
+                .build();
+
+        ExecutorService exec = Executors.newFixedThreadPool(1);
+        exec.execute(() -> {
+            LoggingContext.forConnector(getClass().getSimpleName(), "", "engine");
+            engine.run();
+        });
+
+        for (int i = 0; i < 5; i++) {
+            appendLinesToSource(NUMBER_OF_LINES);
+            Thread.sleep(10);
+        }
+        allLatch.await(5000, TimeUnit.MILLISECONDS);
+        assertThat(allLatch.getCount()).isEqualTo(0);
+        assertThat(deliveryThreads).containsOnly("debezium-engine-delivery-debezium-engine");
+
+        engine.close();
+        exec.shutdown();
+        exec.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void shouldTransformInParallelPreservingOrder() throws Exception {
+        final int numberOfRecords = 1000;
+        IdOrderTransform.INSTANCES.set(0);
+        IdOrderTransform.OUT_OF_ORDER.set(0);
+        IdOrderTransform.THREADS.clear();
+
+        final Properties props = new Properties();
+        props.setProperty("name", "debezium-engine");
+        props.setProperty("connector.class", SimpleSourceConnector.class.getName());
+        props.setProperty(StandaloneConfig.OFFSET_STORAGE_FILE_FILENAME_CONFIG, OFFSET_STORE_PATH.toAbsolutePath().toString());
+        props.setProperty("offset.flush.interval.ms", "0");
+        props.setProperty(SimpleSourceConnector.BATCH_COUNT, "5");
+        props.setProperty(SimpleSourceConnector.RECORD_COUNT_PER_BATCH, "200");
+        props.setProperty("transforms", "order");
+        props.setProperty("transforms.order.type", "io.debezium.embedded.EmbeddedEngineTest$IdOrderTransform");
+        props.setProperty(EmbeddedEngine.TRANSFORMATION_THREADS.name(), "4");
+
+        // every tenth record is filtered out
+        final AtomicInteger nextId = new AtomicInteger(1);
+        final CountDownLatch allLatch = new CountDownLatch(numberOfRecords - numberOfRecords / 10);
+
+        final DebeziumEngine<RecordChangeEvent<SourceRecord>> engine = DebeziumEngine.create(ChangeEventFormat.of(Connect.class))
+                .using(props)
+                .notifying((records, committer) -> {
+                    for (RecordChangeEvent<SourceRecord> r : records) {
+                        if (nextId.get() % 10 == 0) {
+                            nextId.incrementAndGet();
+                        }
+                        assertThat(((Struct) r.record().key()).getInt32("id")).isEqualTo(nextId.getAndIncrement());
+                        committer.markProcessed(r);
+                        allLatch.countDown();
+                    }
+                    committer.markBatchFinished();
+                })
+                .using(this.getClass().getClassLoader())
+                .build();
+
+        ExecutorService exec = Executors.newFixedThreadPool(1);
+        exec.execute(() -> {
+            LoggingContext.forConnector(getClass().getSimpleName(), "", "engine");
+            engine.run();
+        });
+
+        allLatch.await(5000, TimeUnit.MILLISECONDS);
+        assertThat(allLatch.getCount()).isEqualTo(0);
+        assertThat(IdOrderTransform.OUT_OF_ORDER.get()).isEqualTo(0);
+        assertThat(IdOrderTransform.INSTANCES.get()).isEqualTo(4);
+        assertThat(IdOrderTransform.THREADS.size()).isGreaterThan(1);
+
+        engine.close();
+        exec.shutdown();
+        exec.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
     protected void appendLinesToSource(int numberOfLines) throws IOException {
         CharSequence[] lines = new CharSequence[numberOfLines];
         for (int i = 0; i != numberOfLines; ++i) {
@@ -7,6 +7,9 @@
 
 import java.util.concurrent.TimeUnit;
 
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -21,12 +24,14 @@
 import org.openjdk.jmh.annotations.Warmup;
 
 import io.debezium.connector.mysql.antlr.MySqlAntlrDdlParser;
+import io.debezium.ddl.parser.mysql.generated.MySqlParser;
 import io.debezium.relational.Tables;
 import io.debezium.relational.ddl.AbstractDdlParser;
 
 /**
  * A basic test to compare performance of legacy and antlr DDL parsers depending on the amount
- * of columns in the statement.
+ * of columns and partitions in the statement. With {@code sllFirst} disabled, every statement is
+ * parsed using the full LL prediction only, which is the baseline of the two-stage parsing.
  *
  * @author Jiri Pechanec <jpechane@redhat.com>
  *
@@ -43,9 +48,15 @@ public static class ParserState {
         @Param({ "1", "2", "5", "10", "20", "50" })
         public int columnCount;
 
+        @Param({ "0", "32" })
+        public int partitionCount;
+
+        @Param({ "true", "false" })
+        public boolean sllFirst;
+
         @Setup(Level.Trial)
         public void doSetup() {
-            antlrParser = new MySqlAntlrDdlParser();
+            antlrParser = sllFirst ? new MySqlAntlrDdlParser() : new LlOnlyMySqlAntlrDdlParser();
             tables = new Tables();
             ddl = testStatement();
         }
@@ -55,11 +66,32 @@ private String testStatement() {
             for (int i = 0; i < columnCount; i++) {
                 sb.append(", v").append(i).append(" int");
             }
-            final String statement = sb.append(")").toString();
+            sb.append(")");
+            if (partitionCount > 0) {
+                sb.append(" PARTITION BY RANGE (id) (");
+                for (int i = 0; i < partitionCount; i++) {
+                    sb.append("PARTITION p").append(i).append(" VALUES LESS THAN (").append((i + 1) * 1000).append("), ");
+                }
+                sb.append("PARTITION pmax VALUES LESS THAN MAXVALUE)");
+            }
+            final String statement = sb.toString();
             return statement;
         }
     }
 
+    /**
+     * Parses every statement using the full LL prediction only.
+     */
+    public static class LlOnlyMySqlAntlrDdlParser extends MySqlAntlrDdlParser {
+
+        @Override
+        protected ParseTree parseTree(MySqlParser parser) {
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            return super.parseTree(parser);
+        }
+    }
+
     @Benchmark
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MICROSECONDS)
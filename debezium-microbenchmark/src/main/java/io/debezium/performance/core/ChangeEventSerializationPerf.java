@@ -0,0 +1,144 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.core;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.json.JsonConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.debezium.converters.CloudEventsConverter;
+import io.debezium.data.Envelope;
+
+/**
+ * A basic test to compare the cost of serializing change events into JSON and CloudEvents formats,
+ * including the String round trip that is done when sinks receive JSON as String but send bytes.
+ */
+public class ChangeEventSerializationPerf {
+
+    private static final String TOPIC = "server1.inventory.customers";
+
+    @State(Scope.Thread)
+    public static class SerializationState {
+
+        @Param({ "true", "false" })
+        public boolean schemasEnabled;
+
+        public JsonConverter jsonConverter;
+        public CloudEventsConverter cloudEventsConverter;
+        public Schema valueSchema;
+        public Struct value;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            final Map<String, Object> jsonConfig = new HashMap<>();
+            jsonConfig.put("schemas.enable", schemasEnabled);
+            jsonConverter = new JsonConverter();
+            jsonConverter.configure(jsonConfig, false);
+
+            final Map<String, Object> cloudEventsConfig = new HashMap<>();
+            cloudEventsConfig.put("json.schemas.enable", schemasEnabled);
+            cloudEventsConverter = new CloudEventsConverter();
+            cloudEventsConverter.configure(cloudEventsConfig, false);
+
+            final Schema rowSchema = SchemaBuilder.struct().name("server1.inventory.customers.Value")
+                    .field("id", Schema.INT32_SCHEMA)
+                    .field("first_name", Schema.STRING_SCHEMA)
+                    .field("last_name", Schema.STRING_SCHEMA)
+                    .field("email", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("score", Schema.OPTIONAL_FLOAT64_SCHEMA)
+                    .optional()
+                    .build();
+            final Schema sourceSchema = SchemaBuilder.struct().name("io.debezium.connector.mysql.Source")
+                    .field("version", Schema.STRING_SCHEMA)
+                    .field("connector", Schema.STRING_SCHEMA)
+                    .field("name", Schema.STRING_SCHEMA)
+                    .field("ts_ms", Schema.INT64_SCHEMA)
+                    .field("db", Schema.STRING_SCHEMA)
+                    .field("table", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("server_id", Schema.INT64_SCHEMA)
+                    .field("file", Schema.STRING_SCHEMA)
+                    .field("pos", Schema.INT64_SCHEMA)
+                    .field("row", Schema.INT32_SCHEMA)
+                    .build();
+            final Envelope envelope = Envelope.defineSchema()
+                    .withName("server1.inventory.customers.Envelope")
+                    .withRecord(rowSchema)
+                    .withSource(sourceSchema)
+                    .build();
+            valueSchema = envelope.schema();
+
+            final Struct row = new Struct(rowSchema)
+                    .put("id", 1001)
+                    .put("first_name", "Sally")
+                    .put("last_name", "Thomas")
+                    .put("email", "sally.thomas@acme.com")
+                    .put("score", 12.5);
+            final Struct source = new Struct(sourceSchema)
+                    .put("version", "1.8.1.Final")
+                    .put("connector", "mysql")
+                    .put("name", "server1")
+                    .put("ts_ms", 1_600_000_000_000L)
+                    .put("db", "inventory")
+                    .put("table", "customers")
+                    .put("server_id", 223344L)
+                    .put("file", "mysql-bin.000003")
+                    .put("pos", 154L)
+                    .put("row", 0);
+            value = envelope.create(row, source, Instant.ofEpochMilli(1_600_000_000_000L));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void jsonStringRoundTrip(SerializationState state, Blackhole bh) {
+        final byte[] serialized = state.jsonConverter.fromConnectData(TOPIC, state.valueSchema, state.value);
+        bh.consume(new String(serialized, StandardCharsets.UTF_8).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void jsonByteArray(SerializationState state, Blackhole bh) {
+        bh.consume(state.jsonConverter.fromConnectData(TOPIC, state.valueSchema, state.value));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void cloudEvents(SerializationState state, Blackhole bh) {
+        bh.consume(state.cloudEventsConverter.fromConnectData(TOPIC, state.valueSchema, state.value));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.core;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.apache.kafka.connect.transforms.Transformation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.debezium.data.Envelope;
+import io.debezium.transforms.ContentBasedRouter;
+import io.debezium.util.Collect;
+
+/**
+ * A basic test of the cost of routing change events from many tables with the scripting content-based router.
+ */
+public class ContentBasedRouterSmtPerf {
+
+    private static final int TABLES = 32;
+    private static final String EXPRESSION = "value.op == 'd' ? null : 'routed.' + value.source.table";
+
+    @State(Scope.Thread)
+    public static class RouterState {
+
+        public Transformation<SourceRecord> groovyRouter;
+        public Transformation<SourceRecord> jsRouter;
+        public SourceRecord[] records;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            final Schema recordSchema = SchemaBuilder.struct()
+                    .field("id", Schema.INT64_SCHEMA)
+                    .field("name", Schema.STRING_SCHEMA)
+                    .build();
+            final Schema sourceSchema = SchemaBuilder.struct()
+                    .field("db", Schema.STRING_SCHEMA)
+                    .field("table", Schema.STRING_SCHEMA)
+                    .build();
+            final Envelope envelope = Envelope.defineSchema()
+                    .withName("dummy.Envelope")
+                    .withRecord(recordSchema)
+                    .withSource(sourceSchema)
+                    .build();
+
+            records = new SourceRecord[TABLES];
+            for (int i = 0; i < TABLES; i++) {
+                final Struct after = new Struct(recordSchema);
+                after.put("id", (long) i);
+                after.put("name", "name" + i);
+                final Struct source = new Struct(sourceSchema);
+                source.put("db", "inventory");
+                source.put("table", "table" + i);
+                records[i] = new SourceRecord(new HashMap<>(), new HashMap<>(), "server.inventory.table" + i, envelope.schema(),
+                        envelope.create(after, source, Instant.now()));
+            }
+
+            groovyRouter = new ContentBasedRouter<>();
+            groovyRouter.configure(Collect.hashMapOf("language", "jsr223.groovy", "topic.expression", EXPRESSION));
+
+            jsRouter = new ContentBasedRouter<>();
+            jsRouter.configure(Collect.hashMapOf("language", "jsr223.graal.js", "topic.expression", EXPRESSION));
+        }
+
+        @TearDown(Level.Trial)
+        public void doCleanup() {
+            groovyRouter.close();
+            jsRouter.close();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @OperationsPerInvocation(TABLES)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void groovy(RouterState state, Blackhole bh) {
+        for (SourceRecord record : state.records) {
+            bh.consume(state.groovyRouter.apply(record));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @OperationsPerInvocation(TABLES)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void javascript(RouterState state, Blackhole bh) {
+        for (SourceRecord record : state.records) {
+            bh.consume(state.jsRouter.apply(record));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.core;
+
+import java.io.IOException;
+import java.sql.Types;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.document.DocumentReader;
+import io.debezium.document.DocumentWriter;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableEditor;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.HistoryRecord;
+import io.debezium.relational.history.JsonTableChangeSerializer;
+import io.debezium.relational.history.TableChanges;
+import io.debezium.util.Collect;
+
+/**
+ * Compares reading and writing database history records with table changes through documents with reading and
+ * writing them directly.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode({ Mode.AverageTime })
+public class HistoryRecordPerf {
+
+    private static final JsonTableChangeSerializer TABLE_CHANGES_SERIALIZER = new JsonTableChangeSerializer();
+
+    @Param({ "10", "100" })
+    private int columnCount;
+
+    private Map<String, Object> source;
+    private Map<String, Object> position;
+    private TableChanges tableChanges;
+    private String json;
+
+    @Setup
+    public void setup() throws IOException {
+        final TableEditor editor = Table.editor().tableId(new TableId("inventory", null, "customers"));
+        for (int i = 0; i < columnCount; i++) {
+            editor.addColumn(Column.editor()
+                    .name("column" + i)
+                    .jdbcType(Types.VARCHAR)
+                    .type("VARCHAR")
+                    .length(255)
+                    .position(i + 1)
+                    .optional(i > 0)
+                    .comment("column " + i)
+                    .create());
+        }
+        editor.setPrimaryKeyNames("column0");
+
+        source = Collect.linkMapOf("server", "server1");
+        position = Collect.linkMapOf("file", "mysql-bin.000003", "pos", 154L);
+        tableChanges = new TableChanges().create(editor.create());
+        json = new HistoryRecord(source, position, "inventory", null, "CREATE TABLE customers ...", tableChanges).toJson();
+    }
+
+    @Benchmark
+    public TableChanges readDocument() throws IOException {
+        return TABLE_CHANGES_SERIALIZER.deserialize(DocumentReader.defaultReader().read(json).getArray(HistoryRecord.Fields.TABLE_CHANGES), true);
+    }
+
+    @Benchmark
+    public HistoryRecord readDirectly() throws IOException {
+        return HistoryRecord.read(json, true);
+    }
+
+    @Benchmark
+    public String writeDocument() throws IOException {
+        return DocumentWriter.defaultWriter().write(
+                new HistoryRecord(source, position, "inventory", null, "CREATE TABLE customers ...", tableChanges).document());
+    }
+
+    @Benchmark
+    public String writeDirectly() throws IOException {
+        return new HistoryRecord(source, position, "inventory", null, "CREATE TABLE customers ...", tableChanges).toJson();
+    }
+}
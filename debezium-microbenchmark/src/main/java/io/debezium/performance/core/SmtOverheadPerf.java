@@ -5,6 +5,7 @@
  */
 package io.debezium.performance.core;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -27,6 +28,10 @@
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
+import io.debezium.data.Envelope;
+import io.debezium.transforms.ByLogicalTableRouter;
+import io.debezium.transforms.ExtractNewRecordState;
+
 /**
  * A basic test to calculate overhead of using SMTs.
  *
@@ -90,8 +95,11 @@ public static class TransformState {
 
         public Transformation<SourceRecord> newRecord;
         public Transformation<SourceRecord> noop;
+        public Transformation<SourceRecord> extractNewRecordState;
+        public Transformation<SourceRecord> byLogicalTableRouter;
         public SourceRecord delete;
         public SourceRecord create;
+        public SourceRecord changeEvent;
 
         @Setup(Level.Trial)
         public void doSetup() {
@@ -110,6 +118,66 @@ public void doSetup() {
 
             noop = new NoOp();
             noop.configure(new HashMap<>());
+
+            final Schema keySchema = SchemaBuilder.struct().name("server1.inventory.customers_shard1.Key")
+                    .field("id", Schema.INT32_SCHEMA)
+                    .build();
+            final Schema rowSchema = SchemaBuilder.struct().name("server1.inventory.customers_shard1.Value")
+                    .field("id", Schema.INT32_SCHEMA)
+                    .field("first_name", Schema.STRING_SCHEMA)
+                    .field("last_name", Schema.STRING_SCHEMA)
+                    .field("email", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("score", Schema.OPTIONAL_FLOAT64_SCHEMA)
+                    .optional()
+                    .build();
+            final Schema sourceSchema = SchemaBuilder.struct().name("io.debezium.connector.mysql.Source")
+                    .field("version", Schema.STRING_SCHEMA)
+                    .field("connector", Schema.STRING_SCHEMA)
+                    .field("name", Schema.STRING_SCHEMA)
+                    .field("ts_ms", Schema.INT64_SCHEMA)
+                    .field("db", Schema.STRING_SCHEMA)
+                    .field("table", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("file", Schema.STRING_SCHEMA)
+                    .field("pos", Schema.INT64_SCHEMA)
+                    .build();
+            final Envelope envelope = Envelope.defineSchema()
+                    .withName("server1.inventory.customers_shard1.Envelope")
+                    .withRecord(rowSchema)
+                    .withSource(sourceSchema)
+                    .build();
+
+            final Struct key = new Struct(keySchema).put("id", 1001);
+            final Struct row = new Struct(rowSchema)
+                    .put("id", 1001)
+                    .put("first_name", "Sally")
+                    .put("last_name", "Thomas")
+                    .put("email", "sally.thomas@acme.com")
+                    .put("score", 12.5);
+            final Struct source = new Struct(sourceSchema)
+                    .put("version", "1.8.1.Final")
+                    .put("connector", "mysql")
+                    .put("name", "server1")
+                    .put("ts_ms", 1_600_000_000_000L)
+                    .put("db", "inventory")
+                    .put("table", "customers_shard1")
+                    .put("file", "mysql-bin.000003")
+                    .put("pos", 154L);
+            changeEvent = new SourceRecord(new HashMap<>(), new HashMap<>(), "server1.inventory.customers_shard1", 1, keySchema, key,
+                    envelope.schema(), envelope.create(row, source, Instant.ofEpochMilli(1_600_000_000_000L)));
+
+            final Map<String, String> extractNewRecordStateConfig = new HashMap<>();
+            extractNewRecordStateConfig.put("add.fields", "op,db,table,source.ts_ms");
+            extractNewRecordStateConfig.put("add.headers", "op");
+            extractNewRecordState = new ExtractNewRecordState<>();
+            extractNewRecordState.configure(extractNewRecordStateConfig);
+
+            final Map<String, String> byLogicalTableRouterConfig = new HashMap<>();
+            byLogicalTableRouterConfig.put("topic.regex", "(.*)customers_shard(.*)");
+            byLogicalTableRouterConfig.put("topic.replacement", "$1customers_all_shards");
+            byLogicalTableRouterConfig.put("key.field.regex", "(.*)customers_shard(.*)");
+            byLogicalTableRouterConfig.put("key.field.replacement", "$2");
+            byLogicalTableRouter = new ByLogicalTableRouter<>();
+            byLogicalTableRouter.configure(byLogicalTableRouterConfig);
         }
     }
 
@@ -133,6 +201,29 @@ public void noop(TransformState state) {
         state.noop.apply(state.create);
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public SourceRecord extractNewRecordState(TransformState state) {
+        // Headers are added to the passed record, so a new one is needed for each invocation
+        return state.extractNewRecordState.apply(state.changeEvent.newRecord(state.changeEvent.topic(), state.changeEvent.kafkaPartition(),
+                state.changeEvent.keySchema(), state.changeEvent.key(), state.changeEvent.valueSchema(), state.changeEvent.value(),
+                state.changeEvent.timestamp()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public SourceRecord byLogicalTableRouter(TransformState state) {
+        return state.byLogicalTableRouter.apply(state.changeEvent);
+    }
+
     @Benchmark
     @BenchmarkMode(Mode.Throughput)
     @OutputTimeUnit(TimeUnit.MICROSECONDS)
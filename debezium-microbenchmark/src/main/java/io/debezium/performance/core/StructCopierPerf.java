@@ -0,0 +1,85 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.data.StructCopier;
+
+/**
+ * Compares copying a struct into a struct of another schema field by field by name with a {@link StructCopier}, either
+ * kept by the caller or looked up in the cache for each copy.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode({ Mode.AverageTime })
+public class StructCopierPerf {
+
+    @Param({ "5", "50" })
+    private int fieldCount;
+
+    private Schema targetSchema;
+    private Struct source;
+    private StructCopier copier;
+
+    @Setup
+    public void setup() {
+        final SchemaBuilder sourceSchemaBuilder = SchemaBuilder.struct().name("source");
+        final SchemaBuilder targetSchemaBuilder = SchemaBuilder.struct().name("target");
+        for (int i = 0; i < fieldCount; i++) {
+            final Schema fieldSchema = i % 2 == 0 ? Schema.INT64_SCHEMA : Schema.OPTIONAL_STRING_SCHEMA;
+            sourceSchemaBuilder.field("field" + i, fieldSchema);
+            targetSchemaBuilder.field("field" + i, fieldSchema);
+        }
+        targetSchemaBuilder.field("added", Schema.OPTIONAL_STRING_SCHEMA);
+        final Schema sourceSchema = sourceSchemaBuilder.build();
+        targetSchema = targetSchemaBuilder.build();
+
+        source = new Struct(sourceSchema);
+        for (int i = 0; i < fieldCount; i++) {
+            source.put("field" + i, i % 2 == 0 ? (Object) (long) i : "value" + i);
+        }
+        copier = StructCopier.forSchemas(sourceSchema, targetSchema);
+    }
+
+    @Benchmark
+    public Struct copyByName() {
+        final Struct target = new Struct(targetSchema);
+        for (Field field : source.schema().fields()) {
+            target.put(field.name(), source.get(field));
+        }
+        return target;
+    }
+
+    @Benchmark
+    public Struct copyWithCopier() {
+        return copier.copy(source);
+    }
+
+    @Benchmark
+    public Struct copyWithCachedCopier() {
+        return StructCopier.forSchemas(source.schema(), targetSchema).copy(source);
+    }
+}
@@ -8,6 +8,7 @@
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.connect.connector.ConnectRecord;
 
+import io.debezium.annotation.ThreadSafe;
 import io.debezium.common.annotation.Incubating;
 import io.debezium.config.Field;
 
@@ -20,6 +21,7 @@
  * @author Jiri Pechanec
  */
 @Incubating
+@ThreadSafe
 public class ContentBasedRouter<R extends ConnectRecord<R>> extends ScriptingTransformation<R> {
 
     public static final Field EXPRESSION = Field.create("topic.expression")
@@ -8,6 +8,7 @@
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.connect.connector.ConnectRecord;
 
+import io.debezium.annotation.ThreadSafe;
 import io.debezium.common.annotation.Incubating;
 import io.debezium.config.Field;
 
@@ -18,6 +19,7 @@
  * @author Jiri Pechanec
  */
 @Incubating
+@ThreadSafe
 public class Filter<R extends ConnectRecord<R>> extends ScriptingTransformation<R> {
 
     public static final Field EXPRESSION = Field.create("condition")
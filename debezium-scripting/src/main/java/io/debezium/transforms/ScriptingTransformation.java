@@ -15,6 +15,7 @@
 import org.slf4j.LoggerFactory;
 
 import io.debezium.DebeziumException;
+import io.debezium.annotation.ThreadSafe;
 import io.debezium.common.annotation.Incubating;
 import io.debezium.config.Configuration;
 import io.debezium.config.EnumeratedValue;
@@ -29,7 +30,7 @@
  * Current implementation supports only JSR223 scripting languages.<p/>
  * The SMT will instantiate an scripting engine encapsulated in {@code Engine} interface in configure phase.
  * It will try to pre-parse the expression if it is allowed by the engine and than the expression is evaluated
- * for every record incoming.<p>
+ * for every record incoming. Every thread applying the transformation uses its own instance of the scripting engine.<p>
  * The engine will extract key, value and its schemas and will inject them as variables into the engine.
  * The mapping is unique for each expression language.
  *
@@ -37,6 +38,7 @@
  * @author Jiri Pechanec
  */
 @Incubating
+@ThreadSafe
 public abstract class ScriptingTransformation<R extends ConnectRecord<R>> implements Transformation<R> {
 
     private final Logger LOGGER = LoggerFactory.getLogger(getClass());
@@ -202,5 +204,8 @@ public ConfigDef config() {
 
     @Override
     public void close() {
+        if (engine != null) {
+            engine.close();
+        }
     }
 }
@@ -29,4 +29,10 @@ public interface Engine {
      * @return result of calculation
      */
     <T> T eval(ConnectRecord<?> record, Class<T> type);
+
+    /**
+     * Releases the resources held by the engine. The method is called once when the transformation is closed.
+     */
+    default void close() {
+    }
 }
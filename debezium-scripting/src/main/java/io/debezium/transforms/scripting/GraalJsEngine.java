@@ -11,6 +11,7 @@
 
 import javax.script.Bindings;
 import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
 
 import org.apache.kafka.connect.connector.ConnectRecord;
 import org.apache.kafka.connect.data.Field;
@@ -31,7 +32,7 @@
 public class GraalJsEngine extends Jsr223Engine {
 
     @Override
-    protected void configureEngine() {
+    protected void configureEngine(ScriptEngine engine) {
         final Bindings bindings = engine.getBindings(ScriptContext.ENGINE_SCOPE);
         bindings.put("polyglot.js.allowHostAccess", true);
     }
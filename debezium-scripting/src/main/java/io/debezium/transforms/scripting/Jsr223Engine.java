@@ -5,8 +5,11 @@
  */
 package io.debezium.transforms.scripting;
 
+import java.util.AbstractMap;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.script.Bindings;
 import javax.script.Compilable;
@@ -17,6 +20,8 @@
 
 import org.apache.kafka.connect.connector.ConnectRecord;
 import org.apache.kafka.connect.header.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import io.debezium.DebeziumException;
 
@@ -29,25 +34,42 @@
  * <li>keySchema - schema for key</li>
  * <li>valueSchema - schema for value</li>
  * </ul>
+ * <p>
+ * Each thread evaluating the expression gets its own script engine with the expression compiled once and a single
+ * bindings object that is refilled for every record, so the evaluator can be used from multiple threads. The engines
+ * of all threads are released when the engine is closed. The headers of the record are only collected when the
+ * expression accesses them.
  *
  * @author Jiri Pechanec
  */
 public class Jsr223Engine implements Engine {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(Jsr223Engine.class);
+
+    private String language;
     private String expression;
-    private CompiledScript script;
-    protected ScriptEngine engine;
+    private ThreadLocal<Evaluator> evaluators;
+    private final Set<Evaluator> createdEvaluators = ConcurrentHashMap.newKeySet();
 
     @Override
     public void configure(String language, String expression) {
+        this.language = language;
         this.expression = expression;
+        this.evaluators = ThreadLocal.withInitial(this::createEvaluator);
+
+        // fail fast on an unknown language or an invalid expression
+        evaluators.get();
+    }
+
+    private Evaluator createEvaluator() {
         final ScriptEngineManager factory = new ScriptEngineManager();
-        engine = factory.getEngineByName(language);
+        final ScriptEngine engine = factory.getEngineByName(language);
         if (engine == null) {
             throw new DebeziumException("Implementation of language '" + language + "' not found on the classpath");
         }
-        configureEngine();
+        configureEngine(engine);
 
+        CompiledScript script = null;
         if (engine instanceof Compilable) {
             try {
                 script = ((Compilable) engine).compile(expression);
@@ -56,22 +78,25 @@ public void configure(String language, String expression) {
                 throw new DebeziumException(e);
             }
         }
+        final Evaluator evaluator = new Evaluator(engine, script);
+        createdEvaluators.add(evaluator);
+        return evaluator;
     }
 
-    protected void configureEngine() {
+    protected void configureEngine(ScriptEngine engine) {
     }
 
-    protected Bindings getBindings(ConnectRecord<?> record) {
-        final Bindings bindings = engine.createBindings();
-
+    /**
+     * Exposes the record to the expression; the bindings are reused for all records evaluated by the same thread, so
+     * all variables must be set for every record.
+     */
+    protected void bind(Bindings bindings, ConnectRecord<?> record) {
         bindings.put("key", key(record));
         bindings.put("value", value(record));
         bindings.put("keySchema", record.keySchema());
         bindings.put("valueSchema", record.valueSchema());
         bindings.put("topic", record.topic());
         bindings.put("header", headers(record));
-
-        return bindings;
     }
 
     protected Object key(ConnectRecord<?> record) {
@@ -91,20 +116,17 @@ protected Object headers(ConnectRecord<?> record) {
     }
 
     protected Map<String, RecordHeader> doHeaders(ConnectRecord<?> record) {
-        final Map<String, RecordHeader> headers = new HashMap<>();
-        for (Header header : record.headers()) {
-            headers.put(header.key(), header(header));
-        }
-        return headers;
+        return new LazyHeaders(record);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T eval(ConnectRecord<?> record, Class<T> type) {
-        Bindings bindings = getBindings(record);
+        final Evaluator evaluator = evaluators.get();
+        bind(evaluator.bindings, record);
 
         try {
-            final Object result = script != null ? script.eval(bindings) : engine.eval(expression, bindings);
+            final Object result = evaluator.eval(expression);
             if (result == null || type.isAssignableFrom(result.getClass())) {
                 return (T) result;
             }
@@ -116,4 +138,87 @@ public <T> T eval(ConnectRecord<?> record, Class<T> type) {
             throw new DebeziumException("Error while evaluating expression '" + expression + "' for record '" + record + "'", e);
         }
     }
+
+    @Override
+    public void close() {
+        // the evaluators of other threads stay referenced by their thread locals until these are expunged, so the
+        // engines are released here rather than left to the garbage collector
+        for (Evaluator evaluator : createdEvaluators) {
+            evaluator.close();
+        }
+        createdEvaluators.clear();
+        if (evaluators != null) {
+            evaluators.remove();
+        }
+    }
+
+    /**
+     * The script engine, compiled expression and bindings owned by a single thread.
+     */
+    private static class Evaluator {
+
+        private final ScriptEngine engine;
+        private final CompiledScript script;
+        private final Bindings bindings;
+
+        Evaluator(ScriptEngine engine, CompiledScript script) {
+            this.engine = engine;
+            this.script = script;
+            this.bindings = engine.createBindings();
+        }
+
+        Object eval(String expression) throws ScriptException {
+            return script != null ? script.eval(bindings) : engine.eval(expression, bindings);
+        }
+
+        void close() {
+            bindings.clear();
+            if (engine instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) engine).close();
+                }
+                catch (Exception e) {
+                    LOGGER.warn("Failed to close the script engine", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * The headers of a record, converted only when the expression accesses them.
+     */
+    private class LazyHeaders extends AbstractMap<String, RecordHeader> {
+
+        private final ConnectRecord<?> record;
+        private Map<String, RecordHeader> headers;
+
+        LazyHeaders(ConnectRecord<?> record) {
+            this.record = record;
+        }
+
+        private Map<String, RecordHeader> headers() {
+            if (headers == null) {
+                headers = new HashMap<>();
+                for (Header header : record.headers()) {
+                    headers.put(header.key(), header(header));
+                }
+            }
+            return headers;
+        }
+
+        @Override
+        public RecordHeader get(Object key) {
+            return headers().get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return headers().containsKey(key);
+        }
+
+        @Override
+        public Set<Entry<String, RecordHeader>> entrySet() {
+            return headers().entrySet();
+        }
+    }
 }
@@ -8,8 +8,13 @@
 import static org.fest.assertions.Assertions.assertThat;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
@@ -19,6 +24,7 @@
 import org.junit.Test;
 
 import io.debezium.DebeziumException;
+import io.debezium.annotation.ThreadSafe;
 import io.debezium.data.Envelope;
 import io.debezium.doc.FixFor;
 
@@ -235,6 +241,38 @@ private SourceRecord createNullRecord() {
         return new SourceRecord(new HashMap<>(), new HashMap<>(), "dummy", null, null, null, null);
     }
 
+    @Test
+    public void shouldBeSharedByConcurrentTransformations() {
+        // the annotation is checked on the class of the transformation, it is not inherited
+        assertThat(Filter.class.isAnnotationPresent(ThreadSafe.class)).isTrue();
+        assertThat(ContentBasedRouter.class.isAnnotationPresent(ThreadSafe.class)).isTrue();
+    }
+
+    @Test
+    public void shouldEvaluateConcurrently() throws Exception {
+        try (final Filter<SourceRecord> transform = new Filter<>()) {
+            final Map<String, String> props = new HashMap<>();
+            props.put(EXPRESSION, "value.op != 'd' || value.before.id != 2");
+            props.put(LANGUAGE, "jsr223.groovy");
+            transform.configure(props);
+
+            final ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                final List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < 100; i++) {
+                    final int id = 1 + i % 2;
+                    results.add(executor.submit(() -> (transform.apply(createDeleteRecord(id)) == null) == (id == 2)));
+                }
+                for (Future<Boolean> result : results) {
+                    assertThat(result.get()).isTrue();
+                }
+            }
+            finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
     @Test
     public void shouldRunJavaScript() {
         try (final Filter<SourceRecord> transform = new Filter<>()) {
@@ -5,14 +5,23 @@
  */
 package io.debezium.server;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 
 import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,17 +37,81 @@ public class BaseChangeConsumer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BaseChangeConsumer.class);
 
+    protected static final String PROP_MAX_IN_FLIGHT = "debezium.sink.max.in.flight";
+
     protected StreamNameMapper streamNameMapper = (x) -> x;
 
     @Inject
     Instance<StreamNameMapper> customStreamNameMapper;
 
+    @ConfigProperty(name = PROP_MAX_IN_FLIGHT, defaultValue = "1024")
+    int maxInFlight;
+
+    private Semaphore inFlight;
+
     @PostConstruct
     void init() {
         if (customStreamNameMapper.isResolvable()) {
             streamNameMapper = customStreamNameMapper.get();
         }
         LOGGER.info("Using '{}' stream name mapper", streamNameMapper);
+        if (maxInFlight <= 0) {
+            throw new DebeziumException("The value of '" + PROP_MAX_IN_FLIGHT + "' must be positive but is " + maxInFlight);
+        }
+        inFlight = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * @return the maximum number of asynchronous sends that can be pending at any time
+     */
+    protected int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Starts an asynchronous send within the bounded in-flight window. The call blocks while the number of
+     * unacknowledged sends has reached {@link #getMaxInFlight()}; the slot is released once the returned
+     * future completes, either normally or exceptionally.
+     *
+     * @param send      The function initiating the send and returning its acknowledgement.
+     *
+     * @return          The acknowledgement of the send
+     */
+    protected <T> CompletableFuture<T> sendAsync(Supplier<CompletableFuture<T>> send) throws InterruptedException {
+        inFlight.acquire();
+        final CompletableFuture<T> future;
+        try {
+            future = send.get();
+        }
+        catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+        future.whenComplete((result, error) -> inFlight.release());
+        return future;
+    }
+
+    /**
+     * Waits until all the given sends are acknowledged. Sinks call this before marking the batch as finished
+     * so that offsets are committed only for the delivered records.
+     *
+     * @param deliveries    The acknowledgements of the sends issued for a batch.
+     *
+     * @return              The results of the sends in the order of the deliveries
+     * @throws DebeziumException if any of the sends failed
+     */
+    protected <T> List<T> awaitDeliveries(List<CompletableFuture<T>> deliveries) throws InterruptedException {
+        try {
+            CompletableFuture.allOf(deliveries.toArray(new CompletableFuture<?>[deliveries.size()])).get();
+        }
+        catch (ExecutionException e) {
+            throw new DebeziumException(e.getCause());
+        }
+        final List<T> results = new ArrayList<>(deliveries.size());
+        for (CompletableFuture<T> delivery : deliveries) {
+            results.add(delivery.join());
+        }
+        return results;
     }
 
     /**
@@ -63,12 +136,28 @@ protected Map<String, Object> getConfigSubset(Config config, String prefix) {
         return ret;
     }
 
+    /**
+     * Whether the sink sends the change events as raw bytes. If so, JSON is delivered to the sink as
+     * {@code byte[]} unless a format is configured explicitly, avoiding the conversion to and from String.
+     *
+     * @return {@code true} if JSON serialized as {@code byte[]} should be used by default, {@code false} otherwise
+     */
+    public boolean prefersBinaryFormat() {
+        return false;
+    }
+
     protected byte[] getBytes(Object object) {
         if (object instanceof byte[]) {
             return (byte[]) object;
         }
         else if (object instanceof String) {
-            return ((String) object).getBytes();
+            return ((String) object).getBytes(StandardCharsets.UTF_8);
+        }
+        else if (object instanceof ByteBuffer) {
+            final ByteBuffer buffer = ((ByteBuffer) object).duplicate();
+            final byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
         }
         throw new DebeziumException(unsupportedTypeMessage(object));
     }
@@ -77,6 +166,9 @@ protected String getString(Object object) {
         if (object instanceof String) {
             return (String) object;
         }
+        else if (object instanceof byte[]) {
+            return new String((byte[]) object, StandardCharsets.UTF_8);
+        }
         throw new DebeziumException(unsupportedTypeMessage(object));
     }
 
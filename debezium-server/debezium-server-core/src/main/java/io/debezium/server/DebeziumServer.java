@@ -35,6 +35,7 @@
 import io.debezium.engine.DebeziumEngine.ChangeConsumer;
 import io.debezium.engine.format.Avro;
 import io.debezium.engine.format.Json;
+import io.debezium.engine.format.JsonByteArray;
 import io.debezium.engine.format.Protobuf;
 import io.debezium.server.events.ConnectorCompletedEvent;
 import io.quarkus.runtime.Quarkus;
@@ -73,6 +74,7 @@ public class DebeziumServer {
     private static final String PROP_TERMINATION_WAIT = PROP_PREFIX + "termination.wait";
 
     private static final String FORMAT_JSON = Json.class.getSimpleName().toLowerCase();
+    private static final String FORMAT_JSON_BYTE_ARRAY = JsonByteArray.class.getSimpleName().toLowerCase();
     private static final String FORMAT_AVRO = Avro.class.getSimpleName().toLowerCase();
     private static final String FORMAT_PROTOBUF = Protobuf.class.getSimpleName().toLowerCase();
 
@@ -117,8 +119,11 @@ else if (beans.size() > 1) {
         consumer = consumerBean.create(consumerBeanCreationalContext);
         LOGGER.info("Consumer '{}' instantiated", consumer.getClass().getName());
 
-        final Class<Any> keyFormat = (Class<Any>) getFormat(config, PROP_KEY_FORMAT);
-        final Class<Any> valueFormat = (Class<Any>) getFormat(config, PROP_VALUE_FORMAT);
+        final String defaultFormat = (consumer instanceof BaseChangeConsumer && ((BaseChangeConsumer) consumer).prefersBinaryFormat())
+                ? FORMAT_JSON_BYTE_ARRAY
+                : FORMAT_JSON;
+        final Class<Any> keyFormat = (Class<Any>) getFormat(config, PROP_KEY_FORMAT, defaultFormat);
+        final Class<Any> valueFormat = (Class<Any>) getFormat(config, PROP_VALUE_FORMAT, defaultFormat);
         configToProperties(config, props, PROP_SOURCE_PREFIX, "");
         configToProperties(config, props, PROP_FORMAT_PREFIX, "key.converter.");
         configToProperties(config, props, PROP_FORMAT_PREFIX, "value.converter.");
@@ -168,11 +173,14 @@ else if (name.startsWith(oldPrefix)) {
         }
     }
 
-    private Class<?> getFormat(Config config, String property) {
-        final String formatName = config.getOptionalValue(property, String.class).orElse(FORMAT_JSON);
+    private Class<?> getFormat(Config config, String property, String defaultFormat) {
+        final String formatName = config.getOptionalValue(property, String.class).orElse(defaultFormat);
         if (FORMAT_JSON.equals(formatName)) {
             return Json.class;
         }
+        else if (FORMAT_JSON_BYTE_ARRAY.equals(formatName)) {
+            return JsonByteArray.class;
+        }
         else if (FORMAT_AVRO.equals(formatName)) {
             return Avro.class;
         }
@@ -6,7 +6,10 @@
 package io.debezium.server.kinesis;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.annotation.PostConstruct;
@@ -22,18 +25,23 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.DebeziumException;
 import io.debezium.engine.ChangeEvent;
 import io.debezium.engine.DebeziumEngine;
 import io.debezium.engine.DebeziumEngine.RecordCommitter;
 import io.debezium.server.BaseChangeConsumer;
 import io.debezium.server.CustomConsumerBuilder;
+import io.debezium.util.DelayStrategy;
 
 import software.amazon.awssdk.auth.credentials.ProfileCredentialsProvider;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.kinesis.KinesisClient;
 import software.amazon.awssdk.services.kinesis.KinesisClientBuilder;
-import software.amazon.awssdk.services.kinesis.model.PutRecordRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequestEntry;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResultEntry;
 
 /**
  * Implementation of the consumer that delivers the messages into Amazon Kinesis destination.
@@ -51,6 +59,11 @@ public class KinesisChangeConsumer extends BaseChangeConsumer implements Debeziu
     private static final String PROP_REGION_NAME = PROP_PREFIX + "region";
     private static final String PROP_ENDPOINT_NAME = PROP_PREFIX + "endpoint";
 
+    /**
+     * The maximum number of records accepted by a single {@code PutRecords} call.
+     */
+    private static final int MAX_BATCH_SIZE = 500;
+
     private String region;
     private Optional<String> endpointOverride;
 
@@ -60,6 +73,12 @@ public class KinesisChangeConsumer extends BaseChangeConsumer implements Debeziu
     @ConfigProperty(name = PROP_PREFIX + "null.key", defaultValue = "default")
     String nullKey;
 
+    @ConfigProperty(name = PROP_PREFIX + "batch.size", defaultValue = "500")
+    int batchSize;
+
+    @ConfigProperty(name = PROP_PREFIX + "retries", defaultValue = "5")
+    int retries;
+
     private KinesisClient client = null;
 
     @Inject
@@ -68,6 +87,9 @@ public class KinesisChangeConsumer extends BaseChangeConsumer implements Debeziu
 
     @PostConstruct
     void connect() {
+        if (batchSize <= 0 || batchSize > MAX_BATCH_SIZE) {
+            throw new DebeziumException("The value of '" + PROP_PREFIX + "batch.size' must be between 1 and " + MAX_BATCH_SIZE + " but is " + batchSize);
+        }
         if (customClient.isResolvable()) {
             client = customClient.get();
             LOGGER.info("Obtained custom configured KinesisClient '{}'", client);
@@ -98,21 +120,77 @@ void close() {
     @Override
     public void handleBatch(List<ChangeEvent<Object, Object>> records, RecordCommitter<ChangeEvent<Object, Object>> committer)
             throws InterruptedException {
+        // PutRecords is scoped to a single stream, so records are grouped by stream preserving their relative order
+        final Map<String, List<ChangeEvent<Object, Object>>> recordsByStream = new LinkedHashMap<>();
         for (ChangeEvent<Object, Object> record : records) {
             LOGGER.trace("Received event '{}'", record);
-            Object rv = record.value();
-            if (rv == null) {
-                rv = "";
+            recordsByStream.computeIfAbsent(streamNameMapper.map(record.destination()), x -> new ArrayList<>()).add(record);
+        }
+
+        for (Map.Entry<String, List<ChangeEvent<Object, Object>>> stream : recordsByStream.entrySet()) {
+            final List<ChangeEvent<Object, Object>> streamRecords = stream.getValue();
+            // chunks of the same stream are sent one after another to keep the per-shard ordering
+            for (int chunkStart = 0; chunkStart < streamRecords.size(); chunkStart += batchSize) {
+                final List<ChangeEvent<Object, Object>> chunk = streamRecords.subList(chunkStart, Math.min(chunkStart + batchSize, streamRecords.size()));
+                final List<PutRecordsRequestEntry> entries = new ArrayList<>(chunk.size());
+                for (ChangeEvent<Object, Object> record : chunk) {
+                    Object rv = record.value();
+                    if (rv == null) {
+                        rv = "";
+                    }
+                    entries.add(PutRecordsRequestEntry.builder()
+                            .partitionKey((record.key() != null) ? getString(record.key()) : nullKey)
+                            .data(SdkBytes.fromByteArrayUnsafe(getBytes(rv)))
+                            .build());
+                }
+                putRecords(stream.getKey(), entries);
             }
+        }
 
-            final PutRecordRequest putRecord = PutRecordRequest.builder()
-                    .partitionKey((record.key() != null) ? getString(record.key()) : nullKey)
-                    .streamName(streamNameMapper.map(record.destination()))
-                    .data(SdkBytes.fromByteArray(getBytes(rv)))
-                    .build();
-            client.putRecord(putRecord);
+        // records are marked in the original order only when the whole batch is delivered
+        for (ChangeEvent<Object, Object> record : records) {
             committer.markProcessed(record);
         }
         committer.markBatchFinished();
     }
+
+    @Override
+    public boolean prefersBinaryFormat() {
+        return true;
+    }
+
+    /**
+     * Sends the entries into the stream, resending the entries rejected by a partially failed request.
+     */
+    private void putRecords(String streamName, List<PutRecordsRequestEntry> entries) throws InterruptedException {
+        final DelayStrategy delayStrategy = DelayStrategy.exponential(100, 5_000);
+        List<PutRecordsRequestEntry> pending = entries;
+        for (int attempt = 0;; attempt++) {
+            final PutRecordsResponse response = client.putRecords(PutRecordsRequest.builder()
+                    .streamName(streamName)
+                    .records(pending)
+                    .build());
+            final Integer failedRecordCount = response.failedRecordCount();
+            if (failedRecordCount == null || failedRecordCount == 0) {
+                return;
+            }
+            if (attempt >= retries) {
+                throw new DebeziumException("Failed to send " + failedRecordCount + " record(s) to stream '" + streamName + "' after " + retries + " retries");
+            }
+
+            final List<PutRecordsRequestEntry> failed = new ArrayList<>(failedRecordCount);
+            final List<PutRecordsResultEntry> results = response.records();
+            for (int i = 0; i < results.size(); i++) {
+                if (results.get(i).errorCode() != null) {
+                    failed.add(pending.get(i));
+                }
+            }
+            LOGGER.debug("{} record(s) rejected by stream '{}', retrying", failed.size(), streamName);
+            pending = failed;
+            delayStrategy.sleepWhen(true);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
 }
@@ -10,7 +10,7 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -26,10 +26,13 @@
 import org.slf4j.LoggerFactory;
 
 import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
 import com.google.api.core.ApiFutures;
 import com.google.cloud.ServiceOptions;
 import com.google.cloud.pubsub.v1.Publisher;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import com.google.pubsub.v1.ProjectTopicName;
 import com.google.pubsub.v1.PubsubMessage;
 
@@ -114,7 +117,7 @@ void close() {
     @Override
     public void handleBatch(List<ChangeEvent<Object, Object>> records, RecordCommitter<ChangeEvent<Object, Object>> committer)
             throws InterruptedException {
-        final List<ApiFuture<String>> deliveries = new ArrayList<>();
+        final List<CompletableFuture<String>> deliveries = new ArrayList<>(records.size());
         for (ChangeEvent<Object, Object> record : records) {
             LOGGER.trace("Received event '{}'", record);
             final String topicName = streamNameMapper.map(record.destination());
@@ -138,25 +141,43 @@ else if (record.key() instanceof byte[]) {
                 pubsubMessage.setData(ByteString.copyFromUtf8((String) record.value()));
             }
             else if (record.value() instanceof byte[]) {
-                pubsubMessage.setData(ByteString.copyFrom((byte[]) record.value()));
+                // the array is not modified after the conversion so it can be wrapped without a copy
+                pubsubMessage.setData(UnsafeByteOperations.unsafeWrap((byte[]) record.value()));
             }
 
-            deliveries.add(publisher.publish(pubsubMessage.build()));
-            committer.markProcessed(record);
-        }
-        List<String> messageIds;
-        try {
-            messageIds = ApiFutures.allAsList(deliveries).get();
-        }
-        catch (ExecutionException e) {
-            throw new DebeziumException(e);
+            deliveries.add(sendAsync(() -> toCompletableFuture(publisher.publish(pubsubMessage.build()))));
         }
+        final List<String> messageIds = awaitDeliveries(deliveries);
         LOGGER.trace("Sent messages with ids: {}", messageIds);
+        for (ChangeEvent<Object, Object> record : records) {
+            committer.markProcessed(record);
+        }
         committer.markBatchFinished();
     }
 
+    private static <T> CompletableFuture<T> toCompletableFuture(ApiFuture<T> apiFuture) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        ApiFutures.addCallback(apiFuture, new ApiFutureCallback<T>() {
+            @Override
+            public void onSuccess(T result) {
+                future.complete(result);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }, MoreExecutors.directExecutor());
+        return future;
+    }
+
     @Override
     public boolean supportsTombstoneEvents() {
         return false;
     }
+
+    @Override
+    public boolean prefersBinaryFormat() {
+        return true;
+    }
 }
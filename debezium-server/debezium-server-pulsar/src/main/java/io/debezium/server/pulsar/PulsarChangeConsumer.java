@@ -5,9 +5,11 @@
  */
 package io.debezium.server.pulsar;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -115,6 +117,7 @@ private Producer<?> createProducer(String topicName, Object value) {
     @Override
     public void handleBatch(List<ChangeEvent<Object, Object>> records, RecordCommitter<ChangeEvent<Object, Object>> committer)
             throws InterruptedException {
+        final List<CompletableFuture<MessageId>> deliveries = new ArrayList<>(records.size());
         for (ChangeEvent<Object, Object> record : records) {
             LOGGER.trace("Received event '{}'", record);
             final String topicName = streamNameMapper.map(record.destination());
@@ -133,13 +136,11 @@ public void handleBatch(List<ChangeEvent<Object, Object>> records, RecordCommitt
                     .key(key)
                     .value(record.value());
 
-            try {
-                final MessageId messageId = message.send();
-                LOGGER.trace("Sent message with id: {}", messageId);
-            }
-            catch (PulsarClientException e) {
-                throw new DebeziumException(e);
-            }
+            deliveries.add(sendAsync(() -> (CompletableFuture<MessageId>) message.sendAsync()));
+        }
+        final List<MessageId> messageIds = awaitDeliveries(deliveries);
+        LOGGER.trace("Sent messages with ids: {}", messageIds);
+        for (ChangeEvent<Object, Object> record : records) {
             committer.markProcessed(record);
         }
         committer.markBatchFinished();
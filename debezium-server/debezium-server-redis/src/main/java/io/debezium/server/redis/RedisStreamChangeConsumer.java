@@ -31,6 +31,7 @@
 
 import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
 
 /**
  * Implementation of the consumer that delivers the messages into Redis (stream) destination.
@@ -114,21 +115,32 @@ public void handleBatch(List<ChangeEvent<Object, Object>> records,
                             RecordCommitter<ChangeEvent<Object, Object>> committer)
             throws InterruptedException {
 
-        for (ChangeEvent<Object, Object> record : records) {
+        // records are sent in pipelined chunks so that a batch costs one round trip per chunk instead of per record
+        final int chunkSize = getMaxInFlight();
+        for (int chunkStart = 0; chunkStart < records.size(); chunkStart += chunkSize) {
+            final List<ChangeEvent<Object, Object>> chunk = records.subList(chunkStart, Math.min(chunkStart + chunkSize, records.size()));
             try {
-
-                LOGGER.trace("Received event '{}'", record);
-
-                String destination = streamNameMapper.map(record.destination());
-                String key = (record.key() != null) ? getString(record.key()) : nullKey;
-                String value = (record.value() != null) ? getString(record.value()) : nullValue;
-                client.xadd(destination, null, Collections.singletonMap(key, value));
-
-                committer.markProcessed(record);
+                final Pipeline pipeline = client.pipelined();
+                for (ChangeEvent<Object, Object> record : chunk) {
+                    LOGGER.trace("Received event '{}'", record);
+
+                    String destination = streamNameMapper.map(record.destination());
+                    String key = (record.key() != null) ? getString(record.key()) : nullKey;
+                    String value = (record.value() != null) ? getString(record.value()) : nullValue;
+                    pipeline.xadd(destination, null, Collections.singletonMap(key, value));
+                }
+                for (Object response : pipeline.syncAndReturnAll()) {
+                    if (response instanceof Exception) {
+                        throw (Exception) response;
+                    }
+                }
             }
             catch (Exception e) {
                 throw new DebeziumException(e);
             }
+            for (ChangeEvent<Object, Object> record : chunk) {
+                committer.markProcessed(record);
+            }
         }
         committer.markBatchFinished();
     }